@@ -0,0 +1,68 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.queue.CircularQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of {@link ArrayList} and {@link CircularQueue} that move large runs of
+ * elements: inserting and removing in the middle of the list, which shifts half of it, and
+ * filling both structures from empty, which copies the whole array on every growth.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=ArrayListBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ArrayListBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    @Param({"10000000"})
+    private int elements;
+
+    private ArrayList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>();
+        for (int i = 0; i < elements; i++) list.add(ELEMENT);
+    }
+
+    @Benchmark
+    public Integer insertAndRemoveMiddle() {
+        int middle = list.size() / 2;
+        list.add(middle, ELEMENT);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> growList() {
+        ArrayList<Integer> grown = new ArrayList<>();
+        for (int i = 0; i < elements; i++) grown.add(ELEMENT);
+        return grown;
+    }
+
+    @Benchmark
+    public CircularQueue<Integer> growQueue() {
+        CircularQueue<Integer> queue = new CircularQueue<>();
+        for (int i = 0; i < elements; i++) queue.add(ELEMENT);
+        return queue;
+    }
+}
@@ -0,0 +1,73 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a snapshot into {@link Hashtable} one {@code put} at a time against the
+ * presized {@code putAll} batch operations.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=BulkLoadBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkLoadBenchmark {
+    @Param({"100000"})
+    private int entries;
+
+    private Integer[] keys;
+    private String[] values;
+    private Hashtable<Integer, String> snapshot;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[entries];
+        values = new String[entries];
+        snapshot = new Hashtable<>();
+
+        for (int i = 0; i < entries; i++) {
+            keys[i] = i;
+            values[i] = "value-" + i;
+        }
+        snapshot.putAll(keys, values);
+    }
+
+    @Benchmark
+    public Hashtable<Integer, String> putLoop() {
+        Hashtable<Integer, String> map = new Hashtable<>();
+        for (int i = 0; i < keys.length; i++) map.put(keys[i], values[i]);
+        return map;
+    }
+
+    @Benchmark
+    public Hashtable<Integer, String> putAllArrays() {
+        Hashtable<Integer, String> map = new Hashtable<>();
+        map.putAll(keys, values);
+        return map;
+    }
+
+    @Benchmark
+    public Hashtable<Integer, String> putAllMap() {
+        Hashtable<Integer, String> map = new Hashtable<>();
+        map.putAll(snapshot);
+        return map;
+    }
+}
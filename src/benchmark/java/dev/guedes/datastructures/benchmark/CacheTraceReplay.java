@@ -0,0 +1,99 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.cache.Cache;
+import dev.guedes.datastructures.util.collection.cache.LruCache;
+import dev.guedes.datastructures.util.collection.cache.WTinyLfuCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Replays a key trace against {@link LruCache} and {@link WTinyLfuCache} of several sizes and
+ * prints the hit ratio each one reaches.
+ * <p>
+ * A trace file holds one request per line, the key being the first whitespace-separated token.
+ * When no readable trace file is given, a synthetic trace is replayed instead: requests drawn from
+ * a Zipf distribution over a fixed key space, periodically interrupted by a scan of keys that are
+ * each requested only once.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec
+ * -Dbenchmark.main=dev.guedes.datastructures.benchmark.CacheTraceReplay -Dbenchmark=path/to/trace}.
+ *
+ * @author João Guedes
+ */
+public final class CacheTraceReplay {
+    private static final int[] CACHE_SIZES = {100, 1_000, 10_000};
+    private static final int SYNTHETIC_REQUESTS = 2_000_000;
+    private static final int SYNTHETIC_KEY_SPACE = 100_000;
+    private static final double SYNTHETIC_SKEW = 0.9;
+    private static final int SCAN_INTERVAL = 200_000;
+    private static final int SCAN_LENGTH = 50_000;
+
+    private CacheTraceReplay() { throw new AssertionError("No instances allowed."); }
+
+    public static void main(String[] args) throws IOException {
+        Path path = args.length > 0 ? Path.of(args[0]) : null;
+        String[] trace;
+
+        if (path != null && Files.isRegularFile(path)) {
+            try (var lines = Files.lines(path)) {
+                trace = lines.map(String::strip)
+                        .filter(line -> !line.isEmpty())
+                        .map(line -> line.split("\\s+", 2)[0])
+                        .toArray(String[]::new);
+            }
+            System.out.printf("Trace %s: %,d requests%n", path, trace.length);
+        } else {
+            trace = syntheticTrace(new Random(42));
+            System.out.printf("Synthetic Zipf(%.1f) trace with scans: %,d requests%n", SYNTHETIC_SKEW, trace.length);
+        }
+
+        System.out.printf("%10s %12s %12s%n", "size", "LRU", "W-TinyLFU");
+
+        for (int size : CACHE_SIZES) {
+            System.out.printf("%,10d %11.2f%% %11.2f%%%n", size,
+                    replay(trace, size, LruCache::new), replay(trace, size, WTinyLfuCache::new));
+        }
+    }
+
+    /**
+     * Replays the trace, caching every missed key, and returns the percentage of hits.
+     */
+    private static double replay(String[] trace, int size, IntFunction<Cache<String, Boolean>> factory) {
+        Cache<String, Boolean> cache = factory.apply(size);
+
+        for (String key : trace) {
+            if (cache.get(key) == null) cache.put(key, Boolean.TRUE);
+        }
+
+        return cache.stats().hitRate() * 100;
+    }
+
+    private static String[] syntheticTrace(Random random) {
+        double[] cumulative = new double[SYNTHETIC_KEY_SPACE];
+        double total = 0;
+
+        for (int i = 0; i < SYNTHETIC_KEY_SPACE; i++) {
+            total += 1 / Math.pow(i + 1, SYNTHETIC_SKEW);
+            cumulative[i] = total;
+        }
+
+        String[] trace = new String[SYNTHETIC_REQUESTS];
+        int scanned = 0;
+
+        for (int i = 0; i < trace.length; i++) {
+            if (i % SCAN_INTERVAL < SCAN_LENGTH) {
+                trace[i] = "scan" + scanned++;
+            } else {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                trace[i] = "key" + (rank < 0 ? -rank - 1 : rank);
+            }
+        }
+
+        return trace;
+    }
+}
@@ -0,0 +1,72 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.set.ConcurrentHashSet;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a read-mostly workload, nine lookups for each addition, shared by
+ * several threads, on a {@link ConcurrentHashSet} against a {@link HashSet} guarded by a single
+ * monitor.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=ConcurrentSetBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ConcurrentSetBenchmark {
+    @Param({"100000"})
+    private int elements;
+
+    private ConcurrentHashSet<Integer> concurrentHashSet;
+    private HashSet<Integer> synchronizedHashSet;
+
+    @Setup
+    public void setUp() {
+        concurrentHashSet = new ConcurrentHashSet<>(elements * 2);
+        synchronizedHashSet = new HashSet<>(elements * 2);
+
+        for (int i = 0; i < elements; i++) {
+            concurrentHashSet.add(i);
+            synchronizedHashSet.add(i);
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentHashSet() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer element = random.nextInt(elements * 2);
+
+        return random.nextInt(10) == 0 ? concurrentHashSet.add(element) : concurrentHashSet.contains(element);
+    }
+
+    @Benchmark
+    public boolean synchronizedHashSet() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer element = random.nextInt(elements * 2);
+
+        synchronized (synchronizedHashSet) {
+            return random.nextInt(10) == 0 ? synchronizedHashSet.add(element) : synchronizedHashSet.contains(element);
+        }
+    }
+}
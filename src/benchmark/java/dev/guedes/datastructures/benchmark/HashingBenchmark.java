@@ -0,0 +1,78 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former modulo-based bucket indexing with {@link Hashing}'s spread-and-mask
+ * indexing, and measures lookups in {@link Hashtable} and {@link HashSet} for key sets whose
+ * hash codes are sequential or share their low bits.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=HashingBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashingBenchmark {
+    private static final int KEY_COUNT = 1 << 12;
+
+    @Param({"1", "1024"})
+    private int stride;
+
+    private Integer[] keys;
+    private Hashtable<Integer, Integer> hashtable;
+    private HashSet<Integer> hashSet;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[KEY_COUNT];
+        hashtable = new Hashtable<>();
+        hashSet = new HashSet<>(KEY_COUNT);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = i * stride;
+            hashtable.put(keys[i], i);
+            hashSet.add(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public void moduloIndex(Blackhole blackhole) {
+        for (Integer key : keys) blackhole.consume(Math.abs(key.hashCode() % KEY_COUNT));
+    }
+
+    @Benchmark
+    public void spreadMaskIndex(Blackhole blackhole) {
+        for (Integer key : keys) blackhole.consume(Hashing.indexFor(Hashing.spread(key.hashCode()), KEY_COUNT));
+    }
+
+    @Benchmark
+    public void hashtableGet(Blackhole blackhole) {
+        for (Integer key : keys) blackhole.consume(hashtable.get(key));
+    }
+
+    @Benchmark
+    public void hashSetContains(Blackhole blackhole) {
+        for (Integer key : keys) blackhole.consume(hashSet.contains(key));
+    }
+}
@@ -0,0 +1,68 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.DoublyLinkedList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filtering out every other element of a list with repeated {@code remove(int)} calls
+ * against a single {@code removeIf} pass, on an {@link ArrayList} and a {@link DoublyLinkedList}.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=ListBulkBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBulkBenchmark {
+    @Param({"100000"})
+    private int elements;
+
+    private ArrayList<Integer> arrayList;
+    private DoublyLinkedList<Integer> linkedList;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        arrayList = new ArrayList<>(elements);
+        linkedList = new DoublyLinkedList<>();
+
+        for (int i = 0; i < elements; i++) {
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> arrayListRemoveLoop() { return removeOddOneByOne(arrayList); }
+
+    @Benchmark
+    public boolean arrayListRemoveIf() { return arrayList.removeIf(element -> (element & 1) == 1); }
+
+    @Benchmark
+    public boolean linkedListRemoveIf() { return linkedList.removeIf(element -> (element & 1) == 1); }
+
+    private static List<Integer> removeOddOneByOne(List<Integer> list) {
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if ((list.get(i) & 1) == 1) list.remove(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,61 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.map.IntIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares counting occurrences of {@code int} ids with a boxed {@link Hashtable} and with
+ * {@link IntIntHashMap}.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=PrimitiveMapBenchmark},
+ * adding {@code -prof gc} to the benchmark arguments to compare allocation rates.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveMapBenchmark {
+    private static final int ID_COUNT = 1 << 16;
+    private static final int DISTINCT_IDS = 1 << 12;
+
+    private int[] ids;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = new int[ID_COUNT];
+
+        for (int i = 0; i < ID_COUNT; i++) ids[i] = random.nextInt(DISTINCT_IDS);
+    }
+
+    @Benchmark
+    public Hashtable<Integer, Integer> boxedCounters() {
+        Hashtable<Integer, Integer> counters = new Hashtable<>();
+        for (int id : ids) counters.merge(id, 1, Integer::sum);
+        return counters;
+    }
+
+    @Benchmark
+    public IntIntHashMap primitiveCounters() {
+        IntIntHashMap counters = new IntIntHashMap();
+        for (int id : ids) counters.merge(id, 1, Integer::sum);
+        return counters;
+    }
+}
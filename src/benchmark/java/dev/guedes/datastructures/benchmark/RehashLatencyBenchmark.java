@@ -0,0 +1,55 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the latency distribution of {@link HashSet#add(Object)} while the set keeps growing,
+ * comparing rehashing the whole table at once against incremental rehashing. The tail
+ * percentiles show the cost of the largest single resize.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=RehashLatencyBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RehashLatencyBenchmark {
+    private static final int MAXIMUM_ELEMENTS = 1 << 21;
+
+    @Param({"false", "true"})
+    private boolean incremental;
+
+    private HashSet<Integer> set;
+    private int next;
+
+    @Setup
+    public void setUp() { reset(); }
+
+    @Benchmark
+    public boolean add() {
+        if (next == MAXIMUM_ELEMENTS) reset();
+        return set.add(next++);
+    }
+
+    private void reset() {
+        set = new HashSet<>(16, 0.75f, false, incremental);
+        next = 0;
+    }
+}
@@ -0,0 +1,84 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.set.BitSet;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import dev.guedes.datastructures.util.collection.set.RoaringBitmap;
+import dev.guedes.datastructures.util.collection.set.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Set#intersection(Set)} between a large and a small set, with either one as the
+ * receiver, for hash sets, bit sets and Roaring bitmaps holding the same elements.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=SetAlgebraBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetAlgebraBenchmark {
+    @Param({"1000000"})
+    private int elements;
+
+    @Param({"10000"})
+    private int smallElements;
+
+    private Set<Integer> largeHashSet;
+    private Set<Integer> smallHashSet;
+    private BitSet largeBitSet;
+    private BitSet smallBitSet;
+    private RoaringBitmap largeBitmap;
+    private RoaringBitmap smallBitmap;
+
+    @Setup
+    public void setUp() {
+        largeHashSet = new HashSet<>(elements);
+        smallHashSet = new HashSet<>(smallElements);
+        largeBitSet = new BitSet(elements * 2);
+        smallBitSet = new BitSet(elements * 2);
+        largeBitmap = new RoaringBitmap();
+        smallBitmap = new RoaringBitmap();
+
+        for (int i = 0; i < elements; i++) {
+            largeHashSet.add(i * 2);
+            largeBitSet.add(i * 2);
+            largeBitmap.add(i * 2);
+        }
+
+        int stride = Math.max(elements / smallElements, 1);
+
+        for (int i = 0; i < smallElements; i++) {
+            smallHashSet.add(i * stride);
+            smallBitSet.add(i * stride);
+            smallBitmap.add(i * stride);
+        }
+    }
+
+    @Benchmark
+    public Set<Integer> hashSetLargeIntersectSmall() { return largeHashSet.intersection(smallHashSet); }
+
+    @Benchmark
+    public Set<Integer> hashSetSmallIntersectLarge() { return smallHashSet.intersection(largeHashSet); }
+
+    @Benchmark
+    public Set<Integer> bitSetIntersection() { return largeBitSet.intersection(smallBitSet); }
+
+    @Benchmark
+    public Set<Integer> roaringBitmapIntersection() { return largeBitmap.intersection(smallBitmap); }
+}
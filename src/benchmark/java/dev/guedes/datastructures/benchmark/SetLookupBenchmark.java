@@ -0,0 +1,84 @@
+package dev.guedes.datastructures.benchmark;
+
+import dev.guedes.datastructures.util.collection.set.CuckooHashSet;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares successful and unsuccessful {@code contains} calls on a chained {@link HashSet}
+ * against a {@link CuckooHashSet} holding the same elements.
+ * <p>
+ * Run with {@code mvn -P benchmark test-compile exec:exec -Dbenchmark=SetLookupBenchmark}.
+ *
+ * @author João Guedes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetLookupBenchmark {
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"1000000"})
+    private int elements;
+
+    private Integer[] present;
+    private Integer[] absent;
+    private HashSet<Integer> hashSet;
+    private CuckooHashSet<Integer> cuckooHashSet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        hashSet = new HashSet<>(elements);
+        cuckooHashSet = new CuckooHashSet<>(elements);
+        present = new Integer[LOOKUPS];
+        absent = new Integer[LOOKUPS];
+
+        for (int i = 0; i < elements; i++) {
+            hashSet.add(i * 2);
+            cuckooHashSet.add(i * 2);
+        }
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            present[i] = random.nextInt(elements) * 2;
+            absent[i] = random.nextInt(elements) * 2 + 1;
+        }
+    }
+
+    @Benchmark
+    public void hashSetHit(Blackhole blackhole) {
+        for (Integer element : present) blackhole.consume(hashSet.contains(element));
+    }
+
+    @Benchmark
+    public void hashSetMiss(Blackhole blackhole) {
+        for (Integer element : absent) blackhole.consume(hashSet.contains(element));
+    }
+
+    @Benchmark
+    public void cuckooHashSetHit(Blackhole blackhole) {
+        for (Integer element : present) blackhole.consume(cuckooHashSet.contains(element));
+    }
+
+    @Benchmark
+    public void cuckooHashSetMiss(Blackhole blackhole) {
+        for (Integer element : absent) blackhole.consume(cuckooHashSet.contains(element));
+    }
+}
@@ -1,7 +1,5 @@
 package dev.guedes.datastructures.util;
 
-import java.lang.reflect.Array;
-
 /**
  * Utility class providing generic methods for array manipulation and sorting.
  * <p>
@@ -231,7 +229,8 @@ public final class Arrays {
      * Creates a new array by copying a range of the original array.
      * <p>
      * The returned array contains elements from index {@code from} (inclusive) to
-     * {@code to} (exclusive).
+     * {@code to} (exclusive), and has the same component type as the original array. The copy is
+     * a single bulk move, which the JVM performs as a block memory copy.
      * <p>
      * If {@code to - from} is greater than the length of the original array from {@code from},
      * the extra elements in the new array will be null.
@@ -242,6 +241,7 @@ public final class Arrays {
      * @param to the final index of the range to be copied, exclusive
      * @return a new array containing the specified range from the original array
      * @throws NullPointerException if the original array is null
+     * @throws IndexOutOfBoundsException if from is negative or greater than the original length
      * @throws IllegalArgumentException if from > to
      */
     public static <T> T[] copyOfRange(T[] original, int from, int to) {
@@ -251,12 +251,11 @@ public final class Arrays {
             throw new IllegalArgumentException("From index must not be greater than to index.");
         }
 
-        int length = to - from;
-        T[] copy = (T[]) Array.newInstance(original.getClass().getComponentType(), length);
-
-        arraycopy(original, from, copy, 0, Math.min(original.length - from, length));
+        if (from < 0 || from > original.length) {
+            throw new IndexOutOfBoundsException("From index out of range: " + from + ".");
+        }
 
-        return copy;
+        return java.util.Arrays.copyOfRange(original, from, to);
     }
 
     /**
@@ -282,8 +281,9 @@ public final class Arrays {
     /**
      * Copies elements from source array to destination array.
      * <p>
-     * Handles the case when source and destination are the same array by
-     * making a temporary copy to prevent overwriting during copying.
+     * The elements are moved in bulk by {@link System#arraycopy}. When source and destination
+     * are the same array, the copy behaves as if the range were first copied to a temporary
+     * array, so overlapping ranges can be shifted in place without allocating one.
      *
      * @param <T> the type of elements in the arrays
      * @param src the source array (must not be null)
@@ -319,11 +319,7 @@ public final class Arrays {
             throw new IllegalArgumentException("Destination range out of bounds: dstPos=" + dstPos + ", length=" + length + ".");
         }
 
-        T[] sourceArray = (src == dst) ? copyOfRange(src, 0, src.length) : src;
-
-        for (int i = 0; i < length; i++) {
-            dst[dstPos + i] = sourceArray[srcPos + i];
-        }
+        System.arraycopy(src, srcPos, dst, dstPos, length);
     }
 
     /**
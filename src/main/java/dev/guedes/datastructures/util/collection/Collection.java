@@ -1,6 +1,11 @@
 package dev.guedes.datastructures.util.collection;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A generic Collection interface defining the basic operations
@@ -10,12 +15,25 @@ import java.util.function.Consumer;
  * removing, querying, and retrieving elements, similar to
  * standard Java Collection interfaces.
  * </p>
+ * <p>
+ * Every collection is {@link Iterable}, so it can be traversed with an enhanced {@code for}
+ * loop. Unless an implementation documents otherwise, its iterators are <em>fail-fast</em>:
+ * once the collection is structurally modified other than through the iterator itself, the
+ * next call on the iterator throws a {@link java.util.ConcurrentModificationException}. This
+ * is a best-effort check against programming errors, not a guarantee under unsynchronized
+ * concurrent access.
+ * </p>
+ * <p>
+ * Every collection can also be processed as a {@link Stream}, sequential or parallel, through
+ * its {@link #spliterator()}. Structures with random access or hash buckets override it to
+ * split their storage in halves, so parallel streams divide the work without copying it.
+ * </p>
  *
  * @param <E> the type of elements held in this collection
  *
  * @author João Guedes
  */
-public interface Collection<E> {
+public interface Collection<E> extends Iterable<E> {
     /**
      * Returns the number of elements in this collection.
      *
@@ -65,7 +83,46 @@ public interface Collection<E> {
      * @param action the action to be performed for each element
      * @throws NullPointerException if the specified action is {@code null}
      */
-    void forEach(Consumer<E> action);
+    @Override
+    void forEach(Consumer<? super E> action);
+
+    /**
+     * Returns an iterator over the elements of this collection, in the same order as
+     * {@link #forEach(Consumer)}.
+     *
+     * @return an iterator over the elements of the collection
+     */
+    @Override
+    Iterator<E> iterator();
+
+    /**
+     * Returns a spliterator over the elements of this collection, reporting its exact size.
+     * <p>
+     * The default implementation wraps {@link #iterator()}, so it inherits its fail-fast
+     * behavior, and splits by copying batches of elements into arrays. Implementations that
+     * can split their storage directly should override it, as should those whose elements are
+     * distinct or ordered and can report it.
+     * </p>
+     *
+     * @return a spliterator over the elements of the collection
+     */
+    @Override
+    default Spliterator<E> spliterator() { return Spliterators.spliterator(iterator(), size(), 0); }
+
+    /**
+     * Returns a sequential stream over the elements of this collection.
+     *
+     * @return a sequential stream over the elements of the collection
+     */
+    default Stream<E> stream() { return StreamSupport.stream(spliterator(), false); }
+
+    /**
+     * Returns a parallel stream over the elements of this collection. How well it scales
+     * depends on how evenly the collection's {@link #spliterator()} splits.
+     *
+     * @return a possibly parallel stream over the elements of the collection
+     */
+    default Stream<E> parallelStream() { return StreamSupport.stream(spliterator(), true); }
 
     /**
      * Returns an array containing all the elements in this collection.
@@ -0,0 +1,141 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.collection.internal.nodes.LinkedEntryNode;
+
+/**
+ * An intrusive doubly linked list of cache entries ordered from most to least recently used.
+ * <p>
+ * The list links the entry nodes themselves instead of wrapping them, so linking, unlinking and
+ * moving a node to the front are constant-time operations that never allocate. A node must be
+ * in at most one list at a time.
+ *
+ * @param <K> the type of keys maintained by the list
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+final class AccessOrderDeque<K, V> {
+    private LinkedEntryNode<K, V> first;
+    private LinkedEntryNode<K, V> last;
+    private int size;
+
+    int size() { return size; }
+
+    boolean isEmpty() { return size == 0; }
+
+    /**
+     * Returns the most recently used node.
+     *
+     * @return the first node, or {@code null} if the list is empty
+     */
+    LinkedEntryNode<K, V> peekFirst() { return first; }
+
+    /**
+     * Returns the least recently used node.
+     *
+     * @return the last node, or {@code null} if the list is empty
+     */
+    LinkedEntryNode<K, V> peekLast() { return last; }
+
+    /**
+     * Links a node that is not in any list at the front of this one.
+     *
+     * @param node the node to link
+     */
+    void linkFirst(LinkedEntryNode<K, V> node) {
+        node.setPrevious(null);
+        node.setNext(first);
+
+        if (first == null) {
+            last = node;
+        } else {
+            first.setPrevious(node);
+        }
+
+        first = node;
+        size++;
+    }
+
+    /**
+     * Unlinks a node of this list, leaving its key and value untouched.
+     *
+     * @param node the node to unlink
+     */
+    void unlink(LinkedEntryNode<K, V> node) {
+        LinkedEntryNode<K, V> previous = node.getPrevious();
+        LinkedEntryNode<K, V> next = node.getNext();
+
+        if (previous == null) {
+            first = next;
+        } else {
+            previous.setNext(next);
+        }
+
+        if (next == null) {
+            last = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+
+        node.setPrevious(null);
+        node.setNext(null);
+        size--;
+    }
+
+    /**
+     * Moves a node of this list to the front, marking it as the most recently used.
+     *
+     * @param node the node to move
+     */
+    void moveToFirst(LinkedEntryNode<K, V> node) {
+        if (node == first) return;
+
+        unlink(node);
+        linkFirst(node);
+    }
+
+    /**
+     * Unlinks and returns the least recently used node.
+     *
+     * @return the former last node, or {@code null} if the list is empty
+     */
+    LinkedEntryNode<K, V> pollLast() {
+        LinkedEntryNode<K, V> node = last;
+        if (node != null) unlink(node);
+        return node;
+    }
+
+    /**
+     * Unlinks every node and clears it for garbage collection.
+     */
+    void clear() {
+        LinkedEntryNode<K, V> current = first;
+        LinkedEntryNode<K, V> next;
+
+        while (current != null) {
+            next = current.getNext();
+            current.clear();
+            current = next;
+        }
+
+        first = null;
+        last = null;
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "{}";
+
+        StringBuilder sb = new StringBuilder();
+        LinkedEntryNode<K, V> current = first;
+
+        while (current != null) {
+            sb.append(current).append(", ");
+            current = current.getNext();
+        }
+        sb.setLength(sb.length() - 2);
+
+        return "{" + sb + "}";
+    }
+}
@@ -0,0 +1,84 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+/**
+ * A bounded key-value store that keeps the entries most likely to be requested again.
+ * <p>
+ * Unlike a {@link dev.guedes.datastructures.util.collection.map.Map}, a cache may discard an
+ * entry at any time to respect its bound, so a value that was put is not guaranteed to be
+ * found later. Every lookup through {@link #get(Object)} is recorded as a hit or a miss in
+ * the cache's {@link CacheStats}.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+public interface Cache<K, V> {
+    /**
+     * Returns the number of entries currently held by the cache.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if the cache holds no entries.
+     *
+     * @return {@code true} if empty; {@code false} otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the value cached for the specified key, recording a hit or a miss.
+     *
+     * @param key the key whose cached value is to be returned
+     * @return the cached value, or {@code null} if the key is not cached
+     * @throws NullPointerException if the key is {@code null}
+     */
+    V get(K key) throws NullPointerException;
+
+    /**
+     * Caches the specified value for the specified key, possibly evicting other entries.
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to cache
+     * @return the value previously cached for the key, or {@code null} if none
+     * @throws NullPointerException if the key or the value is {@code null}
+     */
+    V put(K key, V value) throws NullPointerException;
+
+    /**
+     * Discards the entry for the specified key, if it is cached.
+     * <p>
+     * Removed entries are not reported as evictions.
+     *
+     * @param key the key whose entry is to be removed
+     * @return the value that was cached for the key, or {@code null} if none
+     * @throws NullPointerException if the key is {@code null}
+     */
+    V remove(K key) throws NullPointerException;
+
+    /**
+     * Returns {@code true} if the cache holds an entry for the specified key.
+     * <p>
+     * Unlike {@link #get(Object)}, this check neither counts as an access nor is recorded in
+     * the statistics.
+     *
+     * @param key the key to check for presence
+     * @return {@code true} if the key is cached
+     * @throws NullPointerException if the key is {@code null}
+     */
+    boolean containsKey(K key) throws NullPointerException;
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters of this cache.
+     *
+     * @return the cache statistics
+     */
+    CacheStats stats();
+
+    /**
+     * Discards every entry of the cache without reporting evictions.
+     */
+    void clear();
+}
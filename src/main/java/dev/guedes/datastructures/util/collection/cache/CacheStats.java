@@ -0,0 +1,39 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+/**
+ * An immutable snapshot of the counters of a {@link Cache}.
+ *
+ * @param hitCount the number of lookups that found a cached value
+ * @param missCount the number of lookups that found no cached value
+ * @param evictionCount the number of entries discarded to respect the cache's bound or because they expired
+ *
+ * @author João Guedes
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount) {
+    /**
+     * Returns the total number of lookups.
+     *
+     * @return the sum of hits and misses
+     */
+    public long requestCount() { return hitCount + missCount; }
+
+    /**
+     * Returns the fraction of lookups that found a cached value.
+     *
+     * @return the hit rate, or {@code 1.0} if there were no lookups
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that found no cached value.
+     *
+     * @return the miss rate, or {@code 0.0} if there were no lookups
+     */
+    public double missRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 0.0 : (double) missCount / requestCount;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+/**
+ * A callback notified whenever a {@link Cache} discards an entry to respect its bound or because
+ * the entry expired.
+ * <p>
+ * The listener runs synchronously on the thread that triggered the eviction, after the entry
+ * has been removed from the cache.
+ *
+ * @param <K> the type of keys maintained by the cache
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+    /**
+     * Handles the eviction of an entry.
+     *
+     * @param key the key of the evicted entry
+     * @param value the value of the evicted entry
+     */
+    void onEviction(K key, V value);
+}
@@ -0,0 +1,18 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+/**
+ * Defines which operations restart the time-to-live of an entry in an {@link ExpiringCache}.
+ *
+ * @author João Guedes
+ */
+public enum ExpirationPolicy {
+    /**
+     * Entries expire once the time-to-live has elapsed since their value was last written.
+     */
+    AFTER_WRITE,
+
+    /**
+     * Entries expire once the time-to-live has elapsed since their value was last read or written.
+     */
+    AFTER_ACCESS
+}
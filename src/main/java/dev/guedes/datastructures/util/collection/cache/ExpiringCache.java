@@ -0,0 +1,262 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.nodes.LinkedEntryNode;
+import dev.guedes.datastructures.util.collection.internal.nodes.TimedEntryNode;
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.map.Map;
+
+import java.time.Duration;
+
+/**
+ * A bounded cache whose entries expire once a time-to-live has elapsed since they were last
+ * written or, depending on the {@link ExpirationPolicy}, last accessed.
+ * <p>
+ * Expiration is checked in two ways. A read compares the entry's deadline with the current
+ * time, so an expired entry is never returned even if it has not been purged yet, and the check
+ * costs no more than the lookup. Purging is delegated to a {@link TimerWheel}: every write, and
+ * every call to {@link #cleanUp()}, advances the wheel and discards the entries of the buckets
+ * whose span has elapsed, so expired entries are removed in amortized constant time instead of
+ * by sweeping the whole table. Expired entries are reported to the eviction listener and counted
+ * as evictions.
+ * <p>
+ * Besides expiring, the cache holds at most a fixed number of entries and evicts the least
+ * recently used one when a new entry would exceed that bound.
+ * <p>
+ * This class is not thread-safe. A background purge can be set up by calling {@link #cleanUp()}
+ * periodically, as long as every access to the cache is externally synchronized.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+public class ExpiringCache<K, V> implements Cache<K, V> {
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+    private final ExpirationPolicy expirationPolicy;
+    private final Ticker ticker;
+    private final EvictionListener<? super K, ? super V> evictionListener;
+    private final Map<K, TimedEntryNode<K, V>> index;
+    private final AccessOrderDeque<K, V> accessOrder;
+    private final TimerWheel<K, V> timerWheel;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public ExpiringCache(int maximumSize, Duration timeToLive, ExpirationPolicy expirationPolicy,
+                         Ticker ticker, EvictionListener<? super K, ? super V> evictionListener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive. Provided value: " + maximumSize + ".");
+        }
+
+        Objects.requireNonNull(timeToLive, "Time to live cannot be null.");
+        Objects.requireNonNull(expirationPolicy, "Expiration policy cannot be null.");
+        Objects.requireNonNull(ticker, "Ticker cannot be null.");
+        Objects.requireNonNull(evictionListener, "Eviction listener cannot be null.");
+
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive. Provided value: " + timeToLive + ".");
+        }
+
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = saturatedNanos(timeToLive);
+        this.expirationPolicy = expirationPolicy;
+        this.ticker = ticker;
+        this.evictionListener = evictionListener;
+        this.index = new Hashtable<>();
+        this.accessOrder = new AccessOrderDeque<>();
+        this.timerWheel = new TimerWheel<>(ticker.read());
+    }
+
+    public ExpiringCache(int maximumSize, Duration timeToLive, ExpirationPolicy expirationPolicy) {
+        this(maximumSize, timeToLive, expirationPolicy, Ticker.systemTicker(), (key, value) -> { });
+    }
+
+    /**
+     * Returns the number of entries held by the cache, including expired entries that have not
+     * been purged yet.
+     *
+     * @return the number of entries
+     */
+    @Override
+    public int size() { return index.size(); }
+
+    @Override
+    public boolean isEmpty() { return index.isEmpty(); }
+
+    @Override
+    public V get(K key) {
+        TimedEntryNode<K, V> node = index.get(key);
+        long now = ticker.read();
+
+        if (node != null && hasExpired(node, now)) {
+            evict(node);
+            node = null;
+        }
+
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        accessOrder.moveToFirst(node);
+
+        if (expirationPolicy == ExpirationPolicy.AFTER_ACCESS) {
+            node.setExpirationTime(now + timeToLiveNanos);
+            timerWheel.reschedule(node);
+        }
+
+        return node.getValue();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        long now = ticker.read();
+        timerWheel.advance(now, this::evict);
+
+        TimedEntryNode<K, V> node = index.get(key);
+
+        if (node != null && hasExpired(node, now)) {
+            evict(node);
+            node = null;
+        }
+
+        if (node != null) {
+            V oldValue = node.getValue();
+            node.setValue(value);
+            node.setExpirationTime(now + timeToLiveNanos);
+            timerWheel.reschedule(node);
+            accessOrder.moveToFirst(node);
+            return oldValue;
+        }
+
+        node = new TimedEntryNode<>(key, value, now + timeToLiveNanos);
+        index.put(key, node);
+        accessOrder.linkFirst(node);
+        timerWheel.schedule(node);
+
+        if (accessOrder.size() > maximumSize) evict(asTimedNode(accessOrder.peekLast()));
+
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        TimedEntryNode<K, V> node = index.remove(key);
+
+        if (node == null) return null;
+
+        V value = node.getValue();
+        unlink(node);
+
+        return value;
+    }
+
+    /**
+     * Returns {@code true} if the cache holds an unexpired entry for the specified key.
+     *
+     * @param key the key to check for presence
+     * @return {@code true} if the key is cached and has not expired
+     */
+    @Override
+    public boolean containsKey(K key) {
+        TimedEntryNode<K, V> node = index.get(key);
+        return node != null && !hasExpired(node, ticker.read());
+    }
+
+    @Override
+    public CacheStats stats() { return new CacheStats(hitCount, missCount, evictionCount); }
+
+    /**
+     * Purges the expired entries of every timer wheel bucket whose span has elapsed.
+     * <p>
+     * Entries are purged with a resolution of about one second, while reads already treat them as
+     * absent as soon as they expire. Writes purge expired entries as they go; calling this method
+     * periodically also releases the entries of a cache that is rarely written.
+     */
+    public void cleanUp() { timerWheel.advance(ticker.read(), this::evict); }
+
+    /**
+     * Returns the maximum number of entries this cache holds.
+     *
+     * @return the maximum size
+     */
+    public int maximumSize() { return maximumSize; }
+
+    /**
+     * Returns the time an entry lives before expiring.
+     *
+     * @return the time-to-live
+     */
+    public Duration timeToLive() { return Duration.ofNanos(timeToLiveNanos); }
+
+    @Override
+    public void clear() {
+        index.clear();
+        timerWheel.clear();
+        accessOrder.clear();
+    }
+
+    /**
+     * Returns the entries from the most to the least recently used, including expired entries
+     * that have not been purged yet.
+     *
+     * @return the string representation of the cache
+     */
+    @Override
+    public String toString() { return accessOrder.toString(); }
+
+    private boolean hasExpired(TimedEntryNode<K, V> node, long now) {
+        return node.getExpirationTime() - now <= 0;
+    }
+
+    /**
+     * Discards an entry that expired or exceeded the bound, counting it as an eviction and
+     * notifying the eviction listener.
+     *
+     * @param node the entry to evict
+     */
+    private void evict(TimedEntryNode<K, V> node) {
+        K key = node.getKey();
+        V value = node.getValue();
+
+        index.remove(key);
+        unlink(node);
+        evictionCount++;
+
+        evictionListener.onEviction(key, value);
+    }
+
+    /**
+     * Unlinks an entry from the access order and the timer wheel, then clears it.
+     *
+     * @param node the entry to unlink
+     */
+    private void unlink(TimedEntryNode<K, V> node) {
+        accessOrder.unlink(node);
+        timerWheel.deschedule(node);
+        node.clear();
+    }
+
+    /**
+     * Converts a duration to nanoseconds, saturating durations too long to be represented.
+     */
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Narrows a node taken from the access order, which only ever links {@link TimedEntryNode} instances.
+     */
+    private static <K, V> TimedEntryNode<K, V> asTimedNode(LinkedEntryNode<K, V> node) {
+        return (TimedEntryNode<K, V>) node;
+    }
+}
@@ -0,0 +1,151 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+
+/**
+ * A count-min sketch estimating how often each element was recently seen, in a fixed amount
+ * of memory.
+ * <p>
+ * Counters are 4 bits wide, sixteen of them packed in each {@code long}, and saturate at
+ * {@value #MAXIMUM_FREQUENCY}. Each element maps to {@value #DEPTH} counters through independent
+ * hashes; an increment bumps all of them and the estimate is the smallest, so collisions can only
+ * overestimate a frequency. Once the number of increments reaches a sample size proportional to
+ * the table, every counter is halved, letting old popularity fade so the sketch follows shifts in
+ * the workload.
+ *
+ * @param <E> the type of elements counted by the sketch
+ *
+ * @author João Guedes
+ */
+final class FrequencySketch<E> {
+    static final int MAXIMUM_FREQUENCY = 15;
+
+    private static final int DEPTH = 4;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+    private static final int COUNTERS_PER_WORD_SHIFT = 4;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int[] SEEDS = {0x97CB3127, 0xB3B9A2C1, 0xD6E8FEB3, 0x8CB92BA7};
+
+    private final long[] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for a cache holding the given number of entries.
+     *
+     * @param maximumSize the expected number of distinct hot elements
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    FrequencySketch(int maximumSize) throws IllegalArgumentException {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive. Provided value: " + maximumSize + ".");
+        }
+
+        int words = Hashing.tableSizeFor(Math.min(maximumSize, Hashing.MAXIMUM_CAPACITY >>> COUNTERS_PER_WORD_SHIFT));
+
+        this.table = new long[words];
+        this.counterMask = (words << COUNTERS_PER_WORD_SHIFT) - 1;
+        this.sampleSize = (int) Math.min((long) SAMPLE_SIZE_MULTIPLIER * maximumSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times the element was seen, capped at
+     * {@value #MAXIMUM_FREQUENCY}.
+     *
+     * @param element the element whose frequency is to be estimated
+     * @return the estimated frequency (0 ≤ frequency ≤ {@value #MAXIMUM_FREQUENCY})
+     * @throws NullPointerException if the element is {@code null}
+     */
+    int frequency(E element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+
+        int hash = Hashing.spread(element.hashCode());
+        int frequency = MAXIMUM_FREQUENCY;
+
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, counterAt(counterIndex(hash, i)));
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the element, aging every counter once the sample is full.
+     *
+     * @param element the element to count
+     * @throws NullPointerException if the element is {@code null}
+     */
+    void increment(E element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+
+        int hash = Hashing.spread(element.hashCode());
+        boolean added = false;
+
+        for (int i = 0; i < DEPTH; i++) {
+            added |= incrementAt(counterIndex(hash, i));
+        }
+
+        if (added && ++additions >= sampleSize) reset();
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void clear() {
+        for (int i = 0; i < table.length; i++) table[i] = 0L;
+        additions = 0;
+    }
+
+    /**
+     * Halves every counter, discarding the remainders.
+     */
+    private void reset() {
+        int oddCounters = 0;
+
+        for (int i = 0; i < table.length; i++) {
+            oddCounters += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        additions = (additions - (oddCounters >>> 2)) >>> 1;
+    }
+
+    /**
+     * Computes the position of one of the element's counters.
+     *
+     * @param hash the spread hash code of the element
+     * @param depth which of the element's counters to locate (0 ≤ depth < {@value #DEPTH})
+     * @return the counter index in the whole table
+     */
+    private int counterIndex(int hash, int depth) {
+        return Hashing.spread(hash ^ SEEDS[depth]) & counterMask;
+    }
+
+    private int counterAt(int index) {
+        return (int) ((table[index >>> COUNTERS_PER_WORD_SHIFT] >>> offsetOf(index)) & COUNTER_MASK);
+    }
+
+    /**
+     * Increments a counter unless it is saturated.
+     *
+     * @param index the counter index in the whole table
+     * @return {@code true} if the counter was incremented
+     */
+    private boolean incrementAt(int index) {
+        int word = index >>> COUNTERS_PER_WORD_SHIFT;
+        int offset = offsetOf(index);
+
+        if (((table[word] >>> offset) & COUNTER_MASK) == MAXIMUM_FREQUENCY) return false;
+
+        table[word] += 1L << offset;
+        return true;
+    }
+
+    private int offsetOf(int index) {
+        return (index & ((1 << COUNTERS_PER_WORD_SHIFT) - 1)) << 2;
+    }
+}
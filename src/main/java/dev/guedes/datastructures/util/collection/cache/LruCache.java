@@ -0,0 +1,145 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.nodes.LinkedEntryNode;
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.map.Map;
+
+/**
+ * A cache holding at most a fixed number of entries, evicting the least recently used one
+ * when a new entry would exceed that bound.
+ * <p>
+ * A {@link Hashtable} maps each key to its entry node, and the same nodes form an intrusive
+ * doubly linked list in access order, so lookups, insertions, promotions to most recently used
+ * and evictions all run in constant time. Both {@link #get(Object)} and {@link #put(Object, Object)}
+ * count as accesses.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+public class LruCache<K, V> implements Cache<K, V> {
+    private final int maximumSize;
+    private final EvictionListener<? super K, ? super V> evictionListener;
+    private final Map<K, LinkedEntryNode<K, V>> index;
+    private final AccessOrderDeque<K, V> accessOrder;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public LruCache(int maximumSize, EvictionListener<? super K, ? super V> evictionListener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive. Provided value: " + maximumSize + ".");
+        }
+
+        Objects.requireNonNull(evictionListener, "Eviction listener cannot be null.");
+
+        this.maximumSize = maximumSize;
+        this.evictionListener = evictionListener;
+        this.index = new Hashtable<>();
+        this.accessOrder = new AccessOrderDeque<>();
+    }
+
+    public LruCache(int maximumSize) { this(maximumSize, (key, value) -> { }); }
+
+    @Override
+    public int size() { return index.size(); }
+
+    @Override
+    public boolean isEmpty() { return index.isEmpty(); }
+
+    @Override
+    public V get(K key) {
+        LinkedEntryNode<K, V> node = index.get(key);
+
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        accessOrder.moveToFirst(node);
+
+        return node.getValue();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        LinkedEntryNode<K, V> node = index.get(key);
+
+        if (node != null) {
+            V oldValue = node.getValue();
+            node.setValue(value);
+            accessOrder.moveToFirst(node);
+            return oldValue;
+        }
+
+        node = new LinkedEntryNode<>(key, value);
+        index.put(key, node);
+        accessOrder.linkFirst(node);
+
+        if (accessOrder.size() > maximumSize) evictLeastRecentlyUsed();
+
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        LinkedEntryNode<K, V> node = index.remove(key);
+
+        if (node == null) return null;
+
+        V value = node.getValue();
+        accessOrder.unlink(node);
+        node.clear();
+
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(K key) { return index.containsKey(key); }
+
+    @Override
+    public CacheStats stats() { return new CacheStats(hitCount, missCount, evictionCount); }
+
+    /**
+     * Returns the maximum number of entries this cache holds.
+     *
+     * @return the maximum size
+     */
+    public int maximumSize() { return maximumSize; }
+
+    @Override
+    public void clear() {
+        index.clear();
+        accessOrder.clear();
+    }
+
+    /**
+     * Returns the entries from the most to the least recently used.
+     *
+     * @return the string representation of the cache
+     */
+    @Override
+    public String toString() { return accessOrder.toString(); }
+
+    /**
+     * Evicts the least recently used entry and notifies the eviction listener.
+     */
+    private void evictLeastRecentlyUsed() {
+        LinkedEntryNode<K, V> eldest = accessOrder.pollLast();
+        K key = eldest.getKey();
+        V value = eldest.getValue();
+
+        index.remove(key);
+        eldest.clear();
+        evictionCount++;
+
+        evictionListener.onEviction(key, value);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+/**
+ * A source of nanosecond time readings used by caches to decide when entries expire.
+ * <p>
+ * Only the difference between two readings is meaningful, as with {@link System#nanoTime()}.
+ * Tests can supply a manually advanced ticker to control time.
+ *
+ * @author João Guedes
+ */
+@FunctionalInterface
+public interface Ticker {
+    /**
+     * Returns the current time.
+     *
+     * @return the number of nanoseconds elapsed since an arbitrary origin
+     */
+    long read();
+
+    /**
+     * Returns a ticker backed by {@link System#nanoTime()}.
+     *
+     * @return the system ticker
+     */
+    static Ticker systemTicker() { return System::nanoTime; }
+}
@@ -0,0 +1,198 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.collection.internal.nodes.TimedEntryNode;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel that finds expired entries without scanning every entry.
+ * <p>
+ * Each level is an array of buckets, every bucket a circular doubly linked list of the nodes
+ * whose expiration time falls into its span. Spans grow from about one second on the first level
+ * to about a day on the fourth; deadlines farther away share a single overflow bucket. Scheduling
+ * or descheduling a node is constant time. Advancing the wheel only visits the buckets whose span
+ * has elapsed: their nodes either expire or, when their deadline is still ahead, cascade down to a
+ * finer bucket. Each node is therefore touched a bounded number of times before it expires,
+ * making expiration amortized constant time.
+ * <p>
+ * Times are nanoseconds read from a {@link Ticker}, so a wheel is only meaningful relative to the
+ * ticker it is advanced with.
+ *
+ * @param <K> the type of keys maintained by the wheel
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+final class TimerWheel<K, V> {
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, // about 1.07 seconds
+            1L << 36, // about 1.15 minutes
+            1L << 42, // about 1.22 hours
+            1L << 46, // about 0.81 days
+            1L << 48, // about 3.26 days
+            1L << 48
+    };
+    private static final int[] SHIFTS = {30, 36, 42, 46, 48};
+
+    private final TimedEntryNode<K, V>[][] wheel;
+    private long time;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long time) {
+        this.wheel = new TimedEntryNode[BUCKETS.length][];
+        this.time = time;
+
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new TimedEntryNode[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) wheel[i][j] = newSentinel();
+        }
+    }
+
+    /**
+     * Links a node into the bucket covering its expiration time.
+     *
+     * @param node the node to schedule, not currently in any bucket
+     */
+    void schedule(TimedEntryNode<K, V> node) {
+        TimedEntryNode<K, V> sentinel = findBucket(node.getExpirationTime());
+        TimedEntryNode<K, V> last = sentinel.getPreviousInTime();
+
+        node.setPreviousInTime(last);
+        node.setNextInTime(sentinel);
+        last.setNextInTime(node);
+        sentinel.setPreviousInTime(node);
+    }
+
+    /**
+     * Moves a scheduled node to the bucket covering its updated expiration time.
+     *
+     * @param node the node to reschedule
+     */
+    void reschedule(TimedEntryNode<K, V> node) {
+        deschedule(node);
+        schedule(node);
+    }
+
+    /**
+     * Unlinks a node from its bucket, if it is scheduled.
+     *
+     * @param node the node to deschedule
+     */
+    void deschedule(TimedEntryNode<K, V> node) {
+        TimedEntryNode<K, V> previous = node.getPreviousInTime();
+        TimedEntryNode<K, V> next = node.getNextInTime();
+
+        if (next == null) return;
+
+        previous.setNextInTime(next);
+        next.setPreviousInTime(previous);
+        node.setPreviousInTime(null);
+        node.setNextInTime(null);
+    }
+
+    /**
+     * Advances the wheel to the given time, handing every node whose deadline has passed to the
+     * given action and cascading the others down to finer buckets.
+     *
+     * @param currentTime the current time, in nanoseconds
+     * @param onExpiration the action receiving each expired node, already descheduled
+     */
+    void advance(long currentTime, Consumer<TimedEntryNode<K, V>> onExpiration) {
+        long previousTime = time;
+        time = currentTime;
+
+        for (int i = 0; i < SHIFTS.length; i++) {
+            long previousTicks = previousTime >>> SHIFTS[i];
+            long delta = (currentTime >>> SHIFTS[i]) - previousTicks;
+
+            if (delta <= 0) break;
+
+            expire(i, previousTicks, delta, onExpiration);
+        }
+    }
+
+    /**
+     * Unlinks every node of the wheel.
+     */
+    void clear() {
+        for (TimedEntryNode<K, V>[] buckets : wheel) {
+            for (TimedEntryNode<K, V> sentinel : buckets) {
+                TimedEntryNode<K, V> current = sentinel.getNextInTime();
+
+                while (current != sentinel) {
+                    TimedEntryNode<K, V> next = current.getNextInTime();
+                    current.setPreviousInTime(null);
+                    current.setNextInTime(null);
+                    current = next;
+                }
+
+                sentinel.setPreviousInTime(sentinel);
+                sentinel.setNextInTime(sentinel);
+            }
+        }
+    }
+
+    /**
+     * Empties the buckets of a level whose span elapsed between two ticks.
+     *
+     * @param level the level of the wheel
+     * @param previousTicks the tick of that level the wheel was last advanced to
+     * @param delta the number of ticks that elapsed since then
+     * @param onExpiration the action receiving each expired node
+     */
+    private void expire(int level, long previousTicks, long delta, Consumer<TimedEntryNode<K, V>> onExpiration) {
+        TimedEntryNode<K, V>[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+
+        for (int i = 0; i < steps; i++) {
+            TimedEntryNode<K, V> sentinel = buckets[(start + i) & mask];
+            TimedEntryNode<K, V> current = sentinel.getNextInTime();
+
+            sentinel.setPreviousInTime(sentinel);
+            sentinel.setNextInTime(sentinel);
+
+            while (current != sentinel) {
+                TimedEntryNode<K, V> next = current.getNextInTime();
+                current.setPreviousInTime(null);
+                current.setNextInTime(null);
+
+                if (current.getExpirationTime() - time <= 0) {
+                    onExpiration.accept(current);
+                } else {
+                    schedule(current);
+                }
+                current = next;
+            }
+        }
+    }
+
+    /**
+     * Finds the bucket whose span covers the given expiration time.
+     *
+     * @param expirationTime the expiration time, in nanoseconds
+     * @return the sentinel of the bucket
+     */
+    private TimedEntryNode<K, V> findBucket(long expirationTime) {
+        long duration = expirationTime - time;
+        int last = wheel.length - 1;
+
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = expirationTime >>> SHIFTS[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+
+        return wheel[last][0];
+    }
+
+    private TimedEntryNode<K, V> newSentinel() {
+        TimedEntryNode<K, V> sentinel = new TimedEntryNode<>(null, null, 0L);
+        sentinel.setPreviousInTime(sentinel);
+        sentinel.setNextInTime(sentinel);
+        return sentinel;
+    }
+}
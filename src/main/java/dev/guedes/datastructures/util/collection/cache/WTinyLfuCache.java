@@ -0,0 +1,258 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.nodes.LinkedEntryNode;
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.map.Map;
+
+/**
+ * A bounded cache that admits entries by their estimated popularity, following the W-TinyLFU
+ * policy.
+ * <p>
+ * New entries first enter a small LRU <em>window</em> holding about 1% of the capacity. An entry
+ * pushed out of the window becomes a candidate for the <em>main</em> region, a segmented LRU made
+ * of a <em>probation</em> segment and a <em>protected</em> segment holding about 80% of it. While
+ * the main region is full, the candidate is only admitted if a {@link FrequencySketch} estimates it
+ * was requested more often than the least recently used probation entry, which is then evicted in
+ * its place; otherwise the candidate itself is evicted. A probation entry that is hit again is
+ * promoted to the protected segment, whose overflow is demoted back to probation.
+ * <p>
+ * A burst of keys that are each requested once, such as a batch scan, therefore only churns the
+ * window, while frequently requested entries stay in the main region. Every lookup and every
+ * insertion is counted by the sketch, including lookups of keys that are not cached.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ *
+ * @author João Guedes
+ */
+public class WTinyLfuCache<K, V> implements Cache<K, V> {
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.8;
+
+    private final int maximumSize;
+    private final int maximumWindowSize;
+    private final int maximumMainSize;
+    private final int maximumProtectedSize;
+    private final EvictionListener<? super K, ? super V> evictionListener;
+    private final Map<K, Node<K, V>> index;
+    private final FrequencySketch<K> sketch;
+    private final AccessOrderDeque<K, V> window;
+    private final AccessOrderDeque<K, V> probation;
+    private final AccessOrderDeque<K, V> protectedSegment;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public WTinyLfuCache(int maximumSize, EvictionListener<? super K, ? super V> evictionListener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive. Provided value: " + maximumSize + ".");
+        }
+
+        Objects.requireNonNull(evictionListener, "Eviction listener cannot be null.");
+
+        this.maximumSize = maximumSize;
+        this.maximumWindowSize = Math.max(1, (int) (maximumSize * WINDOW_PERCENTAGE));
+        this.maximumMainSize = maximumSize - maximumWindowSize;
+        this.maximumProtectedSize = (int) (maximumMainSize * PROTECTED_PERCENTAGE);
+        this.evictionListener = evictionListener;
+        this.index = new Hashtable<>();
+        this.sketch = new FrequencySketch<>(maximumSize);
+        this.window = new AccessOrderDeque<>();
+        this.probation = new AccessOrderDeque<>();
+        this.protectedSegment = new AccessOrderDeque<>();
+    }
+
+    public WTinyLfuCache(int maximumSize) { this(maximumSize, (key, value) -> { }); }
+
+    @Override
+    public int size() { return index.size(); }
+
+    @Override
+    public boolean isEmpty() { return index.isEmpty(); }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = index.get(key);
+        sketch.increment(key);
+
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        onAccess(node);
+
+        return node.getValue();
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        Node<K, V> node = index.get(key);
+        sketch.increment(key);
+
+        if (node != null) {
+            V oldValue = node.getValue();
+            node.setValue(value);
+            onAccess(node);
+            return oldValue;
+        }
+
+        node = new Node<>(key, value);
+        index.put(key, node);
+        window.linkFirst(node);
+
+        if (window.size() > maximumWindowSize) admitFromWindow();
+
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = index.remove(key);
+
+        if (node == null) return null;
+
+        V value = node.getValue();
+        segmentOf(node).unlink(node);
+        node.clear();
+
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(K key) { return index.containsKey(key); }
+
+    @Override
+    public CacheStats stats() { return new CacheStats(hitCount, missCount, evictionCount); }
+
+    /**
+     * Returns the maximum number of entries this cache holds.
+     *
+     * @return the maximum size
+     */
+    public int maximumSize() { return maximumSize; }
+
+    @Override
+    public void clear() {
+        index.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        sketch.clear();
+    }
+
+    /**
+     * Returns the entries of the window, probation and protected regions, each from the most to
+     * the least recently used.
+     *
+     * @return the string representation of the cache
+     */
+    @Override
+    public String toString() {
+        return "{window=" + window + ", probation=" + probation + ", protected=" + protectedSegment + "}";
+    }
+
+    /**
+     * Records a hit on a cached entry, promoting a probation entry to the protected segment.
+     *
+     * @param node the entry that was accessed
+     */
+    private void onAccess(Node<K, V> node) {
+        switch (node.region) {
+            case WINDOW -> window.moveToFirst(node);
+            case PROTECTED -> protectedSegment.moveToFirst(node);
+            case PROBATION -> {
+                probation.unlink(node);
+                node.region = Region.PROTECTED;
+                protectedSegment.linkFirst(node);
+
+                if (protectedSegment.size() > maximumProtectedSize) {
+                    Node<K, V> demoted = asNode(protectedSegment.pollLast());
+                    demoted.region = Region.PROBATION;
+                    probation.linkFirst(demoted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the least recently used window entry to the main region, or, if the main region is
+     * full, evicts whichever of it and the probation victim is estimated to be less popular.
+     * <p>
+     * Since the protected segment is always smaller than the main region, a full main region
+     * has a probation victim unless the cache is too small to have a main region at all.
+     */
+    private void admitFromWindow() {
+        Node<K, V> candidate = asNode(window.pollLast());
+
+        if (probation.size() + protectedSegment.size() < maximumMainSize) {
+            candidate.region = Region.PROBATION;
+            probation.linkFirst(candidate);
+            return;
+        }
+
+        Node<K, V> victim = asNode(probation.peekLast());
+
+        if (victim == null || sketch.frequency(candidate.getKey()) <= sketch.frequency(victim.getKey())) {
+            evict(candidate);
+            return;
+        }
+
+        probation.unlink(victim);
+        evict(victim);
+        candidate.region = Region.PROBATION;
+        probation.linkFirst(candidate);
+    }
+
+    /**
+     * Discards an entry that is no longer linked in any region and notifies the eviction listener.
+     *
+     * @param node the entry to evict
+     */
+    private void evict(Node<K, V> node) {
+        K key = node.getKey();
+        V value = node.getValue();
+
+        index.remove(key);
+        node.clear();
+        evictionCount++;
+
+        evictionListener.onEviction(key, value);
+    }
+
+    private AccessOrderDeque<K, V> segmentOf(Node<K, V> node) {
+        return switch (node.region) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedSegment;
+        };
+    }
+
+    /**
+     * Narrows a node taken from one of the regions, which only ever link {@link Node} instances.
+     */
+    private static <K, V> Node<K, V> asNode(LinkedEntryNode<K, V> node) { return (Node<K, V>) node; }
+
+    /**
+     * The region of the cache an entry is linked in.
+     */
+    private enum Region { WINDOW, PROBATION, PROTECTED }
+
+    /**
+     * An entry node that remembers which region links it.
+     */
+    private static final class Node<K, V> extends LinkedEntryNode<K, V> {
+        private Region region;
+
+        private Node(K key, V value) {
+            super(key, value);
+            this.region = Region.WINDOW;
+        }
+    }
+}
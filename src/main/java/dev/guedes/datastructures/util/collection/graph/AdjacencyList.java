@@ -12,11 +12,12 @@ import dev.guedes.datastructures.util.collection.queue.LinkedQueue;
 import dev.guedes.datastructures.util.collection.queue.PriorityQueue;
 import dev.guedes.datastructures.util.collection.queue.Queue;
 import dev.guedes.datastructures.util.collection.set.ArraySet;
-import dev.guedes.datastructures.util.collection.set.LinkedSet;
+import dev.guedes.datastructures.util.collection.set.HashSet;
 import dev.guedes.datastructures.util.collection.set.Set;
 import dev.guedes.datastructures.util.collection.stack.LinkedStack;
 import dev.guedes.datastructures.util.collection.stack.Stack;
 
+import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -54,7 +55,7 @@ public class AdjacencyList<E> implements Graph<E> {
     public boolean addVertex(E vertex) {
         if (containsVertex(vertex)) return false;
 
-        adjacencyList.put(vertex, new LinkedSet<>());
+        adjacencyList.put(vertex, new ArraySet<>());
         return true;
     }
 
@@ -79,7 +80,11 @@ public class AdjacencyList<E> implements Graph<E> {
     }
 
     @Override
-    public Set<E> vertices() { return adjacencyList.keySet(); }
+    public Set<E> vertices() {
+        Set<E> vertices = new HashSet<>(Math.max(adjacencyList.size(), 1));
+        adjacencyList.keySet().forEach(vertices::add);
+        return vertices;
+    }
 
     @Override
     public boolean addEdge(E source, E destination, int weight) {
@@ -175,12 +180,13 @@ public class AdjacencyList<E> implements Graph<E> {
         if (path.isEmpty()) return -1;
 
         int totalDistance = 0;
-        E current = path.get(0);
+        Iterator<E> vertices = path.iterator();
+        E current = vertices.next();
 
         if (!containsVertex(current)) return -1;
 
-        for (int i = 1; i < path.size(); i++) {
-            E next = path.get(i);
+        while (vertices.hasNext()) {
+            E next = vertices.next();
 
             if (!containsVertex(next)) return -1;
 
@@ -279,9 +285,8 @@ public class AdjacencyList<E> implements Graph<E> {
      * @param collection the collection to add neighbors to (Stack/Queue)
      */
     private void exploreNeighbors(E vertex, Set<E> visited, Collection<E> collection) {
-        List<GraphNode<E>> vertexEdges = adjacencyList.get(vertex);
-        for (int i = 0; i < vertexEdges.size(); i++) {
-            E neighbor = vertexEdges.get(i).element();
+        for (GraphNode<E> edge : adjacencyList.get(vertex)) {
+            E neighbor = edge.element();
             if (!visited.contains(neighbor)) {
                 collection.add(neighbor);
                 visited.add(neighbor);
@@ -330,9 +335,8 @@ public class AdjacencyList<E> implements Graph<E> {
      * @param collection the collection being used (Stack/Queue)
      */
     private void recordPredecessors(E vertex, Set<E> visited, Map<E, E> predecessors, Collection<E> collection) {
-        List<GraphNode<E>> vertexEdges = adjacencyList.get(vertex);
-        for (int i = 0; i < vertexEdges.size(); i++) {
-            E neighbor = vertexEdges.get(i).element();
+        for (GraphNode<E> edge : adjacencyList.get(vertex)) {
+            E neighbor = edge.element();
             if (!visited.contains(neighbor)) {
                 predecessors.put(neighbor, vertex);
                 collection.add(neighbor);
@@ -409,9 +413,7 @@ public class AdjacencyList<E> implements Graph<E> {
      * @param queue the priority queue used in Dijkstra's algorithm
      */
     private void updateNeighborDistances(E vertex, Map<E, Integer> distances, Map<E, E> predecessors, PriorityQueue<GraphNode<E>> queue) {
-        List<GraphNode<E>> vertexEdges = adjacencyList.get(vertex);
-        for (int i = 0; i < vertexEdges.size(); i++) {
-            GraphNode<E> neighborNode = vertexEdges.get(i);
+        for (GraphNode<E> neighborNode : adjacencyList.get(vertex)) {
             E neighbor = neighborNode.element();
             int edgeWeight = neighborNode.weight();
             int newDistance = distances.get(vertex) + edgeWeight;
@@ -461,8 +463,8 @@ public class AdjacencyList<E> implements Graph<E> {
 
         sb.append("[").append(vertex).append("]");
 
-        for (int i = 0; i < neighbors.size(); i++) {
-            sb.append(" -> [").append(neighbors.get(i).element()).append("]");
+        for (GraphNode<E> neighbor : neighbors) {
+            sb.append(" -> [").append(neighbor.element()).append("]");
         }
 
         return sb.toString();
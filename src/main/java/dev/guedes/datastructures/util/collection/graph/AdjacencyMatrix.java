@@ -16,6 +16,7 @@ import dev.guedes.datastructures.util.collection.stack.LinkedStack;
 import dev.guedes.datastructures.util.collection.stack.Stack;
 
 import java.util.Arrays;
+import java.util.Iterator;
 
 /**
  * An implementation of a graph using an adjacency matrix representation.
@@ -193,11 +194,12 @@ public class AdjacencyMatrix<E> implements Graph<E> {
 
         int totalDistance = 0;
 
-        int currentIndex = getVertexIndex(path.get(0));
+        Iterator<E> vertices = path.iterator();
+        int currentIndex = getVertexIndex(vertices.next());
         if (currentIndex < 0) return -1;
 
-        for (int i = 1; i < path.size(); i++) {
-            int nextIndex = getVertexIndex(path.get(i));
+        while (vertices.hasNext()) {
+            int nextIndex = getVertexIndex(vertices.next());
             if (!hasEdge(currentIndex, nextIndex)) return -1;
 
             totalDistance += getEdgeWeight(currentIndex, nextIndex);
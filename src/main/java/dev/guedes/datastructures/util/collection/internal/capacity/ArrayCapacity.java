@@ -0,0 +1,71 @@
+package dev.guedes.datastructures.util.collection.internal.capacity;
+
+/**
+ * Utility class for sizing the backing arrays of array-based collection implementations.
+ * <p>
+ * Arrays grow geometrically, by a configurable growth factor, so a run of additions copies each
+ * element a constant number of times on average. They shrink with hysteresis: only once fewer
+ * than a quarter of the slots are in use, and then by halving the capacity until at least a
+ * quarter of them are, which leaves the array less than half full. A collection that has just
+ * grown therefore has to lose more than half of its elements before it shrinks, and one that
+ * has just shrunk has to double before it grows, so additions and removals alternating around
+ * any size never reallocate the array.
+ *
+ * @author João Guedes
+ */
+public final class ArrayCapacity {
+    public static final float DEFAULT_GROWTH_FACTOR = 2.0f;
+    public static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private static final int SHRINK_THRESHOLD_DIVISOR = 4;
+
+    private ArrayCapacity() {
+        throw new AssertionError(ArrayCapacity.class.getSimpleName() +  " is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Validates that a growth factor makes the capacity grow.
+     *
+     * @param growthFactor the factor to validate
+     * @throws IllegalArgumentException if the growth factor is not a finite value greater than one
+     */
+    public static void validateGrowthFactor(float growthFactor) throws IllegalArgumentException {
+        if (!(growthFactor > 1.0f) || Float.isInfinite(growthFactor)) {
+            throw new IllegalArgumentException("Growth factor must be greater than one. Provided value: " + growthFactor + ".");
+        }
+    }
+
+    /**
+     * Returns the capacity an array should grow to so that it holds at least the given number
+     * of elements.
+     *
+     * @param capacity the current capacity
+     * @param minCapacity the number of elements the array must hold
+     * @param growthFactor the factor by which the capacity is multiplied
+     * @return the larger of the minimum capacity and the grown capacity, which is always greater
+     *         than the current one, capped at {@link #MAXIMUM_CAPACITY}
+     */
+    public static int grow(int capacity, int minCapacity, float growthFactor) {
+        long grown = Math.max((long) (capacity * (double) growthFactor), capacity + 1L);
+        return (int) Math.min(Math.max(grown, minCapacity), MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Returns the capacity an array should shrink to while holding the given number of elements.
+     *
+     * @param size the number of elements in the array
+     * @param capacity the current capacity
+     * @param minimumCapacity the capacity below which the array never shrinks
+     * @return the capacity halved until it is no longer less than a quarter full or reaches the
+     *         minimum capacity; the current capacity if the array should not shrink
+     */
+    public static int shrink(int size, int capacity, int minimumCapacity) {
+        int newCapacity = capacity;
+
+        while (newCapacity / 2 >= minimumCapacity && size < newCapacity / SHRINK_THRESHOLD_DIVISOR) {
+            newCapacity /= 2;
+        }
+
+        return newCapacity;
+    }
+}
@@ -0,0 +1,104 @@
+package dev.guedes.datastructures.util.collection.internal.hashing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Utility class for hashing in hash-based collection implementations.
+ * <p>
+ * Hash codes are spread with a multiplicative mix before being masked into a power-of-two
+ * table, so that low-entropy hash codes such as sequential integers or multiples of a power
+ * of two still land in distinct buckets, and no integer division is needed to find a bucket.
+ * Tables that may hold untrusted keys can additionally mix in a random per-instance seed, which
+ * keeps an attacker from precomputing keys that all collide in the same bucket.
+ *
+ * @author João Guedes
+ */
+public final class Hashing {
+    public static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private static final long GOLDEN_RATIO_64 = 0x9E3779B97F4A7C15L;
+
+    private Hashing() {
+        throw new AssertionError(Hashing.class.getSimpleName() +  " is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Spreads a hash code so that every one of its bits affects the low bits used for masking.
+     * <p>
+     * The high half of the hash code is first folded into the low half, the result is multiplied
+     * by the 32-bit golden ratio, which carries the entropy of every low bit into all the bits
+     * above it, and the high half of the product is finally folded back into the low half.
+     *
+     * @param hashCode the hash code to spread
+     * @return the spread hash
+     */
+    public static int spread(int hashCode) {
+        int hash = (hashCode ^ (hashCode >>> 16)) * GOLDEN_RATIO;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Spreads a hash code into 64 bits, for structures such as probabilistic sketches that need
+     * more hash bits than a hash code holds.
+     * <p>
+     * The hash code is offset by the 64-bit golden ratio and passed through {@link #mix64(long)},
+     * so every bit of the hash code affects every bit of the result. Equal hash codes still yield
+     * equal results.
+     *
+     * @param hashCode the hash code to spread
+     * @return the 64-bit spread hash
+     */
+    public static long spread64(int hashCode) { return mix64(hashCode ^ GOLDEN_RATIO_64); }
+
+    /**
+     * Mixes a 64-bit value with the finalizer of MurmurHash3, a bijection in which each input bit
+     * flips every output bit with a probability close to one half.
+     *
+     * @param hash the value to mix
+     * @return the mixed value
+     */
+    public static long mix64(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Computes the spread hash of an element under the given seed.
+     *
+     * @param element the element to hash, possibly null
+     * @param seed the per-instance seed, or 0 for deterministic hashing
+     * @return the spread hash of the element, or 0 if the element is null
+     */
+    public static int hash(Object element, int seed) {
+        return element != null ? spread(element.hashCode() ^ seed) : 0;
+    }
+
+    /**
+     * Maps a spread hash to an index of a power-of-two table.
+     *
+     * @param hash the spread hash
+     * @param tableLength the length of the table, a power of two
+     * @return the index selected by the low bits of the hash (0 ≤ index < tableLength)
+     */
+    public static int indexFor(int hash, int tableLength) { return hash & (tableLength - 1); }
+
+    /**
+     * Returns the smallest power of two greater than or equal to the given capacity.
+     *
+     * @param capacity the requested capacity (must be positive)
+     * @return the table size to use, capped at {@value #MAXIMUM_CAPACITY}
+     */
+    public static int tableSizeFor(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) return MAXIMUM_CAPACITY;
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Returns a new random seed for a hash table that opts into randomized hashing.
+     *
+     * @return a random seed
+     */
+    public static int newSeed() { return ThreadLocalRandom.current().nextInt(); }
+}
@@ -0,0 +1,90 @@
+package dev.guedes.datastructures.util.collection.internal.hashing;
+
+/**
+ * Utility class for sizing and probing open-addressing hash tables, whose entries live in flat
+ * power-of-two arrays instead of chained nodes.
+ * <p>
+ * The resize threshold is capped so that at least one slot always stays empty, which guarantees
+ * that every probe sequence ends. A table halves once fewer than a quarter of its threshold is in
+ * use, never below its initial capacity, so bulk removals release memory without a table that
+ * has just grown shrinking again. Linear-probing tables remove entries by backward-shift deletion:
+ * the entries following a freed slot are moved back towards their home slot, so no tombstones are
+ * left behind and probe sequences never degrade over time.
+ *
+ * @author João Guedes
+ */
+public final class OpenAddressing {
+    private static final int SHRINK_THRESHOLD_DIVISOR = 4;
+
+    private OpenAddressing() {
+        throw new AssertionError(OpenAddressing.class.getSimpleName() +  " is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Validates that a load factor leaves room in the table.
+     *
+     * @param loadFactor the load factor to validate
+     * @throws IllegalArgumentException if the load factor is not between 0 and 1 (exclusive)
+     */
+    public static void validateLoadFactor(float loadFactor) throws IllegalArgumentException {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1 (exclusive). Provided value: " + loadFactor + ".");
+        }
+    }
+
+    /**
+     * Returns the number of entries above which a table of the given capacity grows.
+     *
+     * @param capacity the number of slots
+     * @param loadFactor the ratio of entries to slots above which the table grows
+     * @return the resize threshold, leaving at least one slot empty
+     */
+    public static int thresholdFor(int capacity, float loadFactor) {
+        return Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * Returns the capacity a table should shrink to while holding the given number of entries.
+     *
+     * @param size the number of entries in the table
+     * @param capacity the current number of slots
+     * @param minimumCapacity the capacity below which the table never shrinks
+     * @param loadFactor the load factor of the table
+     * @return the capacity halved while less than a quarter of its threshold would be in use;
+     *         the current capacity if the table should not shrink
+     */
+    public static int shrink(int size, int capacity, int minimumCapacity, float loadFactor) {
+        int newCapacity = capacity;
+
+        while (newCapacity > minimumCapacity && size < thresholdFor(newCapacity, loadFactor) / SHRINK_THRESHOLD_DIVISOR) {
+            newCapacity /= 2;
+        }
+
+        return newCapacity;
+    }
+
+    /**
+     * Returns the slot probed after the given one, wrapping around the end of the table.
+     *
+     * @param slot the current slot
+     * @param tableLength the length of the table, a power of two
+     * @return the next slot (0 ≤ slot < tableLength)
+     */
+    public static int nextSlot(int slot, int tableLength) { return (slot + 1) & (tableLength - 1); }
+
+    /**
+     * Checks whether the entry in the current slot may move back into the gap during backward-shift
+     * deletion, which holds unless its home slot lies cyclically after the gap and at or before its
+     * current position.
+     *
+     * @param gap the empty slot being filled
+     * @param current the slot of the entry considered, after the gap in the same cluster
+     * @param home the home slot of that entry
+     * @param tableLength the length of the table, a power of two
+     * @return {@code true} if moving the entry into the gap keeps it reachable from its home slot
+     */
+    public static boolean canFillGap(int gap, int current, int home, int tableLength) {
+        int mask = tableLength - 1;
+        return ((current - home) & mask) >= ((current - gap) & mask);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.guedes.datastructures.util.collection.internal.nodes;
+
+/**
+ * A key-value node for hash tables that are read without locking.
+ * <p>
+ * The key and hash are final and the value and next reference are volatile, so a reader
+ * that reaches a node through a volatile read always observes a fully initialized node and
+ * the latest value written by a locked writer. Unlike {@link EntryNode}, removed nodes are
+ * never cleared, since a concurrent reader may still be traversing them.
+ *
+ * @param <K> the type of keys maintained by this node
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class ConcurrentEntryNode<K, V> {
+    private final int hash;
+    private final K key;
+    private volatile V value;
+    private volatile ConcurrentEntryNode<K, V> next;
+
+    public ConcurrentEntryNode(int hash, K key, V value, ConcurrentEntryNode<K, V> next) {
+        this.hash = hash;
+        this.key = key;
+        this.value = value;
+        this.next = next;
+    }
+
+    public int getHash() { return hash; }
+
+    public K getKey() { return key; }
+
+    public V getValue() { return value; }
+    public void setValue(V value) { this.value = value; }
+
+    public ConcurrentEntryNode<K, V> getNext() { return next; }
+    public void setNext(ConcurrentEntryNode<K, V> next) { this.next = next; }
+
+    @Override
+    public String toString() { return key + "=" + value; }
+}
@@ -6,8 +6,8 @@ import java.util.Objects;
  * Represents a node in a graph with an associated element and weight.
  * <p>
  * This class is primarily used in graph-related operations (e.g., Dijkstra's algorithm),
- * where nodes are compared based on edge weights. Equality is determined solely by
- * the node's element, regardless of weight.
+ * where nodes are compared based on edge weights. Equality and hash code are determined
+ * solely by the node's element, regardless of weight.
  *
  * @param <E> the type of the element stored in the node
  *
@@ -35,5 +35,5 @@ public record GraphNode<E>(int index, E element, int weight) implements Comparab
     }
 
     @Override
-    public int hashCode() { return Objects.hash(element, weight); }
+    public int hashCode() { return Objects.hashCode(element); }
 }
@@ -0,0 +1,50 @@
+package dev.guedes.datastructures.util.collection.internal.nodes;
+
+/**
+ * A key-value node with references to both the previous and the next node.
+ * <p>
+ * Caches keep these nodes in an intrusive doubly linked list ordered by recency, while a hash
+ * table maps each key to its node, so an entry can be found, moved to the front or unlinked
+ * in constant time. Unlike {@link DoublyLinkedNode}, {@link #toString()} only describes this
+ * node's own entry.
+ *
+ * @param <K> the type of keys maintained by this node
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class LinkedEntryNode<K, V> {
+    private K key;
+    private V value;
+    private LinkedEntryNode<K, V> previous;
+    private LinkedEntryNode<K, V> next;
+
+    public LinkedEntryNode(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public K getKey() { return key; }
+
+    public V getValue() { return value; }
+    public void setValue(V value) { this.value = value; }
+
+    public LinkedEntryNode<K, V> getPrevious() { return previous; }
+    public void setPrevious(LinkedEntryNode<K, V> previous) { this.previous = previous; }
+
+    public LinkedEntryNode<K, V> getNext() { return next; }
+    public void setNext(LinkedEntryNode<K, V> next) { this.next = next; }
+
+    /**
+     * Clears all references in this node for garbage collection.
+     */
+    public void clear() {
+        key = null;
+        value = null;
+        previous = null;
+        next = null;
+    }
+
+    @Override
+    public String toString() { return key + "=" + value; }
+}
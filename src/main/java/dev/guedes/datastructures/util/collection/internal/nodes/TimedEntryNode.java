@@ -0,0 +1,43 @@
+package dev.guedes.datastructures.util.collection.internal.nodes;
+
+/**
+ * A key-value node that is simultaneously part of an access-order list and of a timer bucket.
+ * <p>
+ * Expiring caches link these nodes by recency through the inherited {@code previous} and
+ * {@code next} references, while {@code previousInTime} and {@code nextInTime} place the same
+ * node in the circular list of the timer wheel bucket covering its {@code expirationTime}.
+ *
+ * @param <K> the type of keys maintained by this node
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class TimedEntryNode<K, V> extends LinkedEntryNode<K, V> {
+    private long expirationTime;
+    private TimedEntryNode<K, V> previousInTime;
+    private TimedEntryNode<K, V> nextInTime;
+
+    public TimedEntryNode(K key, V value, long expirationTime) {
+        super(key, value);
+        this.expirationTime = expirationTime;
+    }
+
+    public long getExpirationTime() { return expirationTime; }
+    public void setExpirationTime(long expirationTime) { this.expirationTime = expirationTime; }
+
+    public TimedEntryNode<K, V> getPreviousInTime() { return previousInTime; }
+    public void setPreviousInTime(TimedEntryNode<K, V> previousInTime) { this.previousInTime = previousInTime; }
+
+    public TimedEntryNode<K, V> getNextInTime() { return nextInTime; }
+    public void setNextInTime(TimedEntryNode<K, V> nextInTime) { this.nextInTime = nextInTime; }
+
+    /**
+     * Clears all references in this node for garbage collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        previousInTime = null;
+        nextInTime = null;
+    }
+}
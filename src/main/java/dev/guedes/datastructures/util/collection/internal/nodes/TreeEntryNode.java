@@ -0,0 +1,55 @@
+package dev.guedes.datastructures.util.collection.internal.nodes;
+
+/**
+ * A key-value node that is simultaneously part of a bucket chain and of a balanced tree.
+ * <p>
+ * Hash tables switch a bucket to these nodes once its chain grows too long. The inherited
+ * {@code next} reference, together with {@code previous}, keeps every entry of the bucket in a
+ * doubly linked chain so the bucket can still be traversed linearly, while {@code left},
+ * {@code right} and {@code height} organize the same entries as an AVL tree ordered by hash
+ * and then by key.
+ *
+ * @param <K> the type of keys maintained by this node
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class TreeEntryNode<K, V> extends EntryNode<K, V> {
+    private final int hash;
+    private TreeEntryNode<K, V> previous;
+    private TreeEntryNode<K, V> left;
+    private TreeEntryNode<K, V> right;
+    private int height;
+
+    public TreeEntryNode(int hash, K key, V value) {
+        super(key, value, null);
+        this.hash = hash;
+        this.height = 0;
+    }
+
+    public int getHash() { return hash; }
+
+    public TreeEntryNode<K, V> getPrevious() { return previous; }
+    public void setPrevious(TreeEntryNode<K, V> previous) { this.previous = previous; }
+
+    public TreeEntryNode<K, V> getLeft() { return left; }
+    public void setLeft(TreeEntryNode<K, V> left) { this.left = left; }
+
+    public TreeEntryNode<K, V> getRight() { return right; }
+    public void setRight(TreeEntryNode<K, V> right) { this.right = right; }
+
+    public int getHeight() { return height; }
+    public void setHeight(int height) { this.height = height; }
+
+    /**
+     * Clears all references in this node for garbage collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        previous = null;
+        left = null;
+        right = null;
+        height = 0;
+    }
+}
@@ -2,6 +2,8 @@ package dev.guedes.datastructures.util.collection.internal.validation;
 
 import dev.guedes.datastructures.util.Objects;
 
+import java.util.ConcurrentModificationException;
+
 /**
  * Utility class for index validation in list implementations.
  *
@@ -38,6 +40,34 @@ public final class Validator {
         }
     }
 
+    /**
+     * Validates that the given range lies within the bounds of the list (0 inclusive to size
+     * inclusive), with the start not after the end.
+     *
+     * @param fromIndex the first index of the range, inclusive
+     * @param toIndex the last index of the range, exclusive
+     * @param size the current size of the list
+     * @throws IndexOutOfBoundsException if the range is out of bounds or reversed
+     */
+    public static void validateRange(int fromIndex, int toIndex, int size) throws IndexOutOfBoundsException {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size + ".");
+        }
+    }
+
+    /**
+     * Validates that a collection was not structurally modified since an iterator last saw it.
+     *
+     * @param expectedModCount the modification count recorded by the iterator
+     * @param modCount the current modification count of the collection
+     * @throws ConcurrentModificationException if the counts differ
+     */
+    public static void validateModCount(int expectedModCount, int modCount) throws ConcurrentModificationException {
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException("Collection was modified during iteration.");
+        }
+    }
+
     /**
      * Validates that two vertices are not null.
      *
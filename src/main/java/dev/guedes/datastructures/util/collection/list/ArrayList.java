@@ -2,11 +2,19 @@ package dev.guedes.datastructures.util.collection.list;
 
 import dev.guedes.datastructures.util.Arrays;
 import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.capacity.ArrayCapacity;
 
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndex;
 import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndexForAdd;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateRange;
 
 /**
  * A custom implementation of a dynamically resizing array-based list.
@@ -14,30 +22,53 @@ import static dev.guedes.datastructures.util.collection.internal.validation.Vali
  * <p>Provides typical list operations such as add, remove, get, set,
  * and supports automatic resizing (growth and shrinkage) based on usage.
  *
+ * <p>The backing array grows by a configurable growth factor when full and shrinks by halving
+ * only once less than a quarter of it is in use, never below the initial capacity, so
+ * additions and removals alternating around any size do not reallocate it. The capacity can
+ * also be managed explicitly with {@link #ensureCapacity(int)} and {@link #trimToSize()}.
+ *
+ * <p>Every structural modification increments a modification count, which the fail-fast
+ * iterators compare against the one they recorded on each call. Its spliterator splits the
+ * remaining index range in halves, so parallel streams divide the array without copying it.
+ *
  * @param <E> the type of elements in this list
  *
  * @author João Guedes
  */
 public class ArrayList<E> implements List<E> {
     private static final int DEFAULT_INITIAL_CAPACITY = 10;
-    private static final double SHRINK_THRESHOLD_FACTOR = 1.25;
 
     private final int initialCapacity;
+    private final float growthFactor;
     private E[] elements;
     private int size;
+    private int modCount;
 
+    /**
+     * Creates a list with the given initial capacity and growth factor.
+     *
+     * @param initialCapacity the initial capacity, below which the list never shrinks
+     * @param growthFactor the factor by which the capacity is multiplied when the list is full
+     * @throws IllegalArgumentException if the initial capacity is negative or the growth factor
+     *         is not greater than one
+     */
     @SuppressWarnings("unchecked")
-    public ArrayList(int initialCapacity) {
+    public ArrayList(int initialCapacity, float growthFactor) {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException(
                     "Initial capacity cannot be negative. Provided value: " + initialCapacity + "."
             );
         }
+        ArrayCapacity.validateGrowthFactor(growthFactor);
+
         this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
         this.elements = (E[]) new Object[initialCapacity];
         this.size = 0;
     }
 
+    public ArrayList(int initialCapacity) { this(initialCapacity, ArrayCapacity.DEFAULT_GROWTH_FACTOR); }
+
     public ArrayList() { this(DEFAULT_INITIAL_CAPACITY); }
 
     @Override
@@ -48,20 +79,20 @@ public class ArrayList<E> implements List<E> {
 
     @Override
     public boolean add(E element) {
-        ensureCapacity();
+        growIfFull();
         elements[size++] = element;
+        modCount++;
         return true;
     }
 
     @Override
     public void add(int index, E element) {
         validateIndexForAdd(index, size);
-        ensureCapacity();
-        for (int i = size; i > index; i--) {
-            elements[i] = elements[i - 1];
-        }
+        growIfFull();
+        System.arraycopy(elements, index, elements, index + 1, size - index);
         elements[index] = element;
         size++;
+        modCount++;
     }
 
     @Override
@@ -77,14 +108,12 @@ public class ArrayList<E> implements List<E> {
     public E remove(int index) {
         E removedElement = get(index);
 
-        for (int i = index; i < size - 1; i++) {
-            elements[i] = elements[i + 1];
-        }
-
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
         elements[--size] = null;
+        modCount++;
         shrinkCapacity();
 
-        return removedElement ;
+        return removedElement;
     }
 
     @Override
@@ -119,13 +148,112 @@ public class ArrayList<E> implements List<E> {
     @Override
     public boolean contains(E element) { return indexOf(element) >= 0; }
 
+    /**
+     * Appends every element of the given collection, growing the internal array at most once.
+     *
+     * @param collection the elements to be appended
+     * @return {@code true} if the list changed as a result of the call
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) throws NullPointerException {
+        return addAll(size, collection);
+    }
+
+    /**
+     * Inserts every element of the given collection at the specified position, growing the
+     * internal array at most once and shifting the following elements with a single bulk copy.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param collection the elements to be inserted
+     * @return {@code true} if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) throws IndexOutOfBoundsException, NullPointerException {
+        validateIndexForAdd(index, size);
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        Object[] added = collection.toArray();
+        if (added.length == 0) return false;
+
+        ensureCapacity(size + added.length);
+        System.arraycopy(elements, index, elements, index + added.length, size - index);
+        System.arraycopy(added, 0, elements, index, added.length);
+        size += added.length;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Removes every element that satisfies the given predicate in a single compaction pass,
+     * moving each kept element at most once, and shrinks the internal array afterwards if needed.
+     *
+     * @param filter the predicate returning {@code true} for the elements to be removed
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if the filter is {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        Objects.requireNonNull(filter, "Filter cannot be null.");
+
+        int kept = 0;
+        int i = 0;
+
+        try {
+            for (; i < size; i++) {
+                E element = elements[i];
+                if (!filter.test(element)) elements[kept++] = element;
+            }
+        } finally {
+            if (i < size) {
+                System.arraycopy(elements, i, elements, kept, size - i);
+                kept += size - i;
+            }
+            truncate(kept);
+        }
+
+        return i != kept;
+    }
+
     @Override
-    public void forEach(Consumer<E> action) {
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        validateRange(fromIndex, toIndex, size);
+
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        truncate(size - (toIndex - fromIndex));
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
         for (int i = 0; i < size; i++) {
             action.accept(elements[i]);
         }
     }
 
+    @Override
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        validateIndexForAdd(index, size);
+        return new ListItr(index);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() { return spliterator(Spliterator.ORDERED); }
+
+    /**
+     * Returns a spliterator over the index range of this list, reporting the given
+     * characteristics along with {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+     * Subclasses whose elements are unique use it to also report {@link Spliterator#DISTINCT}.
+     *
+     * @param characteristics the additional characteristics to report
+     * @return a spliterator over the elements of the list
+     */
+    protected Spliterator<E> spliterator(int characteristics) {
+        return new IndexSpliterator(0, -1, characteristics | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
     @Override
     public Object[] toArray() { return Arrays.copyOfRange(elements, 0, size); }
 
@@ -137,6 +265,7 @@ public class ArrayList<E> implements List<E> {
         }
         elements = (E[]) new Object[initialCapacity];
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -153,32 +282,211 @@ public class ArrayList<E> implements List<E> {
     }
 
     /**
-     * Ensures the internal array has enough capacity to accommodate new elements.
-     * Doubles the current capacity if full.
+     * Returns the length of the internal array.
+     *
+     * @return the number of elements the list can hold without growing
+     */
+    public int capacity() { return elements.length; }
+
+    /**
+     * Grows the internal array, if necessary, so that it holds at least the given number of
+     * elements without further resizing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) return;
+
+        resizeArray(ArrayCapacity.grow(elements.length, minCapacity, growthFactor));
+    }
+
+    /**
+     * Shrinks the internal array to the current number of elements, releasing the unused slots.
+     */
+    public void trimToSize() {
+        if (size < elements.length) resizeArray(size);
+    }
+
+    /**
+     * Drops the elements from the given size onwards, clearing their slots, and shrinks the
+     * internal array if it became mostly empty.
+     *
+     * @param newSize the number of elements to keep
+     */
+    private void truncate(int newSize) {
+        if (newSize == size) return;
+
+        for (int i = newSize; i < size; i++) elements[i] = null;
+        size = newSize;
+        modCount++;
+        shrinkCapacity();
+    }
+
+    /**
+     * Grows the internal array by the growth factor if it is full.
      */
-    private void ensureCapacity() {
+    private void growIfFull() {
         if (size != elements.length) return;
 
-        int newCapacity = (elements.length > 0) ? elements.length * 2 : DEFAULT_INITIAL_CAPACITY;
-        resizeArray(newCapacity);
+        ensureCapacity(elements.length > 0 ? size + 1 : DEFAULT_INITIAL_CAPACITY);
     }
 
     /**
-     * Shrinks the internal array size if it's significantly larger than the current number of elements.
-     * Reduces the size by half if the current capacity is more than 25% greater than the number of elements,
-     * while ensuring it does not shrink below the initial capacity.
+     * Halves the internal array while less than a quarter of it is in use, never shrinking below
+     * the initial capacity.
      */
     private void shrinkCapacity() {
-        int newCapacity = (int) Math.ceil(size * SHRINK_THRESHOLD_FACTOR);
-        if (elements.length > initialCapacity && elements.length > newCapacity) {
-            resizeArray(newCapacity);
-        }
+        int newCapacity = ArrayCapacity.shrink(size, elements.length, initialCapacity);
+        if (newCapacity < elements.length) resizeArray(newCapacity);
     }
 
     /**
-     * Resizes the internal array to the given capacity.
+     * Resizes the internal array to the given capacity, moving the elements in a single bulk copy.
      *
      * @param newCapacity the new capacity of the internal array
      */
     private void resizeArray(int newCapacity){ elements = Arrays.copyOf(elements, newCapacity); }
+
+    /**
+     * A fail-fast list iterator reading the internal array directly. Insertions, replacements and
+     * removals go through {@link #add(int, Object)}, {@link #set(int, Object)} and
+     * {@link #remove(int)}, so subclasses that override them keep their own invariants, and the
+     * cursor advances by however many elements an insertion actually added.
+     */
+    private class ListItr implements ListIterator<E> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) { this.cursor = index; }
+
+        @Override
+        public boolean hasNext() { return cursor < size; }
+
+        @Override
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (cursor >= size) throw new NoSuchElementException("No more elements to iterate.");
+
+            lastReturned = cursor;
+            return elements[cursor++];
+        }
+
+        @Override
+        public boolean hasPrevious() { return cursor > 0; }
+
+        @Override
+        public E previous() {
+            validateModCount(expectedModCount, modCount);
+            if (cursor <= 0) throw new NoSuchElementException("No previous element to iterate.");
+
+            lastReturned = --cursor;
+            return elements[cursor];
+        }
+
+        @Override
+        public int nextIndex() { return cursor; }
+
+        @Override
+        public int previousIndex() { return cursor - 1; }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) throw new IllegalStateException("No element to replace.");
+            validateModCount(expectedModCount, modCount);
+
+            ArrayList.this.set(lastReturned, element);
+        }
+
+        @Override
+        public void add(E element) {
+            validateModCount(expectedModCount, modCount);
+
+            int previousSize = size;
+            ArrayList.this.add(cursor, element);
+            cursor += size - previousSize;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * A late-binding, fail-fast spliterator over a range of indices. The end of the range and
+     * the expected modification count are bound on first use, and {@link #trySplit()} hands
+     * off the lower half of the remaining range.
+     */
+    private class IndexSpliterator implements Spliterator<E> {
+        private final int characteristics;
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        IndexSpliterator(int origin, int fence, int characteristics) {
+            this.index = origin;
+            this.fence = fence;
+            this.characteristics = characteristics;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+            if (low >= middle) return null;
+
+            IndexSpliterator prefix = new IndexSpliterator(low, middle, characteristics);
+            prefix.expectedModCount = expectedModCount;
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) throws NullPointerException {
+            Objects.requireNonNull(action, "Action cannot be null.");
+            int high = getFence();
+            if (index >= high) return false;
+
+            action.accept(elements[index++]);
+            validateModCount(expectedModCount, modCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) throws NullPointerException {
+            Objects.requireNonNull(action, "Action cannot be null.");
+            int high = getFence();
+            E[] array = elements;
+
+            for (int i = index; i < high; i++) {
+                action.accept(array[i]);
+            }
+            index = high;
+            validateModCount(expectedModCount, modCount);
+        }
+
+        @Override
+        public long estimateSize() { return getFence() - index; }
+
+        @Override
+        public int characteristics() { return characteristics; }
+    }
 }
@@ -1,18 +1,25 @@
 package dev.guedes.datastructures.util.collection.list;
 
 import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
 import dev.guedes.datastructures.util.collection.internal.nodes.DoublyLinkedNode;
 
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndex;
 import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndexForAdd;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateRange;
 
 /**
  * A doubly linked list implementation of the {@link List} interface.
  *
  * <p>Each node maintains references to both its previous and next nodes,
  * allowing efficient insertions and deletions at both ends and within the list.
+ * Its list iterator moves in both directions and inserts or removes at the cursor in constant time.
  *
  * @param <E> the type of elements stored in the list
  *
@@ -22,6 +29,7 @@ public class DoublyLinkedList<E> implements List<E> {
     private DoublyLinkedNode<E> first;
     private DoublyLinkedNode<E> last;
     private int size;
+    private int modCount;
 
     public DoublyLinkedList() {
         this.first = null;
@@ -116,8 +124,91 @@ public class DoublyLinkedList<E> implements List<E> {
     @Override
     public boolean contains(E element) { return indexOf(element) >= 0; }
 
+    /**
+     * Inserts every element of the given collection at the specified position, walking from the
+     * nearest end once to find the insertion point and splicing in a chain of new nodes.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param collection the elements to be inserted
+     * @return {@code true} if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the collection is {@code null}
+     */
     @Override
-    public void forEach(Consumer<E> action) {
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> collection) throws IndexOutOfBoundsException, NullPointerException {
+        validateIndexForAdd(index, size);
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        Object[] added = collection.toArray();
+        if (added.length == 0) return false;
+
+        DoublyLinkedNode<E> next = index < size ? getNode(index) : null;
+        DoublyLinkedNode<E> previous = next != null ? next.getPrevious() : last;
+
+        for (Object element : added) {
+            DoublyLinkedNode<E> node = new DoublyLinkedNode<>(previous, (E) element, null);
+
+            if (previous == null) {
+                first = node;
+            } else {
+                previous.setNext(node);
+            }
+            previous = node;
+        }
+
+        previous.setNext(next);
+
+        if (next == null) {
+            last = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+
+        size += added.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes every element that satisfies the given predicate in a single traversal.
+     *
+     * @param filter the predicate returning {@code true} for the elements to be removed
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if the filter is {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        Objects.requireNonNull(filter, "Filter cannot be null.");
+
+        int previousSize = size;
+        DoublyLinkedNode<E> current = first;
+
+        while (current != null) {
+            DoublyLinkedNode<E> next = current.getNext();
+            if (filter.test(current.getElement())) unlinkNode(current);
+            current = next;
+        }
+
+        return size != previousSize;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        validateRange(fromIndex, toIndex, size);
+
+        if (fromIndex == toIndex) return;
+
+        DoublyLinkedNode<E> current = getNode(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            DoublyLinkedNode<E> next = current.getNext();
+            unlinkNode(current);
+            current = next;
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
         DoublyLinkedNode<E> current = first;
         while (current != null) {
             action.accept(current.getElement());
@@ -125,6 +216,12 @@ public class DoublyLinkedList<E> implements List<E> {
         }
     }
 
+    @Override
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        validateIndexForAdd(index, size);
+        return new ListItr(index);
+    }
+
     @Override
     public Object[] toArray() {
         DoublyLinkedNode<E> current = first;
@@ -146,6 +243,7 @@ public class DoublyLinkedList<E> implements List<E> {
         }
         first = last = null;
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -164,7 +262,16 @@ public class DoublyLinkedList<E> implements List<E> {
             return;
         }
 
-        DoublyLinkedNode<E> current = getNode(index);
+        linkBefore(getNode(index), element);
+    }
+
+    /**
+     * Inserts a new node right before the specified node.
+     *
+     * @param current the node before which to insert the element
+     * @param element the element to insert
+     */
+    private void linkBefore(DoublyLinkedNode<E> current, E element) {
         DoublyLinkedNode<E> newNode = new DoublyLinkedNode<>(current.getPrevious(), element, current);
 
         if (newNode.getPrevious() == null) {
@@ -175,6 +282,7 @@ public class DoublyLinkedList<E> implements List<E> {
 
         current.setPrevious(newNode);
         size++;
+        modCount++;
     }
 
     /**
@@ -193,6 +301,7 @@ public class DoublyLinkedList<E> implements List<E> {
         }
 
         size++;
+        modCount++;
     }
 
     /**
@@ -221,6 +330,7 @@ public class DoublyLinkedList<E> implements List<E> {
 
         node.clear();
         size--;
+        modCount++;
 
         return removedElement;
     }
@@ -249,4 +359,96 @@ public class DoublyLinkedList<E> implements List<E> {
 
         return current;
     }
+
+    /**
+     * A fail-fast list iterator that walks the nodes in either direction, inserting and removing
+     * at the cursor by relinking its neighbours.
+     */
+    private class ListItr implements ListIterator<E> {
+        private DoublyLinkedNode<E> next;
+        private DoublyLinkedNode<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            this.next = index == size ? null : getNode(index);
+            this.nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() { return nextIndex < size; }
+
+        @Override
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+            lastReturned = next;
+            next = next.getNext();
+            nextIndex++;
+
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public boolean hasPrevious() { return nextIndex > 0; }
+
+        @Override
+        public E previous() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasPrevious()) throw new NoSuchElementException("No previous element to iterate.");
+
+            lastReturned = next = next == null ? last : next.getPrevious();
+            nextIndex--;
+
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public int nextIndex() { return nextIndex; }
+
+        @Override
+        public int previousIndex() { return nextIndex - 1; }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            DoublyLinkedNode<E> lastNext = lastReturned.getNext();
+            unlinkNode(lastReturned);
+
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null) throw new IllegalStateException("No element to replace.");
+            validateModCount(expectedModCount, modCount);
+
+            lastReturned.setElement(element);
+        }
+
+        @Override
+        public void add(E element) {
+            validateModCount(expectedModCount, modCount);
+
+            if (next == null) {
+                linkLast(element);
+            } else {
+                linkBefore(next, element);
+            }
+
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
 }
@@ -1,7 +1,14 @@
 package dev.guedes.datastructures.util.collection.list;
 
+import dev.guedes.datastructures.util.Objects;
 import dev.guedes.datastructures.util.collection.Collection;
 
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
 /**
  * A generic interface that represents a linear collection of elements,
  * where elements can be inserted or accessed by their position (index) in the list.
@@ -11,6 +18,20 @@ import dev.guedes.datastructures.util.collection.Collection;
  * methods for positional access, modification, and search within the list.
  * </p>
  *
+ * <p>
+ * Lists also support bulk modification: {@link #addAll(Collection)},
+ * {@link #addAll(int, Collection)}, {@link #removeIf(Predicate)}, {@link #removeRange(int, int)}
+ * and {@link #retainAll(Collection)}. Implementations perform each of them in a single pass
+ * over the list, compacting an array or relinking nodes as they go, instead of shifting or
+ * walking the list once per affected element.
+ * </p>
+ *
+ * <p>
+ * Besides the plain {@link #iterator()}, lists provide a {@link ListIterator} that can move in
+ * both directions and insert, replace or remove elements at its cursor. Both are fail-fast, as
+ * described in {@link Collection}.
+ * </p>
+ *
  * @param <E> the type of elements in this list
  *
  * @author João Guedes
@@ -56,6 +77,45 @@ public interface List<E> extends Collection<E> {
      */
     E set(int index, E element);
 
+    /**
+     * Returns an iterator over the elements of the list, in positional order.
+     *
+     * @return a list iterator positioned before the first element
+     */
+    @Override
+    default Iterator<E> iterator() { return listIterator(0); }
+
+    /**
+     * Returns a list iterator over the elements of the list, positioned before the first element.
+     *
+     * @return a list iterator positioned before the first element
+     */
+    default ListIterator<E> listIterator() { return listIterator(0); }
+
+    /**
+     * Returns a spliterator over the elements of the list, reporting them as
+     * {@link Spliterator#ORDERED ordered} by position.
+     *
+     * @return a spliterator over the elements of the list
+     */
+    @Override
+    default Spliterator<E> spliterator() { return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED); }
+
+    /**
+     * Returns a list iterator over the elements of the list, positioned so that the first call to
+     * {@link ListIterator#next()} returns the element at the specified index.
+     * <p>
+     * Elements added, replaced or removed through the iterator go through the same rules as
+     * {@link #add(int, Object)}, {@link #set(int, Object)} and {@link #remove(int)}; any other
+     * structural modification of the list makes the iterator throw
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @param index the index of the first element to be returned by {@code next()}
+     * @return a list iterator positioned before the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     */
+    ListIterator<E> listIterator(int index);
+
     /**
      * Returns the index of the first occurrence of the specified element in the list,
      * or -1 if this list does not contain the element.
@@ -73,4 +133,77 @@ public interface List<E> extends Collection<E> {
      * @return the index of the last occurrence of the specified element, or -1 if not found
      */
     int lastIndexOf(E element);
+
+    /**
+     * Appends every element of the given collection, in the order the collection visits them.
+     * <p>
+     * The default implementation takes a snapshot of the collection with {@code toArray()}, so a
+     * list can be appended to itself, and adds its elements one at a time.
+     *
+     * @param collection the elements to be appended
+     * @return {@code true} if the list changed as a result of the call
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default boolean addAll(Collection<? extends E> collection) throws NullPointerException {
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        int previousSize = size();
+
+        for (Object element : collection.toArray()) add((E) element);
+
+        return size() != previousSize;
+    }
+
+    /**
+     * Inserts every element of the given collection at the specified position, in the order the
+     * collection visits them. The element currently at that position, and every subsequent one,
+     * is shifted to the right by the number of inserted elements.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param collection the elements to be inserted
+     * @return {@code true} if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size())
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    boolean addAll(int index, Collection<? extends E> collection) throws IndexOutOfBoundsException, NullPointerException;
+
+    /**
+     * Removes every element that satisfies the given predicate, keeping the others in order.
+     * <p>
+     * If the predicate throws, the elements it has already rejected are removed, and every other
+     * element is kept.
+     *
+     * @param filter the predicate returning {@code true} for the elements to be removed
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if the filter is {@code null}
+     */
+    boolean removeIf(Predicate<? super E> filter) throws NullPointerException;
+
+    /**
+     * Removes the elements whose index lies between {@code fromIndex}, inclusive, and
+     * {@code toIndex}, exclusive. Subsequent elements are shifted to the left by the length of
+     * the range.
+     *
+     * @param fromIndex the index of the first element to be removed
+     * @param toIndex the index after the last element to be removed
+     * @throws IndexOutOfBoundsException if the range is out of bounds or {@code fromIndex > toIndex}
+     */
+    void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException;
+
+    /**
+     * Keeps only the elements that are also present in the given collection, removing all
+     * others in a single {@link #removeIf(Predicate)} pass.
+     *
+     * @param collection the collection whose elements are to be kept
+     * @return {@code true} if the list changed as a result of the call
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    default boolean retainAll(Collection<? super E> collection) throws NullPointerException {
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        if (collection == this) return false;
+
+        return removeIf(element -> !collection.contains(element));
+    }
 }
@@ -1,12 +1,18 @@
 package dev.guedes.datastructures.util.collection.list;
 
 import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
 import dev.guedes.datastructures.util.collection.internal.nodes.SinglyLinkedNode;
 
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndex;
 import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndexForAdd;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateRange;
 
 /**
  * A singly linked list implementation of the {@link List} interface.
@@ -15,6 +21,9 @@ import static dev.guedes.datastructures.util.collection.internal.validation.Vali
  * This structure allows for efficient insertions and deletions at the beginning and middle
  * of the list, but requires linear traversal for indexing operations.
  *
+ * <p>Its list iterator inserts and removes at the cursor in constant time. Since nodes only link
+ * forward, moving it backwards with {@code previous()} walks the list from the head.
+ *
  * @param <E> the type of elements held in this list
  *
  * @author João Guedes
@@ -23,6 +32,7 @@ public class SinglyLinkedList<E> implements List<E> {
     protected SinglyLinkedNode<E> first;
     protected SinglyLinkedNode<E> last;
     protected int size;
+    protected int modCount;
 
     public SinglyLinkedList() {
         this.first = null;
@@ -125,8 +135,104 @@ public class SinglyLinkedList<E> implements List<E> {
     @Override
     public boolean contains(E element) { return indexOf(element) >= 0; }
 
+    /**
+     * Inserts every element of the given collection at the specified position, walking the list
+     * once to find the insertion point and splicing in a chain of new nodes.
+     *
+     * @param index the index at which the first element is to be inserted
+     * @param collection the elements to be inserted
+     * @return {@code true} if the list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> collection) throws IndexOutOfBoundsException, NullPointerException {
+        validateIndexForAdd(index, size);
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        Object[] added = collection.toArray();
+        if (added.length == 0) return false;
+
+        SinglyLinkedNode<E> previous = index > 0 ? getNode(index - 1) : null;
+        SinglyLinkedNode<E> next = previous != null ? previous.getNext() : first;
+        SinglyLinkedNode<E> head = null;
+        SinglyLinkedNode<E> tail = null;
+
+        for (Object element : added) {
+            SinglyLinkedNode<E> node = new SinglyLinkedNode<>((E) element);
+
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.setNext(node);
+            }
+            tail = node;
+        }
+
+        tail.setNext(next);
+
+        if (previous == null) {
+            first = head;
+        } else {
+            previous.setNext(head);
+        }
+
+        if (next == null) last = tail;
+
+        size += added.length;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes every element that satisfies the given predicate in a single traversal, unlinking
+     * each matching node from its predecessor.
+     *
+     * @param filter the predicate returning {@code true} for the elements to be removed
+     * @return {@code true} if any element was removed
+     * @throws NullPointerException if the filter is {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        Objects.requireNonNull(filter, "Filter cannot be null.");
+
+        int previousSize = size;
+        SinglyLinkedNode<E> previous = null;
+        SinglyLinkedNode<E> current = first;
+
+        while (current != null) {
+            SinglyLinkedNode<E> next = current.getNext();
+
+            if (!filter.test(current.getElement())) {
+                previous = current;
+            } else if (previous == null) {
+                unlinkFirst();
+            } else {
+                unlinkNext(previous);
+            }
+
+            current = next;
+        }
+
+        return size != previousSize;
+    }
+
     @Override
-    public void forEach(Consumer<E> action) {
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        validateRange(fromIndex, toIndex, size);
+
+        if (fromIndex == 0) {
+            for (int i = fromIndex; i < toIndex; i++) unlinkFirst();
+            return;
+        }
+
+        SinglyLinkedNode<E> previous = getNode(fromIndex - 1);
+        for (int i = fromIndex; i < toIndex; i++) unlinkNext(previous);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
         SinglyLinkedNode<E> current = first;
         while (current != null) {
             action.accept(current.getElement());
@@ -134,6 +240,12 @@ public class SinglyLinkedList<E> implements List<E> {
         }
     }
 
+    @Override
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        validateIndexForAdd(index, size);
+        return new ListItr(index);
+    }
+
     @Override
     public Object[] toArray() {
         SinglyLinkedNode<E> current = first;
@@ -155,6 +267,7 @@ public class SinglyLinkedList<E> implements List<E> {
         }
         first = last = null;
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -177,9 +290,7 @@ public class SinglyLinkedList<E> implements List<E> {
             return;
         }
 
-        SinglyLinkedNode<E> previous = getNode(index - 1);
-        previous.setNext(new SinglyLinkedNode<>(element, previous.getNext()));
-        size++;
+        linkAfter(getNode(index - 1), element);
     }
 
     /**
@@ -193,6 +304,7 @@ public class SinglyLinkedList<E> implements List<E> {
         if (last == null) last = first;
 
         size++;
+        modCount++;
     }
 
     /**
@@ -209,6 +321,22 @@ public class SinglyLinkedList<E> implements List<E> {
             last = newNode;
         }
         size++;
+        modCount++;
+    }
+
+    /**
+     * Inserts a new element right after the specified node.
+     *
+     * @param node the node after which to insert the element
+     * @param element the element to insert
+     */
+    private void linkAfter(SinglyLinkedNode<E> node, E element) {
+        node.setNext(new SinglyLinkedNode<>(element, node.getNext()));
+
+        if (node == last) last = node.getNext();
+
+        size++;
+        modCount++;
     }
 
     /**
@@ -239,6 +367,7 @@ public class SinglyLinkedList<E> implements List<E> {
 
         oldFirst.clear();
         size--;
+        modCount++;
         return elementRemoved;
     }
 
@@ -257,6 +386,7 @@ public class SinglyLinkedList<E> implements List<E> {
         node.setNext(nodeToRemove.getNext());
         nodeToRemove.clear();
         size--;
+        modCount++;
 
         return elementRemoved;
     }
@@ -274,4 +404,102 @@ public class SinglyLinkedList<E> implements List<E> {
         }
         return current;
     }
+
+    /**
+     * A fail-fast list iterator that keeps the node before its cursor, so insertions and removals
+     * at the cursor relink nodes directly instead of walking the list.
+     */
+    private class ListItr implements ListIterator<E> {
+        private SinglyLinkedNode<E> previous;
+        private SinglyLinkedNode<E> lastReturned;
+        private SinglyLinkedNode<E> beforeLastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            this.previous = index > 0 ? getNode(index - 1) : null;
+            this.nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() { return nextIndex < size; }
+
+        @Override
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+            beforeLastReturned = previous;
+            lastReturned = previous = previous == null ? first : previous.getNext();
+            nextIndex++;
+
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public boolean hasPrevious() { return nextIndex > 0; }
+
+        @Override
+        public E previous() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasPrevious()) throw new NoSuchElementException("No previous element to iterate.");
+
+            lastReturned = previous;
+            beforeLastReturned = previous = nextIndex > 1 ? getNode(nextIndex - 2) : null;
+            nextIndex--;
+
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public int nextIndex() { return nextIndex; }
+
+        @Override
+        public int previousIndex() { return nextIndex - 1; }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            if (lastReturned == previous) {
+                previous = beforeLastReturned;
+                nextIndex--;
+            }
+
+            if (beforeLastReturned == null) {
+                unlinkFirst();
+            } else {
+                unlinkNext(beforeLastReturned);
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null) throw new IllegalStateException("No element to replace.");
+            validateModCount(expectedModCount, modCount);
+
+            lastReturned.setElement(element);
+        }
+
+        @Override
+        public void add(E element) {
+            validateModCount(expectedModCount, modCount);
+
+            if (previous == null) {
+                linkFirst(element);
+                previous = first;
+            } else {
+                linkAfter(previous, element);
+                previous = previous.getNext();
+            }
+
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
 }
@@ -0,0 +1,573 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.internal.nodes.ConcurrentEntryNode;
+import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
+import dev.guedes.datastructures.util.collection.list.SinglyLinkedList;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import dev.guedes.datastructures.util.collection.set.Set;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe hash table implementation of the Map interface using lock striping.
+ * <p>
+ * The table is split into a fixed number of segments, each an independent separately chained
+ * hash table guarded by its own lock, so writers to different segments never contend. Reads
+ * ({@code get}, {@code containsKey}) take no lock at all: bucket heads are read through an
+ * {@link AtomicReferenceArray} and the chain links and values are volatile, so a reader always
+ * sees fully published entries. Each segment grows independently once it exceeds its load
+ * factor; resizing copies the chains into a new array, leaving the old one intact for readers
+ * still traversing it.
+ * <p>
+ * {@link #putIfAbsent}, {@link #computeIfAbsent}, {@link #merge} and the conditional
+ * {@code replace} and {@code remove} operations are atomic. Aggregate operations such as
+ * {@link #size()}, {@link #containsValue}, {@link #keySet()} and {@link #toString()} are weakly
+ * consistent: they reflect some state of each segment during the call, but not necessarily a
+ * single point in time for the whole map.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class ConcurrentHashtable<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final int MAXIMUM_SEGMENT_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashtable(int capacity, int concurrencyLevel) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive. Provided value: " + concurrencyLevel + ".");
+        }
+
+        int segmentCount = Hashing.tableSizeFor(Math.min(concurrencyLevel, MAXIMUM_SEGMENTS));
+        int segmentCapacity = Math.min(Hashing.tableSizeFor((capacity + segmentCount - 1) / segmentCount), MAXIMUM_SEGMENT_CAPACITY);
+
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.segmentMask = segmentCount - 1;
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    public ConcurrentHashtable(int capacity) { this(capacity, DEFAULT_CONCURRENCY_LEVEL); }
+
+    public ConcurrentHashtable() { this(DEFAULT_CAPACITY); }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) size += segment.count;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).put(key, hash, value, true);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction, "Mapping function cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).computeIfAbsent(key, hash, mappingFunction);
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+        Objects.requireNonNull(remappingFunction, "Remapping function cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).merge(key, hash, value, remappingFunction);
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) throws NullPointerException {
+        Objects.requireNonNull(oldValue, "Oldvalue cannot be null.");
+        Objects.requireNonNull(newValue, "NewValue cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).replace(key, hash, oldValue, newValue) != null;
+    }
+
+    @Override
+    public V replace(K key, V newValue) throws NullPointerException {
+        Objects.requireNonNull(newValue, "NewValue cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).replace(key, hash, null, newValue);
+    }
+
+    @Override
+    public boolean remove(K key, V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int hash = spread(key);
+        return segmentFor(hash).remove(key, hash, value) != null;
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = spread(key);
+        return segmentFor(hash).remove(key, hash, null);
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = spread(key);
+        ConcurrentEntryNode<K, V> node = segmentFor(hash).findNode(key, hash);
+        return node != null ? node.getValue() : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int hash = spread(key);
+        return segmentFor(hash).findNode(key, hash) != null;
+    }
+
+    @Override
+    public boolean containsValue(V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = table.get(i); node != null; node = node.getNext()) {
+                    if (value.equals(node.getValue())) return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each mapping, traversing the segments in place without
+     * taking any lock. The traversal is weakly consistent: it sees every mapping present for its
+     * whole duration, and may or may not see mappings added or removed concurrently.
+     *
+     * @param action the action to be performed for each mapping
+     * @throws NullPointerException if the action is {@code null}
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) throws NullPointerException {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = table.get(i); node != null; node = node.getNext()) {
+                    action.accept(node.getKey(), node.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = table.get(i); node != null; node = node.getNext()) {
+                    keySet.add(node.getKey());
+                }
+            }
+        }
+
+        return keySet;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> valuesCollection = new SinglyLinkedList<>();
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = table.get(i); node != null; node = node.getNext()) {
+                    valuesCollection.add(node.getValue());
+                }
+            }
+        }
+
+        return valuesCollection;
+    }
+
+    @Override
+    public Set<EntryNode<K, V>> entrySet() {
+        Set<EntryNode<K, V>> entrySet = new HashSet<>();
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = table.get(i); node != null; node = node.getNext()) {
+                    entrySet.add(new EntryNode<>(node.getKey(), node.getValue(), null));
+                }
+            }
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) segment.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> table = segment.table;
+            for (int i = 0; i < table.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = table.get(i); node != null; node = node.getNext()) {
+                    sb.append(node).append(", ");
+                }
+            }
+        }
+
+        if (sb.isEmpty()) return "{}";
+
+        sb.setLength(sb.length() - 2);
+        return "{" + sb + "}";
+    }
+
+    /**
+     * Computes the {@linkplain Hashing#spread(int) spread} hash of a key. The high bits select
+     * the segment and the low bits select the bucket within it.
+     *
+     * @param key the key to hash
+     * @return the spread hash of the key
+     * @throws NullPointerException if the key is null
+     */
+    private int spread(K key) {
+        Objects.requireNonNull(key, "Key cannot be null.");
+        return Hashing.spread(key.hashCode());
+    }
+
+    /**
+     * Returns the segment responsible for the given hash.
+     *
+     * @param hash the mixed hash of a key
+     * @return the segment selected by the high bits of the hash
+     */
+    private Segment<K, V> segmentFor(int hash) {
+        return segments[(hash >>> segmentShift) & segmentMask];
+    }
+
+    /**
+     * An independently locked, separately chained hash table holding one stripe of the keys.
+     * <p>
+     * All mutations happen while holding the segment's lock; lookups only perform volatile reads.
+     *
+     * @param <K> the type of keys maintained by this segment
+     * @param <V> the type of mapped values
+     */
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int initialCapacity;
+        private volatile AtomicReferenceArray<ConcurrentEntryNode<K, V>> table;
+        private volatile int count;
+        private int threshold;
+
+        private Segment(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+            this.table = newTable(initialCapacity);
+            this.count = 0;
+        }
+
+        /**
+         * Finds the node holding the given key without locking.
+         *
+         * @param key the key to search for
+         * @param hash the mixed hash of the key
+         * @return the node holding the key, or {@code null} if absent
+         */
+        private ConcurrentEntryNode<K, V> findNode(K key, int hash) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> currentTable = table;
+            ConcurrentEntryNode<K, V> node = currentTable.get(Hashing.indexFor(hash, currentTable.length()));
+
+            while (node != null) {
+                if (node.getHash() == hash && key.equals(node.getKey())) return node;
+                node = node.getNext();
+            }
+
+            return null;
+        }
+
+        /**
+         * Inserts or updates a mapping.
+         *
+         * @param key the key to insert
+         * @param hash the mixed hash of the key
+         * @param value the value to associate
+         * @param onlyIfAbsent whether an existing value must be kept
+         * @return the value previously associated with the key, or {@code null} if none
+         */
+        private V put(K key, int hash, V value, boolean onlyIfAbsent) {
+            lock.lock();
+            try {
+                ConcurrentEntryNode<K, V> node = findNode(key, hash);
+
+                if (node != null) {
+                    V oldValue = node.getValue();
+                    if (!onlyIfAbsent) node.setValue(value);
+                    return oldValue;
+                }
+
+                link(key, hash, value);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Returns the value for the key, computing and inserting it while holding the lock if absent.
+         *
+         * @param key the key to look up
+         * @param hash the mixed hash of the key
+         * @param mappingFunction the function computing a value for an absent key
+         * @return the existing or computed value, or {@code null} if the function returned {@code null}
+         */
+        private V computeIfAbsent(K key, int hash, Function<? super K, ? extends V> mappingFunction) {
+            ConcurrentEntryNode<K, V> node = findNode(key, hash);
+            if (node != null) return node.getValue();
+
+            lock.lock();
+            try {
+                node = findNode(key, hash);
+                if (node != null) return node.getValue();
+
+                V computed = mappingFunction.apply(key);
+                if (computed != null) link(key, hash, computed);
+
+                return computed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Inserts the value if the key is absent, otherwise combines it with the current value.
+         *
+         * @param key the key to merge
+         * @param hash the mixed hash of the key
+         * @param value the value to insert or combine
+         * @param remappingFunction the function combining the current and the given value
+         * @return the new value, or {@code null} if the mapping was removed
+         */
+        private V merge(K key, int hash, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            lock.lock();
+            try {
+                ConcurrentEntryNode<K, V> node = findNode(key, hash);
+
+                if (node == null) {
+                    link(key, hash, value);
+                    return value;
+                }
+
+                V merged = remappingFunction.apply(node.getValue(), value);
+
+                if (merged == null) {
+                    unlink(key, hash, null);
+                } else {
+                    node.setValue(merged);
+                }
+
+                return merged;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Replaces the value of an existing mapping.
+         *
+         * @param key the key whose value is to be replaced
+         * @param hash the mixed hash of the key
+         * @param expectedValue the value the key must currently map to, or {@code null} for any value
+         * @param newValue the new value
+         * @return the replaced value, or {@code null} if nothing was replaced
+         */
+        private V replace(K key, int hash, V expectedValue, V newValue) {
+            lock.lock();
+            try {
+                ConcurrentEntryNode<K, V> node = findNode(key, hash);
+                if (node == null) return null;
+
+                V oldValue = node.getValue();
+                if (expectedValue != null && !expectedValue.equals(oldValue)) return null;
+
+                node.setValue(newValue);
+                return oldValue;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes a mapping while holding the lock.
+         *
+         * @param key the key to remove
+         * @param hash the mixed hash of the key
+         * @param expectedValue the value the key must currently map to, or {@code null} for any value
+         * @return the removed value, or {@code null} if nothing was removed
+         */
+        private V remove(K key, int hash, V expectedValue) {
+            lock.lock();
+            try {
+                return unlink(key, hash, expectedValue);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Removes every mapping of this segment and restores its initial capacity.
+         */
+        private void clear() {
+            lock.lock();
+            try {
+                table = newTable(initialCapacity);
+                count = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Links a new node at the head of its bucket, growing the table if needed.
+         * Must be called while holding the lock.
+         *
+         * @param key the key to insert
+         * @param hash the mixed hash of the key
+         * @param value the value to insert
+         */
+        private void link(K key, int hash, V value) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> currentTable = table;
+            int index = Hashing.indexFor(hash, currentTable.length());
+
+            currentTable.set(index, new ConcurrentEntryNode<>(hash, key, value, currentTable.get(index)));
+
+            int newCount = count + 1;
+            count = newCount;
+
+            if (newCount > threshold) resize();
+        }
+
+        /**
+         * Unlinks the node holding the given key. Must be called while holding the lock.
+         * <p>
+         * The removed node keeps its next reference so readers positioned on it can continue.
+         *
+         * @param key the key to remove
+         * @param hash the mixed hash of the key
+         * @param expectedValue the value the key must currently map to, or {@code null} for any value
+         * @return the removed value, or {@code null} if nothing was removed
+         */
+        private V unlink(K key, int hash, V expectedValue) {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> currentTable = table;
+            int index = Hashing.indexFor(hash, currentTable.length());
+            ConcurrentEntryNode<K, V> previous = null;
+            ConcurrentEntryNode<K, V> node = currentTable.get(index);
+
+            while (node != null) {
+                if (node.getHash() == hash && key.equals(node.getKey())) {
+                    V oldValue = node.getValue();
+                    if (expectedValue != null && !expectedValue.equals(oldValue)) return null;
+
+                    if (previous == null) {
+                        currentTable.set(index, node.getNext());
+                    } else {
+                        previous.setNext(node.getNext());
+                    }
+
+                    count = count - 1;
+                    return oldValue;
+                }
+                previous = node;
+                node = node.getNext();
+            }
+
+            return null;
+        }
+
+        /**
+         * Copies every chain into a table twice as large and publishes it.
+         * Must be called while holding the lock.
+         */
+        private void resize() {
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> oldTable = table;
+            int newCapacity = oldTable.length() * 2;
+
+            if (newCapacity > MAXIMUM_SEGMENT_CAPACITY) return;
+
+            AtomicReferenceArray<ConcurrentEntryNode<K, V>> newTable = newTable(newCapacity);
+
+            for (int i = 0; i < oldTable.length(); i++) {
+                for (ConcurrentEntryNode<K, V> node = oldTable.get(i); node != null; node = node.getNext()) {
+                    int index = Hashing.indexFor(node.getHash(), newCapacity);
+                    newTable.set(index, new ConcurrentEntryNode<>(node.getHash(), node.getKey(), node.getValue(), newTable.get(index)));
+                }
+            }
+
+            table = newTable;
+        }
+
+        /**
+         * Allocates a bucket array of the given length and updates the resize threshold.
+         *
+         * @param capacity the number of buckets
+         * @return the new, empty bucket array
+         */
+        private AtomicReferenceArray<ConcurrentEntryNode<K, V>> newTable(int capacity) {
+            threshold = (int) (capacity * LOAD_FACTOR);
+            return new AtomicReferenceArray<>(capacity);
+        }
+    }
+}
@@ -2,14 +2,40 @@ package dev.guedes.datastructures.util.collection.map;
 
 import dev.guedes.datastructures.util.Objects;
 import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
 import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
-import dev.guedes.datastructures.util.collection.list.SinglyLinkedList;
-import dev.guedes.datastructures.util.collection.set.HashSet;
+import dev.guedes.datastructures.util.collection.internal.nodes.TreeEntryNode;
 import dev.guedes.datastructures.util.collection.set.Set;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
 /**
  * A hash table implementation of the Map interface.
  * This implementation uses separate chaining for collision resolution.
+ * <p>
+ * The bucket array always has a power-of-two length, so bucket indexes are computed by
+ * masking the {@linkplain Hashing#spread(int) spread} hash code instead of dividing by the
+ * capacity. Maps created with randomized hashing also mix a random per-instance seed into
+ * every hash code, so that colliding keys cannot be precomputed. The table doubles whenever the
+ * number of entries exceeds {@code capacity * loadFactor}, and halves again once it drops
+ * below a quarter of that threshold, never shrinking below the initial capacity.
+ * <p>
+ * When a bucket's chain grows beyond {@value #TREEIFY_THRESHOLD} entries and all of its keys
+ * are {@link Comparable} instances of the same class, the bucket is converted into an AVL tree
+ * of {@link TreeEntryNode}s, bounding lookups to {@code O(log n)} even when many keys share a
+ * hash code. The tree is turned back into a plain chain once its height drops to
+ * {@value #UNTREEIFY_HEIGHT} (at most seven entries).
+ * <p>
+ * The spliterators of the {@link #keySet()}, {@link #values()} and {@link #entrySet()} views
+ * split the bucket array in halves, so parallel streams over a view divide the table without
+ * copying it.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -17,23 +43,52 @@ import dev.guedes.datastructures.util.collection.set.Set;
  * @author João Guedes
  */
 public class Hashtable<K, V> implements Map<K, V> {
-    private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int SHRINK_THRESHOLD_DIVISOR = 4;
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_HEIGHT = 2;
 
-    private final EntryNode<K, V>[] buckets;
-    private final int capacity;
+    private final int initialCapacity;
+    private final float loadFactor;
+    private final int seed;
+    private EntryNode<K, V>[] buckets;
+    private int threshold;
     private int size;
+    private int modCount;
+    private Set<K> keySet;
+    private Collection<V> values;
+    private Set<EntryNode<K, V>> entrySet;
 
-    @SuppressWarnings("unchecked")
-    public Hashtable(int capacity) {
+    /**
+     * Creates a map with the given initial capacity and load factor.
+     *
+     * @param capacity the initial number of buckets, rounded up to a power of two
+     * @param loadFactor the ratio of entries to buckets above which the table grows
+     * @param randomizedHashing whether to mix a random per-instance seed into every hash code
+     * @throws IllegalArgumentException if the capacity or the load factor is not positive
+     */
+    public Hashtable(int capacity, float loadFactor, boolean randomizedHashing) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
         }
 
-        this.capacity = capacity;
-        this.buckets = (EntryNode<K, V>[]) new EntryNode[capacity];
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive. Provided value: " + loadFactor + ".");
+        }
+
+        this.initialCapacity = Hashing.tableSizeFor(capacity);
+        this.loadFactor = loadFactor;
+        this.seed = randomizedHashing ? Hashing.newSeed() : 0;
+        this.buckets = newTable(initialCapacity);
         this.size = 0;
     }
 
+    public Hashtable(int capacity, float loadFactor) { this(capacity, loadFactor, false); }
+
+    public Hashtable(int capacity) { this(capacity, DEFAULT_LOAD_FACTOR); }
+
     public Hashtable() { this(DEFAULT_CAPACITY); }
 
     @Override
@@ -52,12 +107,81 @@ public class Hashtable<K, V> implements Map<K, V> {
 
         if (node != null) return updateEntry(node, value);
 
-        buckets[bucketIndex] = new EntryNode<>(key, value, buckets[bucketIndex]);
-        size++;
+        linkEntry(bucketIndex, key, value);
+        modCount++;
+
+        if (++size > threshold) resize(buckets.length * 2);
 
         return null;
     }
 
+    /**
+     * Copies all the mappings of the given map into this map.
+     * <p>
+     * The table is grown once, up front, to hold every incoming entry, so the batch never
+     * triggers an intermediate resize.
+     *
+     * @param map the map whose mappings are to be copied
+     * @throws NullPointerException if the given map is {@code null}
+     */
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) throws NullPointerException {
+        Objects.requireNonNull(map, "Map cannot be null.");
+
+        ensureCapacity(size + map.size());
+        map.forEach(this::put);
+    }
+
+    /**
+     * Associates each key of the first array with the value at the same index of the second one.
+     * <p>
+     * Both arrays are validated before the map is modified, so a {@code null} key or value leaves
+     * the map untouched. The table is then grown once, up front, to hold every incoming pair.
+     *
+     * @param keys the keys to be associated
+     * @param values the values to associate, index by index
+     * @throws NullPointerException if either array, or any key or value in them, is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    @Override
+    public void putAll(K[] keys, V[] values) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(keys, "Keys cannot be null.");
+        Objects.requireNonNull(values, "Values cannot be null.");
+
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length. Provided lengths: " + keys.length + " and " + values.length + ".");
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            Objects.requireNonNull(keys[i], "Key cannot be null.");
+            Objects.requireNonNull(values[i], "Value cannot be null.");
+        }
+
+        ensureCapacity(size + keys.length);
+        for (int i = 0; i < keys.length; i++) put(keys[i], values[i]);
+    }
+
+    /**
+     * Returns the mappings of this map for the given keys, in a map sized for all of them.
+     *
+     * @param keys the keys whose mappings are to be returned
+     * @return a new map holding each given key that is mapped, together with its value
+     * @throws NullPointerException if the collection, or any key in it, is {@code null}
+     */
+    @Override
+    public Map<K, V> getAll(Collection<? extends K> keys) throws NullPointerException {
+        Objects.requireNonNull(keys, "Keys cannot be null.");
+
+        Hashtable<K, V> mappings = new Hashtable<>(capacityFor(keys.size()), loadFactor);
+
+        keys.forEach(key -> {
+            V value = get(key);
+            if (value != null) mappings.put(key, value);
+        });
+
+        return mappings;
+    }
+
     @Override
     public boolean replace(K key, V oldValue, V newValue) throws NullPointerException {
         Objects.requireNonNull(oldValue, "Oldvalue cannot be null.");
@@ -88,10 +212,10 @@ public class Hashtable<K, V> implements Map<K, V> {
 
         int bucketIndex = calculateBucketIndex(key);
 
-        EntryNode<K, V>[] entries = findEntryWithPrevious(key, bucketIndex);
+        EntryNode<K, V> entry = findEntry(key, bucketIndex);
 
-        if (entries != null && value.equals(entries[1].getValue())) {
-            removeNodeFromChain(bucketIndex, entries[0], entries[1]);
+        if (entry != null && value.equals(entry.getValue())) {
+            removeEntry(bucketIndex, entry);
             return true;
         }
 
@@ -102,9 +226,9 @@ public class Hashtable<K, V> implements Map<K, V> {
     public V remove(K key) {
         int bucketIndex = calculateBucketIndex(key);
 
-        EntryNode<K, V>[] entries = findEntryWithPrevious(key, bucketIndex);
+        EntryNode<K, V> entry = findEntry(key, bucketIndex);
 
-        return entries != null ? removeNodeFromChain(bucketIndex, entries[0], entries[1]) : null;
+        return entry != null ? removeEntry(bucketIndex, entry) : null;
     }
 
     @Override
@@ -136,50 +260,60 @@ public class Hashtable<K, V> implements Map<K, V> {
     }
 
     @Override
-    public Set<K> keySet() {
-        Set<K> keySet = new HashSet<>();
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
         EntryNode<K, V> current;
 
         for (EntryNode<K, V> head : buckets) {
             current = head;
             while (current != null) {
-                keySet.add(current.getKey());
+                action.accept(current.getKey(), current.getValue());
                 current = current.getNext();
             }
         }
+    }
 
+    /**
+     * Returns a live view of the keys contained in this map.
+     * <p>
+     * The view is backed by the table: changes to the map are reflected in it, and removing a key
+     * from it removes the corresponding mapping. Adding elements is not supported.
+     *
+     * @return a set view of the keys
+     */
+    @Override
+    public Set<K> keySet() {
+        if (keySet == null) keySet = new KeySet();
         return keySet;
     }
 
+    /**
+     * Returns a live view of the values contained in this map.
+     * <p>
+     * The view is backed by the table: changes to the map are reflected in it, and removing a value
+     * from it removes one mapping to that value. Adding elements is not supported.
+     *
+     * @return a collection view of the values
+     */
     @Override
     public Collection<V> values() {
-        Collection<V> valuesCollection = new SinglyLinkedList<>();
-        EntryNode<K, V> current;
-
-        for (EntryNode<K, V> head : buckets) {
-            current = head;
-            while (current != null) {
-                valuesCollection.add(current.getValue());
-                current = current.getNext();
-            }
-        }
-
-        return valuesCollection;
+        if (values == null) values = new Values();
+        return values;
     }
 
+    /**
+     * Returns a live view of the entries contained in this map.
+     * <p>
+     * The view yields the table's own nodes, so iterating over it allocates nothing and setting an
+     * entry's value writes through to the map. Removing an entry from the view removes the mapping
+     * if the key is still mapped to the entry's value. Adding elements is not supported.
+     *
+     * @return a set view of the entries
+     */
     @Override
     public Set<EntryNode<K, V>> entrySet() {
-        Set<EntryNode<K, V>> entrySet = new HashSet<>();
-        EntryNode<K, V> current;
-
-        for (EntryNode<K, V> head : buckets) {
-            current = head;
-            while (current != null) {
-                entrySet.add(new EntryNode<>(current.getKey(), current.getValue(), null));
-                current = current.getNext();
-            }
-        }
-
+        if (entrySet == null) entrySet = new EntrySet();
         return entrySet;
     }
 
@@ -190,8 +324,18 @@ public class Hashtable<K, V> implements Map<K, V> {
             buckets[i] = null;
         }
         size = 0;
+        modCount++;
+
+        if (buckets.length > initialCapacity) buckets = newTable(initialCapacity);
     }
 
+    /**
+     * Returns the current number of buckets in the table.
+     *
+     * @return the length of the bucket array, always a power of two
+     */
+    public int capacity() { return buckets.length; }
+
     @Override
     public String toString() {
         if (isEmpty()) return "{}";
@@ -213,51 +357,145 @@ public class Hashtable<K, V> implements Map<K, V> {
      */
     private int calculateBucketIndex(K key) {
         Objects.requireNonNull(key, "Key cannot be null.");
-        return Math.abs(key.hashCode() % capacity);
+        return calculateBucketIndex(key, buckets.length);
     }
 
     /**
-     * Searches for an entry with the specified key within a given bucket.
+     * Computes the bucket index for a given key in a table of the given length.
+     *
+     * @param key the key to hash (must not be null)
+     * @param tableLength the length of the bucket array, a power of two
+     * @return the bucket index (0 ≤ index < tableLength)
+     */
+    private int calculateBucketIndex(K key, int tableLength) { return Hashing.indexFor(hash(key), tableLength); }
+
+    /**
+     * Computes the spread hash of a key, used both for bucket selection and tree ordering.
+     *
+     * @param key the key to hash (must not be null)
+     * @return the key's hash code spread under this map's seed
+     */
+    private int hash(K key) { return Hashing.hash(key, seed); }
+
+    /**
+     * Relinks every entry into a new bucket array of the given length.
      * <p>
-     * This method traverses the linked list (chain) at the provided bucket index,
-     * comparing each entry's key with the given key using {@code equals()}.
+     * Existing chain nodes are reused, so resizing a table without treeified buckets does not
+     * allocate anything besides the new array. Open iterators fail fast afterwards, since their
+     * bucket positions no longer match the new array.
      *
-     * @param key the key to search for (must not be null)
-     * @param bucketIndex the index of the bucket where the search will be performed
-     * @return the {@link EntryNode} containing the specified key, or {@code null} if no matching entry is found in the bucket
-     * @throws NullPointerException if the key is null
+     * @param newCapacity the new number of buckets, a power of two
      */
-    private EntryNode<K, V> findEntry(K key, int bucketIndex) {
-        EntryNode<K, V> current = buckets[bucketIndex];
+    private void resize(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity < initialCapacity) return;
 
-        while (current != null) {
-            if (key.equals(current.getKey())) {
-                return current;
+        EntryNode<K, V>[] newBuckets = newTable(newCapacity);
+        EntryNode<K, V> current;
+        EntryNode<K, V> next;
+        int bucketIndex;
+        boolean hadTreeBins = false;
+
+        for (EntryNode<K, V> head : buckets) {
+            boolean isTreeBin = head instanceof TreeEntryNode;
+            hadTreeBins |= isTreeBin;
+
+            current = head;
+            while (current != null) {
+                next = current.getNext();
+                bucketIndex = calculateBucketIndex(current.getKey(), newCapacity);
+
+                if (isTreeBin) {
+                    newBuckets[bucketIndex] = new EntryNode<>(current.getKey(), current.getValue(), newBuckets[bucketIndex]);
+                } else {
+                    current.setNext(newBuckets[bucketIndex]);
+                    newBuckets[bucketIndex] = current;
+                }
+                current = next;
             }
-            current = current.getNext();
         }
 
-        return null;
+        buckets = newBuckets;
+        modCount++;
+
+        if (hadTreeBins) treeifyLongChains();
     }
 
     /**
-     * Finds an entry by key in the specified bucket and also returns its previous node.
+     * Grows the table, in a single resize, so that it can hold the given number of entries
+     * without exceeding the load factor.
+     *
+     * @param expectedSize the number of entries the table should accommodate
+     */
+    private void ensureCapacity(int expectedSize) {
+        if (expectedSize > threshold) resize(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the smallest table length that holds the given number of entries within the load factor.
+     *
+     * @param expectedSize the number of entries to accommodate
+     * @return a power of two, capped at the maximum capacity
+     */
+    private int capacityFor(int expectedSize) {
+        return Hashing.tableSizeFor((int) Math.min(Math.ceil(expectedSize / (double) loadFactor), MAXIMUM_CAPACITY));
+    }
+
+    /**
+     * Treeifies every bucket whose chain is longer than the treeify threshold.
+     * <p>
+     * Called after a resize split treeified buckets into plain chains.
+     */
+    private void treeifyLongChains() {
+        for (int i = 0; i < buckets.length; i++) {
+            if (chainLengthExceeds(buckets[i], TREEIFY_THRESHOLD)) treeifyBin(i);
+        }
+    }
+
+    /**
+     * Halves the table while it is mostly empty, so bulk removals release memory.
+     */
+    private void shrinkCapacity() {
+        while (buckets.length > initialCapacity && size < threshold / SHRINK_THRESHOLD_DIVISOR) {
+            resize(buckets.length / 2);
+        }
+    }
+
+    /**
+     * Allocates a bucket array of the given length and updates the resize threshold.
+     *
+     * @param capacity the number of buckets
+     * @return the new, empty bucket array
+     */
+    @SuppressWarnings("unchecked")
+    private EntryNode<K, V>[] newTable(int capacity) {
+        threshold = capacity < MAXIMUM_CAPACITY ? (int) Math.min(capacity * loadFactor, Integer.MAX_VALUE) : Integer.MAX_VALUE;
+        return (EntryNode<K, V>[]) new EntryNode[capacity];
+    }
+
+    /**
+     * Searches for an entry with the specified key within a given bucket.
+     * <p>
+     * Treeified buckets are searched through the tree when the key has the same class as the
+     * bucket's keys. Otherwise, this method traverses the linked list (chain) at the provided
+     * bucket index, comparing each entry's key with the given key using {@code equals()}.
      *
      * @param key the key to search for (must not be null)
-     * @param bucketIndex the bucket index to search in
-     * @return an array where index 0 is the previous node (null if head) and index 1 is the matching node, or {@code null} if not found
+     * @param bucketIndex the index of the bucket where the search will be performed
+     * @return the {@link EntryNode} containing the specified key, or {@code null} if no matching entry is found in the bucket
      * @throws NullPointerException if the key is null
      */
-    @SuppressWarnings("unchecked")
-    private EntryNode<K, V>[] findEntryWithPrevious(K key, int bucketIndex) {
+    private EntryNode<K, V> findEntry(K key, int bucketIndex) {
         EntryNode<K, V> current = buckets[bucketIndex];
-        EntryNode<K, V> previous = null;
+
+        if (current instanceof TreeEntryNode<K, V> root && isTreeCompatible(root, key)) {
+            TreeEntryNode<K, V> node = TreeBin.find(root, key, hash(key));
+            return node != null && key.equals(node.getKey()) ? node : null;
+        }
 
         while (current != null) {
             if (key.equals(current.getKey())) {
-                return new EntryNode[] { previous, current };
+                return current;
             }
-            previous = current;
             current = current.getNext();
         }
 
@@ -278,27 +516,245 @@ public class Hashtable<K, V> implements Map<K, V> {
     }
 
     /**
-     * Removes a node from a chain in a bucket.
+     * Links a new entry for a key known to be absent into its bucket.
+     * <p>
+     * Treeified buckets receive the entry in their tree, unless the key cannot be ordered
+     * against the bucket's keys, in which case the bucket is first turned back into a chain.
+     * A chain that grows beyond the treeify threshold is converted into a tree.
      *
-     * @param bucketIndex the index of the bucket containing the chain
-     * @param previous the node preceding the node to remove, or null if removing the head
-     * @param toRemove the node to be removed from the chain
+     * @param bucketIndex the index of the key's bucket
+     * @param key the key to insert
+     * @param value the value to insert
+     */
+    private void linkEntry(int bucketIndex, K key, V value) {
+        EntryNode<K, V> head = buckets[bucketIndex];
+
+        if (head instanceof TreeEntryNode<K, V> root) {
+            int hash = hash(key);
+
+            if (isTreeCompatible(root, key) && TreeBin.find(root, key, hash) == null) {
+                TreeEntryNode<K, V> node = new TreeEntryNode<>(hash, key, value);
+                linkAfter(root, node);
+                moveRootToFront(bucketIndex, TreeBin.insert(root, node));
+                return;
+            }
+
+            untreeifyBin(bucketIndex);
+            head = buckets[bucketIndex];
+        }
+
+        buckets[bucketIndex] = new EntryNode<>(key, value, head);
+
+        if (chainLengthExceeds(buckets[bucketIndex], TREEIFY_THRESHOLD)) treeifyBin(bucketIndex);
+    }
+
+    /**
+     * Removes an entry from its bucket, whether the bucket is a chain or a tree.
+     *
+     * @param bucketIndex the index of the bucket containing the entry
+     * @param toRemove the entry to be removed
+     * @return the previous value associated with the entry
+     */
+    private V removeEntry(int bucketIndex, EntryNode<K, V> toRemove) {
+        V oldValue = unlinkEntry(bucketIndex, toRemove);
+        shrinkCapacity();
+
+        return oldValue;
+    }
+
+    /**
+     * Removes an entry from its bucket without shrinking the table, so the index of every other
+     * bucket stays the same.
+     *
+     * @param bucketIndex the index of the bucket containing the entry
+     * @param toRemove the entry to be removed
      * @return the previous value associated with the entry
      */
-    private V removeNodeFromChain(int bucketIndex, EntryNode<K, V> previous, EntryNode<K, V> toRemove) {
+    private V unlinkEntry(int bucketIndex, EntryNode<K, V> toRemove) {
         V oldValue = toRemove.getValue();
 
-        if (previous == null) {
-            buckets[bucketIndex] = toRemove.getNext();
+        if (toRemove instanceof TreeEntryNode<K, V> node) {
+            removeTreeEntry(bucketIndex, node);
         } else {
-            previous.setNext(toRemove.getNext());
+            removeNodeFromChain(bucketIndex, toRemove);
         }
 
         toRemove.clear();
         size--;
+        modCount++;
+
         return oldValue;
     }
 
+    /**
+     * Unlinks a node from a plain chain in a bucket.
+     *
+     * @param bucketIndex the index of the bucket containing the chain
+     * @param toRemove the node to be removed from the chain
+     */
+    private void removeNodeFromChain(int bucketIndex, EntryNode<K, V> toRemove) {
+        EntryNode<K, V> current = buckets[bucketIndex];
+
+        if (current == toRemove) {
+            buckets[bucketIndex] = toRemove.getNext();
+            return;
+        }
+
+        while (current.getNext() != toRemove) current = current.getNext();
+
+        current.setNext(toRemove.getNext());
+    }
+
+    /**
+     * Unlinks a node from a treeified bucket, both from its tree and from its chain,
+     * turning the bucket back into a chain if the tree became small.
+     *
+     * @param bucketIndex the index of the treeified bucket
+     * @param node the node to be removed
+     */
+    private void removeTreeEntry(int bucketIndex, TreeEntryNode<K, V> node) {
+        TreeEntryNode<K, V> root = TreeBin.remove((TreeEntryNode<K, V>) buckets[bucketIndex], node);
+        TreeEntryNode<K, V> previous = node.getPrevious();
+        TreeEntryNode<K, V> next = (TreeEntryNode<K, V>) node.getNext();
+
+        if (previous == null) {
+            buckets[bucketIndex] = next;
+        } else {
+            previous.setNext(next);
+        }
+
+        if (next != null) next.setPrevious(previous);
+
+        if (root == null) return;
+
+        if (TreeBin.height(root) <= UNTREEIFY_HEIGHT) {
+            untreeifyBin(bucketIndex);
+        } else {
+            moveRootToFront(bucketIndex, root);
+        }
+    }
+
+    /**
+     * Converts the chain of a bucket into a tree, if all of its keys are comparable with each other.
+     * <p>
+     * The bucket is left untouched when a key is not {@link Comparable}, has a different class
+     * than the others, or compares equal to a different key.
+     *
+     * @param bucketIndex the index of the bucket to convert
+     */
+    private void treeifyBin(int bucketIndex) {
+        EntryNode<K, V> head = buckets[bucketIndex];
+        Class<?> keyClass = head.getKey().getClass();
+
+        if (!(head.getKey() instanceof Comparable)) return;
+
+        TreeEntryNode<K, V> root = null;
+        TreeEntryNode<K, V> first = null;
+        TreeEntryNode<K, V> last = null;
+
+        for (EntryNode<K, V> current = head; current != null; current = current.getNext()) {
+            K key = current.getKey();
+            int hash = hash(key);
+
+            if (key.getClass() != keyClass || TreeBin.find(root, key, hash) != null) return;
+
+            TreeEntryNode<K, V> node = new TreeEntryNode<>(hash, key, current.getValue());
+
+            if (last == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+                node.setPrevious(last);
+            }
+
+            root = TreeBin.insert(root, node);
+            last = node;
+        }
+
+        buckets[bucketIndex] = first;
+        moveRootToFront(bucketIndex, root);
+    }
+
+    /**
+     * Converts a treeified bucket back into a plain chain of entry nodes.
+     *
+     * @param bucketIndex the index of the treeified bucket
+     */
+    private void untreeifyBin(int bucketIndex) {
+        EntryNode<K, V> head = null;
+
+        for (EntryNode<K, V> current = buckets[bucketIndex]; current != null; current = current.getNext()) {
+            head = new EntryNode<>(current.getKey(), current.getValue(), head);
+        }
+
+        buckets[bucketIndex] = head;
+    }
+
+    /**
+     * Links a tree node into a treeified bucket's chain, right after the given node.
+     *
+     * @param previous the node after which to link
+     * @param node the node to link
+     */
+    private void linkAfter(TreeEntryNode<K, V> previous, TreeEntryNode<K, V> node) {
+        TreeEntryNode<K, V> next = (TreeEntryNode<K, V>) previous.getNext();
+
+        node.setPrevious(previous);
+        node.setNext(next);
+        previous.setNext(node);
+
+        if (next != null) next.setPrevious(node);
+    }
+
+    /**
+     * Moves the root of a treeified bucket to the head of its chain, where lookups find it.
+     *
+     * @param bucketIndex the index of the treeified bucket
+     * @param root the current root of the bucket's tree
+     */
+    private void moveRootToFront(int bucketIndex, TreeEntryNode<K, V> root) {
+        TreeEntryNode<K, V> head = (TreeEntryNode<K, V>) buckets[bucketIndex];
+
+        if (head == root) return;
+
+        TreeEntryNode<K, V> previous = root.getPrevious();
+        TreeEntryNode<K, V> next = (TreeEntryNode<K, V>) root.getNext();
+
+        previous.setNext(next);
+        if (next != null) next.setPrevious(previous);
+
+        root.setPrevious(null);
+        root.setNext(head);
+        head.setPrevious(root);
+        buckets[bucketIndex] = root;
+    }
+
+    /**
+     * Checks whether a key can be searched for in a treeified bucket.
+     *
+     * @param root the root of the bucket's tree
+     * @param key the key to check
+     * @return {@code true} if the key has the same class as the keys in the tree
+     */
+    private boolean isTreeCompatible(TreeEntryNode<K, V> root, K key) { return root.getKey().getClass() == key.getClass(); }
+
+    /**
+     * Checks whether a chain has more than the given number of nodes, stopping early.
+     *
+     * @param head the first node in the chain
+     * @param limit the maximum number of nodes allowed
+     * @return {@code true} if the chain is longer than the limit
+     */
+    private boolean chainLengthExceeds(EntryNode<K, V> head, int limit) {
+        int length = 0;
+
+        for (EntryNode<K, V> current = head; current != null; current = current.getNext()) {
+            if (++length > limit) return true;
+        }
+
+        return false;
+    }
+
     /**
      * Clears all nodes in a chain, helping with garbage collection.
      *
@@ -314,4 +770,339 @@ public class Hashtable<K, V> implements Map<K, V> {
             current = next;
         }
     }
+
+    /**
+     * Base class of the live views over this table's entries.
+     *
+     * @param <E> the type of elements exposed by the view
+     */
+    private abstract class View<E> implements Collection<E> {
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean add(E element) {
+            throw new UnsupportedOperationException("Elements cannot be added to a map view.");
+        }
+
+        @Override
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action, "Action cannot be null.");
+
+            EntryNode<K, V> current;
+
+            for (EntryNode<K, V> head : buckets) {
+                current = head;
+                while (current != null) {
+                    action.accept(elementOf(current));
+                    current = current.getNext();
+                }
+            }
+        }
+
+        @Override
+        public Iterator<E> iterator() { return new ViewItr(); }
+
+        @Override
+        public Spliterator<E> spliterator() { return new BucketSpliterator(buckets, 0, buckets.length, size, modCount); }
+
+        @Override
+        public Object[] toArray() {
+            Object[] array = new Object[size];
+            EntryNode<K, V> current;
+            int index = 0;
+
+            for (EntryNode<K, V> head : buckets) {
+                current = head;
+                while (current != null) {
+                    array[index++] = elementOf(current);
+                    current = current.getNext();
+                }
+            }
+
+            return array;
+        }
+
+        @Override
+        public void clear() { Hashtable.this.clear(); }
+
+        @Override
+        public String toString() {
+            if (isEmpty()) return "[]";
+
+            StringBuilder sb = new StringBuilder();
+            EntryNode<K, V> current;
+
+            for (EntryNode<K, V> head : buckets) {
+                current = head;
+                while (current != null) {
+                    sb.append(format(current)).append(", ");
+                    current = current.getNext();
+                }
+            }
+            sb.setLength(sb.length() - 2);
+
+            return "[" + sb + "]";
+        }
+
+        /**
+         * Extracts the element this view exposes for the given entry.
+         *
+         * @param entry an entry of the table
+         * @return the element corresponding to the entry
+         */
+        abstract E elementOf(EntryNode<K, V> entry);
+
+        /**
+         * Formats the element this view exposes for the given entry.
+         *
+         * @param entry an entry of the table
+         * @return the string representation of the element
+         */
+        String format(EntryNode<K, V> entry) { return String.valueOf(elementOf(entry)); }
+
+        /**
+         * Returns the characteristics this view's spliterator reports besides the size.
+         *
+         * @return the spliterator characteristics of the view
+         */
+        int characteristics() { return 0; }
+
+        /**
+         * A fail-fast iterator that copies each bucket's nodes into a buffer before walking them,
+         * since removing an entry from a treeified bucket may reorder or rebuild the bucket.
+         * After such a removal the rest of the buffer is looked up again in the live bucket, so
+         * the entries returned afterwards are the ones held by the map and write through. Removals
+         * through the iterator never shrink the table, so the remaining buckets keep their indexes.
+         */
+        private class ViewItr implements Iterator<E> {
+            private Object[] entries = new Object[TREEIFY_THRESHOLD];
+            private int entryCount;
+            private int entryIndex;
+            private int bucketIndex;
+            private EntryNode<K, V> lastReturned;
+            private int lastBucketIndex;
+            private int expectedModCount = modCount;
+
+            ViewItr() { fillBuffer(); }
+
+            @Override
+            public boolean hasNext() { return entryIndex < entryCount; }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                validateModCount(expectedModCount, modCount);
+                if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+                lastReturned = (EntryNode<K, V>) entries[entryIndex++];
+                lastBucketIndex = bucketIndex - 1;
+
+                if (entryIndex == entryCount) fillBuffer();
+
+                return elementOf(lastReturned);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) throw new IllegalStateException("No element to remove.");
+                validateModCount(expectedModCount, modCount);
+
+                EntryNode<K, V> entry = findEntry(lastReturned.getKey(), lastBucketIndex);
+                if (entry != null) unlinkEntry(lastBucketIndex, entry);
+                if (lastBucketIndex == bucketIndex - 1) refreshBuffer();
+
+                lastReturned = null;
+                expectedModCount = modCount;
+            }
+
+            /**
+             * Replaces the entries left in the buffer with the live nodes of their bucket, which
+             * may have been rebuilt when a removal turned it from a tree back into a chain.
+             */
+            @SuppressWarnings("unchecked")
+            private void refreshBuffer() {
+                for (int i = entryIndex; i < entryCount; i++) {
+                    entries[i] = findEntry(((EntryNode<K, V>) entries[i]).getKey(), lastBucketIndex);
+                }
+            }
+
+            /**
+             * Copies the nodes of the next non-empty bucket into the buffer, growing it if needed.
+             */
+            private void fillBuffer() {
+                entryCount = 0;
+                entryIndex = 0;
+
+                while (entryCount == 0 && bucketIndex < buckets.length) {
+                    for (EntryNode<K, V> current = buckets[bucketIndex]; current != null; current = current.getNext()) {
+                        if (entryCount == entries.length) entries = Arrays.copyOf(entries, entryCount * 2);
+                        entries[entryCount++] = current;
+                    }
+                    bucketIndex++;
+                }
+            }
+        }
+
+        /**
+         * A fail-fast spliterator over a range of buckets, bound to the table and modification
+         * count at creation. {@link #trySplit()} hands off the lower half of the remaining buckets
+         * and halves the size estimate, which is only exact until the first split.
+         */
+        private class BucketSpliterator implements Spliterator<E> {
+            private final EntryNode<K, V>[] table;
+            private final int fence;
+            private final int expectedModCount;
+            private int index;
+            private EntryNode<K, V> current;
+            private long estimate;
+            private boolean exact;
+
+            BucketSpliterator(EntryNode<K, V>[] table, int origin, int fence, long estimate, int expectedModCount) {
+                this.table = table;
+                this.index = origin;
+                this.fence = fence;
+                this.estimate = estimate;
+                this.expectedModCount = expectedModCount;
+                this.exact = origin == 0 && fence == table.length;
+            }
+
+            @Override
+            public Spliterator<E> trySplit() {
+                int low = index;
+                int middle = (low + fence) >>> 1;
+                if (low >= middle || current != null) return null;
+
+                BucketSpliterator prefix = new BucketSpliterator(table, low, middle, estimate >>>= 1, expectedModCount);
+                exact = false;
+                index = middle;
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(Consumer<? super E> action) throws NullPointerException {
+                Objects.requireNonNull(action, "Action cannot be null.");
+
+                while (current != null || index < fence) {
+                    if (current == null) {
+                        current = table[index++];
+                    } else {
+                        EntryNode<K, V> entry = current;
+                        current = current.getNext();
+                        action.accept(elementOf(entry));
+                        validateModCount(expectedModCount, modCount);
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super E> action) throws NullPointerException {
+                Objects.requireNonNull(action, "Action cannot be null.");
+
+                EntryNode<K, V> entry = current;
+                current = null;
+
+                while (entry != null || index < fence) {
+                    if (entry == null) entry = table[index++];
+                    while (entry != null) {
+                        action.accept(elementOf(entry));
+                        entry = entry.getNext();
+                    }
+                }
+                validateModCount(expectedModCount, modCount);
+            }
+
+            @Override
+            public long estimateSize() { return estimate; }
+
+            @Override
+            public int characteristics() {
+                return View.this.characteristics() | (exact ? Spliterator.SIZED : 0);
+            }
+        }
+    }
+
+    /**
+     * Live view of the keys of this table.
+     */
+    private final class KeySet extends View<K> implements Set<K> {
+        @Override
+        public boolean remove(K key) { return Hashtable.this.remove(key) != null; }
+
+        @Override
+        public boolean contains(K key) { return containsKey(key); }
+
+        @Override
+        K elementOf(EntryNode<K, V> entry) { return entry.getKey(); }
+
+        @Override
+        int characteristics() { return Spliterator.DISTINCT; }
+    }
+
+    /**
+     * Live view of the values of this table.
+     */
+    private final class Values extends View<V> {
+        @Override
+        public boolean remove(V value) {
+            Objects.requireNonNull(value, "Value cannot be null.");
+
+            EntryNode<K, V> current;
+
+            for (int i = 0; i < buckets.length; i++) {
+                current = buckets[i];
+                while (current != null) {
+                    if (value.equals(current.getValue())) {
+                        removeEntry(i, current);
+                        return true;
+                    }
+                    current = current.getNext();
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public boolean contains(V value) { return containsValue(value); }
+
+        @Override
+        V elementOf(EntryNode<K, V> entry) { return entry.getValue(); }
+    }
+
+    /**
+     * Live view of the entries of this table, exposing the table's own nodes.
+     */
+    private final class EntrySet extends View<EntryNode<K, V>> implements Set<EntryNode<K, V>> {
+        @Override
+        public boolean remove(EntryNode<K, V> entry) {
+            Objects.requireNonNull(entry, "Entry cannot be null.");
+            return Hashtable.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public boolean contains(EntryNode<K, V> entry) {
+            Objects.requireNonNull(entry, "Entry cannot be null.");
+
+            EntryNode<K, V> node = findEntry(entry.getKey(), calculateBucketIndex(entry.getKey()));
+            return node != null && Objects.equals(node.getValue(), entry.getValue());
+        }
+
+        @Override
+        EntryNode<K, V> elementOf(EntryNode<K, V> entry) { return entry; }
+
+        @Override
+        int characteristics() { return Spliterator.DISTINCT; }
+
+        /**
+         * Formats a single entry, since a node's own string form runs through the rest of its chain.
+         */
+        @Override
+        String format(EntryNode<K, V> entry) { return entry.getKey() + "=" + entry.getValue(); }
+    }
 }
@@ -0,0 +1,395 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.internal.hashing.OpenAddressing;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * An open-addressing hash map from primitive {@code int} keys to primitive {@code int} values.
+ * <p>
+ * Keys and values live in two parallel {@code int} arrays probed linearly, so no operation boxes
+ * its arguments or allocates per entry. Since an empty slot is marked by the key {@code 0}, a
+ * mapping for the key {@code 0} is kept in dedicated fields outside the table. Removals use the
+ * same backward-shift deletion as {@link LinearProbingHashMap}, and the table grows and shrinks
+ * under the same rules.
+ * <p>
+ * Methods mirror those of {@link Map}, except that a missing value cannot be reported as
+ * {@code null}: {@link #get(int)}, {@link #put(int, int)} and {@link #remove(int)} return
+ * {@code 0} when the key is absent. Use {@link #containsKey(int)} or
+ * {@link #getOrDefault(int, int)} when {@code 0} is a meaningful value.
+ *
+ * @author João Guedes
+ */
+public class IntIntHashMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    private static final int EMPTY_KEY = 0;
+
+    private final int initialCapacity;
+    private final float loadFactor;
+    private int[] keys;
+    private int[] values;
+    private boolean hasZeroKey;
+    private int zeroKeyValue;
+    private int threshold;
+    private int size;
+
+    public IntIntHashMap(int capacity, float loadFactor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        OpenAddressing.validateLoadFactor(loadFactor);
+
+        this.initialCapacity = Hashing.tableSizeFor(capacity);
+        this.loadFactor = loadFactor;
+        allocateTable(initialCapacity);
+        this.size = 0;
+    }
+
+    public IntIntHashMap(int capacity) { this(capacity, DEFAULT_LOAD_FACTOR); }
+
+    public IntIntHashMap() { this(DEFAULT_CAPACITY); }
+
+    /**
+     * Returns the number of key-value mappings in the map.
+     *
+     * @return the number of entries
+     */
+    public int size() { return hasZeroKey ? size + 1 : size; }
+
+    /**
+     * Returns {@code true} if the map contains no key-value mappings.
+     *
+     * @return {@code true} if empty; {@code false} otherwise
+     */
+    public boolean isEmpty() { return size() == 0; }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to associate
+     * @return the previous value associated with the key, or {@code 0} if none
+     */
+    public int put(int key, int value) {
+        if (key == EMPTY_KEY) {
+            int oldValue = zeroKeyValue;
+            hasZeroKey = true;
+            zeroKeyValue = value;
+            return oldValue;
+        }
+
+        int slot = findSlot(key);
+
+        if (keys[slot] == key) return updateValue(slot, value);
+
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (++size > threshold) resize(keys.length * 2);
+
+        return 0;
+    }
+
+    /**
+     * Combines the given value with the current value of the key, or associates it with the key
+     * if the key is absent.
+     * <p>
+     * This is the natural way to maintain counters: {@code merge(key, 1, Integer::sum)}.
+     *
+     * @param key the key with which the resulting value is to be associated
+     * @param value the value to insert if the key is absent, or to combine with the current value
+     * @param remappingFunction the function that combines the current value with the given one
+     * @return the new value associated with the key
+     * @throws NullPointerException if the function is {@code null}
+     */
+    public int merge(int key, int value, IntBinaryOperator remappingFunction) throws NullPointerException {
+        Objects.requireNonNull(remappingFunction, "Remapping function cannot be null.");
+
+        if (key == EMPTY_KEY) {
+            zeroKeyValue = hasZeroKey ? remappingFunction.applyAsInt(zeroKeyValue, value) : value;
+            hasZeroKey = true;
+            return zeroKeyValue;
+        }
+
+        int slot = findSlot(key);
+
+        if (keys[slot] == key) {
+            values[slot] = remappingFunction.applyAsInt(values[slot], value);
+            return values[slot];
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes the mapping for a key if it exists.
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value associated with the key, or {@code 0} if none
+     */
+    public int remove(int key) {
+        if (key == EMPTY_KEY) {
+            int oldValue = zeroKeyValue;
+            hasZeroKey = false;
+            zeroKeyValue = 0;
+            return oldValue;
+        }
+
+        int slot = findSlot(key);
+
+        return keys[slot] == key ? removeSlot(slot) : 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value mapped to the key, or {@code 0} if not found
+     */
+    public int get(int key) { return getOrDefault(key, 0); }
+
+    /**
+     * Returns the value to which the specified key is mapped, or the given default if not found.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is absent
+     * @return the value mapped to the key, or {@code defaultValue} if not found
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY_KEY) return hasZeroKey ? zeroKeyValue : defaultValue;
+
+        int slot = findSlot(key);
+
+        return keys[slot] == key ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Returns {@code true} if the map contains a mapping for the specified key.
+     *
+     * @param key the key to check for presence
+     * @return {@code true} if the key exists in the map
+     */
+    public boolean containsKey(int key) {
+        return key == EMPTY_KEY ? hasZeroKey : keys[findSlot(key)] == key;
+    }
+
+    /**
+     * Returns {@code true} if the map maps one or more keys to the specified value.
+     *
+     * @param value the value to search for
+     * @return {@code true} if the value exists in the map
+     */
+    public boolean containsValue(int value) {
+        if (hasZeroKey && zeroKeyValue == value) return true;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY && values[i] == value) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each key-value mapping in this map.
+     *
+     * @param action the action to be performed for each mapping
+     * @throws NullPointerException if the action is {@code null}
+     */
+    public void forEach(EntryConsumer action) throws NullPointerException {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        if (hasZeroKey) action.accept(EMPTY_KEY, zeroKeyValue);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) action.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Returns the keys contained in this map.
+     *
+     * @return a new array holding every key, in no particular order
+     */
+    public int[] keys() {
+        int[] array = new int[size()];
+        int index = 0;
+
+        if (hasZeroKey) array[index++] = EMPTY_KEY;
+
+        for (int key : keys) {
+            if (key != EMPTY_KEY) array[index++] = key;
+        }
+
+        return array;
+    }
+
+    /**
+     * Removes all key-value mappings from the map.
+     */
+    public void clear() {
+        if (keys.length > initialCapacity) {
+            allocateTable(initialCapacity);
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = EMPTY_KEY;
+                values[i] = 0;
+            }
+        }
+        hasZeroKey = false;
+        zeroKeyValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return the length of the key array, always a power of two
+     */
+    public int capacity() { return keys.length; }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "{}";
+
+        StringBuilder sb = new StringBuilder();
+        forEach((key, value) -> sb.append(key).append("=").append(value).append(", "));
+        sb.setLength(sb.length() - 2);
+
+        return "{" + sb + "}";
+    }
+
+    /**
+     * Computes the home slot of a key, where its probe sequence starts.
+     *
+     * @param key the key to hash
+     * @param tableLength the length of the table, a power of two
+     * @return the home slot index (0 ≤ index < tableLength)
+     */
+    private int calculateHomeSlot(int key, int tableLength) {
+        return Hashing.indexFor(Hashing.spread(key), tableLength);
+    }
+
+    /**
+     * Probes the table for the given non-zero key.
+     *
+     * @param key the key to search for
+     * @return the slot holding the key, or the empty slot where it would be inserted
+     */
+    private int findSlot(int key) {
+        int slot = calculateHomeSlot(key, keys.length);
+
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = OpenAddressing.nextSlot(slot, keys.length);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Updates the value stored in an occupied slot and returns the old value.
+     *
+     * @param slot the occupied slot to update
+     * @param newValue the new value to set
+     * @return the previous value stored in the slot
+     */
+    private int updateValue(int slot, int newValue) {
+        int oldValue = values[slot];
+        values[slot] = newValue;
+        return oldValue;
+    }
+
+    /**
+     * Removes the entry in the given slot using backward-shift deletion.
+     *
+     * @param slot the occupied slot to empty
+     * @return the value previously stored in the slot
+     */
+    private int removeSlot(int slot) {
+        int oldValue = values[slot];
+        int gap = slot;
+        int current = OpenAddressing.nextSlot(gap, keys.length);
+
+        while (keys[current] != EMPTY_KEY) {
+            int home = calculateHomeSlot(keys[current], keys.length);
+
+            if (OpenAddressing.canFillGap(gap, current, home, keys.length)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = OpenAddressing.nextSlot(current, keys.length);
+        }
+
+        keys[gap] = EMPTY_KEY;
+        values[gap] = 0;
+        size--;
+        shrinkCapacity();
+
+        return oldValue;
+    }
+
+    /**
+     * Reinserts every entry into a new table of the given length.
+     *
+     * @param newCapacity the new number of slots, a power of two
+     */
+    private void resize(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity < initialCapacity) return;
+
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        allocateTable(newCapacity);
+
+        int slot;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY) continue;
+
+            slot = calculateHomeSlot(oldKeys[i], newCapacity);
+            while (keys[slot] != EMPTY_KEY) slot = OpenAddressing.nextSlot(slot, newCapacity);
+
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Shrinks the table once it is mostly empty, so bulk removals release memory.
+     */
+    private void shrinkCapacity() {
+        int newCapacity = OpenAddressing.shrink(size, keys.length, initialCapacity, loadFactor);
+        if (newCapacity < keys.length) resize(newCapacity);
+    }
+
+    /**
+     * Allocates empty key and value arrays of the given length and updates the resize threshold.
+     *
+     * @param capacity the number of slots
+     */
+    private void allocateTable(int capacity) {
+        threshold = OpenAddressing.thresholdFor(capacity, loadFactor);
+        keys = new int[capacity];
+        values = new int[capacity];
+    }
+
+    /**
+     * An action on a primitive key-value mapping, used by {@link #forEach(EntryConsumer)}.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs this action on the given mapping.
+         *
+         * @param key the key of the mapping
+         * @param value the value of the mapping
+         */
+        void accept(int key, int value);
+    }
+}
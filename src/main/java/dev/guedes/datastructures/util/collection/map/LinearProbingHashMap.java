@@ -0,0 +1,341 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.internal.hashing.OpenAddressing;
+import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
+import dev.guedes.datastructures.util.collection.list.SinglyLinkedList;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import dev.guedes.datastructures.util.collection.set.Set;
+
+import java.util.function.BiConsumer;
+
+/**
+ * An open-addressing implementation of the Map interface using linear probing.
+ * <p>
+ * Keys and values are stored in two parallel flat arrays instead of chained nodes, so a
+ * lookup scans adjacent slots and {@code put} does not allocate per entry. A {@code null}
+ * key marks an empty slot. Removals use backward-shift deletion: the entries following the
+ * removed slot are moved back towards their home slot, so no tombstones are ever left
+ * behind and probe sequences never degrade over time.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class LinearProbingHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    private final int initialCapacity;
+    private final float loadFactor;
+    private K[] keys;
+    private V[] values;
+    private int threshold;
+    private int size;
+
+    public LinearProbingHashMap(int capacity, float loadFactor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        OpenAddressing.validateLoadFactor(loadFactor);
+
+        this.initialCapacity = Hashing.tableSizeFor(capacity);
+        this.loadFactor = loadFactor;
+        allocateTable(initialCapacity);
+        this.size = 0;
+    }
+
+    public LinearProbingHashMap(int capacity) { this(capacity, DEFAULT_LOAD_FACTOR); }
+
+    public LinearProbingHashMap() { this(DEFAULT_CAPACITY); }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int slot = findSlot(key);
+
+        if (keys[slot] != null) return updateValue(slot, value);
+
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (++size > threshold) resize(keys.length * 2);
+
+        return null;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) throws NullPointerException {
+        Objects.requireNonNull(oldValue, "Oldvalue cannot be null.");
+        Objects.requireNonNull(newValue, "NewValue cannot be null.");
+
+        int slot = findSlot(key);
+
+        if (keys[slot] != null && oldValue.equals(values[slot])) {
+            values[slot] = newValue;
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public V replace(K key, V newValue) throws NullPointerException {
+        Objects.requireNonNull(newValue, "NewValue cannot be null.");
+
+        int slot = findSlot(key);
+
+        return keys[slot] != null ? updateValue(slot, newValue) : null;
+    }
+
+    @Override
+    public boolean remove(K key, V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int slot = findSlot(key);
+
+        if (keys[slot] != null && value.equals(values[slot])) {
+            removeSlot(slot);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public V remove(K key) {
+        int slot = findSlot(key);
+
+        return keys[slot] != null ? removeSlot(slot) : null;
+    }
+
+    @Override
+    public V get(K key) { return values[findSlot(key)]; }
+
+    @Override
+    public boolean containsKey(K key) { return keys[findSlot(key)] != null; }
+
+    @Override
+    public boolean containsValue(V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && value.equals(values[i])) return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+
+        for (K key : keys) {
+            if (key != null) keySet.add(key);
+        }
+
+        return keySet;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> valuesCollection = new SinglyLinkedList<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) valuesCollection.add(values[i]);
+        }
+
+        return valuesCollection;
+    }
+
+    @Override
+    public Set<EntryNode<K, V>> entrySet() {
+        Set<EntryNode<K, V>> entrySet = new HashSet<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) entrySet.add(new EntryNode<>(keys[i], values[i], null));
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public void clear() {
+        if (keys.length > initialCapacity) {
+            allocateTable(initialCapacity);
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = null;
+                values[i] = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return the length of the key array, always a power of two
+     */
+    public int capacity() { return keys.length; }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "{}";
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) sb.append(keys[i]).append("=").append(values[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+
+        return "{" + sb + "}";
+    }
+
+    /**
+     * Computes the home slot of a key, where its probe sequence starts.
+     *
+     * @param key the key to hash (must not be null)
+     * @param tableLength the length of the table, a power of two
+     * @return the home slot index (0 ≤ index < tableLength)
+     */
+    private int calculateHomeSlot(K key, int tableLength) {
+        return Hashing.indexFor(Hashing.spread(key.hashCode()), tableLength);
+    }
+
+    /**
+     * Probes the table for the given key.
+     * <p>
+     * Since the load factor is always below one, the table has at least one empty slot
+     * and the probe is guaranteed to terminate.
+     *
+     * @param key the key to search for
+     * @return the slot holding the key, or the empty slot where it would be inserted
+     * @throws NullPointerException if the key is null
+     */
+    private int findSlot(K key) {
+        Objects.requireNonNull(key, "Key cannot be null.");
+
+        int slot = calculateHomeSlot(key, keys.length);
+
+        while (keys[slot] != null && !key.equals(keys[slot])) {
+            slot = OpenAddressing.nextSlot(slot, keys.length);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Updates the value stored in an occupied slot and returns the old value.
+     *
+     * @param slot the occupied slot to update
+     * @param newValue the new value to set
+     * @return the previous value stored in the slot
+     */
+    private V updateValue(int slot, V newValue) {
+        V oldValue = values[slot];
+        values[slot] = newValue;
+        return oldValue;
+    }
+
+    /**
+     * Removes the entry in the given slot using backward-shift deletion.
+     * <p>
+     * Every entry in the cluster after the freed slot whose home slot does not lie
+     * cyclically between the freed slot and its current position is moved into the gap,
+     * which then advances to the entry's old position.
+     *
+     * @param slot the occupied slot to empty
+     * @return the value previously stored in the slot
+     */
+    private V removeSlot(int slot) {
+        V oldValue = values[slot];
+        int gap = slot;
+        int current = OpenAddressing.nextSlot(gap, keys.length);
+
+        while (keys[current] != null) {
+            int home = calculateHomeSlot(keys[current], keys.length);
+
+            if (OpenAddressing.canFillGap(gap, current, home, keys.length)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = OpenAddressing.nextSlot(current, keys.length);
+        }
+
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+        shrinkCapacity();
+
+        return oldValue;
+    }
+
+    /**
+     * Reinserts every entry into a new table of the given length.
+     *
+     * @param newCapacity the new number of slots, a power of two
+     */
+    private void resize(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity < initialCapacity) return;
+
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+
+        allocateTable(newCapacity);
+
+        int slot;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) continue;
+
+            slot = calculateHomeSlot(oldKeys[i], newCapacity);
+            while (keys[slot] != null) slot = OpenAddressing.nextSlot(slot, newCapacity);
+
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Shrinks the table once it is mostly empty, so bulk removals release memory.
+     */
+    private void shrinkCapacity() {
+        int newCapacity = OpenAddressing.shrink(size, keys.length, initialCapacity, loadFactor);
+        if (newCapacity < keys.length) resize(newCapacity);
+    }
+
+    /**
+     * Allocates empty key and value arrays of the given length and updates the resize threshold.
+     *
+     * @param capacity the number of slots
+     */
+    @SuppressWarnings("unchecked")
+    private void allocateTable(int capacity) {
+        threshold = OpenAddressing.thresholdFor(capacity, loadFactor);
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+    }
+}
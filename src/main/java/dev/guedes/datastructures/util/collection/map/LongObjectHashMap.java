@@ -0,0 +1,409 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.internal.hashing.OpenAddressing;
+
+import java.util.function.LongFunction;
+
+/**
+ * An open-addressing hash map from primitive {@code long} keys to object values.
+ * <p>
+ * Keys are kept in a {@code long} array probed linearly, parallel to the value array, so lookups
+ * never box the key and insertions never allocate per entry. Since an empty slot is marked by the
+ * key {@code 0}, a mapping for the key {@code 0} is kept in a dedicated field outside the table.
+ * Removals use the same backward-shift deletion as {@link LinearProbingHashMap}, and the table
+ * grows and shrinks under the same rules.
+ * <p>
+ * Methods mirror those of {@link Map}: values cannot be {@code null}, and {@code null} is
+ * returned to report an absent key.
+ *
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class LongObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float DEFAULT_LOAD_FACTOR = 0.5f;
+    private static final long EMPTY_KEY = 0L;
+
+    private final int initialCapacity;
+    private final float loadFactor;
+    private long[] keys;
+    private V[] values;
+    private V zeroKeyValue;
+    private int threshold;
+    private int size;
+
+    public LongObjectHashMap(int capacity, float loadFactor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        OpenAddressing.validateLoadFactor(loadFactor);
+
+        this.initialCapacity = Hashing.tableSizeFor(capacity);
+        this.loadFactor = loadFactor;
+        allocateTable(initialCapacity);
+        this.size = 0;
+    }
+
+    public LongObjectHashMap(int capacity) { this(capacity, DEFAULT_LOAD_FACTOR); }
+
+    public LongObjectHashMap() { this(DEFAULT_CAPACITY); }
+
+    /**
+     * Returns the number of key-value mappings in the map.
+     *
+     * @return the number of entries
+     */
+    public int size() { return zeroKeyValue != null ? size + 1 : size; }
+
+    /**
+     * Returns {@code true} if the map contains no key-value mappings.
+     *
+     * @return {@code true} if empty; {@code false} otherwise
+     */
+    public boolean isEmpty() { return size() == 0; }
+
+    /**
+     * Associates the specified value with the specified key, replacing any previous value.
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to associate
+     * @return the previous value associated with the key, or {@code null} if none
+     * @throws NullPointerException if the value is {@code null}
+     */
+    public V put(long key, V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        if (key == EMPTY_KEY) {
+            V oldValue = zeroKeyValue;
+            zeroKeyValue = value;
+            return oldValue;
+        }
+
+        int slot = findSlot(key);
+
+        if (keys[slot] == key) return updateValue(slot, value);
+
+        keys[slot] = key;
+        values[slot] = value;
+
+        if (++size > threshold) resize(keys.length * 2);
+
+        return null;
+    }
+
+    /**
+     * Associates the specified value with the specified key only if the key is not already mapped.
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to associate
+     * @return the value currently associated with the key, or {@code null} if the value was inserted
+     * @throws NullPointerException if the value is {@code null}
+     */
+    public V putIfAbsent(long key, V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        V current = get(key);
+        if (current == null) put(key, value);
+
+        return current;
+    }
+
+    /**
+     * Returns the value mapped to the specified key, computing and inserting it with the given
+     * function if the key is not already mapped.
+     * <p>
+     * If the function returns {@code null}, no mapping is recorded.
+     *
+     * @param key the key whose value is to be returned or computed
+     * @param mappingFunction the function that computes a value for an absent key
+     * @return the current (existing or computed) value, or {@code null} if the function returned {@code null}
+     * @throws NullPointerException if the function is {@code null}
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) throws NullPointerException {
+        Objects.requireNonNull(mappingFunction, "Mapping function cannot be null.");
+
+        V current = get(key);
+        if (current != null) return current;
+
+        V computed = mappingFunction.apply(key);
+        if (computed != null) put(key, computed);
+
+        return computed;
+    }
+
+    /**
+     * Removes the mapping for a key if it exists.
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value associated with the key, or {@code null} if none
+     */
+    public V remove(long key) {
+        if (key == EMPTY_KEY) {
+            V oldValue = zeroKeyValue;
+            zeroKeyValue = null;
+            return oldValue;
+        }
+
+        int slot = findSlot(key);
+
+        return keys[slot] == key ? removeSlot(slot) : null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if not found.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value mapped to the key, or {@code null} if not found
+     */
+    public V get(long key) {
+        if (key == EMPTY_KEY) return zeroKeyValue;
+
+        int slot = findSlot(key);
+
+        return keys[slot] == key ? values[slot] : null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or the given default if not found.
+     *
+     * @param key the key whose associated value is to be returned
+     * @param defaultValue the value to return if the key is absent
+     * @return the value mapped to the key, or {@code defaultValue} if not found
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns {@code true} if the map contains a mapping for the specified key.
+     *
+     * @param key the key to check for presence
+     * @return {@code true} if the key exists in the map
+     */
+    public boolean containsKey(long key) { return get(key) != null; }
+
+    /**
+     * Returns {@code true} if the map maps one or more keys to the specified value.
+     *
+     * @param value the value to search for
+     * @return {@code true} if the value exists in the map
+     * @throws NullPointerException if the value is {@code null}
+     */
+    public boolean containsValue(V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        if (value.equals(zeroKeyValue)) return true;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY && value.equals(values[i])) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each key-value mapping in this map.
+     *
+     * @param action the action to be performed for each mapping
+     * @throws NullPointerException if the action is {@code null}
+     */
+    public void forEach(EntryConsumer<? super V> action) throws NullPointerException {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        if (zeroKeyValue != null) action.accept(EMPTY_KEY, zeroKeyValue);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY_KEY) action.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Returns the keys contained in this map.
+     *
+     * @return a new array holding every key, in no particular order
+     */
+    public long[] keys() {
+        long[] array = new long[size()];
+        int index = 0;
+
+        if (zeroKeyValue != null) array[index++] = EMPTY_KEY;
+
+        for (long key : keys) {
+            if (key != EMPTY_KEY) array[index++] = key;
+        }
+
+        return array;
+    }
+
+    /**
+     * Removes all key-value mappings from the map.
+     */
+    public void clear() {
+        if (keys.length > initialCapacity) {
+            allocateTable(initialCapacity);
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = EMPTY_KEY;
+                values[i] = null;
+            }
+        }
+        zeroKeyValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return the length of the key array, always a power of two
+     */
+    public int capacity() { return keys.length; }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "{}";
+
+        StringBuilder sb = new StringBuilder();
+        forEach((key, value) -> sb.append(key).append("=").append(value).append(", "));
+        sb.setLength(sb.length() - 2);
+
+        return "{" + sb + "}";
+    }
+
+    /**
+     * Computes the home slot of a key, where its probe sequence starts.
+     *
+     * @param key the key to hash
+     * @param tableLength the length of the table, a power of two
+     * @return the home slot index (0 ≤ index < tableLength)
+     */
+    private int calculateHomeSlot(long key, int tableLength) {
+        return Hashing.indexFor(Hashing.spread(Long.hashCode(key)), tableLength);
+    }
+
+    /**
+     * Probes the table for the given non-zero key.
+     *
+     * @param key the key to search for
+     * @return the slot holding the key, or the empty slot where it would be inserted
+     */
+    private int findSlot(long key) {
+        int slot = calculateHomeSlot(key, keys.length);
+
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = OpenAddressing.nextSlot(slot, keys.length);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Updates the value stored in an occupied slot and returns the old value.
+     *
+     * @param slot the occupied slot to update
+     * @param newValue the new value to set
+     * @return the previous value stored in the slot
+     */
+    private V updateValue(int slot, V newValue) {
+        V oldValue = values[slot];
+        values[slot] = newValue;
+        return oldValue;
+    }
+
+    /**
+     * Removes the entry in the given slot using backward-shift deletion.
+     *
+     * @param slot the occupied slot to empty
+     * @return the value previously stored in the slot
+     */
+    private V removeSlot(int slot) {
+        V oldValue = values[slot];
+        int gap = slot;
+        int current = OpenAddressing.nextSlot(gap, keys.length);
+
+        while (keys[current] != EMPTY_KEY) {
+            int home = calculateHomeSlot(keys[current], keys.length);
+
+            if (OpenAddressing.canFillGap(gap, current, home, keys.length)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = OpenAddressing.nextSlot(current, keys.length);
+        }
+
+        keys[gap] = EMPTY_KEY;
+        values[gap] = null;
+        size--;
+        shrinkCapacity();
+
+        return oldValue;
+    }
+
+    /**
+     * Reinserts every entry into a new table of the given length.
+     *
+     * @param newCapacity the new number of slots, a power of two
+     */
+    private void resize(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity < initialCapacity) return;
+
+        long[] oldKeys = keys;
+        V[] oldValues = values;
+
+        allocateTable(newCapacity);
+
+        int slot;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY) continue;
+
+            slot = calculateHomeSlot(oldKeys[i], newCapacity);
+            while (keys[slot] != EMPTY_KEY) slot = OpenAddressing.nextSlot(slot, newCapacity);
+
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    /**
+     * Shrinks the table once it is mostly empty, so bulk removals release memory.
+     */
+    private void shrinkCapacity() {
+        int newCapacity = OpenAddressing.shrink(size, keys.length, initialCapacity, loadFactor);
+        if (newCapacity < keys.length) resize(newCapacity);
+    }
+
+    /**
+     * Allocates empty key and value arrays of the given length and updates the resize threshold.
+     *
+     * @param capacity the number of slots
+     */
+    @SuppressWarnings("unchecked")
+    private void allocateTable(int capacity) {
+        threshold = OpenAddressing.thresholdFor(capacity, loadFactor);
+        keys = new long[capacity];
+        values = (V[]) new Object[capacity];
+    }
+
+    /**
+     * An action on a mapping with a primitive key, used by {@link #forEach(EntryConsumer)}.
+     *
+     * @param <V> the type of mapped values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        /**
+         * Performs this action on the given mapping.
+         *
+         * @param key the key of the mapping
+         * @param value the value of the mapping
+         */
+        void accept(long key, V value);
+    }
+}
@@ -1,9 +1,14 @@
 package dev.guedes.datastructures.util.collection.map;
 
+import dev.guedes.datastructures.util.Objects;
 import dev.guedes.datastructures.util.collection.Collection;
 import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
 import dev.guedes.datastructures.util.collection.set.Set;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 /**
  * A generic key-value mapping interface, similar to Java's {@link java.util.Map}.
  * <p>
@@ -42,6 +47,141 @@ public interface Map<K, V> {
      */
     V put(K key, V value) throws NullPointerException;
 
+    /**
+     * Copies all the mappings of the given map into this map, replacing the values of keys that
+     * are already mapped.
+     * <p>
+     * The default implementation puts the entries one at a time; implementations override it to
+     * size their storage once for the whole batch.
+     *
+     * @param map the map whose mappings are to be copied
+     * @throws NullPointerException if the given map is {@code null}
+     */
+    default void putAll(Map<? extends K, ? extends V> map) throws NullPointerException {
+        Objects.requireNonNull(map, "Map cannot be null.");
+        map.forEach(this::put);
+    }
+
+    /**
+     * Associates each key of the first array with the value at the same index of the second one,
+     * replacing the values of keys that are already mapped.
+     * <p>
+     * The default implementation puts the pairs one at a time; implementations override it to
+     * size their storage once for the whole batch.
+     *
+     * @param keys the keys to be associated
+     * @param values the values to associate, index by index
+     * @throws NullPointerException if either array, or any key or value in them, is {@code null}
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    default void putAll(K[] keys, V[] values) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(keys, "Keys cannot be null.");
+        Objects.requireNonNull(values, "Values cannot be null.");
+
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length. Provided lengths: " + keys.length + " and " + values.length + ".");
+        }
+
+        for (int i = 0; i < keys.length; i++) put(keys[i], values[i]);
+    }
+
+    /**
+     * Returns the mappings of this map for the given keys.
+     * <p>
+     * Keys that are not mapped are left out of the result, so it may be smaller than the given
+     * collection of keys.
+     *
+     * @param keys the keys whose mappings are to be returned
+     * @return a new map holding each given key that is mapped, together with its value
+     * @throws NullPointerException if the collection, or any key in it, is {@code null}
+     */
+    default Map<K, V> getAll(Collection<? extends K> keys) throws NullPointerException {
+        Objects.requireNonNull(keys, "Keys cannot be null.");
+
+        Map<K, V> mappings = new Hashtable<>();
+
+        keys.forEach(key -> {
+            V value = get(key);
+            if (value != null) mappings.put(key, value);
+        });
+
+        return mappings;
+    }
+
+    /**
+     * Associates the specified value with the specified key only if the key is not already mapped.
+     * <p>
+     * The default implementation is not atomic; concurrent implementations override it so that
+     * the check and the insertion happen as a single operation.
+     *
+     * @param key the key with which the value is to be associated
+     * @param value the value to associate
+     * @return the value currently associated with the key, or {@code null} if the value was inserted
+     * @throws NullPointerException if the key or value is {@code null}
+     */
+    default V putIfAbsent(K key, V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        V current = get(key);
+        if (current == null) put(key, value);
+
+        return current;
+    }
+
+    /**
+     * Returns the value mapped to the specified key, computing and inserting it with the given
+     * function if the key is not already mapped.
+     * <p>
+     * If the function returns {@code null}, no mapping is recorded. The default implementation
+     * is not atomic; concurrent implementations override it so that the function is applied at
+     * most once per absent key.
+     *
+     * @param key the key whose value is to be returned or computed
+     * @param mappingFunction the function that computes a value for an absent key
+     * @return the current (existing or computed) value, or {@code null} if the function returned {@code null}
+     * @throws NullPointerException if the key or the function is {@code null}
+     */
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) throws NullPointerException {
+        Objects.requireNonNull(mappingFunction, "Mapping function cannot be null.");
+
+        V current = get(key);
+        if (current != null) return current;
+
+        V computed = mappingFunction.apply(key);
+        if (computed != null) put(key, computed);
+
+        return computed;
+    }
+
+    /**
+     * Associates the specified value with the key if it is absent, otherwise replaces the current
+     * value with the result of the given remapping function applied to the current and given value.
+     * <p>
+     * If the remapping function returns {@code null}, the mapping is removed. The default
+     * implementation is not atomic; concurrent implementations override it.
+     *
+     * @param key the key with which the resulting value is to be associated
+     * @param value the value to insert if the key is absent, or to combine with the current value
+     * @param remappingFunction the function that combines the current value with the given one
+     * @return the new value associated with the key, or {@code null} if the mapping was removed
+     * @throws NullPointerException if the key, value or function is {@code null}
+     */
+    default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+        Objects.requireNonNull(remappingFunction, "Remapping function cannot be null.");
+
+        V current = get(key);
+        V merged = (current == null) ? value : remappingFunction.apply(current, value);
+
+        if (merged == null) {
+            remove(key);
+        } else {
+            put(key, merged);
+        }
+
+        return merged;
+    }
+
     /**
      * Replaces the entry for the specified key only if it is currently mapped to the specified old value.
      *
@@ -109,6 +249,20 @@ public interface Map<K, V> {
      */
     boolean containsValue(V value) throws NullPointerException;
 
+    /**
+     * Performs the given action for each key-value mapping in this map.
+     * <p>
+     * The default implementation iterates over {@link #entrySet()}; implementations that can walk
+     * their storage directly override it so that a full scan does not allocate.
+     *
+     * @param action the action to be performed for each mapping
+     * @throws NullPointerException if the action is {@code null}
+     */
+    default void forEach(BiConsumer<? super K, ? super V> action) throws NullPointerException {
+        Objects.requireNonNull(action, "Action cannot be null.");
+        entrySet().forEach(entry -> action.accept(entry.getKey(), entry.getValue()));
+    }
+
     /**
      * Returns a {@link Set} view of the keys contained in this map.
      *
@@ -0,0 +1,427 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.internal.hashing.OpenAddressing;
+import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
+import dev.guedes.datastructures.util.collection.list.SinglyLinkedList;
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import dev.guedes.datastructures.util.collection.set.Set;
+
+import java.util.function.BiConsumer;
+
+/**
+ * An open-addressing implementation of the Map interface using Robin Hood hashing.
+ * <p>
+ * Like linear probing, entries live in flat parallel arrays, but on insertion an entry that
+ * has travelled further from its home slot than the resident entry takes that slot and the
+ * resident continues probing instead ("taking from the rich"). This keeps the variance of
+ * probe distances low, so the table stays fast at load factors as high as {@code 0.9}, and
+ * lets lookups stop as soon as they reach an entry closer to its home than the searched key
+ * would be. The spread hash of every key is cached so probe distances and resizes never call
+ * {@code hashCode()} again.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @author João Guedes
+ */
+public class RobinHoodHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float DEFAULT_LOAD_FACTOR = 0.9f;
+
+    private final int initialCapacity;
+    private final float loadFactor;
+    private K[] keys;
+    private V[] values;
+    private int[] hashes;
+    private int threshold;
+    private int size;
+
+    public RobinHoodHashMap(int capacity, float loadFactor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        OpenAddressing.validateLoadFactor(loadFactor);
+
+        this.initialCapacity = Hashing.tableSizeFor(capacity);
+        this.loadFactor = loadFactor;
+        allocateTable(initialCapacity);
+        this.size = 0;
+    }
+
+    public RobinHoodHashMap(int capacity) { this(capacity, DEFAULT_LOAD_FACTOR); }
+
+    public RobinHoodHashMap() { this(DEFAULT_CAPACITY); }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int hash = spread(key);
+        int slot = findSlot(key, hash);
+
+        if (slot >= 0) return updateValue(slot, value);
+
+        insert(key, value, hash);
+
+        if (++size > threshold) resize(keys.length * 2);
+
+        return null;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) throws NullPointerException {
+        Objects.requireNonNull(oldValue, "Oldvalue cannot be null.");
+        Objects.requireNonNull(newValue, "NewValue cannot be null.");
+
+        int slot = findSlot(key, spread(key));
+
+        if (slot >= 0 && oldValue.equals(values[slot])) {
+            values[slot] = newValue;
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public V replace(K key, V newValue) throws NullPointerException {
+        Objects.requireNonNull(newValue, "NewValue cannot be null.");
+
+        int slot = findSlot(key, spread(key));
+
+        return slot >= 0 ? updateValue(slot, newValue) : null;
+    }
+
+    @Override
+    public boolean remove(K key, V value) throws NullPointerException {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        int slot = findSlot(key, spread(key));
+
+        if (slot >= 0 && value.equals(values[slot])) {
+            removeSlot(slot);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public V remove(K key) {
+        int slot = findSlot(key, spread(key));
+
+        return slot >= 0 ? removeSlot(slot) : null;
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = findSlot(key, spread(key));
+        return slot >= 0 ? values[slot] : null;
+    }
+
+    @Override
+    public boolean containsKey(K key) { return findSlot(key, spread(key)) >= 0; }
+
+    @Override
+    public boolean containsValue(V value) {
+        Objects.requireNonNull(value, "Value cannot be null.");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && value.equals(values[i])) return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+
+        for (K key : keys) {
+            if (key != null) keySet.add(key);
+        }
+
+        return keySet;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> valuesCollection = new SinglyLinkedList<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) valuesCollection.add(values[i]);
+        }
+
+        return valuesCollection;
+    }
+
+    @Override
+    public Set<EntryNode<K, V>> entrySet() {
+        Set<EntryNode<K, V>> entrySet = new HashSet<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) entrySet.add(new EntryNode<>(keys[i], values[i], null));
+        }
+
+        return entrySet;
+    }
+
+    @Override
+    public void clear() {
+        if (keys.length > initialCapacity) {
+            allocateTable(initialCapacity);
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = null;
+                values[i] = null;
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the current number of slots in the table.
+     *
+     * @return the length of the key array, always a power of two
+     */
+    public int capacity() { return keys.length; }
+
+    /**
+     * Returns the longest distance any entry currently sits from its home slot.
+     * <p>
+     * A lookup never probes more than {@code maxProbeDistance() + 1} slots. This method scans
+     * the whole table.
+     *
+     * @return the maximum probe distance, or {@code 0} if the map is empty
+     */
+    public int maxProbeDistance() {
+        int max = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) max = Math.max(max, probeDistance(i));
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the mean distance of the entries from their home slots.
+     * <p>
+     * This method scans the whole table.
+     *
+     * @return the average probe distance, or {@code 0.0} if the map is empty
+     */
+    public double averageProbeDistance() {
+        if (isEmpty()) return 0.0;
+
+        long total = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) total += probeDistance(i);
+        }
+
+        return (double) total / size;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "{}";
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) sb.append(keys[i]).append("=").append(values[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+
+        return "{" + sb + "}";
+    }
+
+    /**
+     * Computes the spread hash of a key.
+     *
+     * @param key the key to hash
+     * @return the spread hash code of the key
+     * @throws NullPointerException if the key is null
+     */
+    private int spread(K key) {
+        Objects.requireNonNull(key, "Key cannot be null.");
+        return Hashing.spread(key.hashCode());
+    }
+
+    /**
+     * Returns how far the entry in the given occupied slot is from its home slot.
+     *
+     * @param slot the occupied slot
+     * @return the number of slots between the entry's home slot and its current slot
+     */
+    private int probeDistance(int slot) {
+        int mask = keys.length - 1;
+        return (slot - (hashes[slot] & mask)) & mask;
+    }
+
+    /**
+     * Searches for the slot holding the given key.
+     * <p>
+     * The probe stops early at the first empty slot or at the first entry that is closer to
+     * its home slot than the key would be at that position, since Robin Hood insertion would
+     * have placed the key before it.
+     *
+     * @param key the key to search for
+     * @param hash the spread hash of the key
+     * @return the slot holding the key, or {@code -1} if the key is absent
+     */
+    private int findSlot(K key, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+
+        for (int distance = 0; keys[slot] != null && distance <= probeDistance(slot); distance++) {
+            if (hashes[slot] == hash && key.equals(keys[slot])) return slot;
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Inserts a key known to be absent, displacing entries closer to their home slots.
+     *
+     * @param key the key to insert
+     * @param value the value to insert
+     * @param hash the spread hash of the key
+     */
+    private void insert(K key, V value, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        int distance = 0;
+
+        while (keys[slot] != null) {
+            int residentDistance = probeDistance(slot);
+
+            if (residentDistance < distance) {
+                K displacedKey = keys[slot];
+                V displacedValue = values[slot];
+                int displacedHash = hashes[slot];
+
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                distance = residentDistance;
+            }
+
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    /**
+     * Updates the value stored in an occupied slot and returns the old value.
+     *
+     * @param slot the occupied slot to update
+     * @param newValue the new value to set
+     * @return the previous value stored in the slot
+     */
+    private V updateValue(int slot, V newValue) {
+        V oldValue = values[slot];
+        values[slot] = newValue;
+        return oldValue;
+    }
+
+    /**
+     * Removes the entry in the given slot using backward-shift deletion.
+     * <p>
+     * Following entries are shifted back one slot until an empty slot or an entry already
+     * in its home slot is reached, which keeps every probe distance minimal.
+     *
+     * @param slot the occupied slot to empty
+     * @return the value previously stored in the slot
+     */
+    private V removeSlot(int slot) {
+        V oldValue = values[slot];
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[gap] = keys[next];
+            values[gap] = values[next];
+            hashes[gap] = hashes[next];
+            gap = next;
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = null;
+        values[gap] = null;
+        size--;
+        shrinkCapacity();
+
+        return oldValue;
+    }
+
+    /**
+     * Reinserts every entry into a new table of the given length, reusing the cached hashes.
+     *
+     * @param newCapacity the new number of slots, a power of two
+     */
+    private void resize(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity < initialCapacity) return;
+
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        allocateTable(newCapacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) insert(oldKeys[i], oldValues[i], oldHashes[i]);
+        }
+    }
+
+    /**
+     * Shrinks the table once it is mostly empty, so bulk removals release memory.
+     */
+    private void shrinkCapacity() {
+        int newCapacity = OpenAddressing.shrink(size, keys.length, initialCapacity, loadFactor);
+        if (newCapacity < keys.length) resize(newCapacity);
+    }
+
+    /**
+     * Allocates empty arrays of the given length and updates the resize threshold.
+     *
+     * @param capacity the number of slots
+     */
+    @SuppressWarnings("unchecked")
+    private void allocateTable(int capacity) {
+        threshold = OpenAddressing.thresholdFor(capacity, loadFactor);
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+        hashes = new int[capacity];
+    }
+}
@@ -0,0 +1,200 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import dev.guedes.datastructures.util.collection.internal.nodes.TreeEntryNode;
+
+/**
+ * AVL tree operations for the treeified buckets of {@link Hashtable}.
+ * <p>
+ * Nodes are ordered by hash first and then by the natural ordering of their keys, which must
+ * all be instances of the same {@link Comparable} class. The rebalancing rules mirror those of
+ * {@link dev.guedes.datastructures.util.collection.tree.AVLTree}, applied to entry nodes so that
+ * a bucket can be searched in {@code O(log n)} however badly its keys' hash codes collide.
+ * Only the tree links are handled here; the bucket chain is maintained by the table.
+ *
+ * @author João Guedes
+ */
+final class TreeBin {
+    private TreeBin() {
+        throw new AssertionError(TreeBin.class.getSimpleName() +  " is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Finds the node that compares equal to the given key.
+     * <p>
+     * The returned node's key is not necessarily {@code equals} to the given one when the key's
+     * {@code compareTo} is inconsistent with {@code equals}; callers must check.
+     *
+     * @param root the root of the tree, or {@code null}
+     * @param key the key to search for, of the same class as the tree's keys
+     * @param hash the spread hash of the key
+     * @return the node comparing equal to the key, or {@code null} if there is none
+     */
+    static <K, V> TreeEntryNode<K, V> find(TreeEntryNode<K, V> root, K key, int hash) {
+        TreeEntryNode<K, V> current = root;
+
+        while (current != null) {
+            int comparison = compare(hash, key, current);
+            if (comparison == 0) return current;
+            current = comparison < 0 ? current.getLeft() : current.getRight();
+        }
+
+        return null;
+    }
+
+    /**
+     * Inserts a node whose key does not compare equal to any key in the tree.
+     *
+     * @param root the root of the tree, or {@code null}
+     * @param node the node to insert
+     * @return the new root of the tree
+     */
+    static <K, V> TreeEntryNode<K, V> insert(TreeEntryNode<K, V> root, TreeEntryNode<K, V> node) {
+        if (root == null) return node;
+
+        if (compare(node.getHash(), node.getKey(), root) < 0) {
+            root.setLeft(insert(root.getLeft(), node));
+        } else {
+            root.setRight(insert(root.getRight(), node));
+        }
+
+        return balance(root);
+    }
+
+    /**
+     * Removes the given node from the tree.
+     * <p>
+     * Nodes are relinked rather than having their entries swapped, so every other node keeps
+     * holding the same key and value.
+     *
+     * @param root the root of the tree
+     * @param node the node to remove, which must be in the tree
+     * @return the new root of the tree, or {@code null} if it became empty
+     */
+    static <K, V> TreeEntryNode<K, V> remove(TreeEntryNode<K, V> root, TreeEntryNode<K, V> node) {
+        if (root != node) {
+            if (compare(node.getHash(), node.getKey(), root) < 0) {
+                root.setLeft(remove(root.getLeft(), node));
+            } else {
+                root.setRight(remove(root.getRight(), node));
+            }
+            return balance(root);
+        }
+
+        if (root.getLeft() == null) return root.getRight();
+        if (root.getRight() == null) return root.getLeft();
+
+        TreeEntryNode<K, V> successor = root.getRight();
+        while (successor.getLeft() != null) successor = successor.getLeft();
+
+        successor.setRight(remove(root.getRight(), successor));
+        successor.setLeft(root.getLeft());
+
+        return balance(successor);
+    }
+
+    /**
+     * Returns the height of a node.
+     *
+     * @param node the node whose height is to be retrieved
+     * @return the height of the node or -1 if the node is null
+     */
+    static int height(TreeEntryNode<?, ?> node) { return node != null ? node.getHeight() : -1; }
+
+    /**
+     * Compares a hash and key against a node, by hash and then by natural ordering.
+     *
+     * @param hash the spread hash of the key
+     * @param key the key to compare
+     * @param node the node to compare against
+     * @return a negative, zero or positive value as the key sorts before, with or after the node
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> int compare(int hash, K key, TreeEntryNode<K, ?> node) {
+        if (hash != node.getHash()) return Integer.compare(hash, node.getHash());
+        return ((Comparable<K>) key).compareTo(node.getKey());
+    }
+
+    /**
+     * Balances the tree at the given node using appropriate rotations.
+     *
+     * @param node the node to balance
+     * @return the new root of the subtree after balancing
+     */
+    private static <K, V> TreeEntryNode<K, V> balance(TreeEntryNode<K, V> node) {
+        int balance = calculateBalanceFactor(node);
+
+        if (balance < -1) {
+            if (calculateBalanceFactor(node.getLeft()) > 0) {
+                node.setLeft(rotateLeft(node.getLeft()));
+            }
+            return rotateRight(node);
+        }
+
+        if (balance > 1) {
+            if (calculateBalanceFactor(node.getRight()) < 0) {
+                node.setRight(rotateRight(node.getRight()));
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Calculates the balance factor of a node, refreshing its height first.
+     *
+     * @param node the node whose balance factor is to be calculated
+     * @return the balance factor (right subtree height - left subtree height)
+     */
+    private static int calculateBalanceFactor(TreeEntryNode<?, ?> node) {
+        if (node == null) return 0;
+
+        updateHeight(node);
+        return height(node.getRight()) - height(node.getLeft());
+    }
+
+    /**
+     * Performs a left rotation on the subtree rooted at the given node.
+     *
+     * @param root the root of the subtree to rotate
+     * @return the new root of the rotated subtree
+     */
+    private static <K, V> TreeEntryNode<K, V> rotateLeft(TreeEntryNode<K, V> root) {
+        TreeEntryNode<K, V> newRoot = root.getRight();
+
+        root.setRight(newRoot.getLeft());
+        newRoot.setLeft(root);
+
+        updateHeight(root);
+        updateHeight(newRoot);
+
+        return newRoot;
+    }
+
+    /**
+     * Performs a right rotation on the subtree rooted at the given node.
+     *
+     * @param root the root of the subtree to rotate
+     * @return the new root of the rotated subtree
+     */
+    private static <K, V> TreeEntryNode<K, V> rotateRight(TreeEntryNode<K, V> root) {
+        TreeEntryNode<K, V> newRoot = root.getLeft();
+
+        root.setLeft(newRoot.getRight());
+        newRoot.setRight(root);
+
+        updateHeight(root);
+        updateHeight(newRoot);
+
+        return newRoot;
+    }
+
+    /**
+     * Updates the height of a node based on the heights of its children.
+     *
+     * @param node the node to update
+     */
+    private static void updateHeight(TreeEntryNode<?, ?> node) {
+        node.setHeight(Math.max(height(node.getLeft()), height(node.getRight())) + 1);
+    }
+}
@@ -0,0 +1,257 @@
+package dev.guedes.datastructures.util.collection.probabilistic;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+
+/**
+ * A space-efficient probabilistic set that answers whether an element <em>might</em> have been
+ * added or has <em>definitely not</em> been added.
+ * <p>
+ * The filter is an array of bits packed in {@code long} words. Adding an element sets the bits
+ * at {@code k} positions derived from its hash code, and a lookup reports the element as present
+ * only if all of them are set. A lookup therefore never misses an element that was added, but may
+ * report one that was not when its bits were all set by others. The number of bits and positions
+ * is chosen from the expected number of insertions and the desired false-positive probability, so
+ * that the probability holds once that many distinct elements are added; it rises beyond that.
+ * <p>
+ * The {@code k} positions are generated by double hashing: two 64-bit hashes {@code h1} and
+ * {@code h2} are derived from {@link Object#hashCode()}, and the {@code i}-th position is
+ * {@code h1 + i * h2} modulo the number of bits, which is as accurate as {@code k} independent
+ * hash functions for a Bloom filter. Elements with equal hash codes are indistinguishable.
+ * <p>
+ * Elements cannot be removed; see {@link CountingBloomFilter} for a variant that supports removal.
+ * This class is not thread-safe. Filters built separately, for instance on different threads,
+ * with the same parameters can be merged with {@link #union(BloomFilter)}.
+ *
+ * @param <E> the type of elements added to the filter
+ *
+ * @author João Guedes
+ */
+public class BloomFilter<E> {
+    static final int MAXIMUM_WORDS = Hashing.MAXIMUM_CAPACITY;
+
+    private final long[] words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    /**
+     * Creates a filter sized for the given number of insertions and false-positive probability.
+     *
+     * @param expectedInsertions the number of distinct elements the filter is expected to hold
+     * @param falsePositiveProbability the desired probability of reporting an absent element as present
+     * @throws IllegalArgumentException if the expected insertions are not positive or the
+     *         probability is not strictly between 0 and 1
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) throws IllegalArgumentException {
+        validate(expectedInsertions, falsePositiveProbability);
+
+        long bits = optimalBits(expectedInsertions, falsePositiveProbability);
+        int wordCount = (int) Math.min((bits + Long.SIZE - 1) / Long.SIZE, MAXIMUM_WORDS);
+
+        this.words = new long[wordCount];
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashFunctions = optimalHashFunctions(expectedInsertions, bitSize);
+    }
+
+    private BloomFilter(long[] words, int hashFunctions) {
+        this.words = words;
+        this.bitSize = (long) words.length * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Adds an element to the filter.
+     *
+     * @param element the element to add
+     * @return {@code true} if at least one bit changed, meaning the element was definitely not
+     *         added before; {@code false} if it might have been
+     * @throws NullPointerException if the element is {@code null}
+     */
+    public boolean add(E element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+
+        long hash1 = Hashing.spread64(element.hashCode());
+        long hash2 = secondHash(hash1);
+        boolean changed = false;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = position(hash1, hash2, i, bitSize);
+            int wordIndex = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            changed |= (words[wordIndex] & mask) == 0;
+            words[wordIndex] |= mask;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Adds every element of the given collection to the filter.
+     *
+     * @param elements the elements to add
+     * @throws NullPointerException if the collection, or any element in it, is {@code null}
+     */
+    public void addAll(Collection<? extends E> elements) throws NullPointerException {
+        Objects.requireNonNull(elements, "Collection cannot be null.");
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Checks whether an element might have been added to the filter.
+     *
+     * @param element the element to look for
+     * @return {@code false} if the element was definitely never added, {@code true} if it
+     *         probably was
+     * @throws NullPointerException if the element is {@code null}
+     */
+    public boolean mightContain(E element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+
+        long hash1 = Hashing.spread64(element.hashCode());
+        long hash2 = secondHash(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = position(hash1, hash2, i, bitSize);
+            if ((words[(int) (index >>> 6)] & (1L << index)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a new filter holding the elements of this filter and the given one, so that it
+     * might contain every element that either of them might contain.
+     *
+     * @param other the filter to merge with
+     * @return a new filter; neither operand is modified
+     * @throws NullPointerException if the other filter is {@code null}
+     * @throws IllegalArgumentException if the filters have different sizes or numbers of hash functions
+     */
+    public BloomFilter<E> union(BloomFilter<E> other) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(other, "Other filter cannot be null.");
+
+        if (other.words.length != words.length || other.hashFunctions != hashFunctions) {
+            throw new IllegalArgumentException("Filters must have the same number of bits and hash functions.");
+        }
+
+        long[] merged = words.clone();
+        for (int i = 0; i < merged.length; i++) merged[i] |= other.words[i];
+
+        return new BloomFilter<>(merged, hashFunctions);
+    }
+
+    /**
+     * Estimates the current probability that {@link #mightContain(Object)} reports an element
+     * that was never added, from the fraction of bits that are set.
+     *
+     * @return the estimated false-positive probability
+     */
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) setBits() / bitSize, hashFunctions);
+    }
+
+    /**
+     * Estimates the number of distinct elements added to the filter, from the fraction of bits
+     * that are set.
+     *
+     * @return the estimated number of distinct elements
+     */
+    public long approximateElementCount() {
+        long setBits = setBits();
+        if (setBits == bitSize) return Long.MAX_VALUE;
+
+        return Math.round(-Math.log1p(-(double) setBits / bitSize) * bitSize / hashFunctions);
+    }
+
+    /**
+     * Returns the number of bits of the filter.
+     *
+     * @return the number of bits, a multiple of 64
+     */
+    public long bitSize() { return bitSize; }
+
+    /**
+     * Returns the number of positions set for each element.
+     *
+     * @return the number of hash functions
+     */
+    public int hashFunctions() { return hashFunctions; }
+
+    /**
+     * Checks whether no element has been added to the filter.
+     *
+     * @return {@code true} if every bit is clear
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes every element from the filter.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length; i++) words[i] = 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter{bits=" + bitSize + ", hashFunctions=" + hashFunctions + ", setBits=" + setBits() + "}";
+    }
+
+    private long setBits() {
+        long count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        return count;
+    }
+
+    static void validate(long expectedInsertions, double falsePositiveProbability) throws IllegalArgumentException {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive. Provided value: " + expectedInsertions + ".");
+        }
+
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1. Provided value: " + falsePositiveProbability + ".");
+        }
+    }
+
+    /**
+     * Computes the number of bits, {@code -n ln p / (ln 2)²}, that minimizes the false-positive
+     * probability {@code p} for {@code n} insertions.
+     */
+    static long optimalBits(long expectedInsertions, double falsePositiveProbability) {
+        double bits = -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        return Math.max((long) Math.ceil(bits), 1L);
+    }
+
+    /**
+     * Computes the number of hash functions, {@code (m / n) ln 2}, that minimizes the
+     * false-positive probability of {@code m} bits holding {@code n} elements.
+     */
+    static int optimalHashFunctions(long expectedInsertions, long bits) {
+        return (int) Math.max(1, Math.min(Math.round((double) bits / expectedInsertions * Math.log(2)), 30));
+    }
+
+    /**
+     * Derives the step of the double hashing sequence, forced to be odd so that it never
+     * degenerates to a constant position.
+     */
+    static long secondHash(long hash1) { return Hashing.mix64(hash1 + 0x9E3779B97F4A7C15L) | 1L; }
+
+    /**
+     * Returns the {@code i}-th position of the double hashing sequence of an element.
+     *
+     * @param hash1 the first hash of the element
+     * @param hash2 the second hash of the element
+     * @param i the index of the position (0 ≤ i < number of hash functions)
+     * @param size the number of bits or counters
+     * @return the position (0 ≤ position < size)
+     */
+    static long position(long hash1, long hash2, int i, long size) {
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % size;
+    }
+}
@@ -0,0 +1,219 @@
+package dev.guedes.datastructures.util.collection.probabilistic;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+
+/**
+ * A Bloom filter whose positions hold small counters instead of bits, so that elements can be
+ * removed as well as added.
+ * <p>
+ * Counters are 4 bits wide, sixteen of them packed in each {@code long}. Adding an element
+ * increments the counters at the same {@code k} positions a {@link BloomFilter} would set, and
+ * removing it decrements them; a lookup reports the element as present only if all of them are
+ * non-zero. A counter that reaches {@value #MAXIMUM_COUNT} sticks there, since its true count is
+ * no longer known, so heavily shared positions are never cleared by removals; with the sizes
+ * chosen here this only happens with negligible probability. The filter takes four times the
+ * memory of a plain Bloom filter with the same false-positive probability.
+ * <p>
+ * Only elements that were added should be removed. Removing an element that was never added,
+ * but happens to be reported as present, clears counters of other elements and may make the
+ * filter miss them.
+ * <p>
+ * This class is not thread-safe. Filters built separately with the same parameters can be merged
+ * with {@link #union(CountingBloomFilter)}.
+ *
+ * @param <E> the type of elements added to the filter
+ *
+ * @author João Guedes
+ */
+public class CountingBloomFilter<E> {
+    static final int MAXIMUM_COUNT = 15;
+
+    private static final int COUNTERS_PER_WORD_SHIFT = 4;
+    private static final int COUNTERS_PER_WORD = 1 << COUNTERS_PER_WORD_SHIFT;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final long[] words;
+    private final long counterCount;
+    private final int hashFunctions;
+
+    /**
+     * Creates a filter sized for the given number of insertions and false-positive probability.
+     *
+     * @param expectedInsertions the number of distinct elements the filter is expected to hold
+     * @param falsePositiveProbability the desired probability of reporting an absent element as present
+     * @throws IllegalArgumentException if the expected insertions are not positive or the
+     *         probability is not strictly between 0 and 1
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveProbability) throws IllegalArgumentException {
+        BloomFilter.validate(expectedInsertions, falsePositiveProbability);
+
+        long counters = BloomFilter.optimalBits(expectedInsertions, falsePositiveProbability);
+        int wordCount = (int) Math.min((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD, BloomFilter.MAXIMUM_WORDS);
+
+        this.words = new long[wordCount];
+        this.counterCount = (long) wordCount * COUNTERS_PER_WORD;
+        this.hashFunctions = BloomFilter.optimalHashFunctions(expectedInsertions, counterCount);
+    }
+
+    private CountingBloomFilter(long[] words, int hashFunctions) {
+        this.words = words;
+        this.counterCount = (long) words.length * COUNTERS_PER_WORD;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Adds an element to the filter.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is {@code null}
+     */
+    public void add(E element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+
+        long hash1 = Hashing.spread64(element.hashCode());
+        long hash2 = BloomFilter.secondHash(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = BloomFilter.position(hash1, hash2, i, counterCount);
+            if (counterAt(index) < MAXIMUM_COUNT) addToCounter(index, 1);
+        }
+    }
+
+    /**
+     * Adds every element of the given collection to the filter.
+     *
+     * @param elements the elements to add
+     * @throws NullPointerException if the collection, or any element in it, is {@code null}
+     */
+    public void addAll(Collection<? extends E> elements) throws NullPointerException {
+        Objects.requireNonNull(elements, "Collection cannot be null.");
+        elements.forEach(this::add);
+    }
+
+    /**
+     * Removes one occurrence of an element that was previously added.
+     *
+     * @param element the element to remove
+     * @return {@code true} if the element might have been present and its counters were
+     *         decremented, {@code false} if it was definitely absent
+     * @throws NullPointerException if the element is {@code null}
+     */
+    public boolean remove(E element) throws NullPointerException {
+        if (!mightContain(element)) return false;
+
+        long hash1 = Hashing.spread64(element.hashCode());
+        long hash2 = BloomFilter.secondHash(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = BloomFilter.position(hash1, hash2, i, counterCount);
+            int count = counterAt(index);
+
+            if (count > 0 && count < MAXIMUM_COUNT) addToCounter(index, -1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether an element might have been added to the filter and not removed since.
+     *
+     * @param element the element to look for
+     * @return {@code false} if the element is definitely absent, {@code true} if it is probably present
+     * @throws NullPointerException if the element is {@code null}
+     */
+    public boolean mightContain(E element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+
+        long hash1 = Hashing.spread64(element.hashCode());
+        long hash2 = BloomFilter.secondHash(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counterAt(BloomFilter.position(hash1, hash2, i, counterCount)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a new filter whose counters are the sums of the counters of this filter and the
+     * given one, saturating at {@value #MAXIMUM_COUNT}.
+     *
+     * @param other the filter to merge with
+     * @return a new filter; neither operand is modified
+     * @throws NullPointerException if the other filter is {@code null}
+     * @throws IllegalArgumentException if the filters have different sizes or numbers of hash functions
+     */
+    public CountingBloomFilter<E> union(CountingBloomFilter<E> other) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(other, "Other filter cannot be null.");
+
+        if (other.words.length != words.length || other.hashFunctions != hashFunctions) {
+            throw new IllegalArgumentException("Filters must have the same number of counters and hash functions.");
+        }
+
+        long[] merged = new long[words.length];
+
+        for (int i = 0; i < merged.length; i++) {
+            long word = 0L;
+
+            for (int shift = 0; shift < Long.SIZE; shift += 4) {
+                long sum = ((words[i] >>> shift) & COUNTER_MASK) + ((other.words[i] >>> shift) & COUNTER_MASK);
+                word |= Math.min(sum, MAXIMUM_COUNT) << shift;
+            }
+
+            merged[i] = word;
+        }
+
+        return new CountingBloomFilter<>(merged, hashFunctions);
+    }
+
+    /**
+     * Returns the number of counters of the filter.
+     *
+     * @return the number of counters, a multiple of 16
+     */
+    public long counterCount() { return counterCount; }
+
+    /**
+     * Returns the number of counters updated for each element.
+     *
+     * @return the number of hash functions
+     */
+    public int hashFunctions() { return hashFunctions; }
+
+    /**
+     * Checks whether every counter is zero.
+     *
+     * @return {@code true} if no element is present
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Removes every element from the filter.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length; i++) words[i] = 0L;
+    }
+
+    @Override
+    public String toString() { return "CountingBloomFilter{counters=" + counterCount + ", hashFunctions=" + hashFunctions + "}"; }
+
+    private int counterAt(long index) {
+        int shift = (int) (index & (COUNTERS_PER_WORD - 1)) << 2;
+        return (int) ((words[(int) (index >>> COUNTERS_PER_WORD_SHIFT)] >>> shift) & COUNTER_MASK);
+    }
+
+    /**
+     * Adds a delta to a counter, which must stay within 0 and {@value #MAXIMUM_COUNT}.
+     */
+    private void addToCounter(long index, long delta) {
+        int shift = (int) (index & (COUNTERS_PER_WORD - 1)) << 2;
+        words[(int) (index >>> COUNTERS_PER_WORD_SHIFT)] += delta << shift;
+    }
+}
@@ -1,13 +1,27 @@
 package dev.guedes.datastructures.util.collection.queue;
 
 import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.capacity.ArrayCapacity;
 
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 
 /**
  * A circular queue implementation that dynamically resizes its internal storage.
  * Supports FIFO (First-In-First-Out) operations with O(1) average time complexity.
+ * <p>
+ * The internal array grows by a configurable growth factor when full and shrinks by halving
+ * only once less than a quarter of it is in use, never below the initial capacity, so a queue
+ * whose length oscillates, as in a steady stream of offers and polls, does not reallocate it.
+ * The capacity can also be managed explicitly with {@link #ensureCapacity(int)} and
+ * {@link #trimToSize()}.
+ * <p>
+ * Its spliterator splits the remaining positions from head to tail in halves, so parallel
+ * streams divide the queue without copying it.
  *
  * @param <E> the type of elements stored in the queue
  *
@@ -15,25 +29,38 @@ import java.util.function.Consumer;
  */
 public class CircularQueue<E> implements Queue<E> {
     private static final int DEFAULT_INITIAL_CAPACITY = 10;
-    private static final double SHRINK_THRESHOLD_FACTOR = 1.25;
 
     private final int initialCapacity;
+    private final float growthFactor;
     private E[] elements;
     private int headIndex;
-    private int tailIndex;
+    private int size;
+    private int modCount;
 
+    /**
+     * Creates a queue with the given initial capacity and growth factor.
+     *
+     * @param initialCapacity the initial capacity, below which the queue never shrinks
+     * @param growthFactor the factor by which the capacity is multiplied when the queue is full
+     * @throws IllegalArgumentException if the initial capacity is negative or the growth factor
+     *         is not greater than one
+     */
     @SuppressWarnings("unchecked")
-    public CircularQueue(int initialCapacity) {
+    public CircularQueue(int initialCapacity, float growthFactor) {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Initial capacity cannot be negative. Provided value: " + initialCapacity + "." );
         }
+        ArrayCapacity.validateGrowthFactor(growthFactor);
 
         this.initialCapacity = initialCapacity;
+        this.growthFactor = growthFactor;
         this.elements = (E[]) new Object[initialCapacity];
         this.headIndex = 0;
-        this.tailIndex = 0;
+        this.size = 0;
     }
 
+    public CircularQueue(int initialCapacity) { this(initialCapacity, ArrayCapacity.DEFAULT_GROWTH_FACTOR); }
+
     public CircularQueue() { this(DEFAULT_INITIAL_CAPACITY); }
 
     @Override
@@ -49,30 +76,31 @@ public class CircularQueue<E> implements Queue<E> {
     }
 
     @Override
-    public E peek() { return !isEmpty() ? elements[getCircularIndex(headIndex)] : null; }
+    public E peek() { return !isEmpty() ? elements[headIndex] : null; }
 
     @Override
     public E element() {
         if (isEmpty()) throw new NoSuchElementException("Queue is empty. Cannot retrieve element.");
-        return elements[getCircularIndex(headIndex)];
+        return elements[headIndex];
     }
 
     @Override
-    public int size() { return tailIndex - headIndex; }
+    public int size() { return size; }
 
     @Override
     public boolean isEmpty() { return size() == 0; }
 
     @Override
     public boolean add(E element) {
-        ensureCapacity();
-        elements[getCircularIndex(tailIndex++)] = element;
+        growIfFull();
+        elements[getCircularIndex(size++)] = element;
+        modCount++;
         return true;
     }
 
     @Override
     public boolean remove(E element) {
-        for (int i = headIndex; i < tailIndex; i++) {
+        for (int i = 0; i < size; i++) {
             if (Objects.equals(element, elements[getCircularIndex(i)])) {
                 shiftElementsLeft(i);
                 shrinkCapacity();
@@ -84,7 +112,7 @@ public class CircularQueue<E> implements Queue<E> {
 
     @Override
     public boolean contains(E element) {
-        for (int i = headIndex; i < tailIndex; i++) {
+        for (int i = 0; i < size; i++) {
             if (Objects.equals(element, elements[getCircularIndex(i)])) return true;
         }
         return false;
@@ -92,25 +120,37 @@ public class CircularQueue<E> implements Queue<E> {
 
     @Override
     public void clear() {
-        for (int i = headIndex; i < tailIndex; i++) {
+        for (int i = 0; i < size; i++) {
             elements[getCircularIndex(i)] = null;
         }
         elements = (E[]) new Object[initialCapacity];
-        headIndex = tailIndex = 0;
+        headIndex = size = 0;
+        modCount++;
     }
 
     @Override
     public Object[] toArray() {
         Object[] array = new Object[size()];
-        for (int i = 0, j = headIndex; i < array.length; i++, j++) {
-            array[i] = elements[getCircularIndex(j)];
-        }
+        copyElementsTo(array);
         return array;
     }
 
+    /**
+     * Returns a fail-fast iterator over the elements from head to tail. It tracks its position
+     * relative to the head, so it is unaffected by {@link #ensureCapacity(int)} and
+     * {@link #trimToSize()}, which move the elements to a new array without reordering them.
+     *
+     * @return an iterator over the elements in queue order
+     */
+    @Override
+    public Iterator<E> iterator() { return new Itr(); }
+
     @Override
-    public void forEach(Consumer<E> action) {
-        for (int i = headIndex; i < tailIndex; i++) {
+    public Spliterator<E> spliterator() { return new OffsetSpliterator(0, -1); }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (int i = 0; i < size; i++) {
             action.accept(elements[getCircularIndex(i)]);
         }
     }
@@ -120,18 +160,48 @@ public class CircularQueue<E> implements Queue<E> {
         if (isEmpty()) return "[]";
 
         StringBuilder sb = new StringBuilder("[");
-        for (int i = headIndex; i < tailIndex - 1; i++) {
+        for (int i = 0; i < size - 1; i++) {
             sb.append(elements[getCircularIndex(i)]).append(", ");
         }
-        sb.append(elements[getCircularIndex(tailIndex - 1)]).append("]");
+        sb.append(elements[getCircularIndex(size - 1)]).append("]");
 
         return sb.toString();
     }
 
     /**
-     * Computes the circular index within the bounds of the internal array.
+     * Returns the length of the internal array.
+     *
+     * @return the number of elements the queue can hold without growing
+     */
+    public int capacity() { return elements.length; }
+
+    /**
+     * Grows the internal array, if necessary, so that it holds at least the given number of
+     * elements without further resizing.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) return;
+
+        resizeArray(ArrayCapacity.grow(elements.length, minCapacity, growthFactor));
+    }
+
+    /**
+     * Shrinks the internal array to the current number of elements, releasing the unused slots.
+     */
+    public void trimToSize() {
+        if (size() < elements.length) resizeArray(size());
+    }
+
+    /**
+     * Computes the index in the internal array of the element at the given offset from the head,
+     * wrapping around the end of the array without overflowing.
      */
-    private int getCircularIndex(int index) { return index % elements.length; }
+    private int getCircularIndex(int offset) {
+        int untilEnd = elements.length - headIndex;
+        return offset < untilEnd ? headIndex + offset : offset - untilEnd;
+    }
 
     /**
      * Removes and returns the first element from the queue.
@@ -139,65 +209,183 @@ public class CircularQueue<E> implements Queue<E> {
      * @return the removed element from the front of the queue
      */
     private E removeFirst() {
-        E removedElement = elements[getCircularIndex(headIndex)];
+        E removedElement = elements[headIndex];
 
-        elements[getCircularIndex(headIndex++)] = null;
+        elements[headIndex] = null;
+        headIndex = getCircularIndex(1);
+        size--;
+        modCount++;
         shrinkCapacity();
 
         return removedElement;
     }
 
     /**
-     * Shifts elements left to fill the gap after removal.
+     * Shifts elements left to fill the gap after removal, moving each contiguous run of the
+     * circular range with a single bulk copy.
      */
-    private void shiftElementsLeft(int startIndex) {
-        for (int i = startIndex; i < tailIndex - 1; i++) {
-            elements[getCircularIndex(i)] = elements[getCircularIndex(i + 1)];
+    private void shiftElementsLeft(int offset) {
+        int from = getCircularIndex(offset);
+        int last = getCircularIndex(size - 1);
+
+        if (from <= last) {
+            System.arraycopy(elements, from + 1, elements, from, last - from);
+        } else {
+            System.arraycopy(elements, from + 1, elements, from, elements.length - from - 1);
+            elements[elements.length - 1] = elements[0];
+            System.arraycopy(elements, 1, elements, 0, last);
         }
-        elements[getCircularIndex(--tailIndex)] = null;
+
+        elements[last] = null;
+        size--;
+        modCount++;
     }
 
     /**
-     * Ensures the internal array has enough capacity to accommodate new elements.
-     * Doubles the current capacity if full.
+     * Grows the internal array by the growth factor if it is full.
      */
-    private void ensureCapacity() {
+    private void growIfFull() {
         if (size() != elements.length) return;
 
-        int newCapacity = (elements.length > 0) ? elements.length * 2 : DEFAULT_INITIAL_CAPACITY;
-        resizeArray(newCapacity);
+        ensureCapacity(elements.length > 0 ? size() + 1 : DEFAULT_INITIAL_CAPACITY);
     }
 
     /**
-     * Shrinks the internal array size if it's significantly larger than the current number of elements.
-     * Reduces the size by half if the current capacity is more than 25% greater than the number of elements,
-     * while ensuring it does not shrink below the initial capacity.
+     * Halves the internal array while less than a quarter of it is in use, never shrinking below
+     * the initial capacity.
      */
     private void shrinkCapacity() {
-        if (elements.length <= initialCapacity) return;
-
-        int newCapacity = (int) Math.ceil(size() * SHRINK_THRESHOLD_FACTOR);
-        if (elements.length <= newCapacity) return;
-
-        resizeArray(newCapacity);
+        int newCapacity = ArrayCapacity.shrink(size(), elements.length, initialCapacity);
+        if (newCapacity < elements.length) resizeArray(newCapacity);
     }
 
     /**
-     * Resizes the internal array to the given capacity.
+     * Resizes the internal array to the given capacity, unwrapping the elements so that the head
+     * moves to index zero.
      *
      * @param newCapacity the new capacity of the internal array
      */
+    @SuppressWarnings("unchecked")
     private void resizeArray(int newCapacity){
         E[] newArray = (E[]) new Object[newCapacity];
-        int numElements = size();
 
-        for (int i = 0, j = headIndex; i < numElements; i++, j++) {
-            newArray[i] = elements[getCircularIndex(j)];
-            elements[getCircularIndex(j)] = null;
-        }
+        copyElementsTo(newArray);
 
         elements = newArray;
         headIndex = 0;
-        tailIndex = numElements;
+    }
+
+    /**
+     * Copies the elements, in queue order, to the start of the given array. The circular range
+     * spans at most two contiguous runs of the internal array, each moved with one bulk copy.
+     *
+     * @param destination the array to copy to, with room for every element
+     */
+    private void copyElementsTo(Object[] destination) {
+        if (size == 0) return;
+
+        int firstRun = Math.min(size, elements.length - headIndex);
+
+        System.arraycopy(elements, headIndex, destination, 0, firstRun);
+        System.arraycopy(elements, 0, destination, firstRun, size - firstRun);
+    }
+
+    private class Itr implements Iterator<E> {
+        private int cursor;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() { return cursor < size(); }
+
+        @Override
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+            canRemove = true;
+            return elements[getCircularIndex(cursor++)];
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            if (--cursor == 0) {
+                removeFirst();
+            } else {
+                shiftElementsLeft(cursor);
+                shrinkCapacity();
+            }
+
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * A late-binding, fail-fast spliterator over a range of offsets from the head. Offsets stay
+     * valid when the internal array is resized, since the head moves along with the elements.
+     */
+    private class OffsetSpliterator implements Spliterator<E> {
+        private int offset;
+        private int fence;
+        private int expectedModCount;
+
+        OffsetSpliterator(int origin, int fence) {
+            this.offset = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size();
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = offset;
+            int middle = (low + high) >>> 1;
+            if (low >= middle) return null;
+
+            OffsetSpliterator prefix = new OffsetSpliterator(low, middle);
+            prefix.expectedModCount = expectedModCount;
+            offset = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) throws NullPointerException {
+            Objects.requireNonNull(action, "Action cannot be null.");
+            int high = getFence();
+            if (offset >= high) return false;
+
+            action.accept(elements[getCircularIndex(offset++)]);
+            validateModCount(expectedModCount, modCount);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) throws NullPointerException {
+            Objects.requireNonNull(action, "Action cannot be null.");
+            int high = getFence();
+
+            for (int i = offset; i < high; i++) {
+                action.accept(elements[getCircularIndex(i)]);
+            }
+            offset = high;
+            validateModCount(expectedModCount, modCount);
+        }
+
+        @Override
+        public long estimateSize() { return getFence() - offset; }
+
+        @Override
+        public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
     }
 }
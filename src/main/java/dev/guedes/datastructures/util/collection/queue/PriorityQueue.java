@@ -47,6 +47,7 @@ public class PriorityQueue<E extends Comparable<E>> extends LinkedQueue<E> {
         if (next == null) last = current.getNext();
 
         size++;
+        modCount++;
         return true;
     }
 }
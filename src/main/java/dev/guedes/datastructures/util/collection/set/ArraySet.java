@@ -1,20 +1,50 @@
 package dev.guedes.datastructures.util.collection.set;
 
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
 import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.map.Map;
+
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndexForAdd;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateRange;
 
 /**
  * A set implementation backed by an array-based list, ensuring element uniqueness.
  *
  * <p>Extends {@link ArrayList} and overrides modification methods to prevent duplicates.
  *
+ * <p>Alongside the array, a hash index maps every element to its position, so {@code contains},
+ * {@code indexOf} and appending {@code add} run in constant time instead of scanning the array.
+ * Inserting or removing at a position still shifts the following elements, and updates their
+ * indexed positions at the same linear cost. The {@code null} element is indexed by a field.
+ *
+ * <p>The bulk operations skip duplicates like {@code add} does, and compact the array in a single
+ * pass before reindexing the elements that moved, so {@code retainAll} and {@code removeAll} run
+ * in linear time.
+ *
  * @param <E> the type of elements maintained by this set
  *
  * @author João Guedes
  */
 public class ArraySet<E> extends ArrayList<E> implements Set<E> {
-    public ArraySet(int initialCapacity) { super(initialCapacity); }
+    private final Map<E, Integer> positions;
+    private int nullPosition;
 
-    public ArraySet() { super(); }
+    public ArraySet(int initialCapacity) {
+        super(initialCapacity);
+        this.positions = new Hashtable<>(Math.max(initialCapacity, 1));
+        this.nullPosition = -1;
+    }
+
+    public ArraySet() {
+        super();
+        this.positions = new Hashtable<>();
+        this.nullPosition = -1;
+    }
 
     /**
      * Adds the specified element if it is not already present in the set.
@@ -23,7 +53,14 @@ public class ArraySet<E> extends ArrayList<E> implements Set<E> {
      * @return {@code true} if the element was successfully added, {@code false} if it was a duplicate
      */
     @Override
-    public boolean add(E element) { return !contains(element) && super.add(element); }
+    public boolean add(E element) {
+        if (contains(element)) return false;
+
+        super.add(element);
+        index(element, size() - 1);
+
+        return true;
+    }
 
     /**
      * Inserts the specified element at the specified position if it is not already present in the set.
@@ -33,7 +70,111 @@ public class ArraySet<E> extends ArrayList<E> implements Set<E> {
      */
     @Override
     public void add(int index, E element) {
-        if (!contains(element)) super.add(index, element);
+        if (contains(element)) return;
+
+        super.add(index, element);
+        reindexFrom(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        E removedElement = super.remove(index);
+
+        unindex(removedElement);
+        reindexFrom(index);
+
+        return removedElement;
+    }
+
+    /**
+     * Appends every element of the given collection that is not already present.
+     *
+     * @param collection the elements to be added
+     * @return {@code true} if the set changed as a result of the call
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) throws NullPointerException {
+        return addAll(size(), collection);
+    }
+
+    /**
+     * Inserts every element of the given collection that is not already present at the specified
+     * position, shifting the following elements once for the whole batch.
+     *
+     * @param index the index at which the first new element is to be inserted
+     * @param collection the elements to be inserted
+     * @return {@code true} if the set changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> collection) throws IndexOutOfBoundsException, NullPointerException {
+        validateIndexForAdd(index, size());
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        Object[] candidates = collection.toArray();
+        ArrayList<E> added = new ArrayList<>(candidates.length);
+
+        for (Object candidate : candidates) {
+            E element = (E) candidate;
+            if (contains(element)) continue;
+
+            index(element, index + added.size());
+            added.add(element);
+        }
+
+        if (!super.addAll(index, added)) return false;
+
+        reindexFrom(index + added.size());
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        Objects.requireNonNull(filter, "Filter cannot be null.");
+
+        int previousSize = size();
+
+        try {
+            return super.removeIf(element -> {
+                if (!filter.test(element)) return false;
+
+                unindex(element);
+                return true;
+            });
+        } finally {
+            if (size() != previousSize) reindexFrom(0);
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        validateRange(fromIndex, toIndex, size());
+
+        for (int i = fromIndex; i < toIndex; i++) unindex(get(i));
+
+        super.removeRange(fromIndex, toIndex);
+        reindexFrom(fromIndex);
+    }
+
+    @Override
+    public boolean retainAll(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        return other != this && removeIf(element -> !other.contains(element));
+    }
+
+    @Override
+    public boolean removeAll(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        if (other != this) return removeIf(other::contains);
+
+        boolean changed = !isEmpty();
+        clear();
+        return changed;
     }
 
     /**
@@ -45,9 +186,74 @@ public class ArraySet<E> extends ArrayList<E> implements Set<E> {
      */
     @Override
     public E set(int index, E element) {
-        if (!contains(element)) {
-            return super.set(index, element);
+        if (contains(element)) return get(index);
+
+        E oldElement = super.set(index, element);
+        unindex(oldElement);
+        index(element, index);
+
+        return oldElement;
+    }
+
+    /**
+     * Returns the position of the specified element, looked up in the hash index.
+     *
+     * @param element the element to search for
+     * @return the index of the element, or {@code -1} if it is not present
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) return nullPosition;
+
+        Integer position = positions.get(element);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Returns the position of the specified element, the same as {@link #indexOf(Object)} since
+     * elements are unique.
+     *
+     * @param element the element to search for
+     * @return the index of the element, or {@code -1} if it is not present
+     */
+    @Override
+    public int lastIndexOf(E element) { return indexOf(element); }
+
+    @Override
+    public boolean contains(E element) { return indexOf(element) >= 0; }
+
+    @Override
+    public Spliterator<E> spliterator() { return spliterator(Spliterator.ORDERED | Spliterator.DISTINCT); }
+
+    @Override
+    public void clear() {
+        super.clear();
+        positions.clear();
+        nullPosition = -1;
+    }
+
+    private void index(E element, int position) {
+        if (element == null) {
+            nullPosition = position;
+        } else {
+            positions.put(element, position);
+        }
+    }
+
+    private void unindex(E element) {
+        if (element == null) {
+            nullPosition = -1;
+        } else {
+            positions.remove(element);
         }
-        return get(index);
+    }
+
+    /**
+     * Records the position of every element from the given index to the end, after a shift.
+     *
+     * @param fromIndex the first position whose element moved
+     */
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < size(); i++) index(get(i), i);
     }
 }
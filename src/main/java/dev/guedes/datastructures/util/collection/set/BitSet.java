@@ -0,0 +1,495 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
+/**
+ * A set of non-negative integers stored as a dense array of bits.
+ * <p>
+ * The integer {@code n} is present when bit {@code n % 64} of word {@code n / 64} is set, so the
+ * set takes one bit per value up to its largest element, with no boxing or per-element node.
+ * It suits sets of small, densely packed identifiers; for sparse or very large values,
+ * {@link RoaringBitmap} is far more compact. The word array grows to fit the largest element
+ * added and never shrinks, except through {@link #clear()}.
+ * <p>
+ * Besides the {@link Set} operations, which reject {@code null}, the set offers primitive
+ * {@code int} overloads and the in-place bitwise operations {@link #and(BitSet)},
+ * {@link #or(BitSet)} and {@link #andNot(BitSet)}, which process 64 elements per word. The bulk
+ * {@link Set} operations use them whenever the other set is also a bit set. Elements are always visited in ascending order.
+ *
+ * @author João Guedes
+ */
+public class BitSet implements Set<Integer> {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private long[] words;
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates a set whose word array initially covers the values below the given bound.
+     *
+     * @param capacity the number of values to cover without growing
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public BitSet(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        this.words = new long[wordIndex(capacity - 1) + 1];
+        this.size = 0;
+    }
+
+    public BitSet() { this(DEFAULT_CAPACITY); }
+
+    private BitSet(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Adds the specified value if it is not already present.
+     *
+     * @param value the value to add
+     * @return {@code true} if the value was added, {@code false} if it was already present
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public boolean add(int value) throws IllegalArgumentException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative. Provided value: " + value + ".");
+        }
+
+        int wordIndex = wordIndex(value);
+        ensureWords(wordIndex + 1);
+
+        long mask = 1L << value;
+        if ((words[wordIndex] & mask) != 0) return false;
+
+        words[wordIndex] |= mask;
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Adds the specified value if it is not already present.
+     *
+     * @param element the value to add
+     * @return {@code true} if the value was added, {@code false} if it was already present
+     * @throws NullPointerException if the element is {@code null}
+     * @throws IllegalArgumentException if the element is negative
+     */
+    @Override
+    public boolean add(Integer element) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+        return add(element.intValue());
+    }
+
+    /**
+     * Removes the specified value if it is present.
+     *
+     * @param value the value to remove
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(int value) {
+        if (!contains(value)) return false;
+
+        words[wordIndex(value)] &= ~(1L << value);
+        size--;
+        modCount++;
+
+        return true;
+    }
+
+    /**
+     * Removes the specified value if it is present.
+     *
+     * @param element the value to remove
+     * @return {@code true} if the value was present
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public boolean remove(Integer element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+        return remove(element.intValue());
+    }
+
+    /**
+     * Returns {@code true} if the specified value is present.
+     *
+     * @param value the value to look for
+     * @return {@code true} if the value is in the set; always {@code false} for negative values
+     */
+    public boolean contains(int value) {
+        if (value < 0) return false;
+
+        int wordIndex = wordIndex(value);
+        return wordIndex < words.length && (words[wordIndex] & (1L << value)) != 0;
+    }
+
+    /**
+     * Returns {@code true} if the specified value is present.
+     *
+     * @param element the value to look for
+     * @return {@code true} if the value is in the set
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public boolean contains(Integer element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+        return contains(element.intValue());
+    }
+
+    /**
+     * Returns the number of values in the set.
+     *
+     * @return the number of set bits, the same as {@link #size()}
+     */
+    public int cardinality() { return size; }
+
+    /**
+     * Returns the smallest value in the set that is greater than or equal to the given one.
+     *
+     * @param fromValue the value to start searching from, inclusive
+     * @return the next value in the set, or {@code -1} if there is none
+     */
+    public int nextSetBit(int fromValue) {
+        int wordIndex = wordIndex(Math.max(fromValue, 0));
+        if (wordIndex >= words.length) return -1;
+
+        long word = words[wordIndex] & (-1L << Math.max(fromValue, 0));
+
+        while (true) {
+            if (word != 0) return wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            if (++wordIndex == words.length) return -1;
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Keeps only the values that are also present in the other set.
+     *
+     * @param other the set to intersect with
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    public void and(BitSet other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        int common = Math.min(words.length, other.words.length);
+
+        for (int i = 0; i < common; i++) words[i] &= other.words[i];
+        for (int i = common; i < words.length; i++) words[i] = 0;
+
+        recalculateSize();
+    }
+
+    /**
+     * Adds every value of the other set.
+     *
+     * @param other the set to unite with
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    public void or(BitSet other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        ensureWords(other.words.length);
+
+        for (int i = 0; i < other.words.length; i++) words[i] |= other.words[i];
+
+        recalculateSize();
+    }
+
+    /**
+     * Removes every value present in the other set.
+     *
+     * @param other the set whose values are to be removed
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    public void andNot(BitSet other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        int common = Math.min(words.length, other.words.length);
+
+        for (int i = 0; i < common; i++) words[i] &= ~other.words[i];
+
+        recalculateSize();
+    }
+
+    /**
+     * Adds every value of the given collection, with a single {@link #or(BitSet)} when it is
+     * another bit set.
+     *
+     * @param elements the values to be added
+     * @return {@code true} if the set changed as a result of the call
+     * @throws NullPointerException if the collection, or any value in it, is {@code null}
+     * @throws IllegalArgumentException if the collection holds a negative value
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> elements) throws NullPointerException, IllegalArgumentException {
+        if (!(elements instanceof BitSet other)) return Set.super.addAll(elements);
+
+        int previousSize = size;
+        or(other);
+
+        return size != previousSize;
+    }
+
+    @Override
+    public boolean retainAll(Set<? super Integer> other) throws NullPointerException {
+        if (!(other instanceof BitSet bitSet)) return Set.super.retainAll(other);
+
+        int previousSize = size;
+        and(bitSet);
+
+        return size != previousSize;
+    }
+
+    @Override
+    public boolean removeAll(Set<? super Integer> other) throws NullPointerException {
+        if (!(other instanceof BitSet bitSet)) return Set.super.removeAll(other);
+
+        int previousSize = size;
+        andNot(bitSet);
+
+        return size != previousSize;
+    }
+
+    @Override
+    public boolean containsAll(Set<? extends Integer> other) throws NullPointerException {
+        if (!(other instanceof BitSet bitSet)) return Set.super.containsAll(other);
+
+        for (int i = 0; i < bitSet.words.length; i++) {
+            long word = i < words.length ? words[i] : 0L;
+            if ((bitSet.words[i] & ~word) != 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a new bit set holding the values present in this set, the given set, or both.
+     *
+     * @param other the set to unite with
+     * @return a new bit set; neither operand is modified
+     * @throws NullPointerException if the other set, or any value in it, is {@code null}
+     * @throws IllegalArgumentException if the other set holds a negative value
+     */
+    @Override
+    public BitSet union(Set<? extends Integer> other) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        BitSet result = copy();
+        result.addAll(other);
+
+        return result;
+    }
+
+    /**
+     * Returns a new bit set holding the values present in both this set and the given set.
+     *
+     * @param other the set to intersect with
+     * @return a new bit set; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @Override
+    public BitSet intersection(Set<? super Integer> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        if (other instanceof BitSet bitSet) {
+            BitSet result = copy();
+            result.and(bitSet);
+            return result;
+        }
+
+        BitSet result = new BitSet(new long[words.length], 0);
+
+        if (other.size() < size) {
+            other.forEach(element -> {
+                if (element instanceof Integer value && contains(value.intValue())) result.add(value.intValue());
+            });
+        } else {
+            forEachInt(value -> {
+                if (other.contains(value)) result.add(value);
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a new bit set holding the values of this set that are not present in the given set.
+     *
+     * @param other the set whose values are to be excluded
+     * @return a new bit set; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @Override
+    public BitSet difference(Set<? super Integer> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        BitSet result = copy();
+        result.removeAll(other);
+
+        return result;
+    }
+
+    /**
+     * Performs the given action for each value, in ascending order, without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is {@code null}
+     */
+    public void forEachInt(IntConsumer action) throws NullPointerException {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+
+            while (word != 0) {
+                action.accept(i * BITS_PER_WORD + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+        forEachInt(action::accept);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the values, in ascending order, that finds each value
+     * with {@link #nextSetBit(int)}.
+     *
+     * @return an iterator over the values of the set
+     */
+    @Override
+    public Iterator<Integer> iterator() { return new Itr(); }
+
+    /**
+     * Returns a spliterator over the values in ascending order, reporting them as
+     * {@link Spliterator#SORTED sorted} by their natural order.
+     *
+     * @return a spliterator over the values of the set
+     */
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns the values of the set in ascending order.
+     *
+     * @return a new array holding every value
+     */
+    public int[] toIntArray() {
+        int[] array = new int[size];
+        int[] index = {0};
+
+        forEachInt(value -> array[index[0]++] = value);
+
+        return array;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int[] index = {0};
+
+        forEachInt(value -> array[index[0]++] = value);
+
+        return array;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        forEachInt(value -> sb.append(value).append(", "));
+        sb.setLength(sb.length() - 2);
+
+        return "[" + sb + "]";
+    }
+
+    private static int wordIndex(int value) { return value >>> ADDRESS_BITS_PER_WORD; }
+
+    private BitSet copy() { return new BitSet(words.clone(), size); }
+
+    /**
+     * Grows the word array, at least doubling it, so that it holds the given number of words.
+     *
+     * @param wordsRequired the minimum number of words
+     */
+    private void ensureWords(int wordsRequired) {
+        if (words.length < wordsRequired) {
+            words = Arrays.copyOf(words, Math.max(words.length * 2, wordsRequired));
+        }
+    }
+
+    private void recalculateSize() {
+        int count = 0;
+        for (long word : words) count += Long.bitCount(word);
+        size = count;
+        modCount++;
+    }
+
+    private class Itr implements Iterator<Integer> {
+        private int nextValue = nextSetBit(0);
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() { return nextValue >= 0; }
+
+        @Override
+        public Integer next() {
+            validateModCount(expectedModCount, modCount);
+            if (nextValue < 0) throw new NoSuchElementException("No more elements to iterate.");
+
+            lastReturned = nextValue;
+            nextValue = lastReturned == Integer.MAX_VALUE ? -1 : nextSetBit(lastReturned + 1);
+
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            BitSet.this.remove(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.map.ConcurrentHashtable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe hash set backed by a {@link ConcurrentHashtable}.
+ * <p>
+ * Elements are the keys of the table, so the set inherits its lock striping: writers only lock
+ * the segment an element hashes to, and writers to different segments never contend, while
+ * {@link #contains(Object)} takes no lock at all and reads the bucket heads and chain links
+ * through volatile references. {@link #add(Object)} and {@link #remove(Object)} are atomic, so
+ * when several threads add the same element exactly one of them is told it was added, which
+ * makes the set suitable for deduplicating work across threads. The {@code null} element is
+ * tracked by an atomic flag outside the table.
+ * <p>
+ * Aggregate operations such as {@link #size()}, {@link #forEach(Consumer)}, {@link #toArray()}
+ * and {@link #toString()} are weakly consistent: they reflect some state of each segment during
+ * the call, but not necessarily a single point in time for the whole set. Iterators are not
+ * fail-fast: they walk a {@link #toArray()} snapshot taken when they are created, and never throw
+ * {@link java.util.ConcurrentModificationException}. Spliterators split such a snapshot by
+ * index, so parallel streams never lock the set once the snapshot is taken.
+ *
+ * @param <E> the type of elements maintained by this set
+ *
+ * @author João Guedes
+ */
+public class ConcurrentHashSet<E> implements Set<E> {
+    private final ConcurrentHashtable<E, Boolean> table;
+    private final AtomicBoolean containsNull;
+
+    public ConcurrentHashSet(int capacity, int concurrencyLevel) {
+        this.table = new ConcurrentHashtable<>(capacity, concurrencyLevel);
+        this.containsNull = new AtomicBoolean();
+    }
+
+    public ConcurrentHashSet(int capacity) {
+        this.table = new ConcurrentHashtable<>(capacity);
+        this.containsNull = new AtomicBoolean();
+    }
+
+    public ConcurrentHashSet() {
+        this.table = new ConcurrentHashtable<>();
+        this.containsNull = new AtomicBoolean();
+    }
+
+    @Override
+    public int size() {
+        int size = table.size();
+        return containsNull.get() && size < Integer.MAX_VALUE ? size + 1 : size;
+    }
+
+    @Override
+    public boolean isEmpty() { return !containsNull.get() && table.isEmpty(); }
+
+    /**
+     * Atomically adds the specified element if it is not already present.
+     *
+     * @param element the element to be added
+     * @return {@code true} if this call added the element, {@code false} if it was already
+     *         present or another thread added it first
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) return containsNull.compareAndSet(false, true);
+
+        return table.putIfAbsent(element, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Atomically removes the specified element if it is present.
+     *
+     * @param element the element to be removed
+     * @return {@code true} if this call removed the element
+     */
+    @Override
+    public boolean remove(E element) {
+        if (element == null) return containsNull.compareAndSet(true, false);
+
+        return table.remove(element) != null;
+    }
+
+    /**
+     * Checks whether the specified element is present, without taking any lock.
+     *
+     * @param element the element whose presence is to be tested
+     * @return {@code true} if the element is present
+     */
+    @Override
+    public boolean contains(E element) {
+        if (element == null) return containsNull.get();
+
+        return table.containsKey(element);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        if (containsNull.get()) action.accept(null);
+        table.forEach((element, present) -> action.accept(element));
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the elements. Removing through the iterator removes
+     * the element from the set, not from the snapshot.
+     *
+     * @return an iterator over the elements present when it was created
+     */
+    @Override
+    public Iterator<E> iterator() { return new SnapshotItr(toArray()); }
+
+    /**
+     * Returns a spliterator over a snapshot of the elements, split by index.
+     *
+     * @return a spliterator over the elements present when it was created
+     */
+    @Override
+    public Spliterator<E> spliterator() { return Spliterators.spliterator(toArray(), Spliterator.DISTINCT | Spliterator.IMMUTABLE); }
+
+    /**
+     * Returns the elements of the set. Elements added or removed concurrently may or may not be
+     * included.
+     *
+     * @return an array holding the elements
+     */
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        int[] index = {0};
+
+        forEach(element -> {
+            if (index[0] == array.length) return;
+            array[index[0]++] = element;
+        });
+
+        return index[0] == array.length ? array : Arrays.copyOf(array, index[0]);
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+        containsNull.set(false);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        forEach(element -> sb.append(element).append(", "));
+
+        if (sb.isEmpty()) return "[]";
+
+        sb.setLength(sb.length() - 2);
+        return "[" + sb + "]";
+    }
+
+    private class SnapshotItr implements Iterator<E> {
+        private final Object[] snapshot;
+        private int cursor;
+        private boolean canRemove;
+
+        SnapshotItr(Object[] snapshot) { this.snapshot = snapshot; }
+
+        @Override
+        public boolean hasNext() { return cursor < snapshot.length; }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+            canRemove = true;
+            return (E) snapshot[cursor++];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("No element to remove.");
+
+            ConcurrentHashSet.this.remove((E) snapshot[cursor - 1]);
+            canRemove = false;
+        }
+    }
+}
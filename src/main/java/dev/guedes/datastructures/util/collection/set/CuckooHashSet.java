@@ -0,0 +1,418 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * A hash set based on bucketized cuckoo hashing, whose lookups probe at most two buckets.
+ * <p>
+ * The table is a flat array of buckets of {@value #SLOTS_PER_BUCKET} slots each, with the hash
+ * code of every element kept in a parallel {@code int} array. Every element has two candidate
+ * buckets, chosen by two independently seeded hashes, and always lives in one of them:
+ * {@link #contains(Object)} and {@link #remove(Object)} only ever compare the sixteen bytes of
+ * hash codes of each of those two buckets, and only call {@code equals} on elements whose hash
+ * code matches, so a lookup touches two cache lines in the common case. An insertion into two full buckets
+ * evicts a random element of one of them, which moves to its own alternate bucket, possibly
+ * evicting another, and so on. When such a chain grows too long the table is rebuilt with new
+ * hash seeds, and doubled if it is at least half full.
+ * <p>
+ * Elements that still find no slot during a rebuild, which only happens when many elements share
+ * the same hash code, are kept in a small overflow stash searched after both buckets. The stash
+ * is empty under any reasonable hash function, in which case it costs a single size check.
+ * The {@code null} element is tracked by a flag outside the table.
+ *
+ * @param <E> the type of elements maintained by this set
+ *
+ * @author João Guedes
+ */
+public class CuckooHashSet<E> implements Set<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int SLOTS_PER_BUCKET = 4;
+    private static final float MAXIMUM_LOAD_FACTOR = 0.9f;
+    private static final float GROWTH_LOAD_FACTOR = 0.5f;
+    private static final int MAXIMUM_DISPLACEMENTS = 256;
+    private static final int MAXIMUM_BUCKETS = Hashing.MAXIMUM_CAPACITY / SLOTS_PER_BUCKET;
+    private static final int SECOND_SEED = 0x85EBCA6B;
+
+    private final List<E> stash;
+    private Object[] table;
+    private int[] hashCodes;
+    private int threshold;
+    private int firstSeed;
+    private int secondSeed;
+    private boolean containsNull;
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates a set able to hold the given number of elements without rebuilding its table.
+     *
+     * @param capacity the expected number of elements
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public CuckooHashSet(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        this.firstSeed = 0;
+        this.secondSeed = SECOND_SEED;
+        this.stash = new ArrayList<>();
+        allocateTable(bucketsFor(capacity));
+        this.size = 0;
+    }
+
+    public CuckooHashSet() { this(DEFAULT_CAPACITY); }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Adds the specified element if it is not already present in the set.
+     *
+     * @param element the element to be added
+     * @return {@code true} if the element was successfully added, {@code false} if it was a duplicate
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            if (containsNull) return false;
+            containsNull = true;
+            size++;
+            modCount++;
+            return true;
+        }
+
+        if (contains(element)) return false;
+
+        if (size >= threshold) rebuild(table.length / SLOTS_PER_BUCKET * 2);
+
+        E homeless = place(element);
+        if (homeless != null) rebuild(homeless);
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        if (element == null) {
+            if (!containsNull) return false;
+            containsNull = false;
+            size--;
+            modCount++;
+            return true;
+        }
+
+        int slot = findSlot(element);
+
+        if (slot >= 0) {
+            table[slot] = null;
+        } else if (stash.isEmpty() || !stash.remove(element)) {
+            return false;
+        }
+
+        size--;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        if (element == null) return containsNull;
+
+        return findSlot(element) >= 0 || (!stash.isEmpty() && stash.contains(element));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        if (containsNull) action.accept(null);
+
+        for (Object element : table) {
+            if (element != null) action.accept((E) element);
+        }
+
+        stash.forEach(action);
+    }
+
+    /**
+     * Returns a fail-fast iterator visiting the elements in the same order as
+     * {@link #forEach(Consumer)}: {@code null} first, then the table slots, then the stash.
+     *
+     * @return an iterator over the elements of the set
+     */
+    @Override
+    public Iterator<E> iterator() { return new Itr(); }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int[] index = {0};
+
+        forEach(element -> array[index[0]++] = element);
+
+        return array;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < table.length; i++) table[i] = null;
+        stash.clear();
+        containsNull = false;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the number of slots in the table.
+     *
+     * @return the number of buckets times the slots per bucket
+     */
+    public int capacity() { return table.length; }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        forEach(element -> sb.append(element).append(", "));
+        sb.setLength(sb.length() - 2);
+
+        return "[" + sb + "]";
+    }
+
+    /**
+     * Finds the slot holding a non-null element in either of its two buckets.
+     *
+     * @param element the element to search for
+     * @return the slot index, or {@code -1} if the element is not in the table
+     */
+    private int findSlot(E element) {
+        int hashCode = element.hashCode();
+        int slot = findSlotInBucket(firstBucket(hashCode), hashCode, element);
+
+        return slot >= 0 ? slot : findSlotInBucket(secondBucket(hashCode), hashCode, element);
+    }
+
+    private int findSlotInBucket(int bucket, int hashCode, E element) {
+        int start = bucket * SLOTS_PER_BUCKET;
+
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (hashCodes[slot] == hashCode && element.equals(table[slot])) return slot;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Stores a non-null element in the table, displacing other elements to their alternate
+     * buckets as needed.
+     *
+     * @param element the element to store
+     * @return {@code null} if every element found a slot, otherwise the element left without one
+     */
+    @SuppressWarnings("unchecked")
+    private E place(E element) {
+        int hashCode = element.hashCode();
+        int bucket = firstBucket(hashCode);
+
+        if (insertIntoBucket(bucket, element, hashCode) || insertIntoBucket(secondBucket(hashCode), element, hashCode)) {
+            return null;
+        }
+
+        E current = element;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < MAXIMUM_DISPLACEMENTS; i++) {
+            int slot = bucket * SLOTS_PER_BUCKET + random.nextInt(SLOTS_PER_BUCKET);
+            E displaced = (E) table[slot];
+            int displacedHashCode = hashCodes[slot];
+
+            table[slot] = current;
+            hashCodes[slot] = hashCode;
+            current = displaced;
+            hashCode = displacedHashCode;
+            bucket = alternateBucket(hashCode, bucket);
+
+            if (insertIntoBucket(bucket, current, hashCode)) return null;
+        }
+
+        return current;
+    }
+
+    /**
+     * Stores an element in the first empty slot of a bucket.
+     *
+     * @param bucket the bucket to insert into
+     * @param element the element to store
+     * @param hashCode the hash code of the element
+     * @return {@code true} if the bucket had an empty slot
+     */
+    private boolean insertIntoBucket(int bucket, E element, int hashCode) {
+        int start = bucket * SLOTS_PER_BUCKET;
+
+        for (int slot = start; slot < start + SLOTS_PER_BUCKET; slot++) {
+            if (table[slot] == null) {
+                table[slot] = element;
+                hashCodes[slot] = hashCode;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Rebuilds the table after a displacement chain left an element without a slot, doubling it
+     * if it is at least half full.
+     *
+     * @param homeless the element to reinsert along with the current ones
+     */
+    private void rebuild(E homeless) {
+        int buckets = table.length / SLOTS_PER_BUCKET;
+        if (size >= table.length * GROWTH_LOAD_FACTOR) buckets *= 2;
+
+        rebuild(buckets);
+        reinsert(homeless);
+    }
+
+    /**
+     * Reinserts every element into a new table with fresh hash seeds.
+     *
+     * @param buckets the number of buckets of the new table
+     */
+    @SuppressWarnings("unchecked")
+    private void rebuild(int buckets) {
+        Object[] oldTable = table;
+        Object[] oldStash = stash.toArray();
+
+        allocateTable(Math.min(buckets, MAXIMUM_BUCKETS));
+        firstSeed = Hashing.newSeed();
+        secondSeed = Hashing.newSeed();
+        stash.clear();
+
+        for (Object element : oldTable) {
+            if (element != null) reinsert((E) element);
+        }
+
+        for (Object element : oldStash) reinsert((E) element);
+    }
+
+    /**
+     * Places an element during a rebuild, stashing whichever element is left without a slot.
+     *
+     * @param element the element to reinsert
+     */
+    private void reinsert(E element) {
+        E homeless = place(element);
+        if (homeless != null) stash.add(homeless);
+    }
+
+    private int firstBucket(int hashCode) {
+        return Hashing.indexFor(Hashing.spread(hashCode ^ firstSeed), table.length / SLOTS_PER_BUCKET);
+    }
+
+    private int secondBucket(int hashCode) {
+        return Hashing.indexFor(Hashing.spread(hashCode ^ secondSeed), table.length / SLOTS_PER_BUCKET);
+    }
+
+    /**
+     * Returns the candidate bucket of an element other than the given one.
+     *
+     * @param hashCode the hash code of the element being displaced
+     * @param bucket the bucket the element is being displaced from
+     * @return the element's other bucket
+     */
+    private int alternateBucket(int hashCode, int bucket) {
+        int first = firstBucket(hashCode);
+
+        return first == bucket ? secondBucket(hashCode) : first;
+    }
+
+    private void allocateTable(int buckets) {
+        table = new Object[buckets * SLOTS_PER_BUCKET];
+        hashCodes = new int[table.length];
+        threshold = (int) (table.length * MAXIMUM_LOAD_FACTOR);
+    }
+
+    /**
+     * Computes the number of buckets needed to hold the given number of elements below the
+     * maximum load factor.
+     *
+     * @param capacity the expected number of elements
+     * @return the number of buckets, a power of two
+     */
+    private static int bucketsFor(int capacity) {
+        int buckets = (int) Math.ceil(capacity / (SLOTS_PER_BUCKET * MAXIMUM_LOAD_FACTOR));
+        return Math.min(Hashing.tableSizeFor(buckets), MAXIMUM_BUCKETS);
+    }
+
+    /**
+     * Iterates over positions spanning {@code null} at {@code -1}, then the table slots, then the
+     * stash entries, which follow the last slot.
+     */
+    private class Itr implements Iterator<E> {
+        private int nextPosition = containsNull ? -1 : occupiedFrom(0);
+        private int lastPosition;
+        private E lastReturned;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() { return nextPosition < table.length + stash.size(); }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+            lastPosition = nextPosition;
+            nextPosition = occupiedFrom(lastPosition + 1);
+
+            if (lastPosition < 0) {
+                lastReturned = null;
+            } else if (lastPosition < table.length) {
+                lastReturned = (E) table[lastPosition];
+            } else {
+                lastReturned = stash.get(lastPosition - table.length);
+            }
+
+            canRemove = true;
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            CuckooHashSet.this.remove(lastReturned);
+            if (lastPosition >= table.length) nextPosition--;
+
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns the first position from the given one that holds an element, skipping empty slots.
+         */
+        private int occupiedFrom(int position) {
+            while (position < table.length && table[position] == null) position++;
+            return position;
+        }
+    }
+}
@@ -1,36 +1,90 @@
 package dev.guedes.datastructures.util.collection.set;
 
 import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.hashing.Hashing;
 import dev.guedes.datastructures.util.collection.internal.nodes.SinglyLinkedNode;
 
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 
 /**
  * A hash table implementation of the Set interface. This implementation uses separate chaining
  * with singly-linked nodes to handle hash collisions. The set does not permit duplicate elements.
+ * <p>
+ * The number of buckets is rounded up to a power of two and elements are assigned to buckets by
+ * masking their {@linkplain Hashing#spread(int) spread} hash code, optionally mixed with a random
+ * per-instance seed. The table doubles whenever the number of elements exceeds
+ * {@code capacity * loadFactor}.
+ * <p>
+ * By default a resize rehashes every element at once. Sets created with incremental rehashing
+ * instead keep the old table alongside the new one and migrate {@value #MIGRATION_STEP} of its
+ * buckets on every {@code add} and {@code remove}, so no single operation pays for the whole
+ * resize. While a migration is in progress, lookups check the element's bucket in both tables.
+ * {@code contains} never migrates, so it leaves the table unchanged, as it does with eager
+ * rehashing. With the default load factor a migration finishes long before the new table
+ * reaches its own threshold; otherwise the remaining buckets are migrated before the next resize,
+ * so at most two tables exist at any time. Iterators and spliterators never migrate either: they
+ * walk the buckets of the previous table that are still pending, followed by the current table,
+ * and removals made through an iterator leave the migration where it is. Since migrating moves
+ * elements between tables, an {@code add} or {@code remove} that migrates makes open iterators
+ * fail fast even if the set's elements are unchanged. The spliterator splits that sequence of
+ * buckets in halves, so parallel streams divide the table without copying it.
  *
  * @param <E> the type of elements maintained by this set
  *
  * @author João Guedes
  */
 public class HashSet<E> implements Set<E> {
-    private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Hashing.MAXIMUM_CAPACITY;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int MIGRATION_STEP = 4;
 
-    private final SinglyLinkedNode<E>[] buckets;
-    private final int capacity;
+    private final float loadFactor;
+    private final int seed;
+    private final boolean incrementalRehashing;
+    private SinglyLinkedNode<E>[] buckets;
+    private SinglyLinkedNode<E>[] oldBuckets;
+    private int migrationIndex;
+    private int threshold;
     private int size;
+    private int modCount;
 
-    @SuppressWarnings("unchecked")
-    public HashSet(int capacity) {
+    /**
+     * Creates a set with the given initial number of buckets and load factor.
+     *
+     * @param capacity the initial number of buckets, rounded up to a power of two
+     * @param loadFactor the ratio of elements to buckets above which the table grows
+     * @param randomizedHashing whether to mix a random per-instance seed into every hash code
+     * @param incrementalRehashing whether to spread each resize over subsequent operations
+     * @throws IllegalArgumentException if the capacity or the load factor is not positive
+     */
+    public HashSet(int capacity, float loadFactor, boolean randomizedHashing, boolean incrementalRehashing) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
         }
 
-        this.capacity = capacity;
-        this.buckets = (SinglyLinkedNode<E>[]) new SinglyLinkedNode[capacity];
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Load factor must be positive. Provided value: " + loadFactor + ".");
+        }
+
+        this.loadFactor = loadFactor;
+        this.seed = randomizedHashing ? Hashing.newSeed() : 0;
+        this.incrementalRehashing = incrementalRehashing;
+        this.buckets = newTable(Hashing.tableSizeFor(capacity));
         this.size = 0;
     }
 
+    public HashSet(int capacity, boolean randomizedHashing) {
+        this(capacity, DEFAULT_LOAD_FACTOR, randomizedHashing, false);
+    }
+
+    public HashSet(int capacity) { this(capacity, false); }
+
     public HashSet() { this(DEFAULT_CAPACITY); }
 
     @Override
@@ -47,98 +101,172 @@ public class HashSet<E> implements Set<E> {
      */
     @Override
     public boolean add(E element) {
-        int bucketIndex = calculateBucketIndex(element);
+        migrateStep();
+
+        int hash = Hashing.hash(element, seed);
+
+        if (containsInOldTable(hash, element)) return false;
+
+        int bucketIndex = Hashing.indexFor(hash, buckets.length);
 
         if (containsInChain(buckets[bucketIndex], element)) return false;
 
         buckets[bucketIndex] = new SinglyLinkedNode<>(element, buckets[bucketIndex]);
-        size++;
+        modCount++;
+
+        if (++size > threshold) resize();
 
         return true;
     }
 
     @Override
     public boolean remove(E element) {
-        int bucketIndex = calculateBucketIndex(element);
-
-        SinglyLinkedNode<E> current  = buckets[bucketIndex];
-        SinglyLinkedNode<E> previous = null;
-
-        while (current != null) {
-            if (Objects.equals(element, current.getElement())) {
-                removeNodeFromChain(bucketIndex, previous, current);
-                return true;
-            }
-            previous = current;
-            current = current.getNext();
-        }
+        migrateStep();
 
-        return false;
+        return removeElement(element);
     }
 
     @Override
     public boolean contains(E element) {
-        return containsInChain(buckets[calculateBucketIndex(element)], element);
+        int hash = Hashing.hash(element, seed);
+
+        return containsInOldTable(hash, element) || containsInChain(buckets[Hashing.indexFor(hash, buckets.length)], element);
     }
 
     @Override
-    public void forEach(Consumer<E> action) {
-        for (SinglyLinkedNode<E> bucket : buckets) {
-            SinglyLinkedNode<E> current = bucket;
-            while (current != null) {
-                action.accept(current.getElement());
-                current = current.getNext();
-            }
+    public void forEach(Consumer<? super E> action) {
+        if (isMigrating()) {
+            for (int i = migrationIndex; i < oldBuckets.length; i++) forEachInChain(oldBuckets[i], action);
         }
+
+        for (SinglyLinkedNode<E> bucket : buckets) forEachInChain(bucket, action);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements, in bucket order. While a migration is in
+     * progress it walks the pending buckets of the previous table before the current table, as
+     * {@link #forEach(Consumer)} does, without migrating anything.
+     *
+     * @return an iterator over the elements of the set
+     */
+    @Override
+    public Iterator<E> iterator() { return new Itr(); }
+
+    /**
+     * Returns a fail-fast spliterator over the elements that splits the buckets in halves. It walks
+     * both tables while a migration is in progress, as {@link #iterator()} does.
+     *
+     * @return a spliterator over the elements of the set
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new BucketSpliterator(oldBuckets, migrationIndex, buckets, 0, bucketCount(), size, modCount);
     }
 
     @Override
     public Object[] toArray() {
-        SinglyLinkedNode<E> current;
         Object[] array = new Object[size];
-        int index = 0;
+        int[] index = {0};
 
-        for (SinglyLinkedNode<E> head : buckets) {
-            current = head;
-            while (current != null) {
-                array[index++] = current.getElement();
-                current = current.getNext();
-            }
-        }
+        forEach(element -> array[index[0]++] = element);
 
         return array;
     }
 
     @Override
     public void clear() {
+        if (isMigrating()) {
+            for (int i = migrationIndex; i < oldBuckets.length; i++) clearChain(oldBuckets[i]);
+            oldBuckets = null;
+        }
+
         for (int i = 0; i < buckets.length; i++) {
             clearChain(buckets[i]);
             buckets[i] = null;
         }
         size = 0;
+        modCount++;
     }
 
+    /**
+     * Returns the number of buckets in the current table.
+     *
+     * @return the length of the bucket array, always a power of two
+     */
+    public int capacity() { return buckets.length; }
+
+    /**
+     * Returns {@code true} if an incremental rehash is still migrating elements from the previous
+     * table.
+     *
+     * @return {@code true} if two tables are in use
+     */
+    public boolean isMigrating() { return oldBuckets != null; }
+
     @Override
     public String toString() {
         if (isEmpty()) return "[]";
 
         StringBuilder sb = new StringBuilder();
-        for (SinglyLinkedNode<E> head : buckets) {
-            if (head != null) sb.append(head).append(", ");
-        }
+        forEach(element -> sb.append(element).append(", "));
         sb.setLength(sb.length() - 2);
 
         return "[" + sb + "]";
     }
 
     /**
-     * Calculates the bucket index for a given element using its hash code.
+     * Checks whether an element is still in a not yet migrated bucket of the previous table.
+     *
+     * @param hash the hash of the element
+     * @param element the element to search for
+     * @return {@code true} if a migration is in progress and the old bucket holds the element
+     */
+    private boolean containsInOldTable(int hash, E element) {
+        if (!isMigrating()) return false;
+
+        int oldIndex = Hashing.indexFor(hash, oldBuckets.length);
+        return oldIndex >= migrationIndex && containsInChain(oldBuckets[oldIndex], element);
+    }
+
+    /**
+     * Removes an element from whichever table holds it, without migrating any bucket.
+     *
+     * @param element the element to remove
+     * @return {@code true} if the element was found and removed
+     */
+    private boolean removeElement(E element) {
+        int hash = Hashing.hash(element, seed);
+
+        if (isMigrating()) {
+            int oldIndex = Hashing.indexFor(hash, oldBuckets.length);
+            if (oldIndex >= migrationIndex && removeFromChain(oldBuckets, oldIndex, element)) return true;
+        }
+
+        return removeFromChain(buckets, Hashing.indexFor(hash, buckets.length), element);
+    }
+
+    /**
+     * Returns the number of buckets walked by an iteration: the pending buckets of the previous
+     * table, if a migration is in progress, followed by every bucket of the current table.
+     *
+     * @return the number of buckets to walk
+     */
+    private int bucketCount() {
+        return (isMigrating() ? oldBuckets.length - migrationIndex : 0) + buckets.length;
+    }
+
+    /**
+     * Returns the bucket at the given position of an iteration over two tables.
      *
-     * @param element the element to calculate bucket index for
-     * @return the bucket index for the element
+     * @param oldTable the previous table, or {@code null} if no migration was in progress
+     * @param oldStart the first pending bucket of the previous table
+     * @param table the current table
+     * @param position the position of the bucket, counting the pending old buckets first
+     * @return the head of the chain at that position
      */
-    private int calculateBucketIndex(E element) {
-        return element != null ? Math.abs(element.hashCode() % capacity) : 0;
+    private static <E> SinglyLinkedNode<E> bucketAt(SinglyLinkedNode<E>[] oldTable, int oldStart, SinglyLinkedNode<E>[] table, int position) {
+        int pending = oldTable != null ? oldTable.length - oldStart : 0;
+        return position < pending ? oldTable[oldStart + position] : table[position - pending];
     }
 
     /**
@@ -159,21 +287,118 @@ public class HashSet<E> implements Set<E> {
         return false;
     }
 
+    private void forEachInChain(SinglyLinkedNode<E> headNode, Consumer<? super E> action) {
+        SinglyLinkedNode<E> current = headNode;
+        while (current != null) {
+            action.accept(current.getElement());
+            current = current.getNext();
+        }
+    }
+
     /**
-     * Removes a node from a chain in a bucket.
+     * Removes an element from the chain of a bucket, if present.
      *
+     * @param table the table holding the bucket
      * @param bucketIndex the index of the bucket containing the chain
-     * @param previous the node preceding the node to remove, or null if removing the head
-     * @param toRemove the node to be removed from the chain
+     * @param element the element to remove
+     * @return {@code true} if the element was found and removed
      */
-    private void removeNodeFromChain(int bucketIndex, SinglyLinkedNode<E> previous, SinglyLinkedNode<E> toRemove) {
-        if (previous == null) {
-            buckets[bucketIndex] = toRemove.getNext();
-        } else {
-            previous.setNext(toRemove.getNext());
+    private boolean removeFromChain(SinglyLinkedNode<E>[] table, int bucketIndex, E element) {
+        SinglyLinkedNode<E> current  = table[bucketIndex];
+        SinglyLinkedNode<E> previous = null;
+
+        while (current != null) {
+            if (Objects.equals(element, current.getElement())) {
+                if (previous == null) {
+                    table[bucketIndex] = current.getNext();
+                } else {
+                    previous.setNext(current.getNext());
+                }
+                current.clear();
+                size--;
+                modCount++;
+                return true;
+            }
+            previous = current;
+            current = current.getNext();
+        }
+
+        return false;
+    }
+
+    /**
+     * Doubles the table, either rehashing every element at once or starting an incremental
+     * migration.
+     */
+    private void resize() {
+        if (buckets.length >= MAXIMUM_CAPACITY) {
+            threshold = Integer.MAX_VALUE;
+            return;
+        }
+
+        finishMigration();
+
+        SinglyLinkedNode<E>[] previous = buckets;
+        buckets = newTable(previous.length * 2);
+        oldBuckets = previous;
+        migrationIndex = 0;
+
+        if (!incrementalRehashing) finishMigration();
+    }
+
+    /**
+     * Migrates the next few buckets of the previous table, if a migration is in progress.
+     */
+    private void migrateStep() {
+        if (!isMigrating()) return;
+
+        modCount++;
+        int end = Math.min(migrationIndex + MIGRATION_STEP, oldBuckets.length);
+        while (migrationIndex < end) migrateBucket(migrationIndex++);
+
+        if (migrationIndex == oldBuckets.length) oldBuckets = null;
+    }
+
+    /**
+     * Migrates every remaining bucket of the previous table.
+     */
+    private void finishMigration() {
+        if (!isMigrating()) return;
+
+        while (migrationIndex < oldBuckets.length) migrateBucket(migrationIndex++);
+        oldBuckets = null;
+    }
+
+    /**
+     * Relinks the nodes of a bucket of the previous table into the current one.
+     *
+     * @param oldIndex the index of the bucket in the previous table
+     */
+    private void migrateBucket(int oldIndex) {
+        SinglyLinkedNode<E> current = oldBuckets[oldIndex];
+        SinglyLinkedNode<E> next;
+
+        oldBuckets[oldIndex] = null;
+
+        while (current != null) {
+            next = current.getNext();
+            int index = Hashing.indexFor(Hashing.hash(current.getElement(), seed), buckets.length);
+            current.setNext(buckets[index]);
+            buckets[index] = current;
+            current = next;
         }
-        toRemove.clear();
-        size--;
+    }
+
+    /**
+     * Allocates a bucket array of the given length and updates the resize threshold.
+     *
+     * @param capacity the number of buckets
+     * @return the new, empty bucket array
+     */
+    @SuppressWarnings("unchecked")
+    private SinglyLinkedNode<E>[] newTable(int capacity) {
+        threshold = (int) Math.min(capacity * (double) loadFactor, Integer.MAX_VALUE);
+        return (SinglyLinkedNode<E>[]) new SinglyLinkedNode[capacity];
     }
 
     /**
@@ -191,4 +416,136 @@ public class HashSet<E> implements Set<E> {
             current = next;
         }
     }
+
+    private class Itr implements Iterator<E> {
+        private final SinglyLinkedNode<E>[] oldTable = oldBuckets;
+        private final int oldStart = migrationIndex;
+        private final SinglyLinkedNode<E>[] table = buckets;
+        private final int fence = bucketCount();
+        private SinglyLinkedNode<E> next;
+        private int position;
+        private E lastReturned;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        Itr() { advance(null); }
+
+        @Override
+        public boolean hasNext() { return next != null; }
+
+        @Override
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (next == null) throw new NoSuchElementException("No more elements to iterate.");
+
+            SinglyLinkedNode<E> node = next;
+            advance(node.getNext());
+
+            lastReturned = node.getElement();
+            canRemove = true;
+
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            removeElement(lastReturned);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Moves to the given node or, if it is {@code null}, to the head of the next non-empty bucket.
+         */
+        private void advance(SinglyLinkedNode<E> node) {
+            while (node == null && position < fence) node = bucketAt(oldTable, oldStart, table, position++);
+            next = node;
+        }
+    }
+
+    /**
+     * A fail-fast spliterator over a range of bucket positions, bound to the tables and
+     * modification count at creation. Positions count the pending buckets of the previous table
+     * first, then those of the current table. {@link #trySplit()} hands off the lower half of the
+     * remaining positions and halves the size estimate, which is only exact until the first split.
+     */
+    private class BucketSpliterator implements Spliterator<E> {
+        private final SinglyLinkedNode<E>[] oldTable;
+        private final int oldStart;
+        private final SinglyLinkedNode<E>[] table;
+        private final int expectedModCount;
+        private final int fence;
+        private int index;
+        private SinglyLinkedNode<E> current;
+        private long estimate;
+        private boolean exact;
+
+        BucketSpliterator(SinglyLinkedNode<E>[] oldTable, int oldStart, SinglyLinkedNode<E>[] table,
+                          int origin, int fence, long estimate, int expectedModCount) {
+            this.oldTable = oldTable;
+            this.oldStart = oldStart;
+            this.table = table;
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.expectedModCount = expectedModCount;
+            this.exact = origin == 0 && fence == (oldTable != null ? oldTable.length - oldStart : 0) + table.length;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int low = index;
+            int middle = (low + fence) >>> 1;
+            if (low >= middle || current != null) return null;
+
+            BucketSpliterator prefix = new BucketSpliterator(oldTable, oldStart, table, low, middle, estimate >>>= 1, expectedModCount);
+            exact = false;
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) throws NullPointerException {
+            Objects.requireNonNull(action, "Action cannot be null.");
+
+            while (current != null || index < fence) {
+                if (current == null) {
+                    current = bucketAt(oldTable, oldStart, table, index++);
+                } else {
+                    E element = current.getElement();
+                    current = current.getNext();
+                    action.accept(element);
+                    validateModCount(expectedModCount, modCount);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) throws NullPointerException {
+            Objects.requireNonNull(action, "Action cannot be null.");
+
+            SinglyLinkedNode<E> node = current;
+            current = null;
+
+            while (node != null || index < fence) {
+                if (node == null) node = bucketAt(oldTable, oldStart, table, index++);
+                while (node != null) {
+                    action.accept(node.getElement());
+                    node = node.getNext();
+                }
+            }
+            validateModCount(expectedModCount, modCount);
+        }
+
+        @Override
+        public long estimateSize() { return estimate; }
+
+        @Override
+        public int characteristics() { return Spliterator.DISTINCT | (exact ? Spliterator.SIZED : 0); }
+    }
 }
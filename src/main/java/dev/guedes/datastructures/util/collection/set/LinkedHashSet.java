@@ -0,0 +1,225 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.internal.nodes.DoublyLinkedNode;
+import dev.guedes.datastructures.util.collection.map.Hashtable;
+import dev.guedes.datastructures.util.collection.map.Map;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A hash set that remembers the order in which its elements were inserted.
+ * <p>
+ * Every element is held by a node of a doubly linked list in insertion order, and a hash table
+ * maps each element to its node. {@code add}, {@code remove} and {@code contains} therefore run
+ * in constant time, like in a {@link HashSet}, while iteration visits the elements in the order
+ * they were first added. Re-adding an element that is already present does not change its
+ * position. The {@code null} element is held by a node kept outside the hash table.
+ *
+ * @param <E> the type of elements maintained by this set
+ *
+ * @author João Guedes
+ */
+public class LinkedHashSet<E> implements Set<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<E, DoublyLinkedNode<E>> index;
+    private DoublyLinkedNode<E> nullNode;
+    private DoublyLinkedNode<E> first;
+    private DoublyLinkedNode<E> last;
+    private int size;
+    private int modCount;
+
+    /**
+     * Creates a set whose hash table initially has the given number of buckets.
+     *
+     * @param capacity the initial number of buckets
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public LinkedHashSet(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive. Provided value: " + capacity + ".");
+        }
+
+        this.index = new Hashtable<>(capacity);
+        this.size = 0;
+    }
+
+    public LinkedHashSet() { this(DEFAULT_CAPACITY); }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Appends the specified element if it is not already present in the set.
+     *
+     * @param element the element to be added
+     * @return {@code true} if the element was successfully added, {@code false} if it was a duplicate
+     */
+    @Override
+    public boolean add(E element) {
+        if (contains(element)) return false;
+
+        DoublyLinkedNode<E> node = new DoublyLinkedNode<>(last, element, null);
+
+        if (last == null) {
+            first = node;
+        } else {
+            last.setNext(node);
+        }
+        last = node;
+
+        if (element == null) {
+            nullNode = node;
+        } else {
+            index.put(element, node);
+        }
+
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(E element) {
+        DoublyLinkedNode<E> node;
+
+        if (element == null) {
+            node = nullNode;
+            nullNode = null;
+        } else {
+            node = index.remove(element);
+        }
+
+        if (node == null) return false;
+
+        unlink(node);
+        size--;
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(E element) { return element == null ? nullNode != null : index.containsKey(element); }
+
+    /**
+     * Performs the given action for each element, in insertion order.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the action is {@code null}
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        for (DoublyLinkedNode<E> current = first; current != null; current = current.getNext()) {
+            action.accept(current.getElement());
+        }
+    }
+
+    /**
+     * Returns a fail-fast iterator over the elements, in insertion order.
+     *
+     * @return an iterator over the elements of the set
+     */
+    @Override
+    public Iterator<E> iterator() { return new Itr(); }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.DISTINCT);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int[] position = {0};
+
+        forEach(element -> array[position[0]++] = element);
+
+        return array;
+    }
+
+    @Override
+    public void clear() {
+        for (DoublyLinkedNode<E> current = first, next; current != null; current = next) {
+            next = current.getNext();
+            current.clear();
+        }
+
+        index.clear();
+        nullNode = first = last = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        forEach(element -> sb.append(element).append(", "));
+        sb.setLength(sb.length() - 2);
+
+        return "[" + sb + "]";
+    }
+
+    private void unlink(DoublyLinkedNode<E> node) {
+        DoublyLinkedNode<E> previous = node.getPrevious();
+        DoublyLinkedNode<E> next = node.getNext();
+
+        if (previous == null) {
+            first = next;
+        } else {
+            previous.setNext(next);
+        }
+
+        if (next == null) {
+            last = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+
+        node.clear();
+    }
+
+    private class Itr implements Iterator<E> {
+        private DoublyLinkedNode<E> next = first;
+        private DoublyLinkedNode<E> lastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() { return next != null; }
+
+        @Override
+        public E next() {
+            validateModCount(expectedModCount, modCount);
+            if (next == null) throw new NoSuchElementException("No more elements to iterate.");
+
+            lastReturned = next;
+            next = next.getNext();
+
+            return lastReturned.getElement();
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            LinkedHashSet.this.remove(lastReturned.getElement());
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+    }
+}
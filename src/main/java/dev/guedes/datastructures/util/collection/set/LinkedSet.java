@@ -1,17 +1,39 @@
 package dev.guedes.datastructures.util.collection.set;
 
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+import dev.guedes.datastructures.util.collection.internal.nodes.SinglyLinkedNode;
 import dev.guedes.datastructures.util.collection.list.SinglyLinkedList;
 
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateIndexForAdd;
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateRange;
+
 /**
  * A set implementation backed by a singly linked list, ensuring element uniqueness.
  *
  * <p>Overrides list methods to ensure no duplicate elements are stored.
  *
+ * <p>A {@link HashSet} of the elements is kept alongside the list, so {@code contains} and the
+ * duplicate check of every insertion run in constant time instead of walking the list. Looking
+ * up the position of an element, or removing it, only walks the list when the element is
+ * actually present.
+ *
+ * <p>The bulk operations skip duplicates like {@code add} does and remove in a single traversal,
+ * so {@code retainAll} and {@code removeAll} run in linear time. Its list iterator follows the
+ * same rules, and keeps the hash set in step with every change made through it.
+ *
  * @param <E> the type of elements maintained by this set
  *
  * @author João Guedes
  */
 public class LinkedSet<E> extends SinglyLinkedList<E> implements Set<E> {
+    private final HashSet<E> index = new HashSet<>();
+
     /**
      * Adds the specified element if it is not already present in the set.
      *
@@ -19,7 +41,7 @@ public class LinkedSet<E> extends SinglyLinkedList<E> implements Set<E> {
      * @return {@code true} if the element was successfully added, {@code false} if it was a duplicate
      */
     @Override
-    public boolean add(E element) { return !contains(element) && super.add(element); }
+    public boolean add(E element) { return index.add(element) && super.add(element); }
 
     /**
      * Inserts the specified element at the specified position if it is not already present in the set.
@@ -29,7 +51,93 @@ public class LinkedSet<E> extends SinglyLinkedList<E> implements Set<E> {
      */
     @Override
     public void add(int index, E element) {
-        if (!contains(element)) super.add(index, element);
+        if (contains(element)) return;
+
+        super.add(index, element);
+        this.index.add(element);
+    }
+
+    @Override
+    public boolean remove(E element) { return index.remove(element) && super.remove(element); }
+
+    @Override
+    public E remove(int index) {
+        E removedElement = super.remove(index);
+        this.index.remove(removedElement);
+        return removedElement;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) throws NullPointerException {
+        return Set.super.addAll(collection);
+    }
+
+    /**
+     * Inserts every element of the given collection that is not already present at the specified
+     * position, splicing them in with a single traversal.
+     *
+     * @param index the index at which the first new element is to be inserted
+     * @param collection the elements to be inserted
+     * @return {@code true} if the set changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int index, Collection<? extends E> collection) throws IndexOutOfBoundsException, NullPointerException {
+        validateIndexForAdd(index, size());
+        Objects.requireNonNull(collection, "Collection cannot be null.");
+
+        SinglyLinkedList<E> added = new SinglyLinkedList<>();
+
+        for (Object candidate : collection.toArray()) {
+            if (this.index.add((E) candidate)) added.add((E) candidate);
+        }
+
+        return super.addAll(index, added);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) throws NullPointerException {
+        Objects.requireNonNull(filter, "Filter cannot be null.");
+
+        return super.removeIf(element -> {
+            if (!filter.test(element)) return false;
+
+            index.remove(element);
+            return true;
+        });
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        validateRange(fromIndex, toIndex, size());
+
+        SinglyLinkedNode<E> current = first;
+        for (int i = 0; i < toIndex; i++) {
+            if (i >= fromIndex) index.remove(current.getElement());
+            current = current.getNext();
+        }
+
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean retainAll(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        return other != this && removeIf(element -> !other.contains(element));
+    }
+
+    @Override
+    public boolean removeAll(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        if (other != this) return removeIf(other::contains);
+
+        boolean changed = !isEmpty();
+        clear();
+        return changed;
     }
 
     /**
@@ -41,9 +149,95 @@ public class LinkedSet<E> extends SinglyLinkedList<E> implements Set<E> {
      */
     @Override
     public E set(int index, E element) {
-        if (!contains(element)) {
-            return super.set(index, element);
+        if (contains(element)) {
+            return get(index);
+        }
+
+        E oldElement = super.set(index, element);
+        this.index.remove(oldElement);
+        this.index.add(element);
+
+        return oldElement;
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        return new ListItr(super.listIterator(index));
+    }
+
+    @Override
+    public int indexOf(E element) { return contains(element) ? super.indexOf(element) : -1; }
+
+    @Override
+    public int lastIndexOf(E element) { return indexOf(element); }
+
+    @Override
+    public boolean contains(E element) { return index.contains(element); }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.DISTINCT);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        index.clear();
+    }
+
+    /**
+     * Wraps the list iterator of the underlying list, skipping insertions and replacements of
+     * elements already present and updating the hash set after every change.
+     */
+    private class ListItr implements ListIterator<E> {
+        private final ListIterator<E> iterator;
+        private E lastReturned;
+
+        ListItr(ListIterator<E> iterator) { this.iterator = iterator; }
+
+        @Override
+        public boolean hasNext() { return iterator.hasNext(); }
+
+        @Override
+        public E next() { return lastReturned = iterator.next(); }
+
+        @Override
+        public boolean hasPrevious() { return iterator.hasPrevious(); }
+
+        @Override
+        public E previous() { return lastReturned = iterator.previous(); }
+
+        @Override
+        public int nextIndex() { return iterator.nextIndex(); }
+
+        @Override
+        public int previousIndex() { return iterator.previousIndex(); }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            index.remove(lastReturned);
+        }
+
+        @Override
+        public void set(E element) {
+            if (contains(element)) {
+                iterator.set(lastReturned);
+                return;
+            }
+
+            iterator.set(element);
+            index.remove(lastReturned);
+            index.add(element);
+            lastReturned = element;
+        }
+
+        @Override
+        public void add(E element) {
+            if (contains(element)) return;
+
+            iterator.add(element);
+            index.add(element);
         }
-        return get(index);
     }
 }
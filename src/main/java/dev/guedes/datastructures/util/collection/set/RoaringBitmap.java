@@ -0,0 +1,1016 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import dev.guedes.datastructures.util.Objects;
+import dev.guedes.datastructures.util.collection.Collection;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static dev.guedes.datastructures.util.collection.internal.validation.Validator.validateModCount;
+
+/**
+ * A compressed set of integers following the Roaring bitmap layout.
+ * <p>
+ * Values are split into their high and low 16 bits. Each distinct high half owns a container
+ * holding the low halves that share it, and containers are kept in a sorted array searched by
+ * binary search. A container is stored in whichever of three forms suits its contents:
+ * <ul>
+ *   <li>an <em>array</em> container, a sorted {@code char} array, while it holds at most
+ *   {@value #ARRAY_CONTAINER_MAXIMUM} values;</li>
+ *   <li>a <em>bitmap</em> container, 1024 {@code long} words with one bit per low half, once it
+ *   holds more;</li>
+ *   <li>a <em>run</em> container, a list of {@code [start, length]} pairs, chosen by
+ *   {@link #runOptimize()} when the values form few long runs.</li>
+ * </ul>
+ * Sparse and dense regions of the same set are thus each stored compactly, and the bulk
+ * operations {@link #and(RoaringBitmap)}, {@link #or(RoaringBitmap)} and
+ * {@link #andNot(RoaringBitmap)} merge the two sorted container arrays and combine matching
+ * containers with array merges or 64-bit word operations. The bulk {@link Set} operations use
+ * them whenever the other set is also a Roaring bitmap.
+ * <p>
+ * Values are treated as unsigned, so the whole {@code int} range can be stored and negative
+ * values are visited after all non-negative ones. The {@link Set} operations reject {@code null}.
+ *
+ * @author João Guedes
+ */
+public class RoaringBitmap implements Set<Integer> {
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int ARRAY_CONTAINER_MAXIMUM = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int BITMAP_BYTES = BITMAP_WORDS * Long.BYTES;
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private long cardinality;
+    private int modCount;
+
+    public RoaringBitmap() {
+        this.keys = new char[DEFAULT_CAPACITY];
+        this.containers = new Container[DEFAULT_CAPACITY];
+        this.containerCount = 0;
+        this.cardinality = 0;
+    }
+
+    /**
+     * Returns the number of values in the set, saturated to {@link Integer#MAX_VALUE}.
+     *
+     * @return the number of values
+     */
+    @Override
+    public int size() { return (int) Math.min(cardinality, Integer.MAX_VALUE); }
+
+    @Override
+    public boolean isEmpty() { return cardinality == 0; }
+
+    /**
+     * Returns the number of values in the set.
+     *
+     * @return the exact number of values, which may exceed {@link Integer#MAX_VALUE}
+     */
+    public long cardinality() { return cardinality; }
+
+    /**
+     * Adds the specified value if it is not already present.
+     *
+     * @param value the value to add
+     * @return {@code true} if the value was added, {@code false} if it was already present
+     */
+    public boolean add(int value) {
+        char high = highBits(value);
+        char low = (char) value;
+        int index = findKey(high);
+
+        if (index < 0) {
+            insertContainer(-index - 1, high, new ArrayContainer(low));
+        } else if (containers[index].contains(low)) {
+            return false;
+        } else {
+            containers[index] = containers[index].add(low);
+        }
+
+        cardinality++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds the specified value if it is not already present.
+     *
+     * @param element the value to add
+     * @return {@code true} if the value was added, {@code false} if it was already present
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public boolean add(Integer element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+        return add(element.intValue());
+    }
+
+    /**
+     * Removes the specified value if it is present.
+     *
+     * @param value the value to remove
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(int value) {
+        char low = (char) value;
+        int index = findKey(highBits(value));
+
+        if (index < 0 || !containers[index].contains(low)) return false;
+
+        Container container = containers[index].remove(low);
+
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+
+        cardinality--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the specified value if it is present.
+     *
+     * @param element the value to remove
+     * @return {@code true} if the value was present
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public boolean remove(Integer element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+        return remove(element.intValue());
+    }
+
+    /**
+     * Returns {@code true} if the specified value is present.
+     *
+     * @param value the value to look for
+     * @return {@code true} if the value is in the set
+     */
+    public boolean contains(int value) {
+        int index = findKey(highBits(value));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    /**
+     * Returns {@code true} if the specified value is present.
+     *
+     * @param element the value to look for
+     * @return {@code true} if the value is in the set
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public boolean contains(Integer element) throws NullPointerException {
+        Objects.requireNonNull(element, "Element cannot be null.");
+        return contains(element.intValue());
+    }
+
+    /**
+     * Keeps only the values that are also present in the other set.
+     *
+     * @param other the set to intersect with
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    public void and(RoaringBitmap other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < containerCount && j < other.containerCount) {
+            int comparison = Character.compare(keys[i], other.keys[j]);
+
+            if (comparison < 0) {
+                i++;
+            } else if (comparison > 0) {
+                j++;
+            } else {
+                result.appendContainer(keys[i], Container.and(containers[i++], other.containers[j++]));
+            }
+        }
+
+        replaceContents(result);
+    }
+
+    /**
+     * Adds every value of the other set.
+     *
+     * @param other the set to unite with
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    public void or(RoaringBitmap other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < containerCount || j < other.containerCount) {
+            int comparison = i == containerCount ? 1
+                    : j == other.containerCount ? -1
+                    : Character.compare(keys[i], other.keys[j]);
+
+            if (comparison < 0) {
+                result.appendContainer(keys[i], containers[i++]);
+            } else if (comparison > 0) {
+                result.appendContainer(other.keys[j], other.containers[j++].copy());
+            } else {
+                result.appendContainer(keys[i], Container.or(containers[i++], other.containers[j++]));
+            }
+        }
+
+        replaceContents(result);
+    }
+
+    /**
+     * Removes every value present in the other set.
+     *
+     * @param other the set whose values are to be removed
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    public void andNot(RoaringBitmap other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < containerCount) {
+            int comparison = j == other.containerCount ? -1 : Character.compare(keys[i], other.keys[j]);
+
+            if (comparison < 0) {
+                result.appendContainer(keys[i], containers[i++]);
+            } else if (comparison > 0) {
+                j++;
+            } else {
+                result.appendContainer(keys[i], Container.andNot(containers[i++], other.containers[j++]));
+            }
+        }
+
+        replaceContents(result);
+    }
+
+    /**
+     * Adds every value of the given collection, with a single {@link #or(RoaringBitmap)} when it
+     * is another Roaring bitmap.
+     *
+     * @param elements the values to be added
+     * @return {@code true} if the set changed as a result of the call
+     * @throws NullPointerException if the collection, or any value in it, is {@code null}
+     */
+    @Override
+    public boolean addAll(Collection<? extends Integer> elements) throws NullPointerException {
+        if (!(elements instanceof RoaringBitmap other)) return Set.super.addAll(elements);
+
+        long previousCardinality = cardinality;
+        or(other);
+
+        return cardinality != previousCardinality;
+    }
+
+    @Override
+    public boolean retainAll(Set<? super Integer> other) throws NullPointerException {
+        if (!(other instanceof RoaringBitmap bitmap)) return Set.super.retainAll(other);
+
+        long previousCardinality = cardinality;
+        and(bitmap);
+
+        return cardinality != previousCardinality;
+    }
+
+    @Override
+    public boolean removeAll(Set<? super Integer> other) throws NullPointerException {
+        if (!(other instanceof RoaringBitmap bitmap)) return Set.super.removeAll(other);
+
+        long previousCardinality = cardinality;
+        andNot(bitmap);
+
+        return cardinality != previousCardinality;
+    }
+
+    @Override
+    public boolean containsAll(Set<? extends Integer> other) throws NullPointerException {
+        if (!(other instanceof RoaringBitmap bitmap)) return Set.super.containsAll(other);
+        if (bitmap.cardinality > cardinality) return false;
+
+        int i = 0;
+
+        for (int j = 0; j < bitmap.containerCount; j++) {
+            while (i < containerCount && keys[i] < bitmap.keys[j]) i++;
+
+            if (i == containerCount || keys[i] != bitmap.keys[j]) return false;
+
+            Container common = Container.and(containers[i], bitmap.containers[j]);
+            if (common == null || common.cardinality() != bitmap.containers[j].cardinality()) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a new Roaring bitmap holding the values present in this set, the given set, or both.
+     *
+     * @param other the set to unite with
+     * @return a new Roaring bitmap; neither operand is modified
+     * @throws NullPointerException if the other set, or any value in it, is {@code null}
+     */
+    @Override
+    public RoaringBitmap union(Set<? extends Integer> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        RoaringBitmap result = copy();
+        result.addAll(other);
+
+        return result;
+    }
+
+    /**
+     * Returns a new Roaring bitmap holding the values present in both this set and the given set.
+     *
+     * @param other the set to intersect with
+     * @return a new Roaring bitmap; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @Override
+    public RoaringBitmap intersection(Set<? super Integer> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        if (other instanceof RoaringBitmap bitmap) {
+            RoaringBitmap result = copy();
+            result.and(bitmap);
+            return result;
+        }
+
+        RoaringBitmap result = new RoaringBitmap();
+
+        if (other.size() < size()) {
+            other.forEach(element -> {
+                if (element instanceof Integer value && contains(value.intValue())) result.add(value.intValue());
+            });
+        } else {
+            forEachInt(value -> {
+                if (other.contains(value)) result.add(value);
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a new Roaring bitmap holding the values of this set that are not present in the
+     * given set.
+     *
+     * @param other the set whose values are to be excluded
+     * @return a new Roaring bitmap; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @Override
+    public RoaringBitmap difference(Set<? super Integer> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        RoaringBitmap result = copy();
+        result.removeAll(other);
+
+        return result;
+    }
+
+    /**
+     * Converts every container to a run container where that takes less memory than its
+     * current form, and run containers back where it does not.
+     *
+     * @return {@code true} if at least one container is a run container afterwards
+     */
+    public boolean runOptimize() {
+        boolean hasRuns = false;
+
+        for (int i = 0; i < containerCount; i++) {
+            containers[i] = containers[i].optimize();
+            hasRuns |= containers[i] instanceof RunContainer;
+        }
+
+        return hasRuns;
+    }
+
+    /**
+     * Returns an estimate of the memory taken by the containers' contents.
+     *
+     * @return the number of bytes used by the container arrays and the key array
+     */
+    public long sizeInBytes() {
+        long bytes = (long) containerCount * Character.BYTES;
+        for (int i = 0; i < containerCount; i++) bytes += containers[i].sizeInBytes();
+        return bytes;
+    }
+
+    /**
+     * Performs the given action for each value, in unsigned ascending order, without boxing.
+     *
+     * @param action the action to be performed for each value
+     * @throws NullPointerException if the action is {@code null}
+     */
+    public void forEachInt(IntConsumer action) throws NullPointerException {
+        Objects.requireNonNull(action, "Action cannot be null.");
+
+        for (int i = 0; i < containerCount; i++) containers[i].forEach(keys[i] << 16, action);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        Objects.requireNonNull(action, "Action cannot be null.");
+        forEachInt(action::accept);
+    }
+
+    /**
+     * Returns a fail-fast iterator over the values, in unsigned ascending order, that decodes one
+     * container at a time into a reusable buffer.
+     *
+     * @return an iterator over the values of the set
+     */
+    @Override
+    public Iterator<Integer> iterator() { return new Itr(); }
+
+    /**
+     * Returns a spliterator over the values in unsigned ascending order. The order is not
+     * reported as {@link Spliterator#SORTED sorted}, since negative values come last.
+     *
+     * @return a spliterator over the values of the set
+     */
+    @Override
+    public Spliterator<Integer> spliterator() {
+        return Spliterators.spliterator(iterator(), cardinality, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns the values of the set in unsigned ascending order.
+     *
+     * @return a new array holding every value
+     */
+    public int[] toIntArray() {
+        int[] array = new int[size()];
+        int[] index = {0};
+
+        forEachInt(value -> array[index[0]++] = value);
+
+        return array;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        int[] index = {0};
+
+        forEachInt(value -> array[index[0]++] = value);
+
+        return array;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(containers, 0, containerCount, null);
+        containerCount = 0;
+        cardinality = 0;
+        modCount++;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        forEachInt(value -> sb.append(Integer.toUnsignedString(value)).append(", "));
+        sb.setLength(sb.length() - 2);
+
+        return "[" + sb + "]";
+    }
+
+    private RoaringBitmap copy() {
+        RoaringBitmap copy = new RoaringBitmap();
+
+        for (int i = 0; i < containerCount; i++) copy.appendContainer(keys[i], containers[i].copy());
+
+        return copy;
+    }
+
+    private static char highBits(int value) { return (char) (value >>> 16); }
+
+    /**
+     * Searches the sorted key array for the given high half.
+     *
+     * @param high the high 16 bits of a value
+     * @return the index of the key, or {@code -(insertionPoint + 1)} if it is absent
+     */
+    private int findKey(char high) { return Arrays.binarySearch(keys, 0, containerCount, high); }
+
+    private void insertContainer(int index, char high, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, containerCount * 2);
+            containers = Arrays.copyOf(containers, containerCount * 2);
+        }
+
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = high;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containers[--containerCount] = null;
+    }
+
+    /**
+     * Appends a container after every existing one, skipping empty results.
+     *
+     * @param high the high 16 bits shared by the container's values, greater than every existing key
+     * @param container the container to append, or {@code null} if it would be empty
+     */
+    private void appendContainer(char high, Container container) {
+        if (container == null) return;
+
+        insertContainer(containerCount, high, container);
+        cardinality += container.cardinality();
+    }
+
+    private void replaceContents(RoaringBitmap result) {
+        keys = result.keys;
+        containers = result.containers;
+        containerCount = result.containerCount;
+        cardinality = result.cardinality;
+        modCount++;
+    }
+
+    private class Itr implements Iterator<Integer> {
+        private int[] values = new int[0];
+        private int valueCount;
+        private int valueIndex;
+        private int containerIndex;
+        private int lastReturned;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() { return valueIndex < valueCount || containerIndex < containerCount; }
+
+        @Override
+        public Integer next() {
+            validateModCount(expectedModCount, modCount);
+            if (!hasNext()) throw new NoSuchElementException("No more elements to iterate.");
+
+            if (valueIndex == valueCount) decode(containerIndex++);
+
+            lastReturned = values[valueIndex++];
+            canRemove = true;
+
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException("No element to remove.");
+            validateModCount(expectedModCount, modCount);
+
+            int previousCount = containerCount;
+            RoaringBitmap.this.remove(lastReturned);
+            if (containerCount < previousCount) containerIndex--;
+
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Decodes the values of a container into the buffer, which is reused while large enough.
+         */
+        private void decode(int index) {
+            Container container = containers[index];
+            if (values.length < container.cardinality()) values = new int[container.cardinality()];
+
+            valueCount = 0;
+            valueIndex = 0;
+            container.forEach(keys[index] << 16, value -> values[valueCount++] = value);
+        }
+    }
+
+    /**
+     * The values of a set sharing the same high 16 bits, stored by their low 16 bits.
+     * <p>
+     * Mutating methods may return a container of another form; callers must keep the returned
+     * container in place of the receiver.
+     */
+    private abstract static class Container {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        /**
+         * Adds a value that is not present.
+         *
+         * @return the container now holding the value
+         */
+        abstract Container add(char value);
+
+        /**
+         * Removes a value that is present.
+         *
+         * @return the container now lacking the value
+         */
+        abstract Container remove(char value);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        /**
+         * Returns the contents as a new bitmap, one bit per low half.
+         */
+        abstract long[] toWords();
+
+        abstract Container copy();
+
+        abstract long sizeInBytes();
+
+        /**
+         * Returns the smallest form of this container, which may be this container itself.
+         */
+        Container optimize() {
+            long[] words = toWords();
+            int runs = countRuns(words);
+            int card = cardinality();
+            long currentBest = card <= ARRAY_CONTAINER_MAXIMUM ? (long) card * Character.BYTES : BITMAP_BYTES;
+
+            if ((long) runs * 2 * Character.BYTES < currentBest) {
+                return this instanceof RunContainer ? this : RunContainer.fromWords(words, runs);
+            }
+
+            return this instanceof RunContainer ? fromWords(words) : this;
+        }
+
+        static Container and(Container a, Container b) {
+            if (a instanceof ArrayContainer array) return array.filter(b, true);
+            if (b instanceof ArrayContainer array) return array.filter(a, true);
+
+            long[] words = a.toWords();
+            long[] otherWords = b.toWords();
+
+            for (int i = 0; i < BITMAP_WORDS; i++) words[i] &= otherWords[i];
+
+            return fromWords(words);
+        }
+
+        static Container or(Container a, Container b) {
+            if (a instanceof ArrayContainer array && b instanceof ArrayContainer otherArray) {
+                return array.union(otherArray);
+            }
+
+            long[] words = a.toWords();
+            long[] otherWords = b.toWords();
+
+            for (int i = 0; i < BITMAP_WORDS; i++) words[i] |= otherWords[i];
+
+            return fromWords(words);
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a instanceof ArrayContainer array) return array.filter(b, false);
+
+            long[] words = a.toWords();
+            long[] otherWords = b.toWords();
+
+            for (int i = 0; i < BITMAP_WORDS; i++) words[i] &= ~otherWords[i];
+
+            return fromWords(words);
+        }
+
+        /**
+         * Builds an array or bitmap container from a bitmap, depending on its cardinality.
+         *
+         * @return the container, or {@code null} if the bitmap is empty
+         */
+        static Container fromWords(long[] words) {
+            int card = 0;
+            for (long word : words) card += Long.bitCount(word);
+
+            if (card == 0) return null;
+            if (card > ARRAY_CONTAINER_MAXIMUM) return new BitmapContainer(words, card);
+
+            char[] values = new char[card];
+            int index = 0;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+
+                while (word != 0) {
+                    values[index++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+
+            return new ArrayContainer(values, card);
+        }
+
+        /**
+         * Counts the maximal runs of consecutive set bits in a bitmap.
+         */
+        static int countRuns(long[] words) {
+            int runs = 0;
+
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long nextBit = i + 1 < BITMAP_WORDS ? words[i + 1] & 1L : 0L;
+                long runEnds = words[i] & ~((words[i] >>> 1) | (nextBit << 63));
+                runs += Long.bitCount(runEnds);
+            }
+
+            return runs;
+        }
+    }
+
+    /**
+     * A sorted array of at most {@value #ARRAY_CONTAINER_MAXIMUM} low halves.
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        private ArrayContainer(char value) { this(new char[] {value, 0, 0, 0}, 1); }
+
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() { return cardinality; }
+
+        @Override
+        boolean contains(char value) { return Arrays.binarySearch(values, 0, cardinality, value) >= 0; }
+
+        @Override
+        Container add(char value) {
+            if (cardinality == ARRAY_CONTAINER_MAXIMUM) {
+                return new BitmapContainer(toWords(), cardinality).add(value);
+            }
+
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CONTAINER_MAXIMUM));
+            }
+
+            int index = -Arrays.binarySearch(values, 0, cardinality, value) - 1;
+
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+
+            return this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) action.accept(high | values[i]);
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) words[values[i] >>> 6] |= 1L << values[i];
+            return words;
+        }
+
+        @Override
+        Container copy() { return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality); }
+
+        @Override
+        long sizeInBytes() { return (long) cardinality * Character.BYTES; }
+
+        /**
+         * Keeps the values whose presence in the other container matches the given flag.
+         *
+         * @return the filtered container, or {@code null} if no value is kept
+         */
+        Container filter(Container other, boolean present) {
+            char[] kept = new char[cardinality];
+            int count = 0;
+
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == present) kept[count++] = values[i];
+            }
+
+            return count == 0 ? null : new ArrayContainer(kept, count);
+        }
+
+        /**
+         * Merges two sorted arrays, switching to a bitmap if the union is too large for an array.
+         */
+        Container union(ArrayContainer other) {
+            if (cardinality + other.cardinality > ARRAY_CONTAINER_MAXIMUM) {
+                long[] words = toWords();
+                for (int i = 0; i < other.cardinality; i++) words[other.values[i] >>> 6] |= 1L << other.values[i];
+                return fromWords(words);
+            }
+
+            char[] merged = new char[cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+
+            while (i < cardinality && j < other.cardinality) {
+                if (values[i] < other.values[j]) {
+                    merged[count++] = values[i++];
+                } else if (values[i] > other.values[j]) {
+                    merged[count++] = other.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+
+            while (i < cardinality) merged[count++] = values[i++];
+            while (j < other.cardinality) merged[count++] = other.values[j++];
+
+            return new ArrayContainer(merged, count);
+        }
+    }
+
+    /**
+     * A bitmap of 65,536 bits, one per low half.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() { return cardinality; }
+
+        @Override
+        boolean contains(char value) { return (words[value >>> 6] & (1L << value)) != 0; }
+
+        @Override
+        Container add(char value) {
+            words[value >>> 6] |= 1L << value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            words[value >>> 6] &= ~(1L << value);
+            cardinality--;
+            return cardinality <= ARRAY_CONTAINER_MAXIMUM ? fromWords(words) : this;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+
+                while (word != 0) {
+                    action.accept(high | (i * Long.SIZE + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long[] toWords() { return words.clone(); }
+
+        @Override
+        Container copy() { return new BitmapContainer(words.clone(), cardinality); }
+
+        @Override
+        long sizeInBytes() { return BITMAP_BYTES; }
+    }
+
+    /**
+     * A sorted list of runs, each stored as its first low half followed by its length minus one.
+     */
+    private static final class RunContainer extends Container {
+        private final char[] runs;
+        private final int runCount;
+        private final int cardinality;
+
+        private RunContainer(char[] runs, int runCount) {
+            int card = 0;
+            for (int i = 0; i < runCount; i++) card += runs[2 * i + 1] + 1;
+
+            this.runs = runs;
+            this.runCount = runCount;
+            this.cardinality = card;
+        }
+
+        static RunContainer fromWords(long[] words, int runCount) {
+            char[] runs = new char[runCount * 2];
+            int run = 0;
+            int start = nextBit(words, 0, true);
+
+            while (start >= 0) {
+                int end = nextBit(words, start, false);
+                runs[run++] = (char) start;
+                runs[run++] = (char) (end - start - 1);
+                start = end < CHUNK_SIZE ? nextBit(words, end, true) : -1;
+            }
+
+            return new RunContainer(runs, runCount);
+        }
+
+        /**
+         * Finds the first bit at or after the given position that is set or clear.
+         *
+         * @return the bit's position, or {@code -1} when looking for a set bit and
+         *         {@value #CHUNK_SIZE} when looking for a clear bit, if there is none
+         */
+        private static int nextBit(long[] words, int from, boolean set) {
+            int wordIndex = from >>> 6;
+            long word = (set ? words[wordIndex] : ~words[wordIndex]) & (-1L << from);
+
+            while (true) {
+                if (word != 0) return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+                if (++wordIndex == BITMAP_WORDS) return set ? -1 : CHUNK_SIZE;
+                word = set ? words[wordIndex] : ~words[wordIndex];
+            }
+        }
+
+        @Override
+        int cardinality() { return cardinality; }
+
+        @Override
+        boolean contains(char value) {
+            int low = 0;
+            int high = runCount - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char start = runs[2 * middle];
+
+                if (value < start) {
+                    high = middle - 1;
+                } else if (value - start > runs[2 * middle + 1]) {
+                    low = middle + 1;
+                } else {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        Container add(char value) { return Container.fromWords(toWords()).add(value); }
+
+        @Override
+        Container remove(char value) { return Container.fromWords(toWords()).remove(value); }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < runCount; i++) {
+                int start = runs[2 * i];
+                int end = start + runs[2 * i + 1];
+
+                for (int value = start; value <= end; value++) action.accept(high | value);
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+
+            for (int i = 0; i < runCount; i++) {
+                int start = runs[2 * i];
+                int end = start + runs[2 * i + 1];
+
+                for (int value = start; value <= end; value++) words[value >>> 6] |= 1L << value;
+            }
+
+            return words;
+        }
+
+        @Override
+        Container copy() { return this; }
+
+        @Override
+        long sizeInBytes() { return (long) runCount * 2 * Character.BYTES; }
+    }
+}
@@ -1,15 +1,23 @@
 package dev.guedes.datastructures.util.collection.set;
 
+import dev.guedes.datastructures.util.Objects;
 import dev.guedes.datastructures.util.collection.Collection;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 /**
  * A collection that contains no duplicate elements.
  *
  * <p>More formally, sets contain at most one occurrence of each element. They model
  * the mathematical concept of a set and are typically used when uniqueness is a requirement.
  *
- * <p>This interface extends {@link Collection} but does not declare new methods. Implementations
- * must override modification methods (like {@code add}, {@code set}, etc.) to enforce uniqueness.
+ * <p>Besides the {@link Collection} operations, sets support bulk set algebra: the mutating
+ * {@link #addAll(Collection)}, {@link #retainAll(Set)} and {@link #removeAll(Set)}, the query
+ * {@link #containsAll(Set)}, and the non-mutating {@link #union(Set)}, {@link #intersection(Set)}
+ * and {@link #difference(Set)}. The default implementations rely only on {@code contains},
+ * {@code add} and {@code remove}, and iterate the smaller of the two sets wherever the result
+ * allows it. Implementations with a more suitable layout, such as bitmaps, override them.
  *
  * @param <E> the type of elements maintained by this set
  *
@@ -17,4 +25,176 @@ import dev.guedes.datastructures.util.collection.Collection;
  *
  * @author João Guedes
  */
-public interface Set<E> extends Collection<E> {}
+public interface Set<E> extends Collection<E> {
+    /**
+     * Returns a spliterator over the elements of the set, reporting them as
+     * {@link Spliterator#DISTINCT distinct}.
+     *
+     * @return a spliterator over the elements of the set
+     */
+    @Override
+    default Spliterator<E> spliterator() { return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT); }
+
+    /**
+     * Adds every element of the given collection that is not already present.
+     *
+     * @param elements the elements to be added
+     * @return {@code true} if the set changed as a result of the call
+     * @throws NullPointerException if the collection is {@code null}
+     */
+    default boolean addAll(Collection<? extends E> elements) throws NullPointerException {
+        Objects.requireNonNull(elements, "Collection cannot be null.");
+
+        int previousSize = size();
+        elements.forEach(this::add);
+
+        return size() != previousSize;
+    }
+
+    /**
+     * Keeps only the elements that are also present in the given set.
+     *
+     * @param other the set whose elements are to be kept
+     * @return {@code true} if the set changed as a result of the call
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default boolean retainAll(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        if (other == this) return false;
+
+        int previousSize = size();
+
+        for (Object element : toArray()) {
+            if (!other.contains((E) element)) remove((E) element);
+        }
+
+        return size() != previousSize;
+    }
+
+    /**
+     * Removes every element that is present in the given set.
+     * <p>
+     * The default implementation removes the elements of the other set when it is the smaller
+     * one, and otherwise looks up each element of this set in it.
+     *
+     * @param other the set whose elements are to be removed
+     * @return {@code true} if the set changed as a result of the call
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default boolean removeAll(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        int previousSize = size();
+
+        if (other == this) {
+            clear();
+        } else if (other.size() < previousSize) {
+            for (Object element : other.toArray()) remove((E) element);
+        } else {
+            for (Object element : toArray()) {
+                if (other.contains((E) element)) remove((E) element);
+            }
+        }
+
+        return size() != previousSize;
+    }
+
+    /**
+     * Checks whether every element of the given set is present in this set.
+     *
+     * @param other the set whose elements are to be looked up
+     * @return {@code true} if the other set is a subset of this set
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    default boolean containsAll(Set<? extends E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        if (other.size() > size()) return false;
+
+        for (Object element : other.toArray()) {
+            @SuppressWarnings("unchecked")
+            E candidate = (E) element;
+            if (!contains(candidate)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a new set holding the elements present in this set, the given set, or both.
+     *
+     * @param other the set to unite with
+     * @return a new set; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    default Set<E> union(Set<? extends E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        Set<E> result = newHashSet(size() + other.size());
+        result.addAll(this);
+        result.addAll(other);
+
+        return result;
+    }
+
+    /**
+     * Returns a new set holding the elements present in both this set and the given set.
+     * <p>
+     * The default implementation iterates the smaller set and looks up each of its elements in
+     * the larger one.
+     *
+     * @param other the set to intersect with
+     * @return a new set; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    default Set<E> intersection(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        Set<E> result = newHashSet(Math.min(size(), other.size()));
+
+        if (size() <= other.size()) {
+            forEach(element -> {
+                if (other.contains(element)) result.add(element);
+            });
+        } else {
+            for (Object element : other.toArray()) {
+                if (contains((E) element)) result.add((E) element);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a new set holding the elements of this set that are not present in the given set.
+     *
+     * @param other the set whose elements are to be excluded
+     * @return a new set; neither operand is modified
+     * @throws NullPointerException if the other set is {@code null}
+     */
+    default Set<E> difference(Set<? super E> other) throws NullPointerException {
+        Objects.requireNonNull(other, "Other set cannot be null.");
+
+        Set<E> result = newHashSet(size());
+
+        forEach(element -> {
+            if (!other.contains(element)) result.add(element);
+        });
+
+        return result;
+    }
+
+    /**
+     * Creates a hash set able to hold the given number of elements without growing.
+     *
+     * @param expectedSize the number of elements the set will hold
+     * @return a new, empty hash set
+     */
+    private static <T> Set<T> newHashSet(int expectedSize) {
+        return new HashSet<>(Math.max((int) Math.min(expectedSize / 0.75, Integer.MAX_VALUE) + 1, 1));
+    }
+}
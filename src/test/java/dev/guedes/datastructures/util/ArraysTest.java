@@ -177,6 +177,23 @@ class ArraysTest {
         assertThrows(IndexOutOfBoundsException.class, () -> Arrays.copyOfRange(array, -1, 2));
     }
 
+    @Test
+    void copyOfRange_ShouldThrowException_WhenFromExceedsLength() {
+        Integer[] array = {1,2,3};
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Arrays.copyOfRange(array, 4, 5));
+    }
+
+    @Test
+    void copyOfRange_ShouldKeepComponentTypeAndPadWithNull_WhenRangeExceedsLength() {
+        String[] array = {"a", "b"};
+
+        String[] copy = Arrays.copyOfRange(array, 1, 4);
+
+        assertArrayEquals(new String[]{"b", null, null}, copy);
+        assertEquals(String[].class, copy.getClass());
+    }
+
     @Test
     void copyOfRange_ShouldCopyCorrectly() {
         Integer[] array = {1,2,3,4,5};
@@ -330,6 +347,15 @@ class ArraysTest {
         assertArrayEquals(new Integer[]{1,2,1,2,3}, array);
     }
 
+    @Test
+    void arraycopy_ShouldShiftLeft_WhenRangesOverlapInSameArray() {
+        Integer[] array = {1,2,3,4,5};
+
+        Arrays.arraycopy(array, 2, array, 0, 3);
+
+        assertArrayEquals(new Integer[]{3,4,5,4,5}, array);
+    }
+
     @Test
     void fill_ShouldThrowException_WhenArrayIsNull() {
         assertThrows(NullPointerException.class, () -> Arrays.fill(null, 1));
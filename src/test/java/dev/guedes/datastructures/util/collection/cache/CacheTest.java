@@ -0,0 +1,147 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Abstract test class for {@link Cache} implementations.
+ *
+ * @author João Guedes
+ */
+abstract class CacheTest {
+    /**
+     * Creates a cache able to hold at least the given number of entries.
+     */
+    protected abstract Cache<String, Integer> createCache(int maximumSize);
+
+    @Test
+    void size_ShouldReturnZero_WhenCacheIsEmpty() {
+        Cache<String, Integer> cache = createCache(10);
+
+        assertEquals(0, cache.size());
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    void put_ShouldCacheValue_WhenKeyIsNew() {
+        Cache<String, Integer> cache = createCache(10);
+
+        assertNull(cache.put("a", 1));
+
+        assertEquals(1, cache.size());
+        assertFalse(cache.isEmpty());
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void put_ShouldReplaceValue_WhenKeyIsCached() {
+        Cache<String, Integer> cache = createCache(10);
+
+        cache.put("a", 1);
+
+        assertEquals(1, cache.put("a", 2));
+        assertEquals(2, cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void put_ShouldThrowException_WhenKeyOrValueIsNull() {
+        Cache<String, Integer> cache = createCache(10);
+
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("a", null));
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenKeyIsNotCached() {
+        assertNull(createCache(10).get("a"));
+    }
+
+    @Test
+    void get_ShouldThrowException_WhenKeyIsNull() {
+        Cache<String, Integer> cache = createCache(10);
+
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+
+    @Test
+    void stats_ShouldCountHitsAndMisses_WhenValuesAreLookedUp() {
+        Cache<String, Integer> cache = createCache(10);
+
+        cache.put("a", 1);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        CacheStats stats = cache.stats();
+
+        assertEquals(2, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(0, stats.evictionCount());
+        assertEquals(3, stats.requestCount());
+        assertEquals(2.0 / 3, stats.hitRate());
+        assertEquals(1.0 / 3, stats.missRate());
+    }
+
+    @Test
+    void stats_ShouldReportPerfectHitRate_WhenNothingWasLookedUp() {
+        CacheStats stats = createCache(10).stats();
+
+        assertEquals(1.0, stats.hitRate());
+        assertEquals(0.0, stats.missRate());
+    }
+
+    @Test
+    void containsKey_ShouldNotRecordStats_WhenCheckingPresence() {
+        Cache<String, Integer> cache = createCache(10);
+
+        cache.put("a", 1);
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(0, cache.stats().requestCount());
+    }
+
+    @Test
+    void remove_ShouldDiscardEntry_WhenKeyIsCached() {
+        Cache<String, Integer> cache = createCache(10);
+
+        cache.put("a", 1);
+
+        assertEquals(1, cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertFalse(cache.containsKey("a"));
+        assertEquals(0, cache.stats().evictionCount());
+    }
+
+    @Test
+    void clear_ShouldDiscardAllEntries_WhenCacheHasEntries() {
+        Cache<String, Integer> cache = createCache(10);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.clear();
+
+        assertTrue(cache.isEmpty());
+        assertNull(cache.get("a"));
+
+        cache.put("c", 3);
+
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void size_ShouldNeverExceedMaximum_WhenManyEntriesArePut() {
+        Cache<String, Integer> cache = createCache(10);
+
+        for (int i = 0; i < 100; i++) cache.put("k" + i, i);
+
+        assertEquals(10, cache.size());
+        assertEquals(90, cache.stats().evictionCount());
+    }
+}
@@ -0,0 +1,227 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link ExpiringCache}.
+ *
+ * @author João Guedes
+ */
+class ExpiringCacheTest extends CacheTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private long nanos = 0;
+    private final Ticker ticker = () -> nanos;
+    private final List<String> evicted = new ArrayList<>();
+
+    @Override
+    protected Cache<String, Integer> createCache(int maximumSize) {
+        return new ExpiringCache<>(maximumSize, TIME_TO_LIVE, ExpirationPolicy.AFTER_WRITE, ticker, (key, value) -> { });
+    }
+
+    private ExpiringCache<String, Integer> createCache(ExpirationPolicy expirationPolicy) {
+        return new ExpiringCache<>(100, TIME_TO_LIVE, expirationPolicy, ticker, (key, value) -> evicted.add(key));
+    }
+
+    private void advance(Duration duration) { nanos += duration.toNanos(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenArgumentsAreInvalid() {
+        ExpirationPolicy policy = ExpirationPolicy.AFTER_WRITE;
+
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(0, TIME_TO_LIVE, policy));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(1, Duration.ZERO, policy));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<>(1, Duration.ofSeconds(-1), policy));
+        assertThrows(NullPointerException.class, () -> new ExpiringCache<>(1, null, policy));
+        assertThrows(NullPointerException.class, () -> new ExpiringCache<>(1, TIME_TO_LIVE, null));
+        assertThrows(NullPointerException.class, () -> new ExpiringCache<>(1, TIME_TO_LIVE, policy, null, (key, value) -> { }));
+        assertThrows(NullPointerException.class, () -> new ExpiringCache<>(1, TIME_TO_LIVE, policy, ticker, null));
+    }
+
+    @Test
+    void constructor_ShouldUseSystemTicker_WhenNoTickerIsGiven() {
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, TIME_TO_LIVE, ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+
+        assertEquals(1, cache.get("a"));
+        assertEquals(10, cache.maximumSize());
+        assertEquals(TIME_TO_LIVE, cache.timeToLive());
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenEntryHasExpiredAfterWrite() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+        advance(TIME_TO_LIVE.minusNanos(1));
+
+        assertEquals(1, cache.get("a"));
+
+        advance(Duration.ofNanos(1));
+
+        assertFalse(cache.containsKey("a"));
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.stats().evictionCount());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals("a", evicted.get(0));
+    }
+
+    @Test
+    void get_ShouldExtendLifetime_WhenPolicyIsAfterAccess() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_ACCESS);
+
+        cache.put("a", 1);
+
+        for (int i = 0; i < 10; i++) {
+            advance(Duration.ofMinutes(4));
+            assertEquals(1, cache.get("a"));
+        }
+
+        advance(TIME_TO_LIVE);
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void get_ShouldNotExtendLifetime_WhenPolicyIsAfterWrite() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+        advance(Duration.ofMinutes(4));
+        cache.get("a");
+        advance(Duration.ofMinutes(4));
+
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void put_ShouldRestartLifetime_WhenKeyIsRewritten() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+        advance(Duration.ofMinutes(4));
+
+        assertEquals(1, cache.put("a", 2));
+
+        advance(Duration.ofMinutes(4));
+
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    void put_ShouldTreatKeyAsNew_WhenPreviousEntryHasExpired() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+        advance(TIME_TO_LIVE);
+
+        assertNull(cache.put("a", 2));
+        assertEquals(2, cache.get("a"));
+        assertEquals(1, evicted.size());
+    }
+
+    @Test
+    void put_ShouldPurgeExpiredEntries_WhenWheelAdvances() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        for (int i = 0; i < 50; i++) cache.put("old" + i, i);
+        advance(Duration.ofMinutes(1));
+        for (int i = 0; i < 10; i++) cache.put("new" + i, i);
+        advance(Duration.ofSeconds(270));
+        cache.put("latest", 0);
+
+        assertEquals(11, cache.size());
+        assertEquals(50, cache.stats().evictionCount());
+        assertTrue(cache.containsKey("new0"));
+    }
+
+    @Test
+    void cleanUp_ShouldPurgeExpiredEntries_WhenCacheIsNotWritten() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        advance(Duration.ofMinutes(6));
+
+        assertEquals(2, cache.size());
+
+        cache.cleanUp();
+
+        assertTrue(cache.isEmpty());
+        assertEquals(2, evicted.size());
+        assertEquals("{}", cache.toString());
+    }
+
+    @Test
+    void cleanUp_ShouldPurgeEntriesWithLongLifetimes_WhenDaysHaveElapsed() {
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, Duration.ofDays(10),
+                ExpirationPolicy.AFTER_WRITE, ticker, (key, value) -> evicted.add(key));
+
+        cache.put("a", 1);
+        advance(Duration.ofDays(9));
+        cache.cleanUp();
+
+        assertEquals(1, cache.size());
+
+        advance(Duration.ofDays(1).plusSeconds(2));
+        cache.cleanUp();
+
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsed_WhenMaximumSizeIsExceeded() {
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(2, TIME_TO_LIVE,
+                ExpirationPolicy.AFTER_WRITE, ticker, (key, value) -> evicted.add(key));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals("{c=3, a=1}", cache.toString());
+        assertEquals("b", evicted.get(0));
+
+        advance(TIME_TO_LIVE);
+        cache.cleanUp();
+
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    void remove_ShouldDescheduleEntry_WhenKeyIsCached() {
+        ExpiringCache<String, Integer> cache = createCache(ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+
+        assertEquals(1, cache.remove("a"));
+
+        advance(Duration.ofMinutes(6));
+        cache.cleanUp();
+
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void constructor_ShouldSaturateTimeToLive_WhenDurationOverflowsNanoseconds() {
+        ExpiringCache<String, Integer> cache = new ExpiringCache<>(1, Duration.ofDays(365L * 1_000),
+                ExpirationPolicy.AFTER_WRITE);
+
+        cache.put("a", 1);
+
+        assertEquals(Duration.ofNanos(Long.MAX_VALUE), cache.timeToLive());
+        assertEquals(1, cache.get("a"));
+    }
+}
@@ -0,0 +1,85 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link FrequencySketch}.
+ *
+ * @author João Guedes
+ */
+class FrequencySketchTest {
+    @Test
+    void constructor_ShouldThrowException_WhenMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new FrequencySketch<>(0));
+    }
+
+    @Test
+    void frequency_ShouldReturnZero_WhenElementWasNeverSeen() {
+        assertEquals(0, new FrequencySketch<String>(64).frequency("a"));
+    }
+
+    @Test
+    void increment_ShouldRaiseFrequency_WhenElementIsSeenAgain() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(64);
+
+        for (int i = 0; i < 5; i++) sketch.increment("a");
+        sketch.increment("b");
+
+        assertEquals(5, sketch.frequency("a"));
+        assertEquals(1, sketch.frequency("b"));
+    }
+
+    @Test
+    void increment_ShouldSaturateCounters_WhenElementIsSeenOftenEnough() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(64);
+
+        for (int i = 0; i < 100; i++) sketch.increment("a");
+
+        assertEquals(FrequencySketch.MAXIMUM_FREQUENCY, sketch.frequency("a"));
+    }
+
+    @Test
+    void increment_ShouldHalveFrequencies_WhenSampleSizeIsReached() {
+        FrequencySketch<Integer> sketch = new FrequencySketch<>(1);
+
+        for (int i = 0; i < 9; i++) sketch.increment(7);
+
+        assertEquals(9, sketch.frequency(7));
+
+        sketch.increment(7);
+
+        assertEquals(5, sketch.frequency(7));
+    }
+
+    @Test
+    void frequency_ShouldNeverUnderestimate_WhenManyElementsCollide() {
+        FrequencySketch<Integer> sketch = new FrequencySketch<>(16);
+
+        for (int i = 0; i < 100; i++) sketch.increment(i);
+        for (int i = 0; i < 3; i++) sketch.increment(1_000);
+
+        assertTrue(sketch.frequency(1_000) >= 3);
+    }
+
+    @Test
+    void clear_ShouldForgetEveryElement_WhenSketchHasCounts() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(64);
+
+        sketch.increment("a");
+        sketch.clear();
+
+        assertEquals(0, sketch.frequency("a"));
+    }
+
+    @Test
+    void operations_ShouldThrowException_WhenElementIsNull() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(64);
+
+        assertThrows(NullPointerException.class, () -> sketch.increment(null));
+        assertThrows(NullPointerException.class, () -> sketch.frequency(null));
+    }
+}
@@ -0,0 +1,113 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link LruCache}.
+ *
+ * @author João Guedes
+ */
+class LruCacheTest extends CacheTest {
+    @Override
+    protected Cache<String, Integer> createCache(int maximumSize) { return new LruCache<>(maximumSize); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenListenerIsNull() {
+        assertThrows(NullPointerException.class, () -> new LruCache<>(1, null));
+    }
+
+    @Test
+    void put_ShouldEvictLeastRecentlyUsed_WhenMaximumSizeIsExceeded() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertFalse(cache.containsKey("a"));
+        assertTrue(cache.containsKey("b"));
+        assertTrue(cache.containsKey("c"));
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void get_ShouldProtectEntryFromEviction_WhenEntryWasRecentlyRead() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+    }
+
+    @Test
+    void put_ShouldProtectEntryFromEviction_WhenEntryWasRecentlyUpdated() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 10);
+        cache.put("c", 3);
+
+        assertEquals("{c=3, a=10}", cache.toString());
+    }
+
+    @Test
+    void put_ShouldNotifyListener_WhenEntryIsEvicted() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = new LruCache<>(1, (key, value) -> evicted.add(key + "=" + value));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.remove("b");
+        cache.put("c", 3);
+        cache.clear();
+
+        assertEquals(1, evicted.size());
+        assertEquals("a=1", evicted.get(0));
+    }
+
+    @Test
+    void toString_ShouldListEntriesFromMostRecentlyUsed_WhenCacheHasEntries() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+
+        assertEquals("{}", cache.toString());
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("b");
+
+        assertEquals("{b=2, c=3, a=1}", cache.toString());
+        assertEquals(3, cache.maximumSize());
+    }
+
+    @Test
+    void remove_ShouldUnlinkEntryFromAnyPosition_WhenKeyIsCached() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.remove("b");
+        cache.remove("c");
+        cache.put("d", 4);
+
+        assertEquals("{d=4, a=1}", cache.toString());
+    }
+}
@@ -0,0 +1,111 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.collection.internal.nodes.TimedEntryNode;
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link TimerWheel}.
+ *
+ * @author João Guedes
+ */
+class TimerWheelTest {
+    @Test
+    void advance_ShouldExpireNodes_WhenTheirBucketHasElapsed() {
+        TimerWheel<Integer, Integer> wheel = new TimerWheel<>(0);
+        List<Integer> expired = new ArrayList<>();
+        long deadline = TimeUnit.SECONDS.toNanos(10);
+
+        wheel.schedule(new TimedEntryNode<>(1, 1, deadline));
+        wheel.advance(deadline - TimeUnit.SECONDS.toNanos(2), node -> expired.add(node.getKey()));
+
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(deadline + TimeUnit.SECONDS.toNanos(2), node -> expired.add(node.getKey()));
+
+        assertEquals(1, expired.size());
+    }
+
+    @Test
+    void advance_ShouldCascadeNodes_WhenCoarseBucketElapsesBeforeDeadline() {
+        TimerWheel<Integer, Integer> wheel = new TimerWheel<>(0);
+        List<Integer> expired = new ArrayList<>();
+        long deadline = TimeUnit.MINUTES.toNanos(90);
+
+        wheel.schedule(new TimedEntryNode<>(1, 1, deadline));
+
+        for (long minute = 1; minute < 90; minute++) {
+            wheel.advance(TimeUnit.MINUTES.toNanos(minute), node -> expired.add(node.getKey()));
+        }
+
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(deadline + TimeUnit.SECONDS.toNanos(2), node -> expired.add(node.getKey()));
+
+        assertEquals(1, expired.size());
+    }
+
+    @Test
+    void advance_ShouldExpireEveryNodeOnce_WhenDeadlinesAreRandom() {
+        TimerWheel<Integer, Integer> wheel = new TimerWheel<>(0);
+        Random random = new Random(42);
+        long[] expiredAt = new long[1_000];
+        long[] deadlines = new long[expiredAt.length];
+        long[] now = {0};
+
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = 1 + (long) (random.nextDouble() * TimeUnit.DAYS.toNanos(5));
+            wheel.schedule(new TimedEntryNode<>(i, i, deadlines[i]));
+        }
+
+        while (now[0] < TimeUnit.DAYS.toNanos(6)) {
+            now[0] += TimeUnit.MINUTES.toNanos(7);
+            wheel.advance(now[0], node -> {
+                assertEquals(0, expiredAt[node.getKey()]);
+                expiredAt[node.getKey()] = now[0];
+            });
+        }
+
+        for (int i = 0; i < deadlines.length; i++) {
+            assertTrue(expiredAt[i] >= deadlines[i]);
+        }
+    }
+
+    @Test
+    void deschedule_ShouldPreventExpiration_WhenNodeIsUnlinked() {
+        TimerWheel<Integer, Integer> wheel = new TimerWheel<>(0);
+        List<Integer> expired = new ArrayList<>();
+        TimedEntryNode<Integer, Integer> node = new TimedEntryNode<>(1, 1, 1);
+
+        wheel.schedule(node);
+        wheel.deschedule(node);
+        wheel.deschedule(node);
+        wheel.advance(TimeUnit.SECONDS.toNanos(5), expiredNode -> expired.add(expiredNode.getKey()));
+
+        assertTrue(expired.isEmpty());
+        assertNull(node.getNextInTime());
+    }
+
+    @Test
+    void clear_ShouldUnlinkEveryNode_WhenWheelHasNodes() {
+        TimerWheel<Integer, Integer> wheel = new TimerWheel<>(0);
+        List<Integer> expired = new ArrayList<>();
+        TimedEntryNode<Integer, Integer> node = new TimedEntryNode<>(1, 1, 1);
+
+        wheel.schedule(node);
+        wheel.schedule(new TimedEntryNode<>(2, 2, 2));
+        wheel.clear();
+        wheel.advance(TimeUnit.SECONDS.toNanos(5), expiredNode -> expired.add(expiredNode.getKey()));
+
+        assertTrue(expired.isEmpty());
+        assertNull(node.getPreviousInTime());
+    }
+}
@@ -0,0 +1,165 @@
+package dev.guedes.datastructures.util.collection.cache;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link WTinyLfuCache}.
+ *
+ * @author João Guedes
+ */
+class WTinyLfuCacheTest extends CacheTest {
+    @Override
+    protected Cache<String, Integer> createCache(int maximumSize) { return new WTinyLfuCache<>(maximumSize); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new WTinyLfuCache<>(0));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenListenerIsNull() {
+        assertThrows(NullPointerException.class, () -> new WTinyLfuCache<>(1, null));
+    }
+
+    @Test
+    void put_ShouldMoveWindowOverflowToProbation_WhenMainRegionHasRoom() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(10);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals("{window={b=2}, probation={a=1}, protected={}}", cache.toString());
+        assertEquals(10, cache.maximumSize());
+    }
+
+    @Test
+    void get_ShouldPromoteProbationEntry_WhenEntryIsHitAgain() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(10);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        assertEquals("{window={b=2}, probation={}, protected={a=1}}", cache.toString());
+    }
+
+    @Test
+    void get_ShouldDemoteProtectedOverflow_WhenProtectedSegmentIsFull() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(2);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        assertEquals("{window={b=2}, probation={a=1}, protected={}}", cache.toString());
+    }
+
+    @Test
+    void put_ShouldRejectCandidate_WhenVictimIsMorePopular() {
+        List<String> evicted = new ArrayList<>();
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(2, (key, value) -> evicted.add(key));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(1, evicted.size());
+        assertEquals("b", evicted.get(0));
+    }
+
+    @Test
+    void put_ShouldEvictVictim_WhenCandidateIsMorePopular() {
+        List<String> evicted = new ArrayList<>();
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(2, (key, value) -> evicted.add(key));
+
+        cache.put("a", 1);
+        for (int i = 0; i < 5; i++) cache.get("b");
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertTrue(cache.containsKey("b"));
+        assertFalse(cache.containsKey("a"));
+        assertEquals("a", evicted.get(0));
+        assertEquals("{window={c=3}, probation={b=2}, protected={}}", cache.toString());
+    }
+
+    @Test
+    void put_ShouldEvictEveryCandidate_WhenCacheHasNoMainRegion() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(1);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals("{window={b=2}, probation={}, protected={}}", cache.toString());
+        assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    void get_ShouldKeepFrequentEntries_WhenScanFloodsCache() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(100);
+        LruCache<String, Integer> lru = new LruCache<>(100);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("hot" + i, i);
+            lru.put("hot" + i, i);
+        }
+        cache.put("last", -1);
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50; i++) cache.get("hot" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            String key = "scan" + i;
+
+            if (cache.get(key) == null) cache.put(key, i);
+            if (lru.get(key) == null) lru.put(key, i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(cache.containsKey("hot" + i));
+            assertFalse(lru.containsKey("hot" + i));
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void remove_ShouldUnlinkEntry_WhenEntryIsInAnyRegion() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(10);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+
+        assertEquals(1, cache.remove("a"));
+        assertEquals(2, cache.remove("b"));
+        assertEquals(3, cache.remove("c"));
+        assertEquals("{window={}, probation={}, protected={}}", cache.toString());
+    }
+
+    @Test
+    void put_ShouldUpdateValueInPlace_WhenKeyIsInMainRegion() {
+        WTinyLfuCache<String, Integer> cache = new WTinyLfuCache<>(10);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 10);
+        cache.put("a", 11);
+
+        assertEquals("{window={b=2}, probation={}, protected={a=11}}", cache.toString());
+    }
+}
@@ -57,9 +57,9 @@ class AdjacencyListTest extends GraphTest {
         graph.addEdge(1, 3);
 
         String expected = """
-            [1] -> [2] -> [3]
             [2]
             [3]
+            [1] -> [2] -> [3]
             """.trim();
 
         assertEquals(expected, graph.toString());
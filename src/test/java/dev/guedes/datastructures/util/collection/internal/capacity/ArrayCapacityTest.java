@@ -0,0 +1,73 @@
+package dev.guedes.datastructures.util.collection.internal.capacity;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link ArrayCapacity}.
+ *
+ * @author João Guedes
+ */
+class ArrayCapacityTest {
+    @Test
+    void constructor_ShouldThrowAssertionError() throws Exception {
+        Constructor<ArrayCapacity> constructor = ArrayCapacity.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(AssertionError.class, ex.getCause());
+    }
+
+    @Test
+    void validateGrowthFactor_ShouldThrowException_WhenFactorDoesNotGrowCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayCapacity.validateGrowthFactor(1.0f));
+        assertThrows(IllegalArgumentException.class, () -> ArrayCapacity.validateGrowthFactor(0.5f));
+        assertThrows(IllegalArgumentException.class, () -> ArrayCapacity.validateGrowthFactor(Float.NaN));
+        assertThrows(IllegalArgumentException.class, () -> ArrayCapacity.validateGrowthFactor(Float.POSITIVE_INFINITY));
+        assertDoesNotThrow(() -> ArrayCapacity.validateGrowthFactor(1.5f));
+    }
+
+    @Test
+    void grow_ShouldMultiplyCapacity_WhenMinimumIsSmaller() {
+        assertEquals(20, ArrayCapacity.grow(10, 11, 2.0f));
+        assertEquals(15, ArrayCapacity.grow(10, 11, 1.5f));
+        assertEquals(2, ArrayCapacity.grow(1, 2, 1.5f));
+        assertEquals(1, ArrayCapacity.grow(0, 1, 2.0f));
+    }
+
+    @Test
+    void grow_ShouldReturnMinimum_WhenItExceedsGrownCapacity() {
+        assertEquals(1_000, ArrayCapacity.grow(10, 1_000, 2.0f));
+    }
+
+    @Test
+    void grow_ShouldCapCapacity_WhenGrownCapacityOverflows() {
+        assertEquals(ArrayCapacity.MAXIMUM_CAPACITY, ArrayCapacity.grow(Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2, 2.0f));
+    }
+
+    @Test
+    void shrink_ShouldKeepCapacity_WhenAtLeastAQuarterIsUsed() {
+        assertEquals(64, ArrayCapacity.shrink(16, 64, 1));
+        assertEquals(64, ArrayCapacity.shrink(33, 64, 1));
+    }
+
+    @Test
+    void shrink_ShouldHalveRepeatedly_WhenLessThanAQuarterIsUsed() {
+        assertEquals(32, ArrayCapacity.shrink(15, 64, 1));
+        assertEquals(32, ArrayCapacity.shrink(10, 1_024, 1));
+        assertEquals(2, ArrayCapacity.shrink(0, 1_024, 1));
+    }
+
+    @Test
+    void shrink_ShouldStopAtMinimumCapacity_WhenArrayIsMostlyEmpty() {
+        assertEquals(16, ArrayCapacity.shrink(0, 64, 10));
+        assertEquals(16, ArrayCapacity.shrink(0, 16, 10));
+    }
+}
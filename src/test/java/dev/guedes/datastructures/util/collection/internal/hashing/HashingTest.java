@@ -0,0 +1,103 @@
+package dev.guedes.datastructures.util.collection.internal.hashing;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link Hashing}.
+ *
+ * @author João Guedes
+ */
+class HashingTest {
+    @Test
+    void constructor_ShouldThrowAssertionError() throws Exception {
+        Constructor<Hashing> constructor = Hashing.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(AssertionError.class, ex.getCause());
+    }
+
+    @Test
+    void spread_ShouldScatterHashCodes_WhenTheyAreMultiplesOfTableLength() {
+        assertTrue(countOccupiedBuckets(1024, 64) > 32);
+    }
+
+    @Test
+    void spread_ShouldScatterHashCodes_WhenTheyDifferOnlyInHighBits() {
+        assertTrue(countOccupiedBuckets(1 << 24, 64) > 32);
+    }
+
+    @Test
+    void hash_ShouldReturnZero_WhenElementIsNull() {
+        assertEquals(0, Hashing.hash(null, Hashing.newSeed()));
+    }
+
+    @Test
+    void hash_ShouldReturnSpreadHashCode_WhenSeedIsZero() {
+        assertEquals(Hashing.spread("key".hashCode()), Hashing.hash("key", 0));
+    }
+
+    @Test
+    void hash_ShouldDependOnSeed_WhenSeedsDiffer() {
+        assertNotEquals(Hashing.hash("key", 0), Hashing.hash("key", 1));
+    }
+
+    @Test
+    void spread64_ShouldFillHighBits_WhenHashCodesAreSmall() {
+        long highBits = 0;
+        for (int i = 0; i < 64; i++) highBits |= Hashing.spread64(i) >>> 32;
+
+        assertEquals(0xFFFFFFFFL, highBits);
+        assertNotEquals(0L, Hashing.spread64(0));
+    }
+
+    @Test
+    void mix64_ShouldMapZeroToZero_AndDifferentInputsToDifferentOutputs() {
+        assertEquals(0L, Hashing.mix64(0L));
+        assertNotEquals(Hashing.mix64(1L), Hashing.mix64(2L));
+    }
+
+    @Test
+    void indexFor_ShouldStayWithinTable_WhenHashIsNegative() {
+        assertEquals(15, Hashing.indexFor(-1, 16));
+    }
+
+    @Test
+    void tableSizeFor_ShouldRoundUpToPowerOfTwo_WhenCapacityIsNotPowerOfTwo() {
+        assertEquals(1, Hashing.tableSizeFor(1));
+        assertEquals(16, Hashing.tableSizeFor(16));
+        assertEquals(32, Hashing.tableSizeFor(17));
+    }
+
+    @Test
+    void tableSizeFor_ShouldCapAtMaximumCapacity_WhenCapacityIsTooLarge() {
+        assertEquals(Hashing.MAXIMUM_CAPACITY, Hashing.tableSizeFor(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Counts how many buckets of a table receive one of its first {@code tableLength} multiples of a stride.
+     */
+    private static int countOccupiedBuckets(int stride, int tableLength) {
+        boolean[] occupied = new boolean[tableLength];
+        int count = 0;
+
+        for (int i = 0; i < tableLength; i++) {
+            int index = Hashing.indexFor(Hashing.spread(i * stride), tableLength);
+            if (!occupied[index]) {
+                occupied[index] = true;
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
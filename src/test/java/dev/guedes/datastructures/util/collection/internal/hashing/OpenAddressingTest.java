@@ -0,0 +1,66 @@
+package dev.guedes.datastructures.util.collection.internal.hashing;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link OpenAddressing}.
+ *
+ * @author João Guedes
+ */
+class OpenAddressingTest {
+    @Test
+    void constructor_ShouldThrowAssertionError() throws Exception {
+        Constructor<OpenAddressing> constructor = OpenAddressing.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class, constructor::newInstance);
+        assertInstanceOf(AssertionError.class, ex.getCause());
+    }
+
+    @Test
+    void validateLoadFactor_ShouldThrowException_WhenLoadFactorIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> OpenAddressing.validateLoadFactor(0f));
+        assertThrows(IllegalArgumentException.class, () -> OpenAddressing.validateLoadFactor(1f));
+        assertThrows(IllegalArgumentException.class, () -> OpenAddressing.validateLoadFactor(Float.NaN));
+        assertDoesNotThrow(() -> OpenAddressing.validateLoadFactor(0.5f));
+    }
+
+    @Test
+    void thresholdFor_ShouldLeaveOneSlotEmpty_WhenLoadFactorIsHigh() {
+        assertEquals(8, OpenAddressing.thresholdFor(16, 0.5f));
+        assertEquals(1, OpenAddressing.thresholdFor(2, 0.99f));
+        assertEquals(0, OpenAddressing.thresholdFor(1, 0.5f));
+    }
+
+    @Test
+    void shrink_ShouldHalveCapacity_WhileLessThanAQuarterOfThresholdIsUsed() {
+        assertEquals(64, OpenAddressing.shrink(8, 64, 16, 0.5f));
+        assertEquals(32, OpenAddressing.shrink(7, 64, 16, 0.5f));
+        assertEquals(16, OpenAddressing.shrink(0, 1_024, 16, 0.5f));
+        assertEquals(16, OpenAddressing.shrink(0, 16, 16, 0.5f));
+    }
+
+    @Test
+    void nextSlot_ShouldWrapAround_WhenSlotIsLast() {
+        assertEquals(5, OpenAddressing.nextSlot(4, 16));
+        assertEquals(0, OpenAddressing.nextSlot(15, 16));
+    }
+
+    @Test
+    void canFillGap_ShouldKeepEntryReachable_WhenClusterWrapsAround() {
+        assertTrue(OpenAddressing.canFillGap(3, 4, 3, 16));
+        assertFalse(OpenAddressing.canFillGap(3, 5, 4, 16));
+        assertTrue(OpenAddressing.canFillGap(15, 1, 14, 16));
+        assertFalse(OpenAddressing.canFillGap(15, 1, 0, 16));
+    }
+}
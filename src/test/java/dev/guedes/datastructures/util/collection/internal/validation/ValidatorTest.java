@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ConcurrentModificationException;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -66,6 +67,29 @@ class ValidatorTest {
         assertDoesNotThrow(() -> Validator.validateIndexForAdd(3, 5));
     }
 
+    @Test
+    void validateRange_ShouldThrowException_WhenRangeIsOutOfBoundsOrReversed() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Validator.validateRange(-1, 2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> Validator.validateRange(0, 6, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> Validator.validateRange(3, 2, 5));
+    }
+
+    @Test
+    void validateRange_ShouldNotThrowException_WhenRangeIsValid() {
+        assertDoesNotThrow(() -> Validator.validateRange(0, 5, 5));
+        assertDoesNotThrow(() -> Validator.validateRange(5, 5, 5));
+    }
+
+    @Test
+    void validateModCount_ShouldThrowException_WhenCountsDiffer() {
+        assertThrows(ConcurrentModificationException.class, () -> Validator.validateModCount(1, 2));
+    }
+
+    @Test
+    void validateModCount_ShouldNotThrowException_WhenCountsAreEqual() {
+        assertDoesNotThrow(() -> Validator.validateModCount(3, 3));
+    }
+
     @Test
     void validateVerticesNotNull_ShouldThrowException_WhenSourceIsNull() {
         assertThrows(NullPointerException.class, () -> Validator.validateVerticesNotNull(null, "B"));
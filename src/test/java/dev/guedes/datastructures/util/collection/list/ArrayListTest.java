@@ -2,6 +2,8 @@ package dev.guedes.datastructures.util.collection.list;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -39,4 +41,109 @@ class ArrayListTest extends ListTest {
 
         assertTrue(list.add(1));
     }
+
+    @Test
+    void constructor_ShouldThrowException_WhenGrowthFactorIsNotGreaterThanOne() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayList<>(10, 1.0f));
+        assertDoesNotThrow(() -> new ArrayList<>(10, 1.5f));
+    }
+
+    @Test
+    void add_ShouldGrowByGrowthFactor_WhenListIsFull() {
+        ArrayList<Integer> list = new ArrayList<>(10, 1.5f);
+
+        for (int i = 0; i < 11; i++) list.add(i);
+
+        assertEquals(15, list.capacity());
+        assertEquals(11, list.size());
+    }
+
+    @Test
+    void remove_ShouldNotReallocate_WhenAddsAndRemovesAlternateAtCapacity() {
+        ArrayList<Integer> list = new ArrayList<>(1);
+        for (int i = 0; i < 64; i++) list.add(i);
+        assertEquals(64, list.capacity());
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            assertEquals(128, list.capacity());
+            list.remove(list.size() - 1);
+            assertEquals(128, list.capacity());
+        }
+    }
+
+    @Test
+    void remove_ShouldShrinkCapacity_WhenLessThanAQuarterIsUsed() {
+        ArrayList<Integer> list = new ArrayList<>(4);
+        for (int i = 0; i < 64; i++) list.add(i);
+
+        while (list.size() > 16) list.remove(0);
+        assertEquals(64, list.capacity());
+
+        list.remove(0);
+        assertEquals(32, list.capacity());
+
+        while (!list.isEmpty()) list.remove(0);
+        assertEquals(4, list.capacity());
+    }
+
+    @Test
+    void ensureCapacity_ShouldPresizeList_WhenMinimumExceedsCapacity() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        list.add(1);
+
+        list.ensureCapacity(1_000);
+        assertEquals(1_000, list.capacity());
+
+        list.ensureCapacity(5);
+        assertEquals(1_000, list.capacity());
+        assertEquals("[1]", list.toString());
+    }
+
+    @Test
+    void trimToSize_ShouldShrinkCapacityToSize_WhenListHasUnusedSlots() {
+        ArrayList<Integer> list = new ArrayList<>(10);
+        list.add(1);
+        list.add(2);
+
+        list.trimToSize();
+
+        assertEquals(2, list.capacity());
+        assertEquals("[1, 2]", list.toString());
+        assertTrue(list.add(3));
+        assertEquals(4, list.capacity());
+    }
+
+    @Test
+    void trimToSize_ShouldAllowGrowingAgain_WhenListIsEmpty() {
+        ArrayList<Integer> list = new ArrayList<>();
+
+        list.trimToSize();
+
+        assertEquals(0, list.capacity());
+        assertTrue(list.add(1));
+        assertEquals(10, list.capacity());
+    }
+
+    @Test
+    void spliterator_ShouldSplitIndexRangeInHalves_WhenTrySplitIsCalled() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) list.add(i);
+
+        Spliterator<Integer> suffix = list.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        StringBuilder sb = new StringBuilder();
+
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, suffix.estimateSize());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(prefix.tryAdvance(sb::append));
+        prefix.forEachRemaining(sb::append);
+        assertFalse(prefix.tryAdvance(sb::append));
+        suffix.forEachRemaining(sb::append);
+
+        assertEquals("0123456789", sb.toString());
+        assertNull(new ArrayList<Integer>().spliterator().trySplit());
+    }
+
 }
@@ -4,6 +4,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -398,6 +405,275 @@ abstract class ListTest {
         assertTrue(list.isEmpty());
     }
 
+    @Test
+    void addAll_ShouldAppendElementsInOrder_WhenCollectionIsNotEmpty() {
+        List<Integer> list = listOf(1, 2);
+
+        assertTrue(list.addAll(listOf(3, 4, 5)));
+        assertFalse(list.addAll(createList()));
+
+        assertEquals("[1, 2, 3, 4, 5]", list.toString());
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    void addAll_ShouldDuplicateElements_WhenListIsAddedToItself() {
+        List<Integer> list = listOf(1, 2);
+
+        assertTrue(list.addAll(list));
+
+        assertEquals("[1, 2, 1, 2]", list.toString());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, '[7, 8, 1, 2, 3]'", "1, '[1, 7, 8, 2, 3]'", "3, '[1, 2, 3, 7, 8]'"})
+    void addAllAtIndex_ShouldInsertElementsAtPosition(int index, String expectedList) {
+        List<Integer> list = listOf(1, 2, 3);
+
+        assertTrue(list.addAll(index, listOf(7, 8)));
+
+        assertEquals(expectedList, list.toString());
+        assertEquals(5, list.size());
+        assertEquals(3, list.lastIndexOf(list.get(3)));
+    }
+
+    @Test
+    void addAllAtIndex_ShouldKeepListUsable_WhenInsertingAtEnd() {
+        List<Integer> list = listOf(1);
+
+        list.addAll(1, listOf(2, 3));
+        list.add(4);
+        list.add(0, 0);
+
+        assertEquals("[0, 1, 2, 3, 4]", list.toString());
+    }
+
+    @Test
+    void addAllAtIndex_ShouldThrowException_WhenArgumentsAreInvalid() {
+        List<Integer> list = listOf(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(2, listOf(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(-1, listOf(2)));
+        assertThrows(NullPointerException.class, () -> list.addAll(0, null));
+        assertThrows(NullPointerException.class, () -> list.addAll(null));
+        assertFalse(list.addAll(0, createList()));
+    }
+
+    @Test
+    void removeIf_ShouldRemoveMatchingElements_WhenSomeMatch() {
+        List<Integer> list = listOf(1, 2, 3, 4, 5, 6);
+
+        assertTrue(list.removeIf(element -> element % 2 == 0));
+        assertFalse(list.removeIf(element -> element > 10));
+
+        assertEquals("[1, 3, 5]", list.toString());
+        assertEquals(3, list.size());
+        list.add(7);
+        assertEquals("[1, 3, 5, 7]", list.toString());
+    }
+
+    @Test
+    void removeIf_ShouldEmptyList_WhenEveryElementMatches() {
+        List<Integer> list = listOf(1, 2, 3);
+
+        assertTrue(list.removeIf(element -> true));
+
+        assertTrue(list.isEmpty());
+        assertEquals("[]", list.toString());
+        list.add(4);
+        assertEquals("[4]", list.toString());
+    }
+
+    @Test
+    void removeIf_ShouldKeepUntestedElements_WhenFilterThrows() {
+        List<Integer> list = listOf(1, 2, 3, 4, 5);
+
+        assertThrows(IllegalStateException.class, () -> list.removeIf(element -> {
+            if (element == 4) throw new IllegalStateException();
+            return element % 2 == 0;
+        }));
+
+        assertEquals("[1, 3, 4, 5]", list.toString());
+        assertEquals(4, list.size());
+        assertThrows(NullPointerException.class, () -> list.removeIf(null));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 2, '[3, 4, 5]'", "1, 4, '[1, 5]'", "3, 5, '[1, 2, 3]'", "2, 2, '[1, 2, 3, 4, 5]'", "0, 5, '[]'"})
+    void removeRange_ShouldRemoveElementsInRange(int fromIndex, int toIndex, String expectedList) {
+        List<Integer> list = listOf(1, 2, 3, 4, 5);
+
+        list.removeRange(fromIndex, toIndex);
+
+        assertEquals(expectedList, list.toString());
+        assertEquals(5 - (toIndex - fromIndex), list.size());
+        list.add(6);
+        assertEquals(6, list.get(list.size() - 1));
+    }
+
+    @Test
+    void removeRange_ShouldThrowException_WhenRangeIsInvalid() {
+        List<Integer> list = listOf(1, 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(2, 1));
+        assertEquals("[1, 2, 3]", list.toString());
+    }
+
+    @Test
+    void retainAll_ShouldKeepOnlyCommonElements_WhenCollectionsOverlap() {
+        List<Integer> list = listOf(1, 2, 3, 4);
+
+        assertTrue(list.retainAll(listOf(2, 4, 6)));
+        assertFalse(list.retainAll(list));
+        assertFalse(list.retainAll(listOf(2, 4)));
+
+        assertEquals("[2, 4]", list.toString());
+        assertThrows(NullPointerException.class, () -> list.retainAll(null));
+    }
+
+    @Test
+    void iterator_ShouldVisitElementsInOrder_WhenUsedInForEachLoop() {
+        List<Integer> list = listOf(1, 2, 3);
+        StringBuilder sb = new StringBuilder();
+
+        for (Integer element : list) sb.append(element).append(' ');
+
+        assertEquals("1 2 3 ", sb.toString());
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenNoElementsRemain() {
+        Iterator<Integer> iterator = listOf(1).iterator();
+
+        assertEquals(1, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(NoSuchElementException.class, () -> createList().listIterator().previous());
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenListIsModifiedDuringIteration() {
+        List<Integer> list = listOf(1, 2, 3);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+
+        list.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer element : list) list.remove(element);
+        });
+    }
+
+    @Test
+    void iteratorRemove_ShouldRemoveLastReturnedElement_WhenCalledAfterNext() {
+        List<Integer> list = listOf(1, 2, 3, 4, 5, 6);
+        Iterator<Integer> iterator = list.iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+        }
+
+        assertEquals("[1, 3, 5]", list.toString());
+        assertEquals(3, list.size());
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertTrue(list.add(7));
+        assertEquals(7, list.get(3));
+    }
+
+    @Test
+    void listIterator_ShouldMoveInBothDirections_WhenStartedAtIndex() {
+        List<Integer> list = listOf(1, 2, 3, 4);
+        ListIterator<Integer> iterator = list.listIterator(2);
+
+        assertEquals(2, iterator.nextIndex());
+        assertEquals(1, iterator.previousIndex());
+        assertEquals(3, iterator.next());
+        assertEquals(3, iterator.previous());
+        assertEquals(2, iterator.previous());
+        assertEquals(1, iterator.previous());
+        assertFalse(iterator.hasPrevious());
+        assertEquals(1, iterator.next());
+        assertTrue(iterator.hasNext());
+        assertEquals(1, iterator.nextIndex());
+
+        ListIterator<Integer> fromEnd = list.listIterator(4);
+        assertFalse(fromEnd.hasNext());
+        assertEquals(4, fromEnd.previous());
+    }
+
+    @Test
+    void listIterator_ShouldThrowException_WhenIndexIsOutOfRange() {
+        List<Integer> list = listOf(1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(3));
+    }
+
+    @Test
+    void listIteratorAdd_ShouldInsertBeforeCursor_WhenCalledAnywhere() {
+        List<Integer> list = listOf(2, 4);
+        ListIterator<Integer> iterator = list.listIterator();
+
+        iterator.add(1);
+        assertEquals(2, iterator.next());
+        iterator.add(3);
+        assertEquals(4, iterator.next());
+        iterator.add(5);
+
+        assertFalse(iterator.hasNext());
+        assertEquals(5, iterator.nextIndex());
+        assertEquals(5, iterator.previous());
+        assertThrows(IllegalStateException.class, () -> {
+            iterator.add(6);
+            iterator.remove();
+        });
+        assertEquals("[1, 2, 3, 4, 6, 5]", list.toString());
+        assertTrue(list.add(7));
+        assertEquals(7, list.size());
+    }
+
+    @Test
+    void listIteratorSet_ShouldReplaceLastReturnedElement_WhenMovingInEitherDirection() {
+        List<Integer> list = listOf(1, 2, 3);
+        ListIterator<Integer> iterator = list.listIterator();
+
+        assertThrows(IllegalStateException.class, () -> iterator.set(0));
+
+        iterator.next();
+        iterator.set(10);
+        iterator.next();
+        iterator.previous();
+        iterator.set(20);
+
+        assertEquals("[10, 20, 3]", list.toString());
+    }
+
+    @Test
+    void listIteratorRemove_ShouldRemoveElement_WhenMovingBackwards() {
+        List<Integer> list = listOf(1, 2, 3, 4);
+        ListIterator<Integer> iterator = list.listIterator(4);
+
+        while (iterator.hasPrevious()) {
+            if (iterator.previous() % 2 == 1) iterator.remove();
+        }
+
+        assertEquals("[2, 4]", list.toString());
+        assertEquals(2, iterator.next());
+        iterator.remove();
+        assertEquals(4, iterator.next());
+        iterator.remove();
+        assertTrue(list.isEmpty());
+
+        list.add(5);
+        assertEquals("[5]", list.toString());
+        assertEquals(5, list.get(0));
+    }
+
     @Test
     void toString_ShouldReturnEmptyRepresentation_WhenListIsEmpty() {
         assertEquals("[]", createList().toString());
@@ -413,4 +689,31 @@ abstract class ListTest {
 
         assertEquals("[1, 2, 3]", list.toString());
     }
+
+    @Test
+    void stream_ShouldVisitElementsInOrder_WhenStreamIsSequentialOrParallel() {
+        List<Integer> list = createList();
+        for (int i = 0; i < 1_000; i++) list.add(i);
+        Object[] expected = IntStream.range(0, 1_000).boxed().toArray();
+
+        assertArrayEquals(expected, list.stream().toArray());
+        assertArrayEquals(expected, list.parallelStream().toArray());
+        assertEquals(499_500, list.parallelStream().mapToInt(Integer::intValue).sum());
+        assertTrue(list.spliterator().hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED));
+        assertEquals(1_000, list.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    void spliterator_ShouldThrowException_WhenListIsModifiedDuringTraversal() {
+        List<Integer> list = listOf(1, 2, 3);
+        Spliterator<Integer> spliterator = list.spliterator();
+
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.forEachRemaining(list::add));
+    }
+
+    private List<Integer> listOf(Integer... elements) {
+        List<Integer> list = createList();
+        for (Integer element : elements) list.add(element);
+        return list;
+    }
 }
@@ -0,0 +1,141 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link ConcurrentHashtable}.
+ *
+ * @author João Guedes
+ */
+class ConcurrentHashtableTest extends MapTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected Map<String, Integer> createMap() { return new ConcurrentHashtable<>(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashtable<>(0));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenConcurrencyLevelIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashtable<>(16, 0));
+    }
+
+    @Test
+    void constructor_ShouldCreateInstance_WhenArgumentsArePositive() {
+        assertDoesNotThrow(() -> new ConcurrentHashtable<>(1, 1));
+    }
+
+    @Test
+    void put_ShouldKeepAllEntries_WhenSegmentsGrow() {
+        ConcurrentHashtable<Integer, Integer> map = new ConcurrentHashtable<>(1, 4);
+
+        for (int i = 0; i < 10_000; i++) map.put(i, i);
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) assertEquals(i, map.get(i));
+    }
+
+    @Test
+    void clear_ShouldAllowReuse_WhenMapHasGrown() {
+        ConcurrentHashtable<Integer, Integer> map = new ConcurrentHashtable<>(1, 2);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        map.clear();
+        map.put(1, 1);
+
+        assertEquals(1, map.size());
+        assertNull(map.get(2));
+    }
+
+    @Test
+    void put_ShouldNotLoseEntries_WhenThreadsWriteConcurrently() throws Exception {
+        ConcurrentHashtable<Integer, Integer> map = new ConcurrentHashtable<>();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < 5_000; i++) map.put(thread * 5_000 + i, i);
+            return null;
+        });
+
+        assertEquals(THREADS * 5_000, map.size());
+        for (int i = 0; i < THREADS * 5_000; i++) assertEquals(i % 5_000, map.get(i));
+    }
+
+    @Test
+    void merge_ShouldCountEveryIncrement_WhenThreadsUpdateSameKeys() throws Exception {
+        ConcurrentHashtable<Integer, Integer> map = new ConcurrentHashtable<>();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < 10_000; i++) map.merge(i % 10, 1, Integer::sum);
+            return null;
+        });
+
+        for (int i = 0; i < 10; i++) assertEquals(THREADS * 1_000, map.get(i));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldApplyFunctionOnce_WhenThreadsRaceOnSameKey() throws Exception {
+        ConcurrentHashtable<Integer, Integer> map = new ConcurrentHashtable<>();
+        AtomicInteger invocations = new AtomicInteger();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < 1_000; i++) {
+                map.computeIfAbsent(i, key -> {
+                    invocations.incrementAndGet();
+                    return key;
+                });
+            }
+            return null;
+        });
+
+        assertEquals(1_000, invocations.get());
+        assertEquals(1_000, map.size());
+    }
+
+    @Test
+    void putIfAbsent_ShouldLetOnlyOneThreadWin_WhenThreadsRaceOnSameKey() throws Exception {
+        ConcurrentHashtable<Integer, Integer> map = new ConcurrentHashtable<>();
+        AtomicInteger winners = new AtomicInteger();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < 1_000; i++) {
+                if (map.putIfAbsent(i, thread) == null) winners.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(1_000, winners.get());
+    }
+
+    /**
+     * Runs one task per thread and rethrows the first failure.
+     */
+    private void runConcurrently(IntFunction<Callable<Void>> taskFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(taskFactory.apply(thread)));
+            }
+            for (Future<Void> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
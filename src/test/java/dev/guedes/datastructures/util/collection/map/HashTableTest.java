@@ -1,9 +1,23 @@
 package dev.guedes.datastructures.util.collection.map;
 
+import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
+import dev.guedes.datastructures.util.collection.set.Set;
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test class for {@link Hashtable}.
@@ -33,4 +47,399 @@ class HashTableTest extends MapTest {
     void constructor_ShouldCreateMapWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
         assertDoesNotThrow(() -> new Hashtable<>());
     }
+
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new Hashtable<>(1, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new Hashtable<>(1, Float.NaN));
+    }
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo_WhenCapacityIsNotPowerOfTwo() {
+        assertEquals(1, new Hashtable<>(1).capacity());
+        assertEquals(16, new Hashtable<>(10).capacity());
+        assertEquals(64, new Hashtable<>(64).capacity());
+    }
+
+    @Test
+    void put_ShouldGrowCapacity_WhenLoadFactorIsExceeded() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(4, 0.75f);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+
+        assertEquals(256, map.capacity());
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) assertEquals(i, map.get(i));
+    }
+
+    @Test
+    void remove_ShouldShrinkCapacity_WhenMostEntriesAreRemoved() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(4);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        for (int i = 0; i < 98; i++) map.remove(i);
+
+        assertEquals(8, map.capacity());
+        assertEquals(98, map.get(98));
+        assertEquals(99, map.get(99));
+    }
+
+    @Test
+    void remove_ShouldNotShrinkBelowInitialCapacity_WhenMapBecomesEmpty() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(32);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        for (int i = 0; i < 100; i++) map.remove(i);
+
+        assertEquals(32, map.capacity());
+    }
+
+    @Test
+    void clear_ShouldRestoreInitialCapacity_WhenTableHasGrown() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(2);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        map.clear();
+
+        assertEquals(2, map.capacity());
+    }
+
+    @Test
+    void put_ShouldKeepAllEntriesReachable_WhenHashingIsRandomized() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(2, 0.75f, true);
+
+        for (int i = 0; i < 1_000; i++) map.put(i * 1024, i);
+        for (int i = 0; i < 500; i++) map.remove(i * 1024);
+
+        assertEquals(500, map.size());
+        for (int i = 500; i < 1_000; i++) assertEquals(i, map.get(i * 1024));
+    }
+
+    @Test
+    void putAll_ShouldPresizeTable_WhenLoadingManyEntries() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(2);
+        Hashtable<Integer, Integer> source = new Hashtable<>();
+
+        for (int i = 0; i < 1_000; i++) source.put(i, i);
+        map.putAll(source);
+
+        assertEquals(2048, map.capacity());
+        assertEquals(1_000, map.size());
+        for (int i = 0; i < 1_000; i++) assertEquals(i, map.get(i));
+    }
+
+    @Test
+    void putAll_ShouldFailFastOpenIterators_WhenTableIsResized() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(16);
+        Hashtable<Integer, Integer> source = new Hashtable<>();
+
+        for (int i = 0; i < 12; i++) {
+            map.put(i, i);
+            source.put(i, i);
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        for (int i = 0; i < 3; i++) iterator.next();
+
+        map.putAll(source);
+
+        assertEquals(12, map.size());
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void putAllArrays_ShouldLeaveMapUntouched_WhenAnyValueIsNull() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+
+        assertThrows(NullPointerException.class, () -> map.putAll(new String[] {"a", "b"}, new Integer[] {1, null}));
+        assertThrows(NullPointerException.class, () -> map.putAll(new String[] {"a", null}, new Integer[] {1, 2}));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void putAllArrays_ShouldPresizeTable_WhenLoadingManyPairs() {
+        Hashtable<Integer, Integer> map = new Hashtable<>(2);
+        Integer[] keys = new Integer[100];
+
+        for (int i = 0; i < keys.length; i++) keys[i] = i;
+        map.putAll(keys, keys);
+
+        assertEquals(256, map.capacity());
+        assertEquals(99, map.get(99));
+    }
+
+    @Test
+    void keySet_ShouldReflectLaterChanges_WhenViewWasTakenBefore() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+        Set<String> keys = map.keySet();
+
+        map.put("a", 1);
+        map.put("b", 2);
+        map.remove("a");
+
+        assertEquals(1, keys.size());
+        assertFalse(keys.contains("a"));
+        assertTrue(keys.contains("b"));
+        assertSame(keys, map.keySet());
+    }
+
+    @Test
+    void keySet_ShouldRemoveMapping_WhenKeyIsRemovedFromView() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+
+        map.put("a", 1);
+
+        assertTrue(map.keySet().remove("a"));
+        assertFalse(map.keySet().remove("a"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void keySet_ShouldThrowException_WhenElementIsAdded() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().add("a"));
+    }
+
+    @Test
+    void values_ShouldRemoveOneMapping_WhenValueIsRemovedFromView() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+
+        map.put("a", 1);
+        map.put("b", 1);
+
+        assertTrue(map.values().remove(1));
+        assertFalse(map.values().remove(2));
+        assertEquals(1, map.size());
+        assertArrayEquals(new Object[] {1}, map.values().toArray());
+    }
+
+    @Test
+    void entrySet_ShouldWriteThrough_WhenEntryValueIsSet() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+
+        map.put("a", 1);
+        map.entrySet().forEach(entry -> entry.setValue(entry.getValue() + 10));
+
+        assertEquals(11, map.get("a"));
+    }
+
+    @Test
+    void entrySet_ShouldMatchByKeyAndValue_WhenCheckingOrRemovingEntries() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+        Set<EntryNode<String, Integer>> entries = map.entrySet();
+
+        map.put("a", 1);
+
+        assertTrue(entries.contains(new EntryNode<>("a", 1, null)));
+        assertFalse(entries.contains(new EntryNode<>("a", 2, null)));
+        assertFalse(entries.contains(new EntryNode<>("b", 1, null)));
+        assertFalse(entries.remove(new EntryNode<>("a", 2, null)));
+        assertTrue(entries.remove(new EntryNode<>("a", 1, null)));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void keySet_ShouldRemoveMappings_WhenIteratorRemovesKeys() {
+        Hashtable<CollidingKey, Integer> map = new Hashtable<>();
+        for (int i = 0; i < 100; i++) map.put(new CollidingKey(i), i);
+        Iterator<CollidingKey> iterator = map.keySet().iterator();
+        int visited = 0;
+
+        while (iterator.hasNext()) {
+            CollidingKey key = iterator.next();
+            visited++;
+            if (map.get(key) % 2 == 0) iterator.remove();
+        }
+
+        assertEquals(100, visited);
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) assertEquals(i % 2 == 1, map.containsKey(new CollidingKey(i)));
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void entrySet_ShouldWriteThrough_WhenIteratorRemovalUntreeifiesBucket() {
+        Hashtable<CollidingKey, Integer> map = new Hashtable<>();
+        for (int i = 0; i < 12; i++) map.put(new CollidingKey(i * 4), i);
+        Iterator<EntryNode<CollidingKey, Integer>> iterator = map.entrySet().iterator();
+
+        for (int i = 0; i < 9; i++) {
+            iterator.next();
+            iterator.remove();
+        }
+        while (iterator.hasNext()) iterator.next().setValue(100);
+
+        assertEquals(3, map.size());
+        map.values().forEach(value -> assertEquals(100, value));
+    }
+
+    @Test
+    void entrySet_ShouldThrowException_WhenMapIsModifiedDuringIteration() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        Iterator<EntryNode<String, Integer>> iterator = map.entrySet().iterator();
+        iterator.next();
+
+        map.put("c", 3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, iterator::remove);
+    }
+
+    @Test
+    void views_ShouldStreamEveryEntry_WhenStreamIsParallel() {
+        Hashtable<CollidingKey, Integer> map = new Hashtable<>();
+        for (int i = 0; i < 1_000; i++) map.put(new CollidingKey(i), i);
+
+        assertEquals(499_500, map.values().parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(1_000, map.keySet().parallelStream().distinct().count());
+        assertEquals(1_000, map.entrySet().stream().filter(entry -> entry.getKey().equals(new CollidingKey(entry.getValue()))).count());
+        assertTrue(map.keySet().spliterator().hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+        assertFalse(map.values().spliterator().hasCharacteristics(Spliterator.DISTINCT));
+    }
+
+    @Test
+    void keySet_ShouldSplitBucketsInHalves_WhenTrySplitIsCalled() {
+        Hashtable<Integer, Integer> map = new Hashtable<>();
+        for (int i = 0; i < 100; i++) map.put(i, i);
+
+        Spliterator<Integer> suffix = map.keySet().spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        int[] visited = new int[100];
+
+        assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(100, prefix.estimateSize() + suffix.estimateSize());
+        while (prefix.tryAdvance(key -> visited[key]++)) {}
+        suffix.forEachRemaining(key -> visited[key]++);
+
+        for (int count : visited) assertEquals(1, count);
+        assertThrows(ConcurrentModificationException.class,
+                () -> map.values().spliterator().forEachRemaining(value -> map.put(-1, value)));
+    }
+
+    @Test
+    void views_ShouldFormatElementsIndividually_WhenConvertedToString() {
+        Hashtable<String, Integer> map = new Hashtable<>(1, 4f);
+
+        map.put("a", 1);
+        map.put("b", 2);
+
+        String entries = map.entrySet().toString();
+
+        assertEquals("[]", new Hashtable<String, Integer>().keySet().toString());
+        assertEquals(2, map.keySet().toArray().length);
+        assertTrue(entries.equals("[a=1, b=2]") || entries.equals("[b=2, a=1]"));
+        assertTrue(map.values().toString().matches("\\[[12], [12]]"));
+    }
+
+    @Test
+    void views_ShouldClearMap_WhenViewIsCleared() {
+        Hashtable<String, Integer> map = new Hashtable<>();
+
+        map.put("a", 1);
+        map.values().clear();
+
+        assertTrue(map.isEmpty());
+        assertTrue(map.entrySet().isEmpty());
+    }
+
+    @Test
+    void put_ShouldKeepAllEntriesReachable_WhenComparableKeysShareOneHash() {
+        Hashtable<CollidingKey, Integer> map = new Hashtable<>();
+
+        for (int i = 0; i < 1_000; i++) map.put(new CollidingKey(i), i);
+
+        assertEquals(1_000, map.size());
+        for (int i = 0; i < 1_000; i++) assertEquals(i, map.get(new CollidingKey(i)));
+        assertNull(map.get(new CollidingKey(1_000)));
+        assertTrue(map.containsValue(999));
+        assertEquals(1_000, map.keySet().size());
+    }
+
+    @Test
+    void remove_ShouldKeepRemainingEntriesReachable_WhenTreeifiedBucketShrinks() {
+        Hashtable<CollidingKey, Integer> map = new Hashtable<>();
+
+        for (int i = 0; i < 100; i++) map.put(new CollidingKey(i), i);
+        for (int i = 0; i < 97; i++) assertEquals(i, map.remove(new CollidingKey(i)));
+
+        assertEquals(3, map.size());
+        for (int i = 97; i < 100; i++) assertEquals(i, map.get(new CollidingKey(i)));
+        assertFalse(map.containsKey(new CollidingKey(0)));
+    }
+
+    @Test
+    void put_ShouldFallBackToChain_WhenKeyOfAnotherClassCollidesWithTreeifiedBucket() {
+        Hashtable<Object, Integer> map = new Hashtable<>();
+
+        for (int i = 0; i < 20; i++) map.put(new CollidingKey(i), i);
+        map.put(new OtherCollidingKey(), -1);
+
+        assertEquals(21, map.size());
+        assertEquals(-1, map.get(new OtherCollidingKey()));
+        for (int i = 0; i < 20; i++) assertEquals(i, map.get(new CollidingKey(i)));
+    }
+
+    @Test
+    void put_ShouldKeepDistinctKeys_WhenCompareToIsInconsistentWithEquals() {
+        Hashtable<SameOrderKey, Integer> map = new Hashtable<>();
+
+        for (int i = 0; i < 20; i++) map.put(new SameOrderKey(i), i);
+
+        assertEquals(20, map.size());
+        for (int i = 0; i < 20; i++) assertEquals(i, map.get(new SameOrderKey(i)));
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceMap_WhenManyKeysCollide() {
+        Hashtable<CollidingKey, Integer> map = new Hashtable<>(2);
+        java.util.Map<CollidingKey, Integer> reference = new java.util.HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            CollidingKey key = new CollidingKey(random.nextInt(300));
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+
+    /**
+     * A comparable key whose hash code only takes four distinct values.
+     */
+    private record CollidingKey(int id) implements Comparable<CollidingKey> {
+        @Override
+        public int hashCode() { return id % 4; }
+
+        @Override
+        public int compareTo(CollidingKey other) { return Integer.compare(id, other.id); }
+    }
+
+    /**
+     * A key of another class colliding with {@link CollidingKey} instances.
+     */
+    private record OtherCollidingKey() implements Comparable<OtherCollidingKey> {
+        @Override
+        public int hashCode() { return 0; }
+
+        @Override
+        public int compareTo(OtherCollidingKey other) { return 0; }
+    }
+
+    /**
+     * A colliding key whose ordering considers every instance equal.
+     */
+    private record SameOrderKey(int id) implements Comparable<SameOrderKey> {
+        @Override
+        public int hashCode() { return 0; }
+
+        @Override
+        public int compareTo(SameOrderKey other) { return 0; }
+    }
 }
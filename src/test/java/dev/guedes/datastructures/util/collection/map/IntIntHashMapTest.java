@@ -0,0 +1,189 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link IntIntHashMap}.
+ *
+ * @author João Guedes
+ */
+class IntIntHashMapTest {
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(0));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(-1));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(1, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(1, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashMap(1, Float.NaN));
+    }
+
+    @Test
+    void constructor_ShouldCreateMapWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new IntIntHashMap());
+    }
+
+    @Test
+    void put_ShouldReturnPreviousValue_WhenKeyAlreadyExists() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        assertEquals(0, map.put(7, 1));
+        assertEquals(1, map.put(7, 2));
+        assertEquals(2, map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_ShouldStoreZeroKeyOutsideTable_WhenKeyIsZero() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        map.put(0, 5);
+
+        assertTrue(map.containsKey(0));
+        assertEquals(5, map.get(0));
+        assertEquals(1, map.size());
+        assertEquals(5, map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void getOrDefault_ShouldReturnDefault_WhenKeyIsAbsent() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        map.put(1, 0);
+
+        assertEquals(0, map.getOrDefault(1, -1));
+        assertEquals(-1, map.getOrDefault(2, -1));
+        assertEquals(-1, map.getOrDefault(0, -1));
+    }
+
+    @Test
+    void merge_ShouldCountOccurrences_WhenUsedAsCounter() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        for (int i = 0; i < 100; i++) map.merge(i % 10, 1, Integer::sum);
+
+        assertEquals(10, map.size());
+        for (int i = 0; i < 10; i++) assertEquals(10, map.get(i));
+    }
+
+    @Test
+    void merge_ShouldThrowException_WhenFunctionIsNull() {
+        assertThrows(NullPointerException.class, () -> new IntIntHashMap().merge(1, 1, null));
+    }
+
+    @Test
+    void containsValue_ShouldFindValue_WhenStoredUnderAnyKey() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        map.put(0, 1);
+        map.put(-3, 2);
+
+        assertTrue(map.containsValue(1));
+        assertTrue(map.containsValue(2));
+        assertFalse(map.containsValue(3));
+    }
+
+    @Test
+    void forEach_ShouldVisitEveryMapping_WhenMapHasElements() {
+        IntIntHashMap map = new IntIntHashMap();
+        IntIntHashMap visited = new IntIntHashMap();
+
+        map.put(0, 1);
+        map.put(1, 2);
+        map.put(-1, 3);
+        map.forEach(visited::put);
+
+        assertEquals(3, visited.size());
+        assertEquals(1, visited.get(0));
+        assertEquals(2, visited.get(1));
+        assertEquals(3, visited.get(-1));
+        assertThrows(NullPointerException.class, () -> map.forEach(null));
+    }
+
+    @Test
+    void keys_ShouldReturnEveryKey_WhenMapHasElements() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        map.put(0, 1);
+        map.put(5, 2);
+
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+
+        assertArrayEquals(new int[] {0, 5}, keys);
+    }
+
+    @Test
+    void toString_ShouldListMappings_WhenMapHasElements() {
+        IntIntHashMap map = new IntIntHashMap();
+
+        assertEquals("{}", map.toString());
+
+        map.put(0, 1);
+
+        assertEquals("{0=1}", map.toString());
+    }
+
+    @Test
+    void remove_ShouldShrinkCapacity_WhenMostEntriesAreRemoved() {
+        IntIntHashMap map = new IntIntHashMap(4);
+
+        for (int i = 1; i <= 1_000; i++) map.put(i, i);
+        for (int i = 1; i <= 998; i++) map.remove(i);
+
+        assertEquals(16, map.capacity());
+        assertEquals(999, map.get(999));
+        assertEquals(1_000, map.get(1_000));
+    }
+
+    @Test
+    void clear_ShouldRestoreInitialCapacity_WhenTableHasGrown() {
+        IntIntHashMap map = new IntIntHashMap(2);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        map.clear();
+
+        assertEquals(2, map.capacity());
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceMap_WhenRandomWorkloadIsApplied() {
+        IntIntHashMap map = new IntIntHashMap(1, 0.9f);
+        HashMap<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(512) - 256;
+            int value = random.nextInt();
+
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? 0 : expected, map.remove(key));
+            } else {
+                Integer expected = reference.put(key, value);
+                assertEquals(expected == null ? 0 : expected, map.put(key, value));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+}
@@ -0,0 +1,186 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link IntObjectHashMap}.
+ *
+ * @author João Guedes
+ */
+class IntObjectHashMapTest {
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectHashMap<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectHashMap<>(-1));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectHashMap<>(1, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectHashMap<>(1, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectHashMap<>(1, Float.NaN));
+    }
+
+    @Test
+    void constructor_ShouldCreateMapWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new IntObjectHashMap<>());
+    }
+
+    @Test
+    void put_ShouldThrowException_WhenValueIsNull() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(NullPointerException.class, () -> map.put(0, null));
+    }
+
+    @Test
+    void put_ShouldReturnPreviousValue_WhenKeyAlreadyExists() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertNull(map.put(7, "a"));
+        assertEquals("a", map.put(7, "b"));
+        assertEquals("b", map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_ShouldStoreZeroKeyOutsideTable_WhenKeyIsZero() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertNull(map.put(0, "zero"));
+
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void putIfAbsent_ShouldKeepCurrentValue_WhenKeyIsPresent() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertNull(map.putIfAbsent(1, "a"));
+        assertEquals("a", map.putIfAbsent(1, "b"));
+        assertEquals("a", map.get(1));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldApplyFunctionOnlyOnce_WhenKeyBecomesPresent() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertEquals("5", map.computeIfAbsent(5, Integer::toString));
+        assertEquals("5", map.computeIfAbsent(5, key -> "other"));
+        assertNull(map.computeIfAbsent(6, key -> null));
+        assertFalse(map.containsKey(6));
+        assertThrows(NullPointerException.class, () -> map.computeIfAbsent(7, null));
+    }
+
+    @Test
+    void getOrDefault_ShouldReturnDefault_WhenKeyIsAbsent() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        map.put(1, "a");
+
+        assertEquals("a", map.getOrDefault(1, "none"));
+        assertEquals("none", map.getOrDefault(2, "none"));
+    }
+
+    @Test
+    void containsValue_ShouldFindValue_WhenStoredUnderAnyKey() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        map.put(0, "a");
+        map.put(-3, "b");
+
+        assertTrue(map.containsValue("a"));
+        assertTrue(map.containsValue("b"));
+        assertFalse(map.containsValue("c"));
+        assertThrows(NullPointerException.class, () -> map.containsValue(null));
+    }
+
+    @Test
+    void forEach_ShouldVisitEveryMapping_WhenMapHasElements() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        IntObjectHashMap<String> visited = new IntObjectHashMap<>();
+
+        map.put(0, "a");
+        map.put(1, "b");
+        map.forEach(visited::put);
+
+        assertEquals(2, visited.size());
+        assertEquals("a", visited.get(0));
+        assertEquals("b", visited.get(1));
+        assertThrows(NullPointerException.class, () -> map.forEach(null));
+    }
+
+    @Test
+    void keys_ShouldReturnEveryKey_WhenMapHasElements() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        map.put(0, "a");
+        map.put(5, "b");
+
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+
+        assertArrayEquals(new int[] {0, 5}, keys);
+    }
+
+    @Test
+    void toString_ShouldListMappings_WhenMapHasElements() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+        assertEquals("{}", map.toString());
+
+        map.put(3, "c");
+
+        assertEquals("{3=c}", map.toString());
+    }
+
+    @Test
+    void clear_ShouldRestoreInitialCapacity_WhenTableHasGrown() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>(2);
+
+        for (int i = 0; i < 100; i++) map.put(i, "v");
+        map.clear();
+
+        assertEquals(2, map.capacity());
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceMap_WhenRandomWorkloadIsApplied() {
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>(1, 0.9f);
+        HashMap<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(512) - 256;
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+}
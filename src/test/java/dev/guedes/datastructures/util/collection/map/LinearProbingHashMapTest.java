@@ -0,0 +1,101 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link LinearProbingHashMap}.
+ *
+ * @author João Guedes
+ */
+class LinearProbingHashMapTest extends MapTest {
+    @Override
+    protected Map<String, Integer> createMap() { return new LinearProbingHashMap<>(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new LinearProbingHashMap<>(-1));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsZero() {
+        assertThrows(IllegalArgumentException.class, () -> new LinearProbingHashMap<>(0));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new LinearProbingHashMap<>(1, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LinearProbingHashMap<>(1, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new LinearProbingHashMap<>(1, Float.NaN));
+    }
+
+    @Test
+    void constructor_ShouldCreateInstance_WhenInitialCapacityIsPositive() {
+        assertDoesNotThrow(() -> new LinearProbingHashMap<>(1));
+    }
+
+    @Test
+    void constructor_ShouldCreateMapWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new LinearProbingHashMap<>());
+    }
+
+    @Test
+    void put_ShouldGrowCapacity_WhenLoadFactorIsExceeded() {
+        LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>(1);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+
+        assertEquals(256, map.capacity());
+        for (int i = 0; i < 100; i++) assertEquals(i, map.get(i));
+    }
+
+    @Test
+    void remove_ShouldKeepClusterReachable_WhenRemovingFromTheMiddleOfAProbeSequence() {
+        LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>(64, 0.9f);
+
+        for (int i = 0; i < 8; i++) map.put(i * 64, i);
+
+        map.remove(3 * 64);
+
+        assertNull(map.get(3 * 64));
+        for (int i = 0; i < 8; i++) {
+            if (i != 3) assertEquals(i, map.get(i * 64));
+        }
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceMap_WhenRandomWorkloadIsApplied() {
+        LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>(4);
+        java.util.Map<Integer, Integer> reference = new java.util.HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+
+    @Test
+    void clear_ShouldRestoreInitialCapacity_WhenTableHasGrown() {
+        LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>(2);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+        map.clear();
+
+        assertEquals(2, map.capacity());
+        assertNull(map.get(1));
+    }
+}
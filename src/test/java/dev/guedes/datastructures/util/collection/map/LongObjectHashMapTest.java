@@ -0,0 +1,186 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link LongObjectHashMap}.
+ *
+ * @author João Guedes
+ */
+class LongObjectHashMapTest {
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<>(-1));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<>(1, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<>(1, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectHashMap<>(1, Float.NaN));
+    }
+
+    @Test
+    void constructor_ShouldCreateMapWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new LongObjectHashMap<>());
+    }
+
+    @Test
+    void put_ShouldThrowException_WhenValueIsNull() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(NullPointerException.class, () -> map.put(0, null));
+    }
+
+    @Test
+    void put_ShouldReturnPreviousValue_WhenKeyAlreadyExists() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertNull(map.put(7, "a"));
+        assertEquals("a", map.put(7, "b"));
+        assertEquals("b", map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_ShouldStoreZeroKeyOutsideTable_WhenKeyIsZero() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertNull(map.put(0, "zero"));
+
+        assertTrue(map.containsKey(0));
+        assertEquals("zero", map.get(0));
+        assertEquals(1, map.size());
+        assertEquals("zero", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void putIfAbsent_ShouldKeepCurrentValue_WhenKeyIsPresent() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertNull(map.putIfAbsent(1, "a"));
+        assertEquals("a", map.putIfAbsent(1, "b"));
+        assertEquals("a", map.get(1));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldApplyFunctionOnlyOnce_WhenKeyBecomesPresent() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertEquals("5", map.computeIfAbsent(5, Long::toString));
+        assertEquals("5", map.computeIfAbsent(5, key -> "other"));
+        assertNull(map.computeIfAbsent(6, key -> null));
+        assertFalse(map.containsKey(6));
+        assertThrows(NullPointerException.class, () -> map.computeIfAbsent(7, null));
+    }
+
+    @Test
+    void getOrDefault_ShouldReturnDefault_WhenKeyIsAbsent() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        map.put(1, "a");
+
+        assertEquals("a", map.getOrDefault(1, "none"));
+        assertEquals("none", map.getOrDefault(2, "none"));
+    }
+
+    @Test
+    void containsValue_ShouldFindValue_WhenStoredUnderAnyKey() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        map.put(0, "a");
+        map.put(-3, "b");
+
+        assertTrue(map.containsValue("a"));
+        assertTrue(map.containsValue("b"));
+        assertFalse(map.containsValue("c"));
+        assertThrows(NullPointerException.class, () -> map.containsValue(null));
+    }
+
+    @Test
+    void forEach_ShouldVisitEveryMapping_WhenMapHasElements() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        LongObjectHashMap<String> visited = new LongObjectHashMap<>();
+
+        map.put(0, "a");
+        map.put(1, "b");
+        map.forEach(visited::put);
+
+        assertEquals(2, visited.size());
+        assertEquals("a", visited.get(0));
+        assertEquals("b", visited.get(1));
+        assertThrows(NullPointerException.class, () -> map.forEach(null));
+    }
+
+    @Test
+    void keys_ShouldReturnEveryKey_WhenMapHasElements() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        map.put(0, "a");
+        map.put(5, "b");
+
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+
+        assertArrayEquals(new long[] {0, 5}, keys);
+    }
+
+    @Test
+    void toString_ShouldListMappings_WhenMapHasElements() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertEquals("{}", map.toString());
+
+        map.put(3, "c");
+
+        assertEquals("{3=c}", map.toString());
+    }
+
+    @Test
+    void clear_ShouldRestoreInitialCapacity_WhenTableHasGrown() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(2);
+
+        for (int i = 0; i < 100; i++) map.put(i, "v");
+        map.clear();
+
+        assertEquals(2, map.capacity());
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceMap_WhenRandomWorkloadIsApplied() {
+        LongObjectHashMap<Integer> map = new LongObjectHashMap<>(1, 0.9f);
+        HashMap<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = (random.nextInt(512) - 256) * (1L << 32) + random.nextInt(4);
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+}
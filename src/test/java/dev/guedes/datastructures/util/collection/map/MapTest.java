@@ -2,6 +2,7 @@ package dev.guedes.datastructures.util.collection.map;
 
 import dev.guedes.datastructures.util.collection.Collection;
 import dev.guedes.datastructures.util.collection.internal.nodes.EntryNode;
+import dev.guedes.datastructures.util.collection.list.SinglyLinkedList;
 import dev.guedes.datastructures.util.collection.set.Set;
 import org.junit.jupiter.api.Test;
 
@@ -131,6 +132,156 @@ abstract class MapTest {
         assertEquals(2, map.size());
     }
 
+    @Test
+    void putAll_ShouldCopyEveryMapping_WhenSourceMapHasElements() {
+        Map<String, Integer> map = createMap();
+        Map<String, Integer> source = createMap();
+
+        map.put("a", 0);
+        source.put("a", 1);
+        source.put("b", 2);
+
+        map.putAll(source);
+
+        assertEquals(2, map.size());
+        assertEquals(1, map.get("a"));
+        assertEquals(2, map.get("b"));
+        assertThrows(NullPointerException.class, () -> map.putAll(null));
+    }
+
+    @Test
+    void putAllArrays_ShouldAssociateKeysWithValuesAtSameIndex_WhenArraysHaveSameLength() {
+        Map<String, Integer> map = createMap();
+
+        map.putAll(new String[] {"a", "b", "c"}, new Integer[] {1, 2, 3});
+
+        assertEquals(3, map.size());
+        assertEquals(1, map.get("a"));
+        assertEquals(3, map.get("c"));
+    }
+
+    @Test
+    void putAllArrays_ShouldThrowException_WhenArraysAreInvalid() {
+        Map<String, Integer> map = createMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.putAll(new String[] {"a"}, new Integer[0]));
+        assertThrows(NullPointerException.class, () -> map.putAll(null, new Integer[0]));
+        assertThrows(NullPointerException.class, () -> map.putAll(new String[0], null));
+        assertThrows(NullPointerException.class, () -> map.putAll(new String[] {"a"}, new Integer[] {null}));
+    }
+
+    @Test
+    void getAll_ShouldReturnOnlyMappedKeys_WhenSomeKeysAreAbsent() {
+        Map<String, Integer> map = createMap();
+        Collection<String> keys = new SinglyLinkedList<>();
+
+        map.put("a", 1);
+        map.put("b", 2);
+        keys.add("a");
+        keys.add("z");
+
+        Map<String, Integer> mappings = map.getAll(keys);
+
+        assertEquals(1, mappings.size());
+        assertEquals(1, mappings.get("a"));
+        assertNull(mappings.get("z"));
+        assertThrows(NullPointerException.class, () -> map.getAll(null));
+    }
+
+    @Test
+    void putIfAbsent_ShouldInsertValue_WhenKeyIsAbsent() {
+        Map<String, Integer> map = createMap();
+
+        assertNull(map.putIfAbsent("a", 1));
+        assertEquals(1, map.get("a"));
+    }
+
+    @Test
+    void putIfAbsent_ShouldKeepCurrentValue_WhenKeyIsPresent() {
+        Map<String, Integer> map = createMap();
+
+        map.put("a", 1);
+
+        assertEquals(1, map.putIfAbsent("a", 2));
+        assertEquals(1, map.get("a"));
+    }
+
+    @Test
+    void putIfAbsent_ShouldThrowException_WhenKeyOrValueIsNull() {
+        Map<String, Integer> map = createMap();
+
+        assertThrows(NullPointerException.class, () -> map.putIfAbsent(null, 1));
+        assertThrows(NullPointerException.class, () -> map.putIfAbsent("a", null));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldInsertComputedValue_WhenKeyIsAbsent() {
+        Map<String, Integer> map = createMap();
+
+        assertEquals(1, map.computeIfAbsent("a", String::length));
+        assertEquals(1, map.get("a"));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldNotApplyFunction_WhenKeyIsPresent() {
+        Map<String, Integer> map = createMap();
+
+        map.put("a", 5);
+
+        assertEquals(5, map.computeIfAbsent("a", key -> { throw new AssertionError(); }));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldNotInsert_WhenFunctionReturnsNull() {
+        Map<String, Integer> map = createMap();
+
+        assertNull(map.computeIfAbsent("a", key -> null));
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    void computeIfAbsent_ShouldThrowException_WhenFunctionIsNull() {
+        Map<String, Integer> map = createMap();
+
+        assertThrows(NullPointerException.class, () -> map.computeIfAbsent("a", null));
+    }
+
+    @Test
+    void merge_ShouldInsertValue_WhenKeyIsAbsent() {
+        Map<String, Integer> map = createMap();
+
+        assertEquals(1, map.merge("a", 1, Integer::sum));
+        assertEquals(1, map.get("a"));
+    }
+
+    @Test
+    void merge_ShouldCombineValues_WhenKeyIsPresent() {
+        Map<String, Integer> map = createMap();
+
+        map.put("a", 1);
+
+        assertEquals(3, map.merge("a", 2, Integer::sum));
+        assertEquals(3, map.get("a"));
+    }
+
+    @Test
+    void merge_ShouldRemoveMapping_WhenFunctionReturnsNull() {
+        Map<String, Integer> map = createMap();
+
+        map.put("a", 1);
+
+        assertNull(map.merge("a", 2, (oldValue, value) -> null));
+        assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    void merge_ShouldThrowException_WhenValueOrFunctionIsNull() {
+        Map<String, Integer> map = createMap();
+
+        assertThrows(NullPointerException.class, () -> map.merge("a", null, Integer::sum));
+        assertThrows(NullPointerException.class, () -> map.merge("a", 1, null));
+    }
+
     @Test
     void replaceWithOldValue_ShouldThrowException_WhenKeyIsNull() {
         Map<String, Integer> map = createMap();
@@ -438,6 +589,28 @@ abstract class MapTest {
         });
     }
 
+    @Test
+    void forEach_ShouldVisitEveryMapping_WhenMapHasElements() {
+        Map<String, Integer> map = createMap();
+
+        map.put("a", 1);
+        map.put("b", 2);
+
+        Map<String, Integer> visited = createMap();
+        map.forEach(visited::put);
+
+        assertEquals(2, visited.size());
+        assertEquals(1, visited.get("a"));
+        assertEquals(2, visited.get("b"));
+    }
+
+    @Test
+    void forEach_ShouldThrowException_WhenActionIsNull() {
+        Map<String, Integer> map = createMap();
+
+        assertThrows(NullPointerException.class, () -> map.forEach(null));
+    }
+
     @Test
     void toString_ShouldReturnEmptyRepresentation_WhenMapIsEmpty() {
         assertEquals("{}", createMap().toString());
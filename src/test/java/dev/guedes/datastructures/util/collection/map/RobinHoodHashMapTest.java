@@ -0,0 +1,130 @@
+package dev.guedes.datastructures.util.collection.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link RobinHoodHashMap}.
+ *
+ * @author João Guedes
+ */
+class RobinHoodHashMapTest extends MapTest {
+    @Override
+    protected Map<String, Integer> createMap() { return new RobinHoodHashMap<>(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new RobinHoodHashMap<>(-1));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsZero() {
+        assertThrows(IllegalArgumentException.class, () -> new RobinHoodHashMap<>(0));
+    }
+
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new RobinHoodHashMap<>(1, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new RobinHoodHashMap<>(1, 1f));
+    }
+
+    @Test
+    void constructor_ShouldCreateInstance_WhenInitialCapacityIsPositive() {
+        assertDoesNotThrow(() -> new RobinHoodHashMap<>(1));
+    }
+
+    @Test
+    void constructor_ShouldCreateMapWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new RobinHoodHashMap<>());
+    }
+
+    @Test
+    void put_ShouldGrowCapacity_WhenLoadFactorIsExceeded() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(1);
+
+        for (int i = 0; i < 100; i++) map.put(i, i);
+
+        assertEquals(128, map.capacity());
+        for (int i = 0; i < 100; i++) assertEquals(i, map.get(i));
+    }
+
+    @Test
+    void remove_ShouldKeepClusterReachable_WhenRemovingFromTheMiddleOfAProbeSequence() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(64);
+
+        for (int i = 0; i < 8; i++) map.put(i * 64, i);
+        map.put(1, 100);
+
+        map.remove(3 * 64);
+
+        assertNull(map.get(3 * 64));
+        assertEquals(100, map.get(1));
+        for (int i = 0; i < 8; i++) {
+            if (i != 3) assertEquals(i, map.get(i * 64));
+        }
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceMap_WhenRandomWorkloadIsApplied() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(4);
+        java.util.Map<Integer, Integer> reference = new java.util.HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        reference.forEach((key, value) -> assertEquals(value, map.get(key)));
+    }
+
+    @Test
+    void probeDistances_ShouldBeZero_WhenMapIsEmpty() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>();
+
+        assertEquals(0, map.maxProbeDistance());
+        assertEquals(0.0, map.averageProbeDistance());
+    }
+
+    @Test
+    void probeDistances_ShouldReflectCollisions_WhenKeysShareAHomeSlot() {
+        RobinHoodHashMap<SameHashKey, Integer> map = new RobinHoodHashMap<>(64);
+
+        for (int i = 0; i < 4; i++) map.put(new SameHashKey(i), i);
+
+        assertEquals(3, map.maxProbeDistance());
+        assertEquals(1.5, map.averageProbeDistance());
+    }
+
+    @Test
+    void probeDistances_ShouldStaySmall_WhenTableIsNinetyPercentFull() {
+        RobinHoodHashMap<Integer, Integer> map = new RobinHoodHashMap<>(1 << 14, 0.9f);
+        Random random = new Random(7);
+
+        while (map.size() < (int) ((1 << 14) * 0.9f)) map.put(random.nextInt(), 0);
+
+        assertEquals(1 << 14, map.capacity());
+        assertTrue(map.averageProbeDistance() < 5.0);
+        assertTrue(map.maxProbeDistance() < 64);
+    }
+
+    /**
+     * A key whose instances all share one hash code, and therefore one home slot.
+     */
+    private record SameHashKey(int id) {
+        @Override
+        public int hashCode() { return 0; }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.guedes.datastructures.util.collection.probabilistic;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link BloomFilter}.
+ *
+ * @author João Guedes
+ */
+class BloomFilterTest {
+    @Test
+    void constructor_ShouldThrowException_WhenParametersAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<>(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<>(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<>(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter<>(100, Double.NaN));
+    }
+
+    @Test
+    void constructor_ShouldSizeFilter_WhenProbabilityIsOnePercent() {
+        BloomFilter<Integer> filter = new BloomFilter<>(1_000, 0.01);
+
+        assertEquals(9_600, filter.bitSize());
+        assertEquals(7, filter.hashFunctions());
+        assertTrue(filter.isEmpty());
+    }
+
+    @Test
+    void mightContain_ShouldNeverMissAddedElements_WhenFilterIsFull() {
+        BloomFilter<Integer> filter = new BloomFilter<>(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) filter.add(i);
+
+        for (int i = 0; i < 10_000; i++) assertTrue(filter.mightContain(i));
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositivesNearTarget_WhenExpectedInsertionsAreAdded() {
+        BloomFilter<Integer> filter = new BloomFilter<>(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.add(i);
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filter.mightContain(i)) falsePositives++;
+        }
+
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+        assertTrue(Math.abs(filter.expectedFalsePositiveProbability() - 0.01) < 0.005);
+        assertTrue(Math.abs(filter.approximateElementCount() - 10_000) < 500);
+    }
+
+    @Test
+    void add_ShouldReportChange_OnlyWhenElementIsNew() {
+        BloomFilter<String> filter = new BloomFilter<>(100, 0.01);
+
+        assertTrue(filter.add("a"));
+        assertFalse(filter.add("a"));
+        assertFalse(filter.isEmpty());
+    }
+
+    @Test
+    void addAll_ShouldAddEveryElement_WhenCollectionIsGiven() {
+        BloomFilter<Integer> filter = new BloomFilter<>(100, 0.01);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 50; i++) elements.add(i * 31);
+
+        filter.addAll(elements);
+
+        for (int i = 0; i < 50; i++) assertTrue(filter.mightContain(i * 31));
+        assertThrows(NullPointerException.class, () -> filter.addAll(null));
+    }
+
+    @Test
+    void union_ShouldContainElementsOfBothFilters_WithoutModifyingThem() {
+        BloomFilter<Integer> first = new BloomFilter<>(1_000, 0.01);
+        BloomFilter<Integer> second = new BloomFilter<>(1_000, 0.01);
+        for (int i = 0; i < 500; i++) first.add(i);
+        for (int i = 500; i < 1_000; i++) second.add(i);
+
+        BloomFilter<Integer> merged = first.union(second);
+
+        for (int i = 0; i < 1_000; i++) assertTrue(merged.mightContain(i));
+        assertTrue(Math.abs(first.approximateElementCount() - 500) < 50);
+        assertTrue(Math.abs(merged.approximateElementCount() - 1_000) < 100);
+    }
+
+    @Test
+    void union_ShouldThrowException_WhenFiltersAreIncompatible() {
+        BloomFilter<Integer> filter = new BloomFilter<>(1_000, 0.01);
+
+        assertThrows(NullPointerException.class, () -> filter.union(null));
+        assertThrows(IllegalArgumentException.class, () -> filter.union(new BloomFilter<>(2_000, 0.01)));
+        assertThrows(IllegalArgumentException.class, () -> filter.union(new BloomFilter<>(1_000, 0.0099)));
+    }
+
+    @Test
+    void approximateElementCount_ShouldSaturate_WhenEveryBitIsSet() {
+        BloomFilter<Integer> filter = new BloomFilter<>(1, 0.5);
+        for (int i = 0; i < 1_000; i++) filter.add(i);
+
+        assertEquals(Long.MAX_VALUE, filter.approximateElementCount());
+    }
+
+    @Test
+    void clear_ShouldRemoveAllElements_WhenFilterIsNotEmpty() {
+        BloomFilter<Integer> filter = new BloomFilter<>(100, 0.01);
+        filter.add(1);
+
+        filter.clear();
+
+        assertTrue(filter.isEmpty());
+        assertFalse(filter.mightContain(1));
+        assertEquals("BloomFilter{bits=960, hashFunctions=7, setBits=0}", filter.toString());
+    }
+
+    @Test
+    void operations_ShouldThrowException_WhenElementIsNull() {
+        BloomFilter<Integer> filter = new BloomFilter<>(100, 0.01);
+
+        assertThrows(NullPointerException.class, () -> filter.add(null));
+        assertThrows(NullPointerException.class, () -> filter.mightContain(null));
+    }
+}
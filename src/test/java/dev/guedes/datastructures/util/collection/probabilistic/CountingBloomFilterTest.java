@@ -0,0 +1,123 @@
+package dev.guedes.datastructures.util.collection.probabilistic;
+
+import dev.guedes.datastructures.util.collection.list.ArrayList;
+import dev.guedes.datastructures.util.collection.list.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link CountingBloomFilter}.
+ *
+ * @author João Guedes
+ */
+class CountingBloomFilterTest {
+    @Test
+    void constructor_ShouldThrowException_WhenParametersAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter<>(-1, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter<>(100, 1.5));
+    }
+
+    @Test
+    void constructor_ShouldSizeFilter_WhenProbabilityIsOnePercent() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(1_000, 0.01);
+
+        assertEquals(9_600, filter.counterCount());
+        assertEquals(7, filter.hashFunctions());
+        assertTrue(filter.isEmpty());
+    }
+
+    @Test
+    void remove_ShouldForgetElement_WhenItWasAdded() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) filter.add(i);
+
+        for (int i = 0; i < 500; i++) assertTrue(filter.remove(i));
+
+        int stillReported = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain(i)) stillReported++;
+        }
+
+        assertTrue(stillReported < 50, "Still reported: " + stillReported);
+        for (int i = 500; i < 1_000; i++) assertTrue(filter.mightContain(i));
+    }
+
+    @Test
+    void remove_ShouldReturnFalse_WhenElementIsDefinitelyAbsent() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(100, 0.01);
+
+        assertFalse(filter.remove(1));
+
+        filter.add(1);
+        filter.add(1);
+        assertTrue(filter.remove(1));
+        assertTrue(filter.mightContain(1));
+        assertTrue(filter.remove(1));
+        assertFalse(filter.mightContain(1));
+        assertTrue(filter.isEmpty());
+    }
+
+    @Test
+    void add_ShouldSaturateCounters_WhenElementIsAddedManyTimes() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(100, 0.01);
+
+        for (int i = 0; i < 20; i++) filter.add(7);
+        for (int i = 0; i < 20; i++) filter.remove(7);
+
+        assertTrue(filter.mightContain(7));
+    }
+
+    @Test
+    void union_ShouldSumCounters_WhenFiltersAreCompatible() {
+        CountingBloomFilter<Integer> first = new CountingBloomFilter<>(1_000, 0.01);
+        CountingBloomFilter<Integer> second = new CountingBloomFilter<>(1_000, 0.01);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 10; i++) elements.add(i);
+        first.addAll(elements);
+        second.addAll(elements);
+        for (int i = 0; i < 20; i++) second.add(100);
+
+        CountingBloomFilter<Integer> merged = first.union(second);
+        for (int i = 0; i < 10; i++) merged.remove(i);
+
+        for (int i = 0; i < 10; i++) assertTrue(merged.mightContain(i));
+        assertTrue(merged.mightContain(100));
+        assertTrue(first.mightContain(0));
+        assertFalse(first.mightContain(100));
+    }
+
+    @Test
+    void union_ShouldThrowException_WhenFiltersAreIncompatible() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(1_000, 0.01);
+
+        assertThrows(NullPointerException.class, () -> filter.union(null));
+        assertThrows(IllegalArgumentException.class, () -> filter.union(new CountingBloomFilter<>(2_000, 0.01)));
+        assertThrows(IllegalArgumentException.class, () -> filter.union(new CountingBloomFilter<>(1_000, 0.0099)));
+    }
+
+    @Test
+    void clear_ShouldRemoveAllElements_WhenFilterIsNotEmpty() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(100, 0.01);
+        filter.add(1);
+
+        filter.clear();
+
+        assertTrue(filter.isEmpty());
+        assertFalse(filter.mightContain(1));
+        assertEquals("CountingBloomFilter{counters=960, hashFunctions=7}", filter.toString());
+    }
+
+    @Test
+    void operations_ShouldThrowException_WhenArgumentIsNull() {
+        CountingBloomFilter<Integer> filter = new CountingBloomFilter<>(100, 0.01);
+
+        assertThrows(NullPointerException.class, () -> filter.add(null));
+        assertThrows(NullPointerException.class, () -> filter.remove(null));
+        assertThrows(NullPointerException.class, () -> filter.mightContain(null));
+        assertThrows(NullPointerException.class, () -> filter.addAll(null));
+    }
+}
@@ -0,0 +1,126 @@
+package dev.guedes.datastructures.util.collection.probabilistic;
+
+import dev.guedes.datastructures.util.collection.set.HashSet;
+import dev.guedes.datastructures.util.collection.set.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link HyperLogLog}.
+ *
+ * @author João Guedes
+ */
+class HyperLogLogTest {
+    @Test
+    void constructor_ShouldThrowException_WhenPrecisionIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog<>(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog<>(19));
+    }
+
+    @Test
+    void cardinality_ShouldReturnZero_WhenSketchIsEmpty() {
+        HyperLogLog<Integer> sketch = new HyperLogLog<>();
+
+        assertEquals(0, sketch.cardinality());
+        assertTrue(sketch.isEmpty());
+        assertTrue(sketch.isSparse());
+        assertEquals(HyperLogLog.DEFAULT_PRECISION, sketch.precision());
+    }
+
+    @Test
+    void cardinality_ShouldBeNearlyExact_WhenCardinalityIsSmall() {
+        HyperLogLog<Integer> sketch = new HyperLogLog<>();
+
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 100; i++) sketch.add(i);
+        }
+
+        assertEquals(100, sketch.cardinality(), 2);
+        assertTrue(sketch.isSparse());
+        assertFalse(sketch.isEmpty());
+    }
+
+    @Test
+    void cardinality_ShouldStayWithinThreeStandardErrors_WhenCardinalityIsLarge() {
+        for (int cardinality : new int[] {1_000, 50_000, 1_000_000}) {
+            HyperLogLog<Integer> sketch = new HyperLogLog<>();
+
+            for (int i = 0; i < cardinality; i++) sketch.add(i * 7 + 3);
+
+            double error = Math.abs(sketch.cardinality() - cardinality) / (double) cardinality;
+            assertTrue(error < 3 * sketch.relativeStandardError(), "Error " + error + " at " + cardinality);
+        }
+    }
+
+    @Test
+    void add_ShouldSwitchToDenseRegisters_WhenSparseMapGrows() {
+        HyperLogLog<Integer> sketch = new HyperLogLog<>(10);
+
+        for (int i = 0; i < 10; i++) sketch.add(i);
+        assertTrue(sketch.isSparse());
+        assertTrue(sketch.sizeInBytes() < 1 << 10);
+
+        for (int i = 10; i < 10_000; i++) sketch.add(i);
+
+        assertFalse(sketch.isSparse());
+        assertEquals(1 << 10, sketch.sizeInBytes());
+        assertFalse(sketch.add(0));
+        assertFalse(sketch.isEmpty());
+    }
+
+    @Test
+    void addAll_ShouldCountDistinctElements_WhenCollectionHasThem() {
+        HyperLogLog<Integer> sketch = new HyperLogLog<>();
+        Set<Integer> elements = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) elements.add(i);
+
+        sketch.addAll(elements);
+
+        assertEquals(20_000, sketch.cardinality(), 20_000 * 3 * sketch.relativeStandardError());
+        assertThrows(NullPointerException.class, () -> sketch.addAll(null));
+    }
+
+    @Test
+    void union_ShouldEstimateDistinctElementsOfBoth_WhenSketchesOverlap() {
+        HyperLogLog<Integer> first = new HyperLogLog<>();
+        HyperLogLog<Integer> second = new HyperLogLog<>();
+        HyperLogLog<Integer> sparse = new HyperLogLog<>();
+        for (int i = 0; i < 60_000; i++) first.add(i);
+        for (int i = 40_000; i < 100_000; i++) second.add(i);
+        sparse.add(-1);
+
+        HyperLogLog<Integer> merged = first.union(second);
+
+        assertEquals(100_000, merged.cardinality(), 100_000 * 3 * merged.relativeStandardError());
+        assertEquals(60_000, first.cardinality(), 60_000 * 3 * first.relativeStandardError());
+        assertEquals(1, sparse.union(new HyperLogLog<>()).cardinality());
+        assertTrue(sparse.union(first).cardinality() >= first.cardinality());
+        assertTrue(first.union(sparse).cardinality() >= first.cardinality());
+    }
+
+    @Test
+    void union_ShouldThrowException_WhenSketchesAreIncompatible() {
+        HyperLogLog<Integer> sketch = new HyperLogLog<>();
+
+        assertThrows(NullPointerException.class, () -> sketch.union(null));
+        assertThrows(IllegalArgumentException.class, () -> sketch.union(new HyperLogLog<>(12)));
+    }
+
+    @Test
+    void clear_ShouldReturnToEmptySparseSketch_WhenSketchIsDense() {
+        HyperLogLog<Integer> sketch = new HyperLogLog<>(4);
+        for (int i = 0; i < 100; i++) sketch.add(i);
+
+        sketch.clear();
+
+        assertTrue(sketch.isSparse());
+        assertTrue(sketch.isEmpty());
+        assertEquals(0, sketch.cardinality());
+        assertEquals("HyperLogLog{precision=4, sparse=true, cardinality=0}", sketch.toString());
+        assertThrows(NullPointerException.class, () -> sketch.add(null));
+    }
+}
@@ -4,6 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -169,6 +174,18 @@ class CircularQueueTest extends QueueTest {
         assertEquals("[]", queue.toString());
     }
 
+    @Test
+    void remove_ShouldShiftElementsAcrossArrayEnd_WhenQueueWrapsAround() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+
+        assertTrue(queue.remove(Integer.valueOf(5)));
+        assertTrue(queue.remove(Integer.valueOf(9)));
+
+        assertEquals("[3, 4, 6, 7, 8, 10]", queue.toString());
+        assertEquals(6, queue.size());
+        assertEquals(3, queue.poll());
+    }
+
     @Test
     void contains_ShouldReturnTrue_WhenElementExists() {
         Queue<Integer> queue = createQueue();
@@ -214,6 +231,52 @@ class CircularQueueTest extends QueueTest {
         assertArrayEquals(new Object[]{1, 2}, queue.toArray());
     }
 
+    @Test
+    void toArray_ShouldReturnElementsInOrder_WhenQueueWrapsAround() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+
+        assertArrayEquals(new Object[]{3, 4, 5, 6, 7, 8, 9, 10}, queue.toArray());
+
+        queue.add(11);
+
+        assertArrayEquals(new Object[]{3, 4, 5, 6, 7, 8, 9, 10, 11}, queue.toArray());
+        assertEquals(3, queue.peek());
+    }
+
+    @Test
+    void iteratorRemove_ShouldRemoveElements_WhenQueueWrapsAround() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+        Iterator<Integer> iterator = queue.iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 3 != 1) iterator.remove();
+        }
+
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals("[4, 7]", queue.toString());
+        assertEquals(4, queue.poll());
+    }
+
+    @Test
+    void iterator_ShouldContinueInOrder_WhenCapacityChangesDuringIteration() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+        Iterator<Integer> iterator = queue.iterator();
+
+        assertEquals(3, iterator.next());
+        assertEquals(4, iterator.next());
+        queue.ensureCapacity(64);
+        assertEquals(5, iterator.next());
+        queue.trimToSize();
+
+        StringBuilder sb = new StringBuilder();
+        iterator.forEachRemaining(element -> sb.append(element).append(' '));
+
+        assertEquals("6 7 8 9 10 ", sb.toString());
+    }
+
     @Test
     void clear_ShouldRemoveAllElements() {
         Queue<Integer> queue = createQueue();
@@ -239,4 +302,126 @@ class CircularQueueTest extends QueueTest {
 
         assertEquals("[1, 2, 3]", queue.toString());
     }
+
+    @Test
+    void constructor_ShouldThrowException_WhenGrowthFactorIsNotGreaterThanOne() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularQueue<>(10, 0.5f));
+        assertDoesNotThrow(() -> new CircularQueue<>(10, 1.5f));
+    }
+
+    @Test
+    void poll_ShouldNotReallocate_WhenOffersAndPollsAlternate() {
+        CircularQueue<Integer> queue = new CircularQueue<>(1);
+        for (int i = 0; i < 64; i++) queue.offer(i);
+        assertEquals(64, queue.capacity());
+
+        for (int i = 0; i < 1_000; i++) {
+            queue.offer(i);
+            assertEquals(128, queue.capacity());
+            queue.poll();
+            queue.poll();
+            queue.offer(i);
+            assertEquals(128, queue.capacity());
+        }
+    }
+
+    @Test
+    void poll_ShouldKeepOrder_WhenHeadWrapsAroundRepeatedly() {
+        CircularQueue<Integer> queue = new CircularQueue<>(8);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+            expected.offer(i);
+        }
+
+        for (int i = 5; i < 100_000; i++) {
+            queue.offer(i);
+            expected.offer(i);
+
+            assertEquals(expected.poll(), queue.poll());
+            assertEquals(expected.peek(), queue.peek());
+            assertEquals(expected.size(), queue.size());
+        }
+
+        assertEquals(8, queue.capacity());
+        assertArrayEquals(expected.toArray(), queue.toArray());
+        assertEquals(expected.toString(), queue.toString());
+    }
+
+    @Test
+    void poll_ShouldShrinkCapacity_WhenLessThanAQuarterIsUsed() {
+        CircularQueue<Integer> queue = new CircularQueue<>(4, 1.5f);
+        for (int i = 0; i < 100; i++) queue.offer(i);
+        int capacity = queue.capacity();
+
+        while (queue.size() >= capacity / 4) queue.poll();
+
+        assertEquals(capacity / 2, queue.capacity());
+        assertEquals(100 - queue.size(), queue.peek());
+    }
+
+    @Test
+    void ensureCapacity_ShouldKeepOrder_WhenQueueWrapsAround() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+
+        queue.ensureCapacity(100);
+        queue.ensureCapacity(50);
+
+        assertEquals(100, queue.capacity());
+        assertEquals("[3, 4, 5, 6, 7, 8, 9, 10]", queue.toString());
+    }
+
+    @Test
+    void trimToSize_ShouldShrinkCapacityToSize_WhenQueueHasUnusedSlots() {
+        CircularQueue<Integer> queue = new CircularQueue<>(10);
+        queue.add(1);
+        queue.add(2);
+
+        queue.trimToSize();
+
+        assertEquals(2, queue.capacity());
+        assertTrue(queue.add(3));
+        assertEquals(4, queue.capacity());
+        assertEquals("[1, 2, 3]", queue.toString());
+    }
+
+    @Test
+    void spliterator_ShouldSplitWrappedElementsInOrder_WhenTrySplitIsCalled() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+        Spliterator<Integer> suffix = queue.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        StringBuilder sb = new StringBuilder();
+
+        assertTrue(prefix.hasCharacteristics(Spliterator.ORDERED | Spliterator.SUBSIZED));
+        assertEquals(4, prefix.estimateSize());
+        assertEquals(4, suffix.estimateSize());
+        while (prefix.tryAdvance(element -> sb.append(element).append(' '))) {}
+        suffix.forEachRemaining(element -> sb.append(element).append(' '));
+
+        assertEquals("3 4 5 6 7 8 9 10 ", sb.toString());
+        assertArrayEquals(new Object[] {3, 4, 5, 6, 7, 8, 9, 10}, queue.parallelStream().toArray());
+    }
+
+    @Test
+    void spliterator_ShouldThrowException_WhenQueueIsModifiedDuringTraversal() {
+        CircularQueue<Integer> queue = createWrappedQueue();
+        Spliterator<Integer> spliterator = queue.spliterator();
+
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(element -> queue.poll()));
+    }
+
+    /**
+     * Creates a full queue of capacity eight whose head sits at index three, so its elements
+     * wrap around the end of the internal array.
+     */
+    private static CircularQueue<Integer> createWrappedQueue() {
+        CircularQueue<Integer> queue = new CircularQueue<>(8);
+
+        for (int i = 0; i < 8; i++) queue.add(i);
+        for (int i = 0; i < 3; i++) queue.poll();
+        for (int i = 8; i < 11; i++) queue.add(i);
+
+        return queue;
+    }
 }
@@ -2,7 +2,11 @@ package dev.guedes.datastructures.util.collection.queue;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test class for {@link PriorityQueue}.
@@ -61,4 +65,43 @@ class PriorityQueueTest {
         assertEquals(2, queue.poll());
         assertEquals(3, queue.poll());
     }
+
+    @Test
+    void addAll_shouldKeepSortedOrder_whenElementsAreAddedInBulk() {
+        PriorityQueue<Integer> queue = createQueue();
+        PriorityQueue<Integer> other = createQueue();
+        queue.offer(4);
+        other.offer(5);
+        other.offer(1);
+        queue.addAll(other);
+        queue.offer(3);
+
+        assertEquals("[1, 3, 4, 5]", queue.toString());
+    }
+
+    @Test
+    void iterator_shouldVisitElementsInPriorityOrder_whenQueueHasElements() {
+        PriorityQueue<Integer> queue = createQueue();
+        queue.offer(3);
+        queue.offer(1);
+        queue.offer(2);
+        StringBuilder sb = new StringBuilder();
+
+        for (Integer element : queue) sb.append(element).append(' ');
+
+        assertEquals("1 2 3 ", sb.toString());
+    }
+
+    @Test
+    void iterator_shouldThrowException_whenElementIsInsertedDuringIteration() {
+        PriorityQueue<Integer> queue = createQueue();
+        queue.offer(1);
+        queue.offer(5);
+        Iterator<Integer> iterator = queue.iterator();
+        iterator.next();
+
+        queue.offer(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
 }
@@ -4,7 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -153,4 +156,47 @@ abstract class QueueTest {
 
         assertEquals(3, queue.size());
     }
+
+    @Test
+    void iterator_shouldVisitElementsFromHeadToTail_whenQueueHasElements() {
+        Queue<Integer> queue = createQueue();
+
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        queue.poll();
+        queue.offer(4);
+
+        StringBuilder sb = new StringBuilder();
+        for (Integer element : queue) sb.append(element).append(' ');
+
+        assertEquals("2 3 4 ", sb.toString());
+    }
+
+    @Test
+    void stream_shouldVisitElementsFromHeadToTail_whenStreamIsSequentialOrParallel() {
+        Queue<Integer> queue = createQueue();
+
+        for (int i = 0; i < 100; i++) queue.offer(i);
+        queue.poll();
+
+        assertEquals(99, queue.stream().count());
+        assertEquals(1, queue.stream().findFirst().orElseThrow());
+        assertEquals(4_950, queue.parallelStream().mapToInt(Integer::intValue).sum());
+        assertTrue(queue.spliterator().hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    void iterator_shouldThrowException_whenQueueIsModifiedDuringIteration() {
+        Queue<Integer> queue = createQueue();
+
+        queue.offer(1);
+        queue.offer(2);
+
+        Iterator<Integer> iterator = queue.iterator();
+        iterator.next();
+        queue.poll();
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
 }
@@ -1,7 +1,10 @@
 package dev.guedes.datastructures.util.collection.set;
 
+import dev.guedes.datastructures.util.collection.list.ArrayList;
 import org.junit.jupiter.api.Test;
 
+import java.util.ListIterator;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -91,4 +94,182 @@ class ArraySetTest extends SetTest {
         assertFalse(set.contains(11));
         assertTrue(set.contains(3));
     }
+
+    @Test
+    void indexOf_ShouldTrackPositions_WhenElementsAreInsertedAndRemoved() {
+        ArraySet<Integer> set = new ArraySet<>();
+
+        set.add(1);
+        set.add(2);
+        set.add(null);
+        set.add(0, 3);
+
+        assertEquals(0, set.indexOf(3));
+        assertEquals(1, set.indexOf(1));
+        assertEquals(3, set.lastIndexOf(null));
+
+        assertEquals(1, set.remove(1));
+        assertTrue(set.remove(Integer.valueOf(3)));
+
+        assertEquals(0, set.indexOf(2));
+        assertEquals(1, set.indexOf(null));
+        assertEquals(-1, set.indexOf(1));
+        assertEquals(-1, set.indexOf(3));
+    }
+
+    @Test
+    void set_ShouldReindexNullElement_WhenNullIsReplaced() {
+        ArraySet<Integer> set = new ArraySet<>();
+
+        set.add(null);
+        set.set(0, 5);
+
+        assertFalse(set.contains(null));
+        assertEquals(0, set.indexOf(5));
+
+        set.set(0, null);
+
+        assertEquals(0, set.indexOf(null));
+        assertFalse(set.contains(5));
+    }
+
+    @Test
+    void clear_ShouldEmptyIndex_WhenSetIsCleared() {
+        ArraySet<Integer> set = new ArraySet<>();
+
+        set.add(1);
+        set.add(null);
+        set.clear();
+
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(null));
+        assertTrue(set.add(1));
+        assertEquals(0, set.indexOf(1));
+    }
+
+    @Test
+    void add_ShouldStayConsistent_WhenIndexIsOutOfBounds() {
+        ArraySet<Integer> set = new ArraySet<>();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> set.add(5, 1));
+
+        assertFalse(set.contains(1));
+        assertTrue(set.add(1));
+    }
+
+    @Test
+    void addAllAtIndex_ShouldSkipDuplicatesAndReindex_WhenInsertingInTheMiddle() {
+        ArraySet<Integer> set = arraySetOf(1, 2, 3);
+        ArraySet<Integer> other = arraySetOf(2, 7, null, 8);
+
+        assertTrue(set.addAll(1, other));
+        assertFalse(set.addAll(0, arraySetOf(1, 3)));
+
+        assertEquals("[1, 7, null, 8, 2, 3]", set.toString());
+        assertEquals(1, set.indexOf(7));
+        assertEquals(2, set.indexOf(null));
+        assertEquals(4, set.indexOf(2));
+        assertEquals(5, set.indexOf(3));
+    }
+
+    @Test
+    void addAll_ShouldSkipDuplicatesWithinCollection_WhenCollectionIsAList() {
+        ArraySet<Integer> set = arraySetOf(1);
+        ArrayList<Integer> list = new ArrayList<>();
+        list.add(2);
+        list.add(1);
+        list.add(2);
+
+        assertTrue(set.addAll(list));
+
+        assertEquals("[1, 2]", set.toString());
+        assertEquals(1, set.indexOf(2));
+    }
+
+    @Test
+    void removeIf_ShouldReindexRemainingElements_WhenElementsAreRemoved() {
+        ArraySet<Integer> set = arraySetOf(1, 2, 3, null, 4, 5);
+
+        assertTrue(set.removeIf(element -> element != null && element % 2 == 1));
+
+        assertEquals("[2, null, 4]", set.toString());
+        assertEquals(0, set.indexOf(2));
+        assertEquals(1, set.indexOf(null));
+        assertEquals(2, set.indexOf(4));
+        assertEquals(-1, set.indexOf(1));
+        assertTrue(set.add(1));
+    }
+
+    @Test
+    void removeIf_ShouldKeepIndexConsistent_WhenFilterThrows() {
+        ArraySet<Integer> set = arraySetOf(1, 2, 3, 4);
+
+        assertThrows(IllegalStateException.class, () -> set.removeIf(element -> {
+            if (element == 3) throw new IllegalStateException();
+            return element == 1;
+        }));
+
+        assertEquals("[2, 3, 4]", set.toString());
+        assertFalse(set.contains(1));
+        assertEquals(0, set.indexOf(2));
+        assertEquals(2, set.indexOf(4));
+    }
+
+    @Test
+    void removeRange_ShouldUnindexRemovedElements_WhenRangeIsRemoved() {
+        ArraySet<Integer> set = arraySetOf(1, 2, 3, 4, 5);
+
+        set.removeRange(1, 3);
+
+        assertEquals("[1, 4, 5]", set.toString());
+        assertFalse(set.contains(2));
+        assertFalse(set.contains(3));
+        assertEquals(1, set.indexOf(4));
+        assertEquals(2, set.indexOf(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.removeRange(2, 4));
+        assertTrue(set.contains(5));
+    }
+
+    @Test
+    void retainAllAndRemoveAll_ShouldCompactInOnePass_WhenOtherIsASet() {
+        ArraySet<Integer> set = arraySetOf(1, 2, 3, 4, 5);
+
+        assertTrue(set.retainAll(arraySetOf(1, 3, 5, 7)));
+        assertFalse(set.retainAll(set));
+        assertTrue(set.removeAll(arraySetOf(3)));
+
+        assertEquals("[1, 5]", set.toString());
+        assertEquals(1, set.indexOf(5));
+
+        assertTrue(set.removeAll(set));
+        assertFalse(set.removeAll(set));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void listIterator_ShouldKeepIndexConsistent_WhenModifyingThroughIterator() {
+        ArraySet<Integer> set = arraySetOf(1, 2, 3);
+        ListIterator<Integer> iterator = set.listIterator();
+
+        iterator.next();
+        iterator.set(3);
+        iterator.add(3);
+        iterator.add(4);
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.set(5);
+
+        assertEquals("[1, 4, 5]", set.toString());
+        assertFalse(set.contains(2));
+        assertFalse(set.contains(3));
+        assertEquals(1, set.indexOf(4));
+        assertEquals(2, set.indexOf(5));
+    }
+
+    private static ArraySet<Integer> arraySetOf(Integer... elements) {
+        ArraySet<Integer> set = new ArraySet<>();
+        for (Integer element : elements) set.add(element);
+        return set;
+    }
 }
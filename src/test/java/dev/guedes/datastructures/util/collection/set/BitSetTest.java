@@ -0,0 +1,272 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link BitSet}.
+ *
+ * @author João Guedes
+ */
+class BitSetTest {
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new BitSet(0));
+        assertThrows(IllegalArgumentException.class, () -> new BitSet(-1));
+    }
+
+    @Test
+    void add_ShouldAddValue_WhenValueIsAbsent() {
+        BitSet set = new BitSet();
+
+        assertTrue(set.add(3));
+        assertTrue(set.add(Integer.valueOf(70)));
+        assertFalse(set.add(3));
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(Integer.valueOf(70)));
+        assertFalse(set.contains(4));
+    }
+
+    @Test
+    void add_ShouldGrowWords_WhenValueExceedsCapacity() {
+        BitSet set = new BitSet(1);
+
+        assertTrue(set.add(1_000_000));
+
+        assertTrue(set.contains(1_000_000));
+        assertFalse(set.contains(999_999));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void add_ShouldThrowException_WhenValueIsNegativeOrNull() {
+        BitSet set = new BitSet();
+
+        assertThrows(IllegalArgumentException.class, () -> set.add(-1));
+        assertThrows(NullPointerException.class, () -> set.add(null));
+        assertThrows(NullPointerException.class, () -> set.remove(null));
+        assertThrows(NullPointerException.class, () -> set.contains(null));
+    }
+
+    @Test
+    void contains_ShouldReturnFalse_WhenValueIsNegativeOrBeyondWords() {
+        BitSet set = new BitSet(64);
+
+        assertFalse(set.contains(-5));
+        assertFalse(set.contains(10_000));
+    }
+
+    @Test
+    void remove_ShouldRemoveValue_WhenValueIsPresent() {
+        BitSet set = new BitSet();
+        set.add(5);
+        set.add(6);
+
+        assertTrue(set.remove(Integer.valueOf(5)));
+        assertFalse(set.remove(5));
+        assertFalse(set.remove(-1));
+        assertFalse(set.remove(500));
+
+        assertEquals(1, set.size());
+        assertEquals("[6]", set.toString());
+    }
+
+    @Test
+    void and_ShouldKeepCommonValues_WhenSetsHaveDifferentLengths() {
+        BitSet set = setOf(1, 2, 3, 500);
+        BitSet other = setOf(2, 3, 4);
+
+        set.and(other);
+
+        assertArrayEquals(new int[] {2, 3}, set.toIntArray());
+        assertEquals(2, set.cardinality());
+    }
+
+    @Test
+    void or_ShouldAddAllValues_WhenOtherSetIsLonger() {
+        BitSet set = setOf(1, 2);
+        BitSet other = setOf(2, 300);
+
+        set.or(other);
+
+        assertArrayEquals(new int[] {1, 2, 300}, set.toIntArray());
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void andNot_ShouldRemoveOtherValues_WhenSetsOverlap() {
+        BitSet set = setOf(1, 2, 3, 500);
+        BitSet other = setOf(2, 500, 1000);
+
+        set.andNot(other);
+
+        assertArrayEquals(new int[] {1, 3}, set.toIntArray());
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void bulkOperations_ShouldThrowException_WhenOtherSetIsNull() {
+        BitSet set = new BitSet();
+
+        assertThrows(NullPointerException.class, () -> set.and(null));
+        assertThrows(NullPointerException.class, () -> set.or(null));
+        assertThrows(NullPointerException.class, () -> set.andNot(null));
+    }
+
+    @Test
+    void nextSetBit_ShouldReturnNextValue_WhenOneExists() {
+        BitSet set = setOf(3, 64, 200);
+
+        assertEquals(3, set.nextSetBit(-10));
+        assertEquals(64, set.nextSetBit(4));
+        assertEquals(200, set.nextSetBit(200));
+        assertEquals(-1, set.nextSetBit(201));
+        assertEquals(-1, set.nextSetBit(100_000));
+    }
+
+    @Test
+    void forEach_ShouldVisitValuesInAscendingOrder_WhenSetIsNotEmpty() {
+        BitSet set = setOf(130, 7, 64);
+        StringBuilder sb = new StringBuilder();
+
+        set.forEach(value -> sb.append(value).append(' '));
+
+        assertEquals("7 64 130 ", sb.toString());
+        assertArrayEquals(new Object[] {7, 64, 130}, set.toArray());
+        assertThrows(NullPointerException.class, () -> set.forEachInt(null));
+    }
+
+    @Test
+    void iterator_ShouldRemoveValuesInAscendingOrder_WhenRemoveIsCalled() {
+        BitSet set = setOf(130, 7, 64, 9);
+        Iterator<Integer> iterator = set.iterator();
+
+        assertEquals(7, iterator.next());
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(9, iterator.next());
+        assertEquals(64, iterator.next());
+        iterator.remove();
+        assertEquals(130, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertEquals("[9, 130]", set.toString());
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenSetIsModifiedDuringIteration() {
+        BitSet set = setOf(1, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+
+        set.add(4);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void clear_ShouldRemoveAllValues_WhenSetIsNotEmpty() {
+        BitSet set = setOf(1, 2, 3);
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+        assertEquals("[]", set.toString());
+    }
+
+    @Test
+    void setAlgebra_ShouldUseWordOperations_WhenOtherSetIsBitSet() {
+        BitSet set = setOf(1, 2, 3, 200);
+        BitSet other = setOf(2, 200, 300);
+
+        assertArrayEquals(new int[] {1, 2, 3, 200, 300}, set.union(other).toIntArray());
+        assertArrayEquals(new int[] {2, 200}, set.intersection(other).toIntArray());
+        assertArrayEquals(new int[] {1, 3}, set.difference(other).toIntArray());
+        assertArrayEquals(new int[] {1, 2, 3, 200}, set.toIntArray());
+
+        assertFalse(set.containsAll(other));
+        assertTrue(set.containsAll(setOf(1, 200)));
+        assertFalse(setOf(1).containsAll(setOf(1, 1_000)));
+        assertTrue(set.addAll(other));
+        assertFalse(set.addAll(other));
+        assertTrue(set.removeAll(setOf(300)));
+        assertFalse(set.removeAll(setOf(500)));
+        assertTrue(set.retainAll(setOf(2, 3, 5)));
+        assertFalse(set.retainAll(setOf(2, 3)));
+        assertArrayEquals(new int[] {2, 3}, set.toIntArray());
+    }
+
+    @Test
+    void setAlgebra_ShouldFallBackToLookups_WhenOtherSetIsNotBitSet() {
+        BitSet set = setOf(1, 2, 3, 200);
+        Set<Integer> small = new HashSet<>();
+        Set<Integer> large = new HashSet<>();
+        small.add(2);
+        small.add(null);
+        for (int i = 0; i < 10; i++) large.add(i);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 200}, set.union(large).toIntArray());
+        assertArrayEquals(new int[] {2}, set.intersection(small).toIntArray());
+        assertArrayEquals(new int[] {1, 2, 3}, set.intersection(large).toIntArray());
+        assertArrayEquals(new int[] {200}, set.difference(large).toIntArray());
+        assertTrue(set.containsAll(setOf(1, 2)));
+        assertTrue(set.retainAll(large));
+        assertArrayEquals(new int[] {1, 2, 3}, set.toIntArray());
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceSet_WhenWorkloadIsRandom() {
+        Random random = new Random(42);
+        BitSet set = new BitSet();
+        BitSet other = new BitSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        TreeSet<Integer> otherExpected = new TreeSet<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(4_096);
+
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+
+            int otherValue = random.nextInt(8_192);
+            assertEquals(otherExpected.add(otherValue), other.add(otherValue));
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toIntArray());
+
+        set.or(other);
+        expected.addAll(otherExpected);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toIntArray());
+
+        set.andNot(other);
+        expected.removeAll(otherExpected);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), set.toIntArray());
+        assertEquals(expected.size(), set.size());
+    }
+
+    private static BitSet setOf(int... values) {
+        BitSet set = new BitSet();
+        for (int value : values) set.add(value);
+        return set;
+    }
+}
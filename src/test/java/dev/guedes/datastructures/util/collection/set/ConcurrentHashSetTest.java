@@ -0,0 +1,149 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link ConcurrentHashSet}.
+ *
+ * @author João Guedes
+ */
+class ConcurrentHashSetTest extends SetTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected Set<Integer> createSet() { return new ConcurrentHashSet<>(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenArgumentsAreNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashSet<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashSet<>(16, 0));
+        assertDoesNotThrow(() -> new ConcurrentHashSet<>(16, 4));
+    }
+
+    @Test
+    void add_ShouldTrackNullSeparately_WhenNullIsAddedAndRemoved() {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>();
+
+        assertTrue(set.add(null));
+        assertFalse(set.add(null));
+        assertEquals(1, set.size());
+        assertFalse(set.isEmpty());
+        assertEquals("[null]", set.toString());
+
+        assertTrue(set.remove(null));
+        assertFalse(set.remove(null));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void iterator_ShouldWalkSnapshot_WhenSetIsModifiedDuringIteration() {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>();
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> iterator = set.iterator();
+        int first = iterator.next();
+
+        set.add(3);
+        iterator.remove();
+        int second = iterator.next();
+
+        assertEquals(3, first + second);
+        assertFalse(iterator.hasNext());
+        assertFalse(set.contains(first));
+        assertTrue(set.contains(3));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void add_ShouldLetOnlyOneThreadWin_WhenThreadsRaceOnSameElement() throws Exception {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>();
+        AtomicInteger winners = new AtomicInteger();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < 10_000; i++) {
+                if (set.add(i)) winners.incrementAndGet();
+            }
+            if (set.add(null)) winners.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(10_001, winners.get());
+        assertEquals(10_001, set.size());
+    }
+
+    @Test
+    void remove_ShouldLetOnlyOneThreadWin_WhenThreadsRaceOnSameElement() throws Exception {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>();
+        for (int i = 0; i < 10_000; i++) set.add(i);
+        AtomicInteger winners = new AtomicInteger();
+
+        runConcurrently(thread -> () -> {
+            for (int i = 0; i < 10_000; i++) {
+                if (set.remove(i)) winners.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertEquals(10_000, winners.get());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void contains_ShouldSeeStableElements_WhenOtherThreadsMutateConcurrently() throws Exception {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>(16);
+        for (int i = 0; i < 1_000; i++) set.add(-i - 1);
+
+        runConcurrently(thread -> () -> {
+            if (thread % 2 == 0) {
+                for (int i = 0; i < 20_000; i++) {
+                    int element = thread * 20_000 + i;
+                    set.add(element);
+                    if (i % 3 == 0) set.remove(element);
+                }
+            } else {
+                for (int round = 0; round < 20; round++) {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (!set.contains(-i - 1)) throw new AssertionError("Lost element " + (-i - 1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        int expected = 1_000 + THREADS / 2 * (20_000 - 6_667);
+        assertEquals(expected, set.size());
+        assertEquals(expected, set.toArray().length);
+    }
+
+    /**
+     * Runs one task per thread and rethrows the first failure.
+     */
+    private void runConcurrently(IntFunction<Callable<Void>> taskFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(taskFactory.apply(thread)));
+            }
+            for (Future<Void> future : futures) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link CuckooHashSet}.
+ *
+ * @author João Guedes
+ */
+class CuckooHashSetTest extends SetTest {
+    @Override
+    protected Set<Integer> createSet() { return new CuckooHashSet<>(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new CuckooHashSet<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new CuckooHashSet<>(-1));
+    }
+
+    @Test
+    void constructor_ShouldCreateSetWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new CuckooHashSet<>());
+    }
+
+    @Test
+    void constructor_ShouldPresizeTable_WhenCapacityIsGiven() {
+        CuckooHashSet<Integer> set = new CuckooHashSet<>(1_000);
+        int capacity = set.capacity();
+
+        for (int i = 0; i < 1_000; i++) set.add(i);
+
+        assertEquals(capacity, set.capacity());
+    }
+
+    @Test
+    void add_ShouldGrowTable_WhenManyElementsAreAdded() {
+        CuckooHashSet<Integer> set = new CuckooHashSet<>(1);
+
+        for (int i = 0; i < 10_000; i++) assertTrue(set.add(i * 1024));
+
+        assertEquals(10_000, set.size());
+        assertTrue(set.capacity() >= 10_000);
+        for (int i = 0; i < 10_000; i++) assertTrue(set.contains(i * 1024));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void add_ShouldStashElements_WhenHashCodesAllCollide() {
+        CuckooHashSet<SameHashElement> set = new CuckooHashSet<>(4);
+
+        for (int i = 0; i < 20; i++) assertTrue(set.add(new SameHashElement(i)));
+
+        assertFalse(set.add(new SameHashElement(7)));
+        assertEquals(20, set.size());
+        for (int i = 0; i < 20; i++) assertTrue(set.contains(new SameHashElement(i)));
+
+        for (int i = 0; i < 20; i++) assertTrue(set.remove(new SameHashElement(i)));
+        assertFalse(set.remove(new SameHashElement(0)));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void iteratorRemove_ShouldRemoveStashedElements_WhenHashCodesAllCollide() {
+        CuckooHashSet<SameHashElement> set = new CuckooHashSet<>(4);
+        for (int i = 0; i < 20; i++) set.add(new SameHashElement(i));
+        set.add(null);
+        Iterator<SameHashElement> iterator = set.iterator();
+        int count = 0;
+
+        assertNull(iterator.next());
+        while (iterator.hasNext()) {
+            SameHashElement element = iterator.next();
+            if (element.value() % 2 == 0) iterator.remove();
+            count++;
+        }
+
+        assertEquals(20, count);
+        assertEquals(11, set.size());
+        for (int i = 0; i < 20; i++) assertEquals(i % 2 != 0, set.contains(new SameHashElement(i)));
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenSetIsModifiedDuringIteration() {
+        CuckooHashSet<Integer> set = new CuckooHashSet<>();
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+
+        set.add(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void remove_ShouldReturnTrue_WhenElementExists() {
+        Set<Integer> set = createSet();
+
+        set.add(1);
+        set.add(null);
+
+        assertTrue(set.remove(1));
+        assertTrue(set.remove(null));
+        assertFalse(set.remove(null));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void remove_ShouldReturnFalse_WhenElementDoesNotExist() {
+        assertFalse(createSet().remove(1));
+    }
+
+    @Test
+    void contains_ShouldFindNull_WhenNullWasAdded() {
+        Set<Integer> set = createSet();
+
+        assertFalse(set.contains(null));
+
+        set.add(null);
+
+        assertTrue(set.contains(null));
+    }
+
+    @Test
+    void forEach_ShouldIterateAllElements_WhenSetHasElements() {
+        Set<Integer> set = createSet();
+        Set<Integer> result = createSet();
+
+        set.add(null);
+        set.add(1);
+        set.add(2);
+        set.forEach(result::add);
+
+        assertEquals(3, result.size());
+        assertTrue(result.contains(null));
+        assertTrue(result.contains(1));
+        assertTrue(result.contains(2));
+    }
+
+    @Test
+    void toArray_ShouldReturnAllElements_WhenSetHasElements() {
+        Set<Integer> set = createSet();
+
+        assertEquals(0, set.toArray().length);
+
+        set.add(1);
+        set.add(2);
+
+        assertEquals(2, set.toArray().length);
+    }
+
+    @Test
+    void toString_ShouldListElements_WhenSetHasElements() {
+        Set<Integer> set = createSet();
+
+        assertEquals("[]", set.toString());
+
+        set.add(3);
+
+        assertEquals("[3]", set.toString());
+    }
+
+    @Test
+    void clear_ShouldRemoveAllElements_WhenSetIsNotEmpty() {
+        Set<Integer> set = createSet();
+
+        set.add(null);
+        set.add(1);
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(null));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceSet_WhenRandomWorkloadIsApplied() {
+        CuckooHashSet<Integer> set = new CuckooHashSet<>(1);
+        java.util.HashSet<Integer> reference = new java.util.HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            int element = random.nextInt(2_048);
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(element), set.remove(element));
+            } else {
+                assertEquals(reference.add(element), set.add(element));
+            }
+        }
+
+        assertEquals(reference.size(), set.size());
+        reference.forEach(element -> assertTrue(set.contains(element)));
+    }
+
+    private record SameHashElement(int value) {
+        @Override
+        public int hashCode() { return 0; }
+    }
+}
@@ -2,6 +2,11 @@ package dev.guedes.datastructures.util.collection.set;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -37,6 +42,189 @@ class HashSetTest extends SetTest {
         assertDoesNotThrow(() -> new HashSet<>());
     }
 
+    @Test
+    void constructor_ShouldThrowException_WhenLoadFactorIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new HashSet<>(1, 0f, false, false));
+        assertThrows(IllegalArgumentException.class, () -> new HashSet<>(1, Float.NaN, false, false));
+    }
+
+    @Test
+    void add_ShouldDoubleCapacity_WhenThresholdIsExceeded() {
+        HashSet<Integer> set = new HashSet<>(4);
+
+        for (int i = 0; i < 3; i++) set.add(i);
+
+        assertEquals(4, set.capacity());
+
+        set.add(3);
+
+        assertEquals(8, set.capacity());
+        assertFalse(set.isMigrating());
+        for (int i = 0; i < 4; i++) assertTrue(set.contains(i));
+    }
+
+    @Test
+    void add_ShouldMigrateGradually_WhenRehashingIsIncremental() {
+        HashSet<Integer> set = new HashSet<>(64, 0.75f, false, true);
+
+        for (int i = 0; i < 49; i++) set.add(i);
+
+        assertEquals(128, set.capacity());
+        assertTrue(set.isMigrating());
+        for (int i = 0; i < 49; i++) assertTrue(set.contains(i));
+        assertFalse(set.contains(49));
+
+        for (int i = 0; i < 16; i++) set.contains(-1);
+        assertTrue(set.isMigrating());
+
+        for (int i = 0; i < 16; i++) set.remove(-1);
+
+        assertFalse(set.isMigrating());
+        assertEquals(49, set.size());
+        for (int i = 0; i < 49; i++) assertTrue(set.contains(i));
+    }
+
+    @Test
+    void add_ShouldRejectDuplicate_WhenElementIsStillInOldTable() {
+        HashSet<Integer> set = new HashSet<>(64, 0.75f, false, true);
+
+        for (int i = 0; i < 49; i++) set.add(i);
+
+        for (int i = 0; i < 49; i++) assertFalse(set.add(i));
+        assertEquals(49, set.size());
+    }
+
+    @Test
+    void remove_ShouldFindElement_WhenElementIsStillInOldTable() {
+        HashSet<Integer> set = new HashSet<>(64, 0.75f, false, true);
+
+        for (int i = 0; i < 49; i++) set.add(i);
+
+        assertTrue(set.isMigrating());
+        for (int i = 48; i >= 0; i--) assertTrue(set.remove(i));
+        assertFalse(set.remove(0));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void forEach_ShouldVisitBothTables_WhenMigrationIsInProgress() {
+        HashSet<Integer> set = new HashSet<>(64, 0.75f, false, true);
+
+        for (int i = 0; i < 49; i++) set.add(i);
+
+        assertTrue(set.isMigrating());
+        assertEquals(49, set.toArray().length);
+        for (int i = 0; i < 49; i++) assertTrue(set.toString().contains(String.valueOf(i)));
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.isMigrating());
+        assertEquals("[]", set.toString());
+    }
+
+    @Test
+    void iterator_ShouldWalkBothTablesWithoutMigrating_WhenCreatedDuringIncrementalRehash() {
+        HashSet<Integer> set = new HashSet<>(64, 0.75f, false, true);
+        for (int i = 0; i < 49; i++) set.add(i);
+        set.remove(-1);
+        assertTrue(set.isMigrating());
+
+        int[] visited = new int[49];
+        for (Integer element : set) visited[element]++;
+        set.stream().forEach(element -> visited[element]++);
+        set.parallelStream().forEach(element -> {
+            synchronized (visited) {
+                visited[element]++;
+            }
+        });
+
+        assertTrue(set.isMigrating());
+        for (int count : visited) assertEquals(3, count);
+        assertEquals(49, set.spliterator().estimateSize());
+    }
+
+    @Test
+    void iteratorRemove_ShouldNotMigrate_WhenMigrationIsInProgress() {
+        HashSet<Integer> set = new HashSet<>(64, 0.75f, false, true);
+        for (int i = 0; i < 49; i++) set.add(i);
+        set.remove(-1);
+        Iterator<Integer> iterator = set.iterator();
+        int count = 0;
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+            count++;
+        }
+
+        assertTrue(set.isMigrating());
+        assertEquals(49, count);
+        assertEquals(24, set.size());
+        for (int i = 0; i < 49; i++) assertEquals(i % 2 != 0, set.contains(i));
+
+        Iterator<Integer> stale = set.iterator();
+        set.add(1);
+        assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenSetIsModifiedDuringIteration() {
+        HashSet<Integer> set = new HashSet<>();
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+
+        set.add(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer element : set) set.remove(element);
+        });
+    }
+
+    @Test
+    void add_ShouldFinishPendingMigration_WhenLoadFactorIsSmall() {
+        HashSet<Integer> set = new HashSet<>(64, 0.01f, false, true);
+
+        for (int i = 0; i < 100; i++) set.add(i);
+
+        assertEquals(100, set.size());
+        for (int i = 0; i < 100; i++) assertTrue(set.contains(i));
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceSet_WhenRehashingIsIncremental() {
+        HashSet<Integer> set = new HashSet<>(1, 0.75f, true, true);
+        java.util.HashSet<Integer> reference = new java.util.HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            int element = random.nextInt(4_096);
+
+            if (random.nextInt(4) == 0) {
+                assertEquals(reference.remove(element), set.remove(element));
+            } else {
+                assertEquals(reference.add(element), set.add(element));
+            }
+        }
+
+        assertEquals(reference.size(), set.size());
+        reference.forEach(element -> assertTrue(set.contains(element)));
+    }
+
+    @Test
+    void add_ShouldKeepAllElements_WhenHashingIsRandomized() {
+        Set<Integer> set = new HashSet<>(4, true);
+
+        for (int i = 0; i < 100; i++) set.add(i * 1024);
+        set.add(null);
+
+        assertEquals(101, set.size());
+        for (int i = 0; i < 100; i++) assertTrue(set.contains(i * 1024));
+        assertTrue(set.contains(null));
+    }
+
     @Test
     void remove_ShouldReturnTrue_WhenElementExists() {
         Set<Integer> set = createSet();
@@ -158,4 +346,33 @@ class HashSetTest extends SetTest {
 
         assertTrue(set.isEmpty());
     }
+
+    @Test
+    void spliterator_ShouldSplitBucketsInHalves_WhenTrySplitIsCalled() {
+        HashSet<Integer> set = new HashSet<>();
+        for (int i = 0; i < 100; i++) set.add(i);
+
+        Spliterator<Integer> suffix = set.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED));
+        Spliterator<Integer> prefix = suffix.trySplit();
+        int[] visited = new int[100];
+
+        assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(suffix.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(100, prefix.estimateSize() + suffix.estimateSize());
+        prefix.forEachRemaining(element -> visited[element]++);
+        while (suffix.tryAdvance(element -> visited[element]++)) {}
+
+        for (int count : visited) assertEquals(1, count);
+    }
+
+    @Test
+    void spliterator_ShouldThrowException_WhenSetIsModifiedDuringTraversal() {
+        HashSet<Integer> set = new HashSet<>();
+        set.add(1);
+        set.add(2);
+
+        assertThrows(ConcurrentModificationException.class, () -> set.spliterator().forEachRemaining(element -> set.add(-1)));
+    }
+
 }
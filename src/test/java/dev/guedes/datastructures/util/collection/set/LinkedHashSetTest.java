@@ -0,0 +1,138 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link LinkedHashSet}.
+ *
+ * @author João Guedes
+ */
+class LinkedHashSetTest extends SetTest {
+    @Override
+    protected Set<Integer> createSet() { return new LinkedHashSet<>(); }
+
+    @Test
+    void constructor_ShouldThrowException_WhenInitialCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new LinkedHashSet<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new LinkedHashSet<>(-1));
+    }
+
+    @Test
+    void constructor_ShouldCreateSetWithDefaultCapacity_WhenNoArgsConstructorIsUsed() {
+        assertDoesNotThrow(() -> new LinkedHashSet<>());
+    }
+
+    @Test
+    void forEach_ShouldVisitElementsInInsertionOrder_WhenElementsAreReAdded() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+
+        set.add(3);
+        set.add(null);
+        set.add(1);
+        set.add(3);
+
+        assertArrayEquals(new Object[] {3, null, 1}, set.toArray());
+        assertEquals("[3, null, 1]", set.toString());
+    }
+
+    @Test
+    void iterator_ShouldVisitElementsInInsertionOrder_WhenRemovingThroughIt() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+        set.add(3);
+        set.add(null);
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> iterator = set.iterator();
+
+        assertEquals(3, iterator.next());
+        assertNull(iterator.next());
+        iterator.remove();
+        assertEquals(1, iterator.next());
+        iterator.remove();
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        assertArrayEquals(new Object[] {3, 2}, set.toArray());
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenSetIsModifiedDuringIteration() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+        set.add(1);
+        set.add(2);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+
+        set.remove(2);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void remove_ShouldUnlinkElement_WhenElementIsFirstMiddleOrLast() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+        for (int i = 0; i < 5; i++) set.add(i);
+
+        assertTrue(set.remove(0));
+        assertTrue(set.remove(2));
+        assertTrue(set.remove(4));
+        assertFalse(set.remove(4));
+        assertFalse(set.remove(null));
+
+        assertArrayEquals(new Object[] {1, 3}, set.toArray());
+        assertEquals(2, set.size());
+
+        set.add(4);
+        assertArrayEquals(new Object[] {1, 3, 4}, set.toArray());
+    }
+
+    @Test
+    void remove_ShouldRemoveNull_WhenNullIsPresent() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+
+        set.add(null);
+
+        assertTrue(set.contains(null));
+        assertTrue(set.remove(null));
+        assertFalse(set.contains(null));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void clear_ShouldRemoveAllElements_WhenSetIsNotEmpty() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>();
+
+        set.add(1);
+        set.add(null);
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(null));
+        assertEquals("[]", set.toString());
+        assertThrows(NullPointerException.class, () -> set.forEach(null));
+    }
+
+    @Test
+    void add_ShouldKeepConstantTimeLookups_WhenManyElementsAreAdded() {
+        LinkedHashSet<Integer> set = new LinkedHashSet<>(1);
+
+        for (int i = 0; i < 100_000; i++) assertTrue(set.add(i));
+        for (int i = 0; i < 100_000; i++) assertTrue(set.contains(i));
+
+        assertEquals(100_000, set.size());
+        assertEquals(0, set.toArray()[0]);
+    }
+}
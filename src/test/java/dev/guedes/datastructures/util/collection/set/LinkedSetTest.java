@@ -2,9 +2,12 @@ package dev.guedes.datastructures.util.collection.set;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ListIterator;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Test class for {@link LinkedSet}.
@@ -69,4 +72,136 @@ class LinkedSetTest extends SetTest {
         assertFalse(set.contains(11));
         assertTrue(set.contains(3));
     }
+
+    @Test
+    void indexOf_ShouldFindPosition_WhenElementIsPresent() {
+        LinkedSet<Integer> set = new LinkedSet<>();
+
+        set.add(1);
+        set.add(null);
+        set.add(0, 2);
+
+        assertEquals(0, set.indexOf(2));
+        assertEquals(2, set.lastIndexOf(null));
+        assertEquals(-1, set.indexOf(3));
+    }
+
+    @Test
+    void remove_ShouldUpdateIndex_WhenElementIsRemoved() {
+        LinkedSet<Integer> set = new LinkedSet<>();
+
+        set.add(1);
+        set.add(2);
+        set.add(3);
+
+        assertTrue(set.remove(Integer.valueOf(1)));
+        assertFalse(set.remove(Integer.valueOf(1)));
+        assertEquals(3, set.remove(1));
+
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(3));
+        assertTrue(set.add(3));
+        assertEquals(1, set.indexOf(3));
+    }
+
+    @Test
+    void clear_ShouldEmptyIndex_WhenSetIsCleared() {
+        LinkedSet<Integer> set = new LinkedSet<>();
+
+        set.add(1);
+        set.clear();
+
+        assertFalse(set.contains(1));
+        assertTrue(set.add(1));
+    }
+
+    @Test
+    void addAllAtIndex_ShouldSkipDuplicates_WhenInsertingInTheMiddle() {
+        LinkedSet<Integer> set = linkedSetOf(1, 2, 3);
+
+        assertTrue(set.addAll(1, linkedSetOf(2, 7, null, 8)));
+        assertFalse(set.addAll(0, linkedSetOf(1, 3)));
+
+        assertEquals("[1, 7, null, 8, 2, 3]", set.toString());
+        assertTrue(set.contains(null));
+        assertEquals(3, set.indexOf(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.addAll(10, linkedSetOf(9)));
+        assertFalse(set.contains(9));
+    }
+
+    @Test
+    void addAll_ShouldSkipDuplicates_WhenElementsArePresent() {
+        LinkedSet<Integer> set = linkedSetOf(1, 2);
+
+        assertTrue(set.addAll(linkedSetOf(2, 3)));
+        assertFalse(set.addAll(set));
+
+        assertEquals("[1, 2, 3]", set.toString());
+    }
+
+    @Test
+    void removeIf_ShouldUpdateIndex_WhenElementsAreRemoved() {
+        LinkedSet<Integer> set = linkedSetOf(1, 2, 3, 4);
+
+        assertTrue(set.removeIf(element -> element % 2 == 0));
+
+        assertEquals("[1, 3]", set.toString());
+        assertFalse(set.contains(2));
+        assertTrue(set.add(2));
+    }
+
+    @Test
+    void removeRange_ShouldUpdateIndex_WhenRangeIsRemoved() {
+        LinkedSet<Integer> set = linkedSetOf(1, 2, 3, 4, 5);
+
+        set.removeRange(1, 3);
+
+        assertEquals("[1, 4, 5]", set.toString());
+        assertFalse(set.contains(2));
+        assertFalse(set.contains(3));
+        assertTrue(set.contains(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> set.removeRange(0, 4));
+    }
+
+    @Test
+    void retainAllAndRemoveAll_ShouldRemoveInOneTraversal_WhenOtherIsASet() {
+        LinkedSet<Integer> set = linkedSetOf(1, 2, 3, 4, 5);
+
+        assertTrue(set.retainAll(linkedSetOf(1, 3, 5)));
+        assertFalse(set.retainAll(set));
+        assertTrue(set.removeAll(linkedSetOf(3)));
+
+        assertEquals("[1, 5]", set.toString());
+
+        assertTrue(set.removeAll(set));
+        assertFalse(set.removeAll(set));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void listIterator_ShouldKeepIndexConsistent_WhenModifyingThroughIterator() {
+        LinkedSet<Integer> set = linkedSetOf(1, 2, 3);
+        ListIterator<Integer> iterator = set.listIterator();
+
+        iterator.next();
+        iterator.set(3);
+        iterator.add(3);
+        iterator.add(4);
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.set(5);
+
+        assertEquals("[1, 4, 5]", set.toString());
+        assertFalse(set.contains(2));
+        assertFalse(set.contains(3));
+        assertEquals(1, set.indexOf(4));
+        assertEquals(2, set.indexOf(5));
+    }
+
+    private static LinkedSet<Integer> linkedSetOf(Integer... elements) {
+        LinkedSet<Integer> set = new LinkedSet<>();
+        for (Integer element : elements) set.add(element);
+        return set;
+    }
 }
@@ -0,0 +1,344 @@
+package dev.guedes.datastructures.util.collection.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link RoaringBitmap}.
+ *
+ * @author João Guedes
+ */
+class RoaringBitmapTest {
+    @Test
+    void add_ShouldAddValue_WhenValueIsAbsent() {
+        RoaringBitmap set = new RoaringBitmap();
+
+        assertTrue(set.add(3));
+        assertTrue(set.add(Integer.valueOf(1 << 20)));
+        assertFalse(set.add(3));
+
+        assertEquals(2, set.size());
+        assertEquals(2L, set.cardinality());
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(Integer.valueOf(1 << 20)));
+        assertFalse(set.contains(4));
+        assertFalse(set.contains(1 << 21));
+    }
+
+    @Test
+    void add_ShouldStoreNegativeValuesAfterPositiveOnes_WhenValuesAreUnsigned() {
+        RoaringBitmap set = setOf(-1, 5, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertArrayEquals(new int[] {5, Integer.MAX_VALUE, Integer.MIN_VALUE, -1}, set.toIntArray());
+        assertEquals("[5, 2147483647, 2147483648, 4294967295]", set.toString());
+    }
+
+    @Test
+    void add_ShouldThrowException_WhenElementIsNull() {
+        RoaringBitmap set = new RoaringBitmap();
+
+        assertThrows(NullPointerException.class, () -> set.add(null));
+        assertThrows(NullPointerException.class, () -> set.remove(null));
+        assertThrows(NullPointerException.class, () -> set.contains(null));
+    }
+
+    @Test
+    void add_ShouldSwitchToBitmapContainer_WhenChunkBecomesDense() {
+        RoaringBitmap set = new RoaringBitmap();
+
+        for (int i = 0; i < 10_000; i++) set.add(i * 2);
+
+        assertEquals(10_000, set.size());
+        assertEquals(1024L * Long.BYTES + Character.BYTES, set.sizeInBytes());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(set.contains(i * 2));
+            assertFalse(set.contains(i * 2 + 1));
+        }
+    }
+
+    @Test
+    void remove_ShouldSwitchBackToArrayContainer_WhenChunkBecomesSparse() {
+        RoaringBitmap set = new RoaringBitmap();
+        for (int i = 0; i < 5_000; i++) set.add(i);
+
+        for (int i = 0; i < 4_000; i++) assertTrue(set.remove(i));
+
+        assertEquals(1_000, set.size());
+        assertEquals(1_000L * Character.BYTES + Character.BYTES, set.sizeInBytes());
+        assertFalse(set.remove(0));
+        assertTrue(set.contains(4_000));
+    }
+
+    @Test
+    void remove_ShouldDropContainer_WhenItsLastValueIsRemoved() {
+        RoaringBitmap set = setOf(1, 1 << 16, 2 << 16);
+
+        assertTrue(set.remove(Integer.valueOf(1 << 16)));
+        assertFalse(set.remove(3 << 16));
+
+        assertArrayEquals(new int[] {1, 2 << 16}, set.toIntArray());
+        assertEquals(2L * Character.BYTES * 2, set.sizeInBytes());
+    }
+
+    @Test
+    void runOptimize_ShouldUseRunContainers_WhenValuesAreConsecutive() {
+        RoaringBitmap set = new RoaringBitmap();
+        for (int i = 100; i < 60_000; i++) set.add(i);
+        long bitmapBytes = set.sizeInBytes();
+
+        assertTrue(set.runOptimize());
+
+        assertTrue(set.sizeInBytes() < bitmapBytes);
+        assertEquals(59_900, set.size());
+        assertTrue(set.contains(100));
+        assertTrue(set.contains(59_999));
+        assertFalse(set.contains(99));
+        assertFalse(set.contains(60_000));
+    }
+
+    @Test
+    void runOptimize_ShouldKeepContainers_WhenValuesAreScattered() {
+        RoaringBitmap set = setOf(1, 3, 5, 7);
+
+        assertFalse(set.runOptimize());
+        assertArrayEquals(new int[] {1, 3, 5, 7}, set.toIntArray());
+    }
+
+    @Test
+    void runOptimize_ShouldConvertRunsBack_WhenRunContainerIsMutated() {
+        RoaringBitmap set = new RoaringBitmap();
+        for (int i = 0; i < 10_000; i++) set.add(i);
+        set.runOptimize();
+
+        assertTrue(set.add(20_000));
+        assertTrue(set.remove(5_000));
+        assertFalse(set.add(1));
+
+        assertEquals(10_000, set.size());
+        assertFalse(set.contains(5_000));
+        assertTrue(set.contains(20_000));
+        assertTrue(set.runOptimize());
+        assertEquals(3L * 2 * Character.BYTES + Character.BYTES, set.sizeInBytes());
+    }
+
+    @Test
+    void and_ShouldKeepCommonValues_WhenContainersHaveDifferentKinds() {
+        RoaringBitmap set = new RoaringBitmap();
+        RoaringBitmap other = new RoaringBitmap();
+        for (int i = 0; i < 20_000; i++) set.add(i);
+        for (int i = 0; i < 40_000; i += 2) other.add(i);
+        set.add(1 << 20);
+        other.add(1 << 24);
+
+        set.and(other);
+
+        assertEquals(10_000, set.size());
+        assertTrue(set.contains(19_998));
+        assertFalse(set.contains(1));
+        assertFalse(set.contains(1 << 20));
+    }
+
+    @Test
+    void or_ShouldAddAllValues_WhenSetsHaveDisjointChunks() {
+        RoaringBitmap set = setOf(1, 2 << 16);
+        RoaringBitmap other = setOf(2, 1 << 16, 3 << 16);
+
+        set.or(other);
+        other.add(4);
+
+        assertArrayEquals(new int[] {1, 2, 1 << 16, 2 << 16, 3 << 16}, set.toIntArray());
+        assertEquals(5, set.size());
+    }
+
+    @Test
+    void andNot_ShouldRemoveOtherValues_WhenSetsOverlap() {
+        RoaringBitmap set = setOf(1, 2, 3, 1 << 16, 2 << 16);
+        RoaringBitmap other = setOf(2, 1 << 16, 5 << 16);
+
+        set.andNot(other);
+
+        assertArrayEquals(new int[] {1, 3, 2 << 16}, set.toIntArray());
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    void bulkOperations_ShouldThrowException_WhenOtherSetIsNull() {
+        RoaringBitmap set = new RoaringBitmap();
+
+        assertThrows(NullPointerException.class, () -> set.and(null));
+        assertThrows(NullPointerException.class, () -> set.or(null));
+        assertThrows(NullPointerException.class, () -> set.andNot(null));
+        assertThrows(NullPointerException.class, () -> set.forEachInt(null));
+    }
+
+    @Test
+    void forEach_ShouldVisitValuesInAscendingOrder_WhenSetIsNotEmpty() {
+        RoaringBitmap set = setOf(1 << 17, 7, 64);
+        StringBuilder sb = new StringBuilder();
+
+        set.forEach(value -> sb.append(value).append(' '));
+
+        assertEquals("7 64 131072 ", sb.toString());
+        assertArrayEquals(new Object[] {7, 64, 1 << 17}, set.toArray());
+    }
+
+    @Test
+    void iterator_ShouldContinueWithNextContainer_WhenRemoveDropsAContainer() {
+        RoaringBitmap set = setOf(1, 1 << 16, 2 << 16, (2 << 16) + 5, -1);
+        Iterator<Integer> iterator = set.iterator();
+        StringBuilder sb = new StringBuilder();
+
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            sb.append(value).append(' ');
+            if (value == 1 << 16 || value == 1 || value == -1) iterator.remove();
+        }
+
+        assertEquals("1 65536 131072 131077 -1 ", sb.toString());
+        assertArrayEquals(new int[] {2 << 16, (2 << 16) + 5}, set.toIntArray());
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    void iterator_ShouldThrowException_WhenSetIsModifiedDuringIteration() {
+        RoaringBitmap set = setOf(1, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+
+        set.remove(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void clear_ShouldRemoveAllValues_WhenSetIsNotEmpty() {
+        RoaringBitmap set = setOf(1, 1 << 16, 1 << 30);
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+        assertEquals("[]", set.toString());
+        assertTrue(set.add(1));
+    }
+
+    @Test
+    void setAlgebra_ShouldUseWordOperations_WhenOtherSetIsRoaringBitmap() {
+        RoaringBitmap set = setOf(1, 2, 3, 200);
+        RoaringBitmap other = setOf(2, 200, 300);
+
+        assertArrayEquals(new int[] {1, 2, 3, 200, 300}, set.union(other).toIntArray());
+        assertArrayEquals(new int[] {2, 200}, set.intersection(other).toIntArray());
+        assertArrayEquals(new int[] {1, 3}, set.difference(other).toIntArray());
+        assertArrayEquals(new int[] {1, 2, 3, 200}, set.toIntArray());
+
+        assertFalse(set.containsAll(other));
+        assertTrue(set.containsAll(setOf(1, 200)));
+        assertFalse(setOf(1).containsAll(setOf(1, 1_000)));
+        assertTrue(set.addAll(other));
+        assertFalse(set.addAll(other));
+        assertTrue(set.removeAll(setOf(300)));
+        assertFalse(set.removeAll(setOf(500)));
+        assertTrue(set.retainAll(setOf(2, 3, 5)));
+        assertFalse(set.retainAll(setOf(2, 3)));
+        assertArrayEquals(new int[] {2, 3}, set.toIntArray());
+    }
+
+    @Test
+    void setAlgebra_ShouldFallBackToLookups_WhenOtherSetIsNotRoaringBitmap() {
+        RoaringBitmap set = setOf(1, 2, 3, 200);
+        Set<Integer> small = new HashSet<>();
+        Set<Integer> large = new HashSet<>();
+        small.add(2);
+        small.add(null);
+        for (int i = 0; i < 10; i++) large.add(i);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 200}, set.union(large).toIntArray());
+        assertArrayEquals(new int[] {2}, set.intersection(small).toIntArray());
+        assertArrayEquals(new int[] {1, 2, 3}, set.intersection(large).toIntArray());
+        assertArrayEquals(new int[] {200}, set.difference(large).toIntArray());
+        assertTrue(set.containsAll(setOf(1, 2)));
+        assertTrue(set.retainAll(large));
+        assertArrayEquals(new int[] {1, 2, 3}, set.toIntArray());
+    }
+
+    @Test
+    void operations_ShouldMatchReferenceSet_WhenWorkloadIsRandom() {
+        Random random = new Random(42);
+        RoaringBitmap set = new RoaringBitmap();
+        RoaringBitmap other = new RoaringBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        TreeSet<Integer> otherExpected = new TreeSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            int value = randomValue(random);
+
+            if (random.nextInt(4) > 0) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+
+            int otherValue = randomValue(random);
+            assertEquals(otherExpected.add(otherValue), other.add(otherValue));
+        }
+
+        assertMatches(expected, set);
+
+        RoaringBitmap intersection = copyOf(set);
+        TreeSet<Integer> expectedIntersection = new TreeSet<>(expected);
+        intersection.and(other);
+        expectedIntersection.retainAll(otherExpected);
+        assertMatches(expectedIntersection, intersection);
+
+        RoaringBitmap difference = copyOf(set);
+        TreeSet<Integer> expectedDifference = new TreeSet<>(expected);
+        difference.runOptimize();
+        difference.andNot(other);
+        expectedDifference.removeAll(otherExpected);
+        assertMatches(expectedDifference, difference);
+
+        set.runOptimize();
+        set.or(other);
+        expected.addAll(otherExpected);
+        assertMatches(expected, set);
+    }
+
+    /**
+     * Draws values from a few chunks of different densities, so every kind of container is used.
+     */
+    private static int randomValue(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(1 << 16);
+            case 1 -> (1 << 16) + random.nextInt(3_000);
+            default -> (5 << 16) + random.nextInt(1 << 14) * 4 + random.nextInt(2);
+        };
+    }
+
+    private static void assertMatches(TreeSet<Integer> expected, RoaringBitmap actual) {
+        assertEquals(expected.size(), actual.size());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toIntArray());
+    }
+
+    private static RoaringBitmap copyOf(RoaringBitmap set) {
+        RoaringBitmap copy = new RoaringBitmap();
+        set.forEachInt(copy::add);
+        return copy;
+    }
+
+    private static RoaringBitmap setOf(int... values) {
+        RoaringBitmap set = new RoaringBitmap();
+        for (int value : values) set.add(value);
+        return set;
+    }
+}
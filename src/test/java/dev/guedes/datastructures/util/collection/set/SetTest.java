@@ -2,8 +2,15 @@ package dev.guedes.datastructures.util.collection.set;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -57,4 +64,164 @@ abstract class SetTest {
 
         assertEquals(1, set.size());
     }
+
+    @Test
+    void addAll_ShouldAddMissingElements_WhenSetsOverlap() {
+        Set<Integer> set = setOf(1, 2, 3);
+
+        assertTrue(set.addAll(setOf(3, 4, 5)));
+        assertFalse(set.addAll(setOf(1, 5)));
+
+        assertElements(set, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void retainAll_ShouldKeepCommonElements_WhenSetsOverlap() {
+        Set<Integer> set = setOf(1, 2, 3, 4);
+
+        assertTrue(set.retainAll(setOf(2, 4, 6)));
+        assertFalse(set.retainAll(set));
+
+        assertElements(set, 2, 4);
+    }
+
+    @Test
+    void removeAll_ShouldRemoveCommonElements_WhenEitherSetIsSmaller() {
+        Set<Integer> set = setOf(1, 2, 3, 4);
+
+        assertTrue(set.removeAll(setOf(1, 7)));
+        assertTrue(set.removeAll(setOf(2, 5, 6, 7, 8, 9)));
+        assertFalse(set.removeAll(setOf(10)));
+
+        assertElements(set, 3, 4);
+        assertTrue(set.removeAll(set));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void containsAll_ShouldReturnTrue_WhenOtherSetIsSubset() {
+        Set<Integer> set = setOf(1, 2, 3);
+
+        assertTrue(set.containsAll(setOf(1, 3)));
+        assertTrue(set.containsAll(createSet()));
+        assertFalse(set.containsAll(setOf(1, 4)));
+        assertFalse(set.containsAll(setOf(1, 2, 3, 4)));
+    }
+
+    @Test
+    void union_ShouldReturnAllElements_WithoutModifyingOperands() {
+        Set<Integer> set = setOf(1, 2);
+        Set<Integer> other = setOf(2, 3);
+
+        assertElements(set.union(other), 1, 2, 3);
+        assertElements(set, 1, 2);
+        assertElements(other, 2, 3);
+    }
+
+    @Test
+    void intersection_ShouldReturnCommonElements_WhenEitherSetIsSmaller() {
+        Set<Integer> set = setOf(1, 2, 3, 4);
+
+        assertElements(set.intersection(setOf(2, 4, 6)), 2, 4);
+        assertElements(setOf(4, 5).intersection(set), 4);
+        assertElements(set, 1, 2, 3, 4);
+    }
+
+    @Test
+    void difference_ShouldReturnElementsMissingFromOtherSet() {
+        Set<Integer> set = setOf(1, 2, 3);
+
+        assertElements(set.difference(setOf(2, 5)), 1, 3);
+        assertElements(set, 1, 2, 3);
+    }
+
+    @Test
+    void setAlgebra_ShouldAcceptSupertypeSet_WhenOtherSetHoldsNumbers() {
+        Set<Integer> set = setOf(1, 2, 3, 4);
+        Set<Number> small = new HashSet<>();
+        Set<Number> large = new HashSet<>();
+        small.add(2);
+        small.add(2.5);
+        for (int i = 3; i < 10; i++) large.add(i);
+
+        assertElements(set.intersection(small), 2);
+        assertElements(set.intersection(large), 3, 4);
+        assertElements(set.difference(small), 1, 3, 4);
+        assertTrue(set.removeAll(small));
+        assertTrue(set.retainAll(large));
+
+        assertElements(set, 3, 4);
+    }
+
+    @Test
+    void bulkOperations_ShouldThrowException_WhenArgumentIsNull() {
+        Set<Integer> set = setOf(1);
+
+        assertThrows(NullPointerException.class, () -> set.addAll(null));
+        assertThrows(NullPointerException.class, () -> set.retainAll(null));
+        assertThrows(NullPointerException.class, () -> set.removeAll(null));
+        assertThrows(NullPointerException.class, () -> set.containsAll(null));
+        assertThrows(NullPointerException.class, () -> set.union(null));
+        assertThrows(NullPointerException.class, () -> set.intersection(null));
+        assertThrows(NullPointerException.class, () -> set.difference(null));
+    }
+
+    @Test
+    void iterator_ShouldVisitEveryElementOnce_WhenSetHasGrown() {
+        Set<Integer> set = createSet();
+        for (int i = 0; i < 100; i++) set.add(i);
+
+        Object[] visited = new Object[set.size()];
+        int count = 0;
+        for (Integer element : set) visited[count++] = element;
+        Arrays.sort(visited);
+
+        assertEquals(100, count);
+        for (int i = 0; i < 100; i++) assertEquals(i, visited[i]);
+        assertThrows(NoSuchElementException.class, () -> createSet().iterator().next());
+    }
+
+    @Test
+    void iteratorRemove_ShouldRemoveLastReturnedElement_WhenCalledAfterNext() {
+        Set<Integer> set = createSet();
+        for (int i = 0; i < 100; i++) set.add(i);
+        Iterator<Integer> iterator = set.iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+                assertThrows(IllegalStateException.class, iterator::remove);
+            }
+        }
+
+        assertEquals(50, set.size());
+        for (int i = 0; i < 100; i++) assertEquals(i % 2 != 0, set.contains(i));
+    }
+
+    @Test
+    void stream_ShouldVisitEveryElementOnce_WhenStreamIsSequentialOrParallel() {
+        Set<Integer> set = createSet();
+        for (int i = 0; i < 1_000; i++) set.add(i);
+
+        assertEquals(1_000, set.stream().count());
+        assertEquals(499_500, set.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(1_000, set.parallelStream().distinct().count());
+        assertTrue(set.spliterator().hasCharacteristics(Spliterator.DISTINCT));
+        assertEquals(1_000, set.spliterator().estimateSize());
+    }
+
+    private Set<Integer> setOf(Integer... elements) {
+        Set<Integer> set = createSet();
+        for (Integer element : elements) set.add(element);
+        return set;
+    }
+
+    private static void assertElements(Set<Integer> set, Integer... expected) {
+        Object[] actual = set.toArray();
+        Arrays.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
 }